@@ -28,6 +28,7 @@ SOURCES += \
     javastrings.cpp \
     jna.cpp \
     jni_classanalyser.cpp \
+    jni_containers.cpp \
     jni_deployer.cpp \
     jni_enum.cpp \
     jni_metaobjecttools.cpp \
@@ -2323,3 +2323,149 @@ AutoListAccess::Node* AutoListAccess::detach_helper_grow(QListData* p, int i, in
 
 #endif
 
+size_t ContainerBulkAccess::elementSize(char kind){
+    switch(kind){
+    case 'Z':
+    case 'B': return 1;
+    case 'S':
+    case 'C': return 2;
+    case 'I':
+    case 'F': return 4;
+    case 'J':
+    case 'D': return 8;
+    default: return 0;
+    }
+}
+
+bool ContainerBulkAccess::isCompatible(const QMetaType& elementMetaType, char kind){
+    switch(elementMetaType.id()){
+    case QMetaType::Bool: return kind=='Z';
+    case QMetaType::Char:
+    case QMetaType::SChar:
+    case QMetaType::UChar: return kind=='B';
+    case QMetaType::Short:
+    case QMetaType::UShort: return kind=='S';
+#if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
+    case QMetaType::Char16:
+#endif
+    case QMetaType::QChar: return kind=='C';
+    case QMetaType::Int:
+    case QMetaType::UInt: return kind=='I';
+    case QMetaType::Long:
+    case QMetaType::ULong: return elementMetaType.sizeOf()==4 ? kind=='I' : kind=='J';
+    case QMetaType::LongLong:
+    case QMetaType::ULongLong: return kind=='J';
+    case QMetaType::Float: return kind=='F';
+    case QMetaType::Double: return kind=='D';
+    default: return false;
+    }
+}
+
+const QMetaType* ContainerBulkAccess::elementMetaType(AbstractContainerAccess* access){
+    if(AbstractListAccess* listAccess = dynamic_cast<AbstractListAccess*>(access))
+        return &listAccess->elementMetaType();
+    if(AbstractSetAccess* setAccess = dynamic_cast<AbstractSetAccess*>(access))
+        return &setAccess->elementMetaType();
+#if QT_VERSION < QT_VERSION_CHECK(6,0,0)
+    if(AbstractVectorAccess* vectorAccess = dynamic_cast<AbstractVectorAccess*>(access))
+        return &vectorAccess->elementMetaType();
+    if(AbstractLinkedListAccess* linkedListAccess = dynamic_cast<AbstractLinkedListAccess*>(access))
+        return &linkedListAccess->elementMetaType();
+#endif
+    return nullptr;
+}
+
+bool ContainerBulkAccess::analyzeElements(AbstractContainerAccess* access, const void* container, ElementAnalyzer analyzer, void* data){
+    if(AbstractListAccess* listAccess = dynamic_cast<AbstractListAccess*>(access)){
+        listAccess->analyzeElements(container, analyzer, data);
+    }else if(AbstractSetAccess* setAccess = dynamic_cast<AbstractSetAccess*>(access)){
+        setAccess->analyzeElements(container, analyzer, data);
+#if QT_VERSION < QT_VERSION_CHECK(6,0,0)
+    }else if(AbstractVectorAccess* vectorAccess = dynamic_cast<AbstractVectorAccess*>(access)){
+        vectorAccess->analyzeElements(container, analyzer, data);
+    }else if(AbstractLinkedListAccess* linkedListAccess = dynamic_cast<AbstractLinkedListAccess*>(access)){
+        linkedListAccess->analyzeElements(container, analyzer, data);
+#endif
+    }else{
+        return false;
+    }
+    return true;
+}
+
+jint ContainerBulkAccess::copyElements(AbstractContainerAccess* access, const void* container, jint from, void* target, jint length, char kind){
+    struct Copy{
+        jint index;
+        jint from;
+        jint end;
+        char* target;
+        size_t elementSize;
+    };
+    Copy copy{0, from, from+length, reinterpret_cast<char*>(target), elementSize(kind)};
+    if(length>0){
+        analyzeElements(access, container, [](const void* element, void* data) -> bool {
+            Copy* copy = reinterpret_cast<Copy*>(data);
+            if(copy->index>=copy->from){
+                memcpy(copy->target + size_t(copy->index-copy->from) * copy->elementSize, element, copy->elementSize);
+            }
+            return ++copy->index < copy->end;
+        }, &copy);
+    }
+    return qMax(0, copy.index - from);
+}
+
+template<typename T>
+void appendListElements(void* container, const void* source, jint length){
+    QList<T>* list = reinterpret_cast<QList<T>*>(container);
+    const T* values = reinterpret_cast<const T*>(source);
+    list->reserve(list->size() + length);
+    for(jint i=0; i<length; ++i){
+        list->append(values[i]);
+    }
+}
+
+bool ContainerBulkAccess::appendElements(AbstractContainerAccess* access, void* container, const void* source, jint length, char kind){
+    if(dynamic_cast<AbstractListAccess*>(access)){
+        switch(kind){
+        case 'Z': appendListElements<bool>(container, source, length); break;
+        case 'B': appendListElements<qint8>(container, source, length); break;
+        case 'S': appendListElements<qint16>(container, source, length); break;
+        case 'C': appendListElements<QChar>(container, source, length); break;
+        case 'I': appendListElements<qint32>(container, source, length); break;
+        case 'J': appendListElements<qint64>(container, source, length); break;
+        case 'F': appendListElements<float>(container, source, length); break;
+        case 'D': appendListElements<double>(container, source, length); break;
+        default: return false;
+        }
+        return true;
+#if QT_VERSION < QT_VERSION_CHECK(6,0,0)
+    }else if(dynamic_cast<AbstractVectorAccess*>(access)){
+        appendVectorElements(container, source, length, kind);
+        return true;
+#endif
+    }
+    return false;
+}
+
+jobjectArray ContainerBulkAccess::elements(JNIEnv* env, AbstractContainerAccess* access, const void* container, jint from, jint length){
+    jobjectArray result;
+    if(AbstractListAccess* listAccess = dynamic_cast<AbstractListAccess*>(access)){
+        result = env->NewObjectArray(length, Java::Runtime::Object::getClass(env), nullptr);
+        for(jint i=0; i<length; ++i){
+            jobject element = listAccess->at(env, container, from+i);
+            env->SetObjectArrayElement(result, i, element);
+            env->DeleteLocalRef(element);
+        }
+#if QT_VERSION < QT_VERSION_CHECK(6,0,0)
+    }else if(AbstractVectorAccess* vectorAccess = dynamic_cast<AbstractVectorAccess*>(access)){
+        result = env->NewObjectArray(length, Java::Runtime::Object::getClass(env), nullptr);
+        for(jint i=0; i<length; ++i){
+            jobject element = vectorAccess->at(env, container, from+i);
+            env->SetObjectArrayElement(result, i, element);
+            env->DeleteLocalRef(element);
+        }
+#endif
+    }else{
+        Java::Runtime::UnsupportedOperationException::throwNew(env, "Bulk element access is not supported by this container." QTJAMBI_STACKTRACEINFO);
+    }
+    return result;
+}
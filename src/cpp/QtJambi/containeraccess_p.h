@@ -2123,4 +2123,21 @@ private:
 
 #endif
 
+/**
+ * Bulk transfer of container elements with primitive element types.
+ * The element kind is given as JNI type signature of the Java primitive: Z, B, S, C, I, J, F or D.
+ */
+namespace ContainerBulkAccess{
+size_t elementSize(char kind);
+bool isCompatible(const QMetaType& elementMetaType, char kind);
+const QMetaType* elementMetaType(AbstractContainerAccess* access);
+bool analyzeElements(AbstractContainerAccess* access, const void* container, ElementAnalyzer analyzer, void* data);
+jint copyElements(AbstractContainerAccess* access, const void* container, jint from, void* target, jint length, char kind);
+bool appendElements(AbstractContainerAccess* access, void* container, const void* source, jint length, char kind);
+#if QT_VERSION < QT_VERSION_CHECK(6,0,0)
+void appendVectorElements(void* container, const void* source, jint length, char kind);
+#endif
+jobjectArray elements(JNIEnv* env, AbstractContainerAccess* access, const void* container, jint from, jint length);
+}
+
 #endif // CONTAINERACCESS_P_H
@@ -1105,3 +1105,27 @@ void AutoVectorAccess::squeeze(JNIEnv *, void* container){
         d->capacityReserved = 0;
     }
 }
+
+template<typename T>
+void appendVectorElements(void* container, const void* source, jint length){
+    QVector<T>* vector = reinterpret_cast<QVector<T>*>(container);
+    const T* values = reinterpret_cast<const T*>(source);
+    vector->reserve(vector->size() + length);
+    for(jint i=0; i<length; ++i){
+        vector->append(values[i]);
+    }
+}
+
+void ContainerBulkAccess::appendVectorElements(void* container, const void* source, jint length, char kind){
+    switch(kind){
+    case 'Z': ::appendVectorElements<bool>(container, source, length); break;
+    case 'B': ::appendVectorElements<qint8>(container, source, length); break;
+    case 'S': ::appendVectorElements<qint16>(container, source, length); break;
+    case 'C': ::appendVectorElements<QChar>(container, source, length); break;
+    case 'I': ::appendVectorElements<qint32>(container, source, length); break;
+    case 'J': ::appendVectorElements<qint64>(container, source, length); break;
+    case 'F': ::appendVectorElements<float>(container, source, length); break;
+    case 'D': ::appendVectorElements<double>(container, source, length); break;
+    default: break;
+    }
+}
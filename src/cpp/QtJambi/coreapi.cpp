@@ -394,7 +394,8 @@ jobject CoreAPI::readMetaPropertyOnGadget(JNIEnv *env, jobject _this, jobject ga
                 val.l = nullptr;
                 JavaException::check(env QTJAMBI_STACKTRACEINFO );
                 QMetaType _type(type);
-                InternalToExternalConverter converter = QtJambiTypeManager::getInternalToExternalConverter(env, qtName, _type, object_class);
+                static ConverterInlineCache inlineCache;
+                InternalToExternalConverter converter = QtJambiTypeManager::getInternalToExternalConverter(env, qtName, _type, object_class, false, inlineCache);
                 QtJambiScope scope(nullptr);
                 bool result = converter && converter(env, &scope, variant.data(), &val, true);
                 if(result)
@@ -478,7 +479,8 @@ jboolean CoreAPI::writeMetaPropertyOnGadget(JNIEnv *env, jobject _this, jobject
                     val.l = value;
                     JavaException::check(env QTJAMBI_STACKTRACEINFO );
                     QMetaType _type(type);
-                    ExternalToInternalConverter converter = QtJambiTypeManager::getExternalToInternalConverter(env, object_class, qtName, _type);
+                    static ConverterInlineCache inlineCache;
+                    ExternalToInternalConverter converter = QtJambiTypeManager::getExternalToInternalConverter(env, object_class, qtName, _type, inlineCache);
                     void *copy = nullptr;
                     QtJambiScope scope(nullptr);
                     if(!converter(env, &scope, val, copy, jValueType::l)){
@@ -30,6 +30,8 @@
 ****************************************************************************/
 
 #include <QtCore/QList>
+#include <QtCore/QCache>
+#include <QtCore/QSharedPointer>
 #include <QtCore/QMutex>
 #include <QtCore/QUrl>
 #include <QtCore/QResource>
@@ -66,6 +68,193 @@ private:
     QString m_classPathEntryFileName;
 };
 
+/**
+ * Read-only memory mapping of a jar file.
+ * The central directory is scanned once and the data offsets of all STORED entries are recorded
+ * so that these entries can be served straight from the mapping.
+ */
+class MappedJarFile{
+public:
+    ~MappedJarFile();
+    static QSharedPointer<MappedJarFile> find(const QString& jarFileName);
+    const uchar* storedEntry(const QString& entryName, qint64* size) const;
+private:
+    MappedJarFile(const QString& jarFileName);
+    void readCentralDirectory();
+    static quint16 readUInt16(const uchar* p) { return quint16(p[0]) | quint16(p[1]) << 8; }
+    static quint32 readUInt32(const uchar* p) { return quint32(readUInt16(p)) | quint32(readUInt16(p+2)) << 16; }
+    struct StoredEntry{
+        qint64 headerOffset;
+        qint64 size;
+    };
+    QFile m_file;
+    uchar* m_data;
+    qint64 m_size;
+    QDateTime m_lastModified;
+    QHash<QString,StoredEntry> m_storedEntries;
+    friend struct MappedJarFiles;
+};
+
+/**
+ * Keeps the mappings of the most recently used jar files alive
+ * so that reopening entries does not map the jar file again.
+ */
+struct MappedJarFiles{
+    MappedJarFiles() : mutex(), files(16) {}
+    QMutex mutex;
+    QCache<QString,QSharedPointer<MappedJarFile>> files;
+};
+
+Q_GLOBAL_STATIC(MappedJarFiles, gMappedJarFiles)
+
+MappedJarFile::MappedJarFile(const QString& jarFileName)
+    : m_file(jarFileName),
+      m_data(nullptr),
+      m_size(0),
+      m_lastModified(),
+      m_storedEntries()
+{
+    if(m_file.open(QIODevice::ReadOnly)){
+        m_size = m_file.size();
+        m_lastModified = m_file.fileTime(QFileDevice::FileModificationTime);
+        if(m_size>0)
+            m_data = m_file.map(0, m_size);
+        if(m_data)
+            readCentralDirectory();
+        else
+            m_file.close();
+    }
+}
+
+MappedJarFile::~MappedJarFile(){
+    if(m_data)
+        m_file.unmap(m_data);
+}
+
+QSharedPointer<MappedJarFile> MappedJarFile::find(const QString& jarFileName){
+    if(!gMappedJarFiles.isDestroyed()){
+        QFileInfo info(jarFileName);
+        QDateTime lastModified = info.lastModified();
+        qint64 size = info.size();
+        QMutexLocker locker(&gMappedJarFiles->mutex);
+        Q_UNUSED(locker)
+        QSharedPointer<MappedJarFile> file;
+        if(QSharedPointer<MappedJarFile>* cached = gMappedJarFiles->files.object(jarFileName))
+            file = *cached;
+        // a jar file replaced on disk is mapped again
+        if(!file || file->m_lastModified!=lastModified || file->m_size!=size){
+            file.reset(new MappedJarFile(jarFileName));
+            gMappedJarFiles->files.insert(jarFileName, new QSharedPointer<MappedJarFile>(file));
+        }
+        return file;
+    }
+    return {};
+}
+
+void MappedJarFile::readCentralDirectory(){
+    // locate the end of central directory record which is followed by a comment of at most 64k
+    const qint64 EOCD_SIZE = 22;
+    if(m_size<EOCD_SIZE)
+        return;
+    const uchar* eocd = nullptr;
+    for(qint64 i = m_size-EOCD_SIZE, end = qMax(qint64(0), m_size-EOCD_SIZE-0xffff); i>=end; --i){
+        if(readUInt32(m_data+i)==0x06054b50){
+            eocd = m_data+i;
+            break;
+        }
+    }
+    if(!eocd)
+        return;
+    quint16 entryCount = readUInt16(eocd+10);
+    qint64 directoryOffset = readUInt32(eocd+16);
+    // offsets of 0xffffffff denote zip64 archives which are left to the stream based access
+    if(directoryOffset==0xffffffff || directoryOffset>=m_size)
+        return;
+    qint64 pos = directoryOffset;
+    for(quint16 i=0; i<entryCount; ++i){
+        if(pos+46>m_size || readUInt32(m_data+pos)!=0x02014b50)
+            break;
+        const uchar* header = m_data+pos;
+        quint16 method = readUInt16(header+10);
+        quint32 compressedSize = readUInt32(header+20);
+        quint32 size = readUInt32(header+24);
+        quint16 nameLength = readUInt16(header+28);
+        quint16 extraLength = readUInt16(header+30);
+        quint16 commentLength = readUInt16(header+32);
+        quint32 headerOffset = readUInt32(header+42);
+        if(pos+46+nameLength>m_size)
+            break;
+        if(method==0 && compressedSize==size && size!=0xffffffff && headerOffset!=0xffffffff){
+            m_storedEntries.insert(QString::fromUtf8(reinterpret_cast<const char*>(header+46), nameLength), StoredEntry{headerOffset, size});
+        }
+        pos += 46 + nameLength + extraLength + commentLength;
+    }
+}
+
+const uchar* MappedJarFile::storedEntry(const QString& entryName, qint64* size) const{
+    StoredEntry entry = m_storedEntries.value(entryName, StoredEntry{-1, 0});
+    if(entry.headerOffset<0 || entry.headerOffset+30>m_size)
+        return nullptr;
+    const uchar* localHeader = m_data+entry.headerOffset;
+    if(readUInt32(localHeader)!=0x04034b50)
+        return nullptr;
+    // the extra field of the local header may differ from the one in the central directory
+    qint64 dataOffset = entry.headerOffset + 30 + readUInt16(localHeader+26) + readUInt16(localHeader+28);
+    if(dataOffset+entry.size>m_size)
+        return nullptr;
+    *size = entry.size;
+    return m_data+dataOffset;
+}
+
+/**
+ * Bounded cache of inflated jar entries.
+ * Entries are evicted least recently used first once the total size exceeds
+ * the limit given by system property io.qt.jar-entry-cache-size (in kilobytes, default 32768).
+ */
+class InflatedEntryCache{
+public:
+    InflatedEntryCache() : m_mutex(), m_cache(), m_initialized(false) {}
+    qint64 maxCost(JNIEnv* env);
+    QByteArray find(const QString& key);
+    void insert(const QString& key, const QByteArray& data);
+private:
+    QMutex m_mutex;
+    QCache<QString,QByteArray> m_cache;
+    bool m_initialized;
+};
+
+Q_GLOBAL_STATIC(InflatedEntryCache, gInflatedEntryCache)
+
+qint64 InflatedEntryCache::maxCost(JNIEnv* env){
+    QMutexLocker locker(&m_mutex);
+    Q_UNUSED(locker)
+    if(!m_initialized){
+        m_initialized = true;
+        bool ok = false;
+        jstring propertyName = env->NewStringUTF("io.qt.jar-entry-cache-size");
+        jstring property = Java::Runtime::System::getProperty(env, propertyName, nullptr);
+        qint64 kilobytes = qtjambi_cast<QString>(env, property).toLongLong(&ok);
+        env->DeleteLocalRef(property);
+        env->DeleteLocalRef(propertyName);
+        m_cache.setMaxCost(ok && kilobytes>=0 ? kilobytes * 1024 : qint64(32*1024*1024));
+    }
+    return m_cache.maxCost();
+}
+
+QByteArray InflatedEntryCache::find(const QString& key){
+    QMutexLocker locker(&m_mutex);
+    Q_UNUSED(locker)
+    if(QByteArray* data = m_cache.object(key))
+        return *data;
+    return QByteArray();
+}
+
+void InflatedEntryCache::insert(const QString& key, const QByteArray& data){
+    QMutexLocker locker(&m_mutex);
+    Q_UNUSED(locker)
+    m_cache.insert(key, new QByteArray(data), data.size());
+}
+
 class QJarEntryEngine final : public QAbstractFileEngine, public QClassPathEntry {
 public:
     QJarEntryEngine(JNIEnv* env, jobject myJarFile, const QString& fileName, bool isDirectory, const QString& classPathEntryFileName, const QString& prefix);
@@ -103,6 +292,10 @@ public:
 
     qint64 read(char *data, qint64 maxlen) override;
 
+    bool extension(Extension extension, const ExtensionOption *option = nullptr, ExtensionReturn *output = nullptr) override;
+
+    bool supportsExtension(Extension extension) const override;
+
     QString classPathEntryName() const override {
         return m_classPathEntryFileName;
     }
@@ -111,10 +304,18 @@ private:
     bool reset();
     bool reopen();
     bool closeInternal();
+    bool isOpen() const { return m_stream || m_data; }
+    bool openInMemory(JNIEnv* env);
     QString m_entryFileName;
     JObjectWrapper m_entry;
     JObjectWrapper m_myJarFile;
     JObjectWrapper m_stream;
+    // entry content of an opened entry if it is mapped or inflated into memory
+    const uchar* m_data;
+    qint64 m_dataSize;
+    QSharedPointer<MappedJarFile> m_mappedJar;
+    QByteArray m_inflated;
+    QHash<uchar*,QPair<QSharedPointer<MappedJarFile>,QByteArray>> m_maps;
     qint64 m_pos;
     QIODevice::OpenMode m_openMode;
     bool m_valid;
@@ -132,6 +333,11 @@ QJarEntryEngine::QJarEntryEngine(JNIEnv* env, jobject myJarFile, const QString&
       m_entry(),
       m_myJarFile(env, myJarFile),
       m_stream(),
+      m_data(nullptr),
+      m_dataSize(0),
+      m_mappedJar(),
+      m_inflated(),
+      m_maps(),
       m_pos(-1),
       m_openMode(QIODevice::NotOpen),
       m_valid(false),
@@ -181,13 +387,19 @@ void QJarEntryEngine::setFileName(const QString &fileName){
 }
 
 bool QJarEntryEngine::closeInternal() {
-    if(m_stream) {
+    if(isOpen()) {
+        m_data = nullptr;
+        m_dataSize = 0;
+        m_mappedJar.reset();
+        m_inflated.clear();
         if(JniEnvironment env{200}){
-            try {
-                Java::Runtime::InputStream::close(env, m_stream.object());
-            } catch(const JavaException&) {
+            if(m_stream){
+                try {
+                    Java::Runtime::InputStream::close(env, m_stream.object());
+                } catch(const JavaException&) {
+                }
+                m_stream = JObjectWrapper();
             }
-            m_stream = JObjectWrapper();
             Java::QtJambi::ResourceUtility$JarResource::put(env, m_myJarFile.object());
             return true;
         }
@@ -360,8 +572,12 @@ bool QJarEntryEngine::open(QIODevice::OpenMode openMode
                 // This can also happen implicitly if we need to rewind() on the Jar stream
                 int oldRefCount = Java::QtJambi::ResourceUtility$JarResource::getOrReopen(env, m_myJarFile.object());  // increment reference while we have stream open
 
-                m_stream = Java::QtJambi::ResourceUtility$JarResource::getInputStream(env, m_myJarFile.object(), m_entry.object());
-                if (m_stream) {
+                if (openInMemory(env)) {
+                    m_pos = 0;
+                    m_openMode = openMode;
+                    m_closed = false;
+                    bf = true;
+                }else if ((m_stream = Java::QtJambi::ResourceUtility$JarResource::getInputStream(env, m_myJarFile.object(), m_entry.object()))) {
                     //if (openMode.isSet(QIODevice.OpenModeFlag.Text))
                     //    m_reader = new BufferedReader(new InputStreamReader(m_stream));
                     m_pos = 0;
@@ -381,17 +597,86 @@ bool QJarEntryEngine::open(QIODevice::OpenMode openMode
     return bf;
 }
 
+bool QJarEntryEngine::openInMemory(JNIEnv* env){
+    QString jarFileName = qtjambi_cast<QString>(env, Java::QtJambi::ResourceUtility$JarResource::getName(env, m_myJarFile.object()));
+    if(Java::Runtime::ZipEntry::getMethod(env, m_entry.object())==0){
+        // STORED entries are read directly from the mapped jar file
+        if(QSharedPointer<MappedJarFile> mappedJar = MappedJarFile::find(jarFileName)){
+            if(const uchar* data = mappedJar->storedEntry(m_name, &m_dataSize)){
+                m_mappedJar = mappedJar;
+                m_data = data;
+                return true;
+            }
+        }
+        return false;
+    }
+    // other entries are inflated once and kept in the bounded entry cache
+    qint64 entrySize = Java::Runtime::ZipEntry::getSize(env, m_entry.object());
+    if(entrySize<0 || entrySize>INT_MAX || entrySize>gInflatedEntryCache->maxCost(env))
+        return false;
+    QString key = QString::number(QFileInfo(jarFileName).lastModified().toMSecsSinceEpoch()) + "#" + jarFileName + "#" + m_name;
+    QByteArray inflated = gInflatedEntryCache->find(key);
+    if(inflated.isNull()){
+        inflated.resize(int(entrySize));
+        JObjectWrapper stream = Java::QtJambi::ResourceUtility$JarResource::getInputStream(env, m_myJarFile.object(), m_entry.object());
+        if(!stream)
+            return false;
+        qint64 readBytes = 0;
+        JavaException exception;
+        jbyteArray buffer = env->NewByteArray(jsize(qMin(entrySize, qint64(64*1024))));
+        try{
+            while(readBytes<entrySize){
+                jint r = Java::Runtime::InputStream::read(env, stream.object(), buffer);
+                if(r<=0)
+                    break;
+                r = jint(qMin(qint64(r), entrySize-readBytes));
+                env->GetByteArrayRegion(buffer, 0, r, reinterpret_cast<jbyte*>(inflated.data()+readBytes));
+                readBytes += r;
+            }
+        }catch(const JavaException& exn){
+            exception.addSuppressed(env, exn);
+        }
+        env->DeleteLocalRef(buffer);
+        try{
+            Java::Runtime::InputStream::close(env, stream.object());
+        }catch(const JavaException& exn){
+            exception.addSuppressed(env, exn);
+        }
+        if(exception){
+            exception.report(env);
+            return false;
+        }
+        if(readBytes!=entrySize)
+            return false;
+        gInflatedEntryCache->insert(key, inflated);
+    }
+    m_inflated = inflated;
+    m_data = reinterpret_cast<const uchar*>(m_inflated.constData());
+    m_dataSize = m_inflated.size();
+    return true;
+}
+
 qint64 QJarEntryEngine::pos() const {
     return m_pos;
 }
 
 qint64 QJarEntryEngine::size() const{
+    if(m_data)
+        return m_dataSize;
     if(JniEnvironment env{200}){
         return m_entry ? Java::Runtime::ZipEntry::getSize(env, m_entry.object()) : 0;
     }else return 0;
 }
 
 qint64 QJarEntryEngine::read(char *data, qint64 maxlen) {
+    if(m_data){
+        qint64 readBytes = qMin(maxlen, m_dataSize-m_pos);
+        if(readBytes<=0)
+            return -1;
+        memcpy(data, m_data+m_pos, size_t(readBytes));
+        m_pos += readBytes;
+        return readBytes;
+    }
     qint64 readBytes = 0;
     if(m_stream){
         if(JniEnvironment env{600}){
@@ -416,15 +701,19 @@ qint64 QJarEntryEngine::read(char *data, qint64 maxlen) {
 }
 
 bool QJarEntryEngine::reset() {
-    if (!m_stream)
+    if (!isOpen())
         return false;  // not open
     if (m_pos == 0)
         return true;  // already open and at start
+    if (m_data){
+        m_pos = 0;
+        return true;
+    }
     return reopen();
 }
 
 bool QJarEntryEngine::reopen() {
-    if (!m_stream)
+    if (!isOpen())
         return false;  // not open
     QIODevice::OpenMode om = m_openMode;  // saved OpenMode
     if(closeInternal())
@@ -435,6 +724,12 @@ bool QJarEntryEngine::reopen() {
 bool QJarEntryEngine::seek(qint64 offset) {
     if(offset < 0)
         return false;
+    if(m_data) {
+        if(offset > m_dataSize)
+            return false;
+        m_pos = offset;
+        return true;
+    }
     if(m_pos < offset) {
         if(JniEnvironment env{600}){
             while (m_pos < offset) {
@@ -477,6 +772,31 @@ bool QJarEntryEngine::seek(qint64 offset) {
     return true;
 }
 
+bool QJarEntryEngine::supportsExtension(Extension extension) const {
+    return extension==MapExtension || extension==UnMapExtension;
+}
+
+bool QJarEntryEngine::extension(Extension extension, const ExtensionOption *option, ExtensionReturn *output) {
+    if (extension == MapExtension) {
+        const MapExtensionOption *options = static_cast<const MapExtensionOption*>(option);
+        MapExtensionReturn *returnValue = static_cast<MapExtensionReturn*>(output);
+        // the mapped content is shared and read-only, hence private (copy-on-write) mappings are not supported
+        if (!m_data || options->offset < 0 || options->size <= 0 || options->offset + options->size > m_dataSize
+                || options->flags.testFlag(QFileDevice::MapPrivateOption))
+            return false;
+        uchar* address = const_cast<uchar*>(m_data + options->offset);
+        // mappings remain valid after closing the engine
+        m_maps.insert(address, {m_mappedJar, m_inflated});
+        returnValue->address = address;
+        return true;
+    }
+    if (extension == UnMapExtension) {
+        const UnMapExtensionOption *options = static_cast<const UnMapExtensionOption*>(option);
+        return m_maps.remove(options->address)>0;
+    }
+    return false;
+}
+
 #ifdef Q_OS_ANDROID
 class QAssetEntryEngine final : public QAbstractFileEngine, public QClassPathEntry {
 public:
@@ -103,6 +103,12 @@ QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/core,QThread,
     QTJAMBI_REPOSITORY_DEFINE_FIELD(javaThread,Ljava/lang/Thread;)
 )
 
+QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/core,QIODevice,
+    QTJAMBI_REPOSITORY_DEFINE_STATIC_METHOD(bufferDataOverrides,(Ljava/lang/Class;)I)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(readData,(Ljava/nio/ByteBuffer;)I)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(writeData,(Ljava/nio/ByteBuffer;)I)
+)
+
 QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/core,QMetaMethod,
 )
 
@@ -995,6 +1001,7 @@ QTJAMBI_REPOSITORY_DEFINE_CLASS(java/io,InputStream,
 
 QTJAMBI_REPOSITORY_DEFINE_CLASS(java/util/zip,ZipEntry,
                                 QTJAMBI_REPOSITORY_DEFINE_METHOD(getName,()Ljava/lang/String;)
+                                QTJAMBI_REPOSITORY_DEFINE_METHOD(getMethod,()I)
                                 QTJAMBI_REPOSITORY_DEFINE_METHOD(getSize,()J)
 )
 
@@ -1288,6 +1295,27 @@ QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/internal,SignalUtility$AbstractConnection,
     QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke,([Ljava/lang/Object;)V)
 )
 
+QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/internal,SignalUtility$SlotObjectConnection,
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke0,()V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke1,(Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke2,(Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke3,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke4,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke5,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke6,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke7,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke8,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invoke9,(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeInt1,(I)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeInt2,(II)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeLong1,(J)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeLong2,(JJ)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeDouble1,(D)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeDouble2,(DD)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeBoolean1,(Z)V)
+    QTJAMBI_REPOSITORY_DEFINE_METHOD(invokeBoolean2,(ZZ)V)
+)
+
 QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/internal,SignalUtility$NativeConnection,
     QTJAMBI_REPOSITORY_DEFINE_CONSTRUCTOR(Lio/qt/QtObject$QPrivateConstructor;)
 )
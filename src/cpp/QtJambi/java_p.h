@@ -164,6 +164,7 @@ namespace Java{
 
         QTJAMBI_REPOSITORY_DECLARE_CLASS(ZipEntry,
                                          QTJAMBI_REPOSITORY_DECLARE_STRING_METHOD(getName)
+                                         QTJAMBI_REPOSITORY_DECLARE_INT_METHOD(getMethod)
                                          QTJAMBI_REPOSITORY_DECLARE_LONG_METHOD(getSize))
 
         QTJAMBI_REPOSITORY_DECLARE_CLASS(InputStream,
@@ -458,6 +459,26 @@ namespace Java{
         QTJAMBI_REPOSITORY_DECLARE_CLASS(SignalUtility$AbstractConnection,
                                          QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke))
 
+        QTJAMBI_REPOSITORY_DECLARE_CLASS(SignalUtility$SlotObjectConnection,
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke0)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke1)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke2)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke3)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke4)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke5)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke6)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke7)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke8)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke9)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeInt1)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeInt2)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeLong1)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeLong2)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeDouble1)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeDouble2)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeBoolean1)
+                                         QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invokeBoolean2))
+
         QTJAMBI_REPOSITORY_DECLARE_CLASS(SignalUtility$AbstractMultiSignal,
                       QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(initializeSignals)
                       QTJAMBI_REPOSITORY_DECLARE_OBJECT_METHOD(signal))
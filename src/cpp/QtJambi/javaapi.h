@@ -498,6 +498,11 @@ namespace QtCore{
     QTJAMBI_REPOSITORY_DECLARE_CLASS(QThread,
         QTJAMBI_REPOSITORY_DECLARE_OBJECT_FIELD(javaThread))
 
+    QTJAMBI_REPOSITORY_DECLARE_CLASS(QIODevice,
+        QTJAMBI_REPOSITORY_DECLARE_STATIC_INT_METHOD(bufferDataOverrides)
+        QTJAMBI_REPOSITORY_DECLARE_INT_METHOD(readData)
+        QTJAMBI_REPOSITORY_DECLARE_INT_METHOD(writeData))
+
     QTJAMBI_REPOSITORY_DECLARE_CLASS(QMetaObject$Slot1,
                   QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(invoke))
     QTJAMBI_REPOSITORY_DECLARE_CLASS(QMetaObject$Slot0,
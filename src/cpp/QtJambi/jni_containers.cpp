@@ -0,0 +1,133 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+**
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+**
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+**
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+
+#include "containeraccess_p.h"
+#include "java_p.h"
+#include "utils_p.h"
+#include "qtjambi_cast.h"
+#include <QtCore/QVariant>
+
+static const char* javaTypeName(char kind){
+    switch(kind){
+    case 'Z': return "boolean";
+    case 'B': return "byte";
+    case 'S': return "short";
+    case 'C': return "char";
+    case 'I': return "int";
+    case 'J': return "long";
+    case 'F': return "float";
+    case 'D': return "double";
+    default: return "?";
+    }
+}
+
+static AbstractContainerAccess* checkedAccess(JNIEnv *env, const QPair<void*,AbstractContainerAccess*>& container, char kind){
+    QtJambiAPI::checkPointer(env, container.first, typeid(QList<QVariant>));
+    const QMetaType* elementMetaType = ContainerBulkAccess::elementMetaType(container.second);
+    if(!elementMetaType || !ContainerBulkAccess::isCompatible(*elementMetaType, kind)){
+        Java::Runtime::IllegalArgumentException::throwNew(env, QStringLiteral("Cannot transfer elements of type %1 as %2.")
+                                                                .arg(QLatin1String(elementMetaType ? elementMetaType->name() : "unknown"), QLatin1String(javaTypeName(kind))) QTJAMBI_STACKTRACEINFO);
+    }
+    return container.second;
+}
+
+extern "C" Q_DECL_EXPORT jint JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_AbstractSequentialContainer_copyToArray)
+(JNIEnv *env, jclass, QtJambiNativeID nativeId, jint from, jarray array, jint offset, jint length, jchar kind)
+{
+    try{
+        QPair<void*,AbstractContainerAccess*> container = ContainerAPI::fromNativeId(nativeId);
+        AbstractContainerAccess* access = checkedAccess(env, container, char(kind));
+        if(length<=0)
+            return 0;
+        void* data = env->GetPrimitiveArrayCritical(array, nullptr);
+        jint result = ContainerBulkAccess::copyElements(access, container.first, from, reinterpret_cast<char*>(data) + size_t(offset) * ContainerBulkAccess::elementSize(char(kind)), length, char(kind));
+        env->ReleasePrimitiveArrayCritical(array, data, 0);
+        return result;
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+        return 0;
+    }
+}
+
+extern "C" Q_DECL_EXPORT jint JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_AbstractSequentialContainer_copyToBuffer)
+(JNIEnv *env, jclass, QtJambiNativeID nativeId, jint from, jobject buffer, jint position, jint length, jchar kind)
+{
+    try{
+        QPair<void*,AbstractContainerAccess*> container = ContainerAPI::fromNativeId(nativeId);
+        AbstractContainerAccess* access = checkedAccess(env, container, char(kind));
+        char* data = reinterpret_cast<char*>(env->GetDirectBufferAddress(buffer));
+        if(!data)
+            Java::Runtime::IllegalArgumentException::throwNew(env, "Buffer is not direct." QTJAMBI_STACKTRACEINFO);
+        return ContainerBulkAccess::copyElements(access, container.first, from, data + size_t(position) * ContainerBulkAccess::elementSize(char(kind)), length, char(kind));
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+        return 0;
+    }
+}
+
+extern "C" Q_DECL_EXPORT void JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_AbstractSequentialContainer_appendArray)
+(JNIEnv *env, jclass, QtJambiNativeID nativeId, jarray array, jint offset, jint length, jchar kind)
+{
+    try{
+        QPair<void*,AbstractContainerAccess*> container = ContainerAPI::fromNativeId(nativeId);
+        AbstractContainerAccess* access = checkedAccess(env, container, char(kind));
+        if(AbstractListAccess* listAccess = dynamic_cast<AbstractListAccess*>(access)){
+            if(listAccess->isConstant())
+                Java::Runtime::UnsupportedOperationException::throwNew(env, "Cannot modify a constant list." QTJAMBI_STACKTRACEINFO);
+        }
+        if(length<=0)
+            return;
+        void* data = env->GetPrimitiveArrayCritical(array, nullptr);
+        bool appended = ContainerBulkAccess::appendElements(access, container.first, reinterpret_cast<char*>(data) + size_t(offset) * ContainerBulkAccess::elementSize(char(kind)), length, char(kind));
+        env->ReleasePrimitiveArrayCritical(array, data, JNI_ABORT);
+        if(!appended)
+            Java::Runtime::UnsupportedOperationException::throwNew(env, "Bulk append is not supported by this container." QTJAMBI_STACKTRACEINFO);
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+    }
+}
+
+extern "C" Q_DECL_EXPORT jobjectArray JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_AbstractSequentialContainer_elements)
+(JNIEnv *env, jclass, QtJambiNativeID nativeId, jint from, jint length)
+{
+    try{
+        QPair<void*,AbstractContainerAccess*> container = ContainerAPI::fromNativeId(nativeId);
+        QtJambiAPI::checkPointer(env, container.first, typeid(QList<QVariant>));
+        return ContainerBulkAccess::elements(env, container.second, container.first, from, length);
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+        return nullptr;
+    }
+}
@@ -100,6 +100,53 @@ JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_NativeUtility_00024NativeLin
     }
 }
 
+extern "C" Q_DECL_EXPORT void
+JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_NativeUtility_00024NativeLink_cleanBatch)
+    (JNIEnv *env, jclass, jobjectArray links, jint length)
+{
+    // cleans a batch of links in one call while locking each link as NativeLink.clean() does
+    try{
+        jthrowable throwable(nullptr);
+        // destructors of objects owned by other threads are posted per owner thread when the batch ends
+        QtJambiDestructorBatch destructorBatch;
+        for(jsize i=0; i<length; ++i){
+            jobject nativeLink = env->GetObjectArrayElement(links, i);
+            if(!nativeLink)
+                continue;
+            if(env->MonitorEnter(nativeLink)==JNI_OK){
+                QtJambiNativeID native_id = QtJambiNativeID(Java::QtJambi::NativeUtility$NativeLink::native__id(env, nativeLink));
+                if(QSharedPointer<QtJambiLink> link = QtJambiLink::fromNativeId(native_id)){
+                    try{
+                        link->onClean(env);
+                    }catch(const JavaException& exn){
+                        if(!throwable)
+                            throwable = jthrowable(env->NewLocalRef(exn.object()));
+                    }
+                    if(env->ExceptionCheck()){
+                        jthrowable exn = env->ExceptionOccurred();
+                        env->ExceptionClear();
+                        if(!throwable)
+                            throwable = exn;
+                        else
+                            env->DeleteLocalRef(exn);
+                    }
+                    {
+                        QWriteLocker locker(QtJambiLinkUserData::lock());
+                        link.clear();
+                    }
+                }
+                env->MonitorExit(nativeLink);
+            }
+            env->DeleteLocalRef(nativeLink);
+        }
+        destructorBatch.flush();
+        if(throwable)
+            env->Throw(throwable);
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+    }
+}
+
 extern "C" Q_DECL_EXPORT void
 JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_NativeUtility_00024NativeLink_dispose)
     (JNIEnv *env, jclass, QtJambiNativeID native_id)
@@ -64,6 +64,8 @@ QT_WARNING_DISABLE_DEPRECATED
 #include <QtGui/QPainter>
 #include <QtGui/QPolygon>
 #include <QtCore/QMetaObject>
+#include <QtCore/QMutex>
+#include <QtCore/QHash>
 #include <QtCore/QMetaProperty>
 #include <QtCore/private/qmetaobject_p.h>
 
@@ -378,6 +380,47 @@ QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_SignalUtility_metaObjectId)
     return mo ? Java::QtCore::QMetaObject::metaObjectPointer(env, mo) : 0;
 }
 
+static void emitNativeSignalImpl(JNIEnv *env, jobject sender, jint methodIndex, jlong senderMetaObjectId, jint defaults, jobjectArray args)
+{
+    JniLocalFrame __jniLocalFrame(env, 1024);
+    QtJambiScope scope(env, sender);
+    QSharedPointer<QtJambiLink> link = QtJambiLink::findLinkForJavaObject(env, sender);
+    if (link && link->isQObject()) {
+        if(QObject *o = link->qobject()){
+            const QMetaObject* metaObject = reinterpret_cast<const QMetaObject*>(senderMetaObjectId);
+            QMetaMethod method = metaObject->method(methodIndex + defaults);
+            if(method.isValid()){
+                const QList<ParameterTypeInfo>& parameterTypeInfos = QtJambiMetaObject::methodParameterInfo(env, method);
+                QVector<void *> convertedArguments;
+                bool failed = false;
+                int size = args ? env->GetArrayLength(args) : 0;
+                convertedArguments.fill(nullptr, size+1);
+                for (int i = 0; i < size; ++i) {
+                    const ParameterTypeInfo& parameterTypeInfo = parameterTypeInfos[i+1];
+                    jvalue jv;
+                    jv.l = env->GetObjectArrayElement(args, i);
+                    if(!parameterTypeInfo.convertExternalToInternal(env, &scope, jv, convertedArguments[i+1], jValueType::l)){
+                        failed = true;
+                        break;
+                    }
+                }
+                if (!failed) {
+                    Q_ASSERT(method.isValid());
+                    if(defaults==0){
+                        int signalIndex = QMetaObjectPrivate::signalIndex(method);
+                        Q_ASSERT(signalIndex>=0);
+                        if(signalIndex>=0){
+                            QMetaObject::activate(o, 0, signalIndex, convertedArguments.data());
+                            return;
+                        }
+                    }
+                    metaObject->metacall(o, QMetaObject::InvokeMetaMethod, method.methodIndex(), convertedArguments.data());
+                }
+            }
+        }
+    }
+}
+
 extern "C" Q_DECL_EXPORT void JNICALL
 QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_SignalUtility_emitNativeSignal)
 (JNIEnv *env,
@@ -389,44 +432,180 @@ QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_SignalUtility_emitNativeSignal)
  jobjectArray args)
 {
     QTJAMBI_DEBUG_METHOD_PRINT("java", "SignalUtility::emitNativeSignal(...)")
-    JniLocalFrame __jniLocalFrame(env, 1024);
-    QtJambiScope scope(env, sender);
     try{
-        QSharedPointer<QtJambiLink> link = QtJambiLink::findLinkForJavaObject(env, sender);
-        if (link && link->isQObject()) {
-            if(QObject *o = link->qobject()){
-                const QMetaObject* metaObject = reinterpret_cast<const QMetaObject*>(senderMetaObjectId);
-                QMetaMethod method = metaObject->method(methodIndex + defaults);
-                if(method.isValid()){
-                    const QList<ParameterTypeInfo>& parameterTypeInfos = QtJambiMetaObject::methodParameterInfo(env, method);
-                    QVector<void *> convertedArguments;
-                    bool failed = false;
-                    int size = args ? env->GetArrayLength(args) : 0;
-                    convertedArguments.fill(nullptr, size+1);
-                    for (int i = 0; i < size; ++i) {
-                        const ParameterTypeInfo& parameterTypeInfo = parameterTypeInfos[i+1];
-                        jvalue jv;
-                        jv.l = env->GetObjectArrayElement(args, i);
-                        if(!parameterTypeInfo.convertExternalToInternal(env, &scope, jv, convertedArguments[i+1], jValueType::l)){
-                            failed = true;
-                            break;
-                        }
+        emitNativeSignalImpl(env, sender, methodIndex, senderMetaObjectId, defaults, args);
+    }catch(const JavaException& exn){
+        exn.raiseInJava(env);
+    }
+}
+
+/**
+ * Pre-bound emitter for signals whose parameters are all primitives, QString or QObject pointers.
+ * Arguments are converted into a stack buffer without local frame, parameter type infos or scope.
+ */
+struct SignalEmitter{
+    enum Kind : quint8{
+        Bool,
+        Byte,
+        Short,
+        Int,
+        Long,
+        Float,
+        Double,
+        Char,
+        String,
+        Object
+    };
+    static constexpr int MaxArguments = 9;
+    const QMetaObject* metaObject;
+    int methodIndex;
+    int signalIndex;
+    int argumentCount;
+    Kind kinds[MaxArguments];
+    const QMetaObject* objectTypes[MaxArguments];
+};
+
+typedef QHash<QPair<const QMetaObject*,int>,SignalEmitter*> SignalEmitterHash;
+Q_GLOBAL_STATIC(SignalEmitterHash, gSignalEmitters)
+Q_GLOBAL_STATIC(QMutex, gSignalEmittersLock)
+
+extern "C" Q_DECL_EXPORT jlong JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_SignalUtility_bindSignalEmitter)
+(JNIEnv *,
+ jclass,
+ jlong senderMetaObjectId,
+ jint methodIndex)
+{
+    const QMetaObject* metaObject = reinterpret_cast<const QMetaObject*>(senderMetaObjectId);
+    if(!metaObject)
+        return -1;
+    QMutexLocker locker(gSignalEmittersLock());
+    Q_UNUSED(locker)
+    QPair<const QMetaObject*,int> key(metaObject, methodIndex);
+    if(gSignalEmitters->contains(key)){
+        SignalEmitter* emitter = gSignalEmitters->value(key);
+        return emitter ? jlong(emitter) : -1;
+    }
+    SignalEmitter* emitter = nullptr;
+    QMetaMethod method = metaObject->method(methodIndex);
+    if(method.isValid()
+            && method.methodType()==QMetaMethod::Signal
+            && method.parameterCount()<=SignalEmitter::MaxArguments){
+        int signalIndex = QMetaObjectPrivate::signalIndex(method);
+        if(signalIndex>=0){
+            QScopedPointer<SignalEmitter> candidate(new SignalEmitter);
+            candidate->metaObject = metaObject;
+            candidate->methodIndex = methodIndex;
+            candidate->signalIndex = signalIndex;
+            candidate->argumentCount = method.parameterCount();
+            bool bindable = true;
+            for(int i=0; bindable && i<candidate->argumentCount; ++i){
+                QMetaType metaType(method.parameterType(i));
+                candidate->objectTypes[i] = nullptr;
+                switch(metaType.id()){
+                case QMetaType::Bool: candidate->kinds[i] = SignalEmitter::Bool; break;
+                case QMetaType::SChar:
+                case QMetaType::Char:
+                case QMetaType::UChar: candidate->kinds[i] = SignalEmitter::Byte; break;
+                case QMetaType::UShort:
+                case QMetaType::Short: candidate->kinds[i] = SignalEmitter::Short; break;
+                case QMetaType::Int:
+                case QMetaType::UInt: candidate->kinds[i] = SignalEmitter::Int; break;
+                case QMetaType::LongLong:
+                case QMetaType::ULongLong: candidate->kinds[i] = SignalEmitter::Long; break;
+                case QMetaType::Float: candidate->kinds[i] = SignalEmitter::Float; break;
+                case QMetaType::Double: candidate->kinds[i] = SignalEmitter::Double; break;
+#if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
+                case QMetaType::Char16:
+#endif
+                case QMetaType::QChar: candidate->kinds[i] = SignalEmitter::Char; break;
+                case QMetaType::QString: candidate->kinds[i] = SignalEmitter::String; break;
+                default:
+                    if(metaType.flags().testFlag(QMetaType::PointerToQObject) && metaType.metaObject()){
+                        candidate->kinds[i] = SignalEmitter::Object;
+                        candidate->objectTypes[i] = metaType.metaObject();
+                    }else{
+                        bindable = false;
                     }
-                    if (!failed) {
-                        Q_ASSERT(method.isValid());
-                        if(defaults==0){
-                            int signalIndex = QMetaObjectPrivate::signalIndex(method);
-                            Q_ASSERT(signalIndex>=0);
-                            if(signalIndex>=0){
-                                QMetaObject::activate(o, 0, signalIndex, convertedArguments.data());
-                                return;
-                            }
-                        }
-                        metaObject->metacall(o, QMetaObject::InvokeMetaMethod, method.methodIndex(), convertedArguments.data());
+                    break;
+                }
+            }
+            if(bindable)
+                emitter = candidate.take();
+        }
+    }
+    gSignalEmitters->insert(key, emitter);
+    return emitter ? jlong(emitter) : -1;
+}
+
+extern "C" Q_DECL_EXPORT void JNICALL
+QTJAMBI_FUNCTION_PREFIX(Java_io_qt_internal_SignalUtility_emitBoundSignal)
+(JNIEnv *env,
+ jclass,
+ jobject sender,
+ QtJambiNativeID senderId,
+ jlong emitterId,
+ jobjectArray args)
+{
+    QTJAMBI_DEBUG_METHOD_PRINT("java", "SignalUtility::emitBoundSignal(...)")
+    const SignalEmitter* emitter = reinterpret_cast<const SignalEmitter*>(emitterId);
+    try{
+        QObject *o = QtJambiAPI::objectFromNativeId<QObject>(senderId);
+        if(!o)
+            return;
+        int size = args ? env->GetArrayLength(args) : 0;
+        if(size==emitter->argumentCount){
+            union Value{
+                bool z;
+                qint8 b;
+                qint16 s;
+                qint32 i;
+                qint64 j;
+                float f;
+                double d;
+                QChar c;
+                QObject* l;
+                Value() : j(0) {}
+            };
+            Value values[SignalEmitter::MaxArguments];
+            QString strings[SignalEmitter::MaxArguments];
+            void* arguments[SignalEmitter::MaxArguments+1];
+            arguments[0] = nullptr;
+            bool bound = true;
+            for (int i = 0; bound && i < size; ++i) {
+                jobject value = env->GetObjectArrayElement(args, i);
+                switch(emitter->kinds[i]){
+                case SignalEmitter::Bool: values[i].z = QtJambiAPI::fromJavaBooleanObject(env, value); break;
+                case SignalEmitter::Byte: values[i].b = QtJambiAPI::fromJavaByteObject(env, value); break;
+                case SignalEmitter::Short: values[i].s = QtJambiAPI::fromJavaShortObject(env, value); break;
+                case SignalEmitter::Int: values[i].i = QtJambiAPI::fromJavaIntegerObject(env, value); break;
+                case SignalEmitter::Long: values[i].j = QtJambiAPI::fromJavaLongObject(env, value); break;
+                case SignalEmitter::Float: values[i].f = QtJambiAPI::fromJavaFloatObject(env, value); break;
+                case SignalEmitter::Double: values[i].d = QtJambiAPI::fromJavaDoubleObject(env, value); break;
+                case SignalEmitter::Char: values[i].c = QChar(QtJambiAPI::fromJavaCharacterObject(env, value)); break;
+                case SignalEmitter::String:
+                    if(value && !Java::Runtime::String::isInstanceOf(env, value)){
+                        bound = false;
+                    }else{
+                        strings[i] = qtjambi_cast<QString>(env, jstring(value));
                     }
+                    break;
+                case SignalEmitter::Object:
+                    values[i].l = value ? QtJambiAPI::convertJavaObjectToQObject(env, value) : nullptr;
+                    if(values[i].l && !values[i].l->metaObject()->inherits(emitter->objectTypes[i]))
+                        bound = false;
+                    break;
                 }
+                if(value)
+                    env->DeleteLocalRef(value);
+                arguments[i+1] = emitter->kinds[i]==SignalEmitter::String ? static_cast<void*>(&strings[i]) : static_cast<void*>(&values[i]);
+            }
+            if(bound){
+                QMetaObject::activate(o, 0, emitter->signalIndex, arguments);
+                return;
             }
         }
+        emitNativeSignalImpl(env, sender, emitter->methodIndex, jlong(emitter->metaObject), 0, args);
     }catch(const JavaException& exn){
         exn.raiseInJava(env);
     }
@@ -440,6 +619,8 @@ public:
     int* types();
 private:
     static void impl(int which, QSlotObjectBase *this_, QObject *r, void **a, bool *ret);
+    static bool isTypedDispatchable(JNIEnv * env, const QMetaMethod& signal, jobject connection, jint argumentCount);
+    static char primitiveDispatchKind(JNIEnv * env, const QMetaMethod& signal, jint argumentCount);
     QMetaMethod m_signal;
     QWeakPointer<QtJambiLink> m_link;
     JObjectWrapper m_connection;
@@ -447,6 +628,8 @@ private:
     int* const m_types;
     QObject* m_deletable;
     bool m_nothrow;
+    bool m_typedDispatch;
+    char m_primitiveDispatch;
 };
 
 extern "C" Q_DECL_EXPORT jobject JNICALL
@@ -665,10 +848,97 @@ NativeSlotObject::NativeSlotObject(JNIEnv * env, const QSharedPointer<QtJambiLin
           }(env, signal, connectionType)
       ),
       m_deletable(deletable),
-      m_nothrow(nothrow)
+      m_nothrow(nothrow),
+      m_typedDispatch(isTypedDispatchable(env, signal, connection, argumentCount)),
+      m_primitiveDispatch(m_typedDispatch ? primitiveDispatchKind(env, signal, argumentCount) : '\0')
 {
 }
 
+/**
+ * Slot objects connected to signals with primitive and QObject parameters only
+ * are called through the typed entry points SlotObjectConnection.invoke0...invoke9
+ * instead of converting into an Object[] and calling AbstractConnection.invoke.
+ */
+bool NativeSlotObject::isTypedDispatchable(JNIEnv * env, const QMetaMethod& signal, jobject connection, jint argumentCount){
+    if(argumentCount<0 || argumentCount>9 || !Java::QtJambi::SignalUtility$SlotObjectConnection::isInstanceOf(env, connection))
+        return false;
+    const QList<ParameterTypeInfo>& parameterTypeInfos = QtJambiMetaObject::methodParameterInfo(env, signal);
+    if(parameterTypeInfos.size()<argumentCount+1)
+        return false;
+    for (int i = 1; i <= argumentCount; ++i) {
+        int metaType = parameterTypeInfos[i].metaType();
+        switch(metaType){
+        case QMetaType::Bool:
+        case QMetaType::Char:
+        case QMetaType::SChar:
+        case QMetaType::UChar:
+        case QMetaType::Short:
+        case QMetaType::UShort:
+        case QMetaType::Int:
+        case QMetaType::UInt:
+        case QMetaType::Long:
+        case QMetaType::ULong:
+        case QMetaType::LongLong:
+        case QMetaType::ULongLong:
+        case QMetaType::Float:
+        case QMetaType::Double:
+        case QMetaType::QChar:
+        case QMetaType::QObjectStar:
+            break;
+        default:
+#if QT_VERSION < QT_VERSION_CHECK(6, 0, 0)
+            if(!(QMetaType::typeFlags(metaType) & QMetaType::PointerToQObject))
+                return false;
+#else
+            if(!(QMetaType(metaType).flags() & QMetaType::PointerToQObject))
+                return false;
+#endif
+            break;
+        }
+    }
+    return true;
+}
+
+/**
+ * Typed slot objects receiving one or two arguments of the same primitive type
+ * are called through SlotObjectConnection.invokeInt1...invokeBoolean2
+ * with the raw values instead of boxing them by JNI upcalls.
+ */
+char NativeSlotObject::primitiveDispatchKind(JNIEnv * env, const QMetaMethod& signal, jint argumentCount){
+    if(argumentCount<1 || argumentCount>2)
+        return '\0';
+    const QList<ParameterTypeInfo>& parameterTypeInfos = QtJambiMetaObject::methodParameterInfo(env, signal);
+    char kind = '\0';
+    for (int i = 1; i <= argumentCount; ++i) {
+        jclass javaClass = parameterTypeInfos[i].javaClass();
+        char argumentKind = '\0';
+        switch(parameterTypeInfos[i].metaType()){
+        case QMetaType::Int:
+            if(Java::Runtime::Integer::isSameClass(env, javaClass) || Java::Runtime::Integer::isPrimitiveType(env, javaClass))
+                argumentKind = 'I';
+            break;
+        case QMetaType::LongLong:
+            if(Java::Runtime::Long::isSameClass(env, javaClass) || Java::Runtime::Long::isPrimitiveType(env, javaClass))
+                argumentKind = 'J';
+            break;
+        case QMetaType::Double:
+            if(Java::Runtime::Double::isSameClass(env, javaClass) || Java::Runtime::Double::isPrimitiveType(env, javaClass))
+                argumentKind = 'D';
+            break;
+        case QMetaType::Bool:
+            if(Java::Runtime::Boolean::isSameClass(env, javaClass) || Java::Runtime::Boolean::isPrimitiveType(env, javaClass))
+                argumentKind = 'Z';
+            break;
+        default:
+            break;
+        }
+        if(argumentKind=='\0' || (kind!='\0' && kind!=argumentKind))
+            return '\0';
+        kind = argumentKind;
+    }
+    return kind;
+}
+
 NativeSlotObject::~NativeSlotObject()
 {
     if(m_types)
@@ -693,7 +963,59 @@ void NativeSlotObject::impl(int which, QSlotObjectBase *this_, QObject *, void *
                     try{
                         QtJambiLinkScope scope(link);
                         const QList<ParameterTypeInfo>& parameterTypeInfos = QtJambiMetaObject::methodParameterInfo(env, _this->m_signal);
-                        if(parameterTypeInfos.size()){
+                        if(_this->m_primitiveDispatch){
+                            jobject connection = _this->m_connection.object();
+                            switch(_this->m_primitiveDispatch){
+                            case 'I':
+                                if(_this->m_argumentCount==1)
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeInt1(env, connection, jint(*reinterpret_cast<const qint32*>(a[1])));
+                                else
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeInt2(env, connection, jint(*reinterpret_cast<const qint32*>(a[1])), jint(*reinterpret_cast<const qint32*>(a[2])));
+                                break;
+                            case 'J':
+                                if(_this->m_argumentCount==1)
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeLong1(env, connection, jlong(*reinterpret_cast<const qint64*>(a[1])));
+                                else
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeLong2(env, connection, jlong(*reinterpret_cast<const qint64*>(a[1])), jlong(*reinterpret_cast<const qint64*>(a[2])));
+                                break;
+                            case 'D':
+                                if(_this->m_argumentCount==1)
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeDouble1(env, connection, jdouble(*reinterpret_cast<const double*>(a[1])));
+                                else
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeDouble2(env, connection, jdouble(*reinterpret_cast<const double*>(a[1])), jdouble(*reinterpret_cast<const double*>(a[2])));
+                                break;
+                            case 'Z':
+                                if(_this->m_argumentCount==1)
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeBoolean1(env, connection, jboolean(*reinterpret_cast<const bool*>(a[1])));
+                                else
+                                    Java::QtJambi::SignalUtility$SlotObjectConnection::invokeBoolean2(env, connection, jboolean(*reinterpret_cast<const bool*>(a[1])), jboolean(*reinterpret_cast<const bool*>(a[2])));
+                                break;
+                            default: break;
+                            }
+                        }else if(_this->m_typedDispatch){
+                            jvalue converted_arguments[9];
+                            for (int i = 0; i < _this->m_argumentCount; ++i) {
+                                converted_arguments[i].l = nullptr;
+                                if(!parameterTypeInfos[i+1].convertInternalToExternal(env, &scope, a[i+1], &converted_arguments[i], true)){
+                                    qWarning("SlotObject::CallSignal: Failed to convert arguments");
+                                    return;
+                                }
+                            }
+                            jobject connection = _this->m_connection.object();
+                            switch(_this->m_argumentCount){
+                            case 0: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke0(env, connection); break;
+                            case 1: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke1(env, connection, converted_arguments[0].l); break;
+                            case 2: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke2(env, connection, converted_arguments[0].l, converted_arguments[1].l); break;
+                            case 3: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke3(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l); break;
+                            case 4: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke4(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l); break;
+                            case 5: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke5(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l, converted_arguments[4].l); break;
+                            case 6: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke6(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l, converted_arguments[4].l, converted_arguments[5].l); break;
+                            case 7: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke7(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l, converted_arguments[4].l, converted_arguments[5].l, converted_arguments[6].l); break;
+                            case 8: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke8(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l, converted_arguments[4].l, converted_arguments[5].l, converted_arguments[6].l, converted_arguments[7].l); break;
+                            case 9: Java::QtJambi::SignalUtility$SlotObjectConnection::invoke9(env, connection, converted_arguments[0].l, converted_arguments[1].l, converted_arguments[2].l, converted_arguments[3].l, converted_arguments[4].l, converted_arguments[5].l, converted_arguments[6].l, converted_arguments[7].l, converted_arguments[8].l); break;
+                            default: break;
+                            }
+                        }else if(parameterTypeInfos.size()){
                             QVector<jvalue> converted_arguments(_this->m_argumentCount<0 ? parameterTypeInfos.size()-1 : qMin(_this->m_argumentCount, parameterTypeInfos.size()-1));
 
                             bool success = true;
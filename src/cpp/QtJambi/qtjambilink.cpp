@@ -50,6 +50,8 @@ QT_WARNING_DISABLE_DEPRECATED
 #include <QWriteLocker>
 #include <QCoreApplication>
 #include <QAbstractEventDispatcher>
+#include <QThreadStorage>
+#include <algorithm>
 #include <QtCore/private/qobject_p.h>
 #include <QtCore/private/qmetaobject_p.h>
 
@@ -289,8 +291,43 @@ Q_GLOBAL_STATIC(RefCountingHash, gRefCountHash);
 typedef QHash<const void *, QWeakPointer<QtJambiLink> > LinkHash;
 typedef QMultiHash<const void *, QWeakPointer<QtJambiLink> > MultiLinkHash;
 Q_GLOBAL_STATIC_WITH_ARGS(QReadWriteLock, gLinkAccessLock, (QReadWriteLock::Recursive))
-Q_GLOBAL_STATIC(MultiLinkHash, gUserObjectCache)
-Q_GLOBAL_STATIC(LinkHash, gQObjectCache)
+
+/**
+ * The pointer-to-link caches are split into lock stripes selected by pointer bits
+ * so that threads wrapping different native objects do not serialize on one lock.
+ */
+class LinkCache{
+public:
+    struct Stripe{
+        Stripe() : lock(QReadWriteLock::Recursive) {}
+        QReadWriteLock lock;
+        MultiLinkHash userObjects;
+        LinkHash qobjects;
+        // keeps the locks of neighbouring stripes apart from each other's cache line
+        char padding[64];
+    };
+
+    Stripe& stripe(const void* ptr){
+        quintptr p = quintptr(ptr);
+        // object addresses are at least 8-byte aligned, mix in the higher bits
+        p = (p >> 4) ^ (p >> 12);
+        return m_stripes[p & (StripeCount-1)];
+    }
+
+    int userObjectCount(){
+        int count = 0;
+        for(Stripe& stripe : m_stripes){
+            QReadLocker locker(&stripe.lock);
+            Q_UNUSED(locker)
+            count += int(stripe.userObjects.count());
+        }
+        return count;
+    }
+private:
+    static constexpr quintptr StripeCount = 64;
+    Stripe m_stripes[StripeCount];
+};
+Q_GLOBAL_STATIC(LinkCache, gLinkCache)
 
 QtJambiLinkUserData::QtJambiLinkUserData(const QWeakPointer<QtJambiLink> & link)
   :
@@ -444,30 +481,26 @@ void QtJambiLink::setObjectCacheMode(int object_cache_mode)
 
 int QtJambiLink::getObjectCacheOperationCount()
 {
-    int count;
-    {
-        QWriteLocker lock(gLinkAccessLock());
-        Q_UNUSED(lock)
-        count = int(gUserObjectCache()->count());
-    }
-    return count;
+    return gLinkCache->userObjectCount();
 }
 
 void QtJambiLink::registerQObjectInitialization(void *ptr, const QSharedPointer<QtJambiLink>& link) {
     if(QtJambiLink::getObjectCacheMode() != 0) {
-        QWriteLocker locker(gLinkAccessLock());
+        LinkCache::Stripe& stripe = gLinkCache->stripe(ptr);
+        QWriteLocker locker(&stripe.lock);
         Q_UNUSED(locker)
-        Q_ASSERT(gQObjectCache());
-        gQObjectCache->insert(ptr, link.toWeakRef());
+        stripe.qobjects.insert(ptr, link.toWeakRef());
     }
 }
 
 void QtJambiLink::unregisterQObjectInitialization(void *ptr) {
     if(QtJambiLink::getObjectCacheMode() != 0) {
-        QWriteLocker locker(gLinkAccessLock());
-        Q_UNUSED(locker)
-        if(LinkHash* h = gQObjectCache())
-            h->remove(ptr);
+        if(LinkCache* cache = gLinkCache()){
+            LinkCache::Stripe& stripe = cache->stripe(ptr);
+            QWriteLocker locker(&stripe.lock);
+            Q_UNUSED(locker)
+            stripe.qobjects.remove(ptr);
+        }
     }
 }
 
@@ -1325,12 +1358,12 @@ QList<QSharedPointer<QtJambiLink>> QtJambiLink::findLinksForPointer(const void *
 {
     if (!ptr)
         return {};
-    QReadLocker locker(gLinkAccessLock());
+    LinkCache::Stripe& stripe = gLinkCache->stripe(ptr);
+    QReadLocker locker(&stripe.lock);
     Q_UNUSED(locker)
-    Q_ASSERT(gUserObjectCache());
-    if(!gUserObjectCache->contains(ptr))
+    if(!stripe.userObjects.contains(ptr))
         return {};
-    QList<QWeakPointer<QtJambiLink>> values = gUserObjectCache->values(ptr);
+    QList<QWeakPointer<QtJambiLink>> values = stripe.userObjects.values(ptr);
     QList<QSharedPointer<QtJambiLink>> result;
     for(const QWeakPointer<QtJambiLink>& link : values){
         result << link;
@@ -1350,13 +1383,10 @@ QSharedPointer<QtJambiLink> QtJambiLink::findLinkForQObject(QObject *o)
         }
     }
     {
-        QReadLocker locker(gLinkAccessLock());
+        LinkCache::Stripe& stripe = gLinkCache->stripe(o);
+        QReadLocker locker(&stripe.lock);
         Q_UNUSED(locker)
-        Q_ASSERT(gQObjectCache());
-        if(!gQObjectCache->contains(o))
-            return {};
-        QSharedPointer<QtJambiLink> link = (*gQObjectCache())[o];
-        return link;
+        return stripe.qobjects.value(o).toStrongRef();
     }
 }
 
@@ -1794,36 +1824,41 @@ void QtJambiLink::unregisterOffsets() {
 
 void QtJambiLink::registerPointer(const QSharedPointer<QtJambiLink>& link) {
     if(QtJambiLink::getObjectCacheMode() != 0 && link && link->pointer()) {
-        QWriteLocker locker(gLinkAccessLock());
+        LinkCache::Stripe& stripe = gLinkCache->stripe(link->pointer());
+        QWriteLocker locker(&stripe.lock);
         Q_UNUSED(locker)
-        Q_ASSERT(gUserObjectCache());
         QWeakPointer<QtJambiLink> wlink = link.toWeakRef();
-        if(!gUserObjectCache->contains(link->pointer(), wlink))
-            gUserObjectCache->insert(link->pointer(), wlink);
+        if(!stripe.userObjects.contains(link->pointer(), wlink))
+            stripe.userObjects.insert(link->pointer(), wlink);
     }
 }
 
 void QtJambiLink::registerPointer(void *ptr) {
     if(QtJambiLink::getObjectCacheMode() != 0) {
-        QWriteLocker locker(gLinkAccessLock());
+        LinkCache::Stripe& stripe = gLinkCache->stripe(ptr);
+        QWriteLocker locker(&stripe.lock);
         Q_UNUSED(locker)
-        Q_ASSERT(gUserObjectCache());
         QWeakPointer<QtJambiLink> wlink = m_this.toWeakRef();
-        if(!gUserObjectCache->contains(ptr, wlink))
-            gUserObjectCache->insert(ptr, wlink);
+        if(!stripe.userObjects.contains(ptr, wlink))
+            stripe.userObjects.insert(ptr, wlink);
     }
 }
 
 void QtJambiLink::unregisterPointer(void *ptr) {
     if(QtJambiLink::getObjectCacheMode() != 0) {
-        QWriteLocker locker(gLinkAccessLock());
-        Q_UNUSED(locker)
-        if(MultiLinkHash* h = gUserObjectCache()){
-            QList<QWeakPointer<QtJambiLink>> values = h->values(ptr);
+        if(LinkCache* cache = gLinkCache()){
+            // strong references are released after unlocking the stripe
+            // because releasing the last one destroys the link
+            QList<QSharedPointer<QtJambiLink>> removedLinks;
+            LinkCache::Stripe& stripe = cache->stripe(ptr);
+            QWriteLocker locker(&stripe.lock);
+            Q_UNUSED(locker)
+            QList<QWeakPointer<QtJambiLink>> values = stripe.userObjects.values(ptr);
             for(QWeakPointer<QtJambiLink> wlink : values){
                 QSharedPointer<QtJambiLink> link(wlink);
                 if(!link || link==m_this){
-                    h->remove(ptr, link.toWeakRef());
+                    stripe.userObjects.remove(ptr, link.toWeakRef());
+                    removedLinks << link;
                 }
             }
         }
@@ -1935,16 +1970,14 @@ void MetaTypedPointerToContainerLink::deleteNativeObject(JNIEnv *env, bool force
                             QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                             setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                             QtJambiMetaTypeDestructor* destructor = new QtJambiMetaTypeDestructor(vud->pointer(), m_this, pointer, m_meta_type);
-                            destructor->moveToThread(ownerThread->thread());
-                            destructor->deleteLater();
+                            QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_meta_type.id()));
                         }
                         pointer = nullptr;
                     }else if(!p->wasDeleted){
                         QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                         setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                         QtJambiMetaTypeDestructor* destructor = new QtJambiMetaTypeDestructor(obj, m_this, pointer, m_meta_type);
-                        destructor->moveToThread(ownerThread->thread());
-                        destructor->deleteLater();
+                        QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_meta_type.id()));
                         pointer = nullptr;
                     }
                 }
@@ -2309,16 +2342,14 @@ void OwnedMetaTypedPointerToObjectLink::deleteNativeObject(JNIEnv *env, bool for
                             QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                             setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                             QtJambiMetaTypeDestructor* destructor = new QtJambiMetaTypeDestructor(vud->pointer(), m_this, pointer, m_meta_type);
-                            destructor->moveToThread(ownerThread->thread());
-                            destructor->deleteLater();
+                            QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_meta_type.id()));
                         }
                         pointer = nullptr;
                     }else if(!p->wasDeleted){
                         QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                         setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                         QtJambiMetaTypeDestructor* destructor = new QtJambiMetaTypeDestructor(obj, m_this, pointer, m_meta_type);
-                        destructor->moveToThread(ownerThread->thread());
-                        destructor->deleteLater();
+                        QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_meta_type.id()));
                         pointer = nullptr;
                     }
                 }
@@ -2381,16 +2412,14 @@ void DeletableOwnedPointerToObjectLink::deleteNativeObject(JNIEnv *env, bool for
                             QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                             setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                             QtJambiDestructor* destructor = new QtJambiDestructor(vud->pointer(), m_this, pointer, m_deleter_function, isShell());
-                            destructor->moveToThread(ownerThread->thread());
-                            destructor->deleteLater();
+                            QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_deleter_function));
                         }
                         pointer = nullptr;
                     }else if(!p->wasDeleted){
                         QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                         setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                         QtJambiDestructor* destructor = new QtJambiDestructor(obj, m_this, pointer, m_deleter_function, isShell());
-                        destructor->moveToThread(ownerThread->thread());
-                        destructor->deleteLater();
+                        QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_deleter_function));
                         pointer = nullptr;
                     }
                 }
@@ -2454,16 +2483,14 @@ void DeletablePointerToContainerLink::deleteNativeObject(JNIEnv *env, bool force
                             QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                             setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                             QtJambiDestructor* destructor = new QtJambiDestructor(vud->pointer(), m_this, pointer, m_deleter_function, isShell());
-                            destructor->moveToThread(ownerThread->thread());
-                            destructor->deleteLater();
+                            QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_deleter_function));
                         }
                         pointer = nullptr;
                     }else if(!p->wasDeleted){
                         QTJAMBI_DEBUG_TRACE_WITH_THREAD("use QtJambiDestructor")
                         setDeleteLater();    // qobject still exists at the time we cut it away (and we have shoved dtor to event system)
                         QtJambiDestructor* destructor = new QtJambiDestructor(obj, m_this, pointer, m_deleter_function, isShell());
-                        destructor->moveToThread(ownerThread->thread());
-                        destructor->deleteLater();
+                        QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_deleter_function));
                         pointer = nullptr;
                     }
                 }
@@ -2958,8 +2985,7 @@ void SmartPointerToObjectLink::deleteNativeObject(JNIEnv *env, bool){
                                         shared_pointer,
                                         m_shared_pointer_deleter,
                                         isShell());
-                            destructor->moveToThread(ownerThread->thread());
-                            destructor->deleteLater();
+                            QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_shared_pointer_deleter));
                         }
                         shared_pointer = nullptr;
                     }else if(!p->wasDeleted){
@@ -2971,8 +2997,7 @@ void SmartPointerToObjectLink::deleteNativeObject(JNIEnv *env, bool){
                                     shared_pointer,
                                     m_shared_pointer_deleter,
                                     isShell());
-                        destructor->moveToThread(ownerThread->thread());
-                        destructor->deleteLater();
+                        QtJambiDestructorBatch::post(destructor, ownerThread, quintptr(m_shared_pointer_deleter));
                         shared_pointer = nullptr;
                     }
                 }
@@ -3885,6 +3910,89 @@ bool QtJambiMetaTypeDestructor::event(QEvent * e){
     return QObject::event(e);
 }
 
+Q_GLOBAL_STATIC(QThreadStorage<quintptr>, gCurrentDestructorBatch)
+
+QtJambiDestructorBatch::QtJambiDestructorBatch()
+    : m_groups(),
+      m_previous(gCurrentDestructorBatch->localData())
+{
+    gCurrentDestructorBatch->setLocalData(quintptr(this));
+}
+
+QtJambiDestructorBatch::~QtJambiDestructorBatch()
+{
+    flush();
+    gCurrentDestructorBatch->setLocalData(m_previous);
+}
+
+void QtJambiDestructorBatch::flush()
+{
+    QHash<QThread*,ThreadGroup> groups;
+    groups.swap(m_groups);
+    for(ThreadGroup& group : groups){
+        // destructions with the same deleter run one after the other
+        std::stable_sort(group.entries.begin(), group.entries.end(), [](const Entry& a, const Entry& b){ return a.deleter < b.deleter; });
+        if(group.thread && group.thread->isRunning()){
+            QVector<QObject*> destructors;
+            destructors.reserve(group.entries.size());
+            for(const Entry& entry : qAsConst(group.entries)){
+                entry.destructor->moveToThread(group.thread);
+                destructors << entry.destructor;
+            }
+            QtJambiDestructorGroup* destructorGroup = new QtJambiDestructorGroup(std::move(destructors));
+            destructorGroup->moveToThread(group.thread);
+            destructorGroup->deleteLater();
+        }else{
+            // the owner thread has finished in the meantime
+            for(const Entry& entry : qAsConst(group.entries)){
+                QEvent deferredDelete(QEvent::DeferredDelete);
+                QCoreApplication::sendEvent(entry.destructor, &deferredDelete);
+            }
+        }
+    }
+}
+
+void QtJambiDestructorBatch::post(QObject* destructor, QThread* ownerThread, quintptr deleter)
+{
+    if(QtJambiDestructorBatch* batch = reinterpret_cast<QtJambiDestructorBatch*>(gCurrentDestructorBatch->localData())){
+        ThreadGroup& group = batch->m_groups[ownerThread];
+        if(!group.thread)
+            group.thread = ownerThread;
+        group.entries << Entry{destructor, deleter};
+    }else{
+        // like batched destructors, the destructor runs in the owner thread itself
+        destructor->moveToThread(ownerThread);
+        destructor->deleteLater();
+    }
+}
+
+QtJambiDestructorGroup::QtJambiDestructorGroup(QVector<QObject*>&& destructors)
+    : QObject(),
+      m_destructors(std::move(destructors))
+{
+}
+
+QtJambiDestructorGroup::~QtJambiDestructorGroup()
+{
+    destructAll();
+}
+
+bool QtJambiDestructorGroup::event(QEvent * e){
+    if(e->type()==QEvent::Type(QEvent::DeferredDelete))
+        destructAll();
+    return QObject::event(e);
+}
+
+void QtJambiDestructorGroup::destructAll(){
+    QVector<QObject*> destructors;
+    destructors.swap(m_destructors);
+    for(QObject* destructor : qAsConst(destructors)){
+        // every destructor handles the deferred delete just as if it was posted on its own
+        QEvent deferredDelete(QEvent::DeferredDelete);
+        QCoreApplication::sendEvent(destructor, &deferredDelete);
+    }
+}
+
 #if defined(QTJAMBI_DEBUG_TOOLS) || defined(QTJAMBI_LINK_NAME) || !defined(QT_NO_DEBUG)
 const char* QtJambiDestructor::qtTypeName() const
 {
@@ -32,6 +32,9 @@
 
 #include <QtCore/QMutex>
 #include <QtCore/QPointer>
+#include <QtCore/QHash>
+#include <QtCore/QVector>
+#include <QtCore/QThread>
 #include <QtCore/QObject>
 #include <QtCore/QList>
 #include <QtCore/QRunnable>
@@ -879,6 +882,42 @@ private:
 #endif
 };
 
+/**
+ * Collects the destructors of objects owned by other threads while a batch of links is cleaned
+ * and posts them to their owner threads in bulk when the batch ends.
+ * Without active batch, every destructor is posted on its own.
+ */
+class QtJambiDestructorBatch{
+public:
+    QtJambiDestructorBatch();
+    ~QtJambiDestructorBatch();
+    void flush();
+    static void post(QObject* destructor, QThread* ownerThread, quintptr deleter);
+private:
+    struct Entry{
+        QObject* destructor;
+        quintptr deleter;
+    };
+    struct ThreadGroup{
+        QPointer<QThread> thread;
+        QVector<Entry> entries;
+    };
+    QHash<QThread*,ThreadGroup> m_groups;
+    quintptr m_previous;
+    Q_DISABLE_COPY_MOVE(QtJambiDestructorBatch)
+};
+
+class QtJambiDestructorGroup : public QObject
+{
+public:
+    QtJambiDestructorGroup(QVector<QObject*>&& destructors);
+    ~QtJambiDestructorGroup() override;
+    bool event(QEvent * e) override;
+private:
+    void destructAll();
+    QVector<QObject*> m_destructors;
+};
+
 class QtJambiLinkScope : public QtJambiScope{
 public:
     QtJambiLinkScope(const QSharedPointer<QtJambiLink>& _link);
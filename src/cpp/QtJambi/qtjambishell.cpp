@@ -52,9 +52,12 @@ public:
 
     virtual const QMetaObject* metaObject() const;
 
+    jint ioDeviceBufferOverrides(JNIEnv* env) const;
+
     virtual ~VTable();
 private:
     jclass m_class;
+    mutable QAtomicInt m_ioDeviceBufferOverrides;
 };
 
 typedef QHash<int, QSharedPointer<const VTable>> VTableHash;
@@ -278,6 +281,12 @@ jmethodID QtJambiShell::javaMethod(const std::type_info& typeId, int pos) const
     return static_cast<const QtJambiShellImpl*>(this)->m_vtable->javaMethod(typeId, pos);
 }
 
+jint QtJambiShell::ioDeviceBufferOverrides(JNIEnv *env) const
+{
+    Q_ASSERT(static_cast<const QtJambiShellImpl*>(this)->m_vtable);
+    return static_cast<const QtJambiShellImpl*>(this)->m_vtable->ioDeviceBufferOverrides(env);
+}
+
 const QMetaObject* QtJambiShell::metaObject() const
 {
     Q_ASSERT(static_cast<const QtJambiShellImpl*>(this)->m_vtable);
@@ -2533,7 +2542,8 @@ private:
 };
 
 VTable::VTable(JNIEnv* env, jclass clazz)
-    : m_class(getGlobalClassRef(env, clazz))
+    : m_class(getGlobalClassRef(env, clazz)),
+      m_ioDeviceBufferOverrides(-1)
 {
 }
 
@@ -2545,6 +2555,20 @@ jclass VTable::javaClass() const
     return m_class;
 }
 
+/**
+ * Asks QIODevice.bufferDataOverrides once per Java class which ByteBuffer
+ * based data methods the class overrides (0x1 readData, 0x2 writeData).
+ */
+jint VTable::ioDeviceBufferOverrides(JNIEnv* env) const
+{
+    jint overrides = m_ioDeviceBufferOverrides.loadAcquire();
+    if(overrides<0){
+        overrides = Java::QtCore::QIODevice::bufferDataOverrides(env, m_class);
+        m_ioDeviceBufferOverrides.storeRelease(overrides);
+    }
+    return overrides;
+}
+
 const QMetaObject* VTable::metaObject() const
 {
     if(JniEnvironment env{200}){
@@ -52,6 +52,7 @@ public:
     jobject getJavaObjectLocalRef(JNIEnv *env) const;
     jclass javaClass() const;
     jmethodID javaMethod(const std::type_info& typeId, int pos) const;
+    jint ioDeviceBufferOverrides(JNIEnv *env) const;
     void * qt_metacast(const char *className, bool* ok = nullptr);
     const void * qt_metacast(const char *className, bool* ok = nullptr) const;
     int qt_metacall(QMetaObject::Call _c, int _id, void **_a);
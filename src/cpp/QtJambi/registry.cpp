@@ -36,10 +36,13 @@ QT_WARNING_DISABLE_DEPRECATED
 #include <QtCore/QThreadStorage>
 #include <QtCore/QEvent>
 #include <QtCore/QThread>
+#include <QtCore/QMutex>
 #include <QtCore/private/qcoreapplication_p.h>
 
 #include <typeindex>
 #include <typeinfo>
+#include <atomic>
+#include <type_traits>
 
 #include "qtjambiapi.h"
 #include "registryapi.h"
@@ -56,9 +59,181 @@ QT_WARNING_DISABLE_DEPRECATED
 #include "supertypeinfo_p.h"
 #include "qtjambi_cast.h"
 
+/**
+ * Insert-only hash table keyed by type hash codes.
+ * Entries are registered at class initialization time and then read on every
+ * conversion, cast and virtual call. Lookups are lock-free: they only read the
+ * atomically published bucket array. Writers are serialized by an internal mutex.
+ * When the table grows the old bucket array stays valid until destruction so
+ * that concurrent readers never access released memory.
+ */
+template<typename T>
+class RegistryTable{
+    static_assert(std::is_trivially_copyable<T>::value, "RegistryTable requires trivially copyable values");
+    struct Entry{
+        std::atomic<size_t> key;
+        std::atomic<T> value;
+    };
+    struct Buckets{
+        Buckets(size_t _capacity) : capacity(_capacity), entries(new Entry[_capacity]()) {}
+        ~Buckets(){ delete[] entries; }
+        const size_t capacity;
+        Entry* const entries;
+    };
+public:
+    RegistryTable() : m_buckets(new Buckets(64)), m_size(0), m_hasNullKey(false), m_nullKeyValue(T()) {}
+    ~RegistryTable(){
+        delete m_buckets.load();
+        qDeleteAll(m_retired);
+    }
+
+    T value(size_t key, T defaultValue = T()) const {
+        if(key==0)
+            return m_hasNullKey.load(std::memory_order_acquire) ? m_nullKeyValue.load(std::memory_order_acquire) : defaultValue;
+        const Buckets* buckets = m_buckets.load(std::memory_order_acquire);
+        if(const Entry* entry = find(buckets, key))
+            return entry->value.load(std::memory_order_acquire);
+        return defaultValue;
+    }
+
+    bool contains(size_t key) const {
+        if(key==0)
+            return m_hasNullKey.load(std::memory_order_acquire);
+        return find(m_buckets.load(std::memory_order_acquire), key)!=nullptr;
+    }
+
+    void insert(size_t key, T value){
+        QMutexLocker locker(&m_writeMutex);
+        Q_UNUSED(locker)
+        if(key==0){
+            m_nullKeyValue.store(value, std::memory_order_release);
+            m_hasNullKey.store(true, std::memory_order_release);
+            return;
+        }
+        Buckets* buckets = m_buckets.load(std::memory_order_relaxed);
+        if(Entry* entry = const_cast<Entry*>(find(buckets, key))){
+            entry->value.store(value, std::memory_order_release);
+            return;
+        }
+        if((m_size+1)*2 > buckets->capacity){
+            Buckets* grown = new Buckets(buckets->capacity*2);
+            for(size_t i=0; i<buckets->capacity; ++i){
+                size_t k = buckets->entries[i].key.load(std::memory_order_relaxed);
+                if(k!=0)
+                    place(grown, k, buckets->entries[i].value.load(std::memory_order_relaxed));
+            }
+            m_buckets.store(grown, std::memory_order_release);
+            m_retired << buckets;
+            buckets = grown;
+        }
+        place(buckets, key, value);
+        ++m_size;
+    }
+
+    void clear(){
+        QMutexLocker locker(&m_writeMutex);
+        Q_UNUSED(locker)
+        m_retired << m_buckets.load(std::memory_order_relaxed);
+        m_buckets.store(new Buckets(64), std::memory_order_release);
+        m_hasNullKey.store(false, std::memory_order_release);
+        m_size = 0;
+    }
+
+    QList<T> values() const {
+        QList<T> result;
+        if(m_hasNullKey.load(std::memory_order_acquire))
+            result << m_nullKeyValue.load(std::memory_order_acquire);
+        const Buckets* buckets = m_buckets.load(std::memory_order_acquire);
+        for(size_t i=0; i<buckets->capacity; ++i){
+            if(buckets->entries[i].key.load(std::memory_order_acquire)!=0)
+                result << buckets->entries[i].value.load(std::memory_order_acquire);
+        }
+        return result;
+    }
+private:
+    static size_t indexOf(const Buckets* buckets, size_t key){
+        size_t h = key * size_t(0x9E3779B97F4A7C15ull);
+        h ^= h >> (sizeof(size_t)*4);
+        return h & (buckets->capacity-1);
+    }
+    static const Entry* find(const Buckets* buckets, size_t key){
+        for(size_t i = indexOf(buckets, key);; i = (i+1) & (buckets->capacity-1)){
+            size_t k = buckets->entries[i].key.load(std::memory_order_acquire);
+            if(k==key)
+                return &buckets->entries[i];
+            if(k==0)
+                return nullptr;
+        }
+    }
+    static void place(Buckets* buckets, size_t key, T value){
+        size_t i = indexOf(buckets, key);
+        while(buckets->entries[i].key.load(std::memory_order_relaxed)!=0)
+            i = (i+1) & (buckets->capacity-1);
+        // the value has to be visible before the key is published to readers
+        buckets->entries[i].value.store(value, std::memory_order_relaxed);
+        buckets->entries[i].key.store(key, std::memory_order_release);
+    }
+    std::atomic<Buckets*> m_buckets;
+    size_t m_size;
+    std::atomic<bool> m_hasNullKey;
+    std::atomic<T> m_nullKeyValue;
+    QList<Buckets*> m_retired;
+    QMutex m_writeMutex;
+    Q_DISABLE_COPY(RegistryTable)
+};
+
+/**
+ * Lock-free multi-value variant of RegistryTable.
+ * Each key refers to an immutable list which is replaced on insertion.
+ * Like QMultiHash::values() the most recently inserted value comes first.
+ */
+template<typename T>
+class RegistryMultiTable{
+public:
+    RegistryMultiTable() = default;
+    ~RegistryMultiTable(){
+        qDeleteAll(m_lists);
+    }
+
+    const QList<T>& values(size_t key) const {
+        if(const QList<T>* list = m_table.value(key, nullptr))
+            return *list;
+        return m_empty;
+    }
+
+    bool contains(size_t key) const {
+        return m_table.contains(key);
+    }
+
+    void insert(size_t key, T value){
+        QMutexLocker locker(&m_writeMutex);
+        Q_UNUSED(locker)
+        QList<T>* list = new QList<T>(values(key));
+        list->prepend(value);
+        m_lists << list;
+        m_table.insert(key, list);
+    }
+
+    QList<T> takeAll(){
+        QMutexLocker locker(&m_writeMutex);
+        Q_UNUSED(locker)
+        QList<T> result;
+        for(const QList<T>* list : m_table.values())
+            result << *list;
+        m_table.clear();
+        return result;
+    }
+private:
+    RegistryTable<const QList<T>*> m_table;
+    QList<const QList<T>*> m_lists;
+    const QList<T> m_empty;
+    QMutex m_writeMutex;
+    Q_DISABLE_COPY(RegistryMultiTable)
+};
+
 Q_GLOBAL_STATIC_WITH_ARGS(QReadWriteLock, gLock, (QReadWriteLock::Recursive))
-typedef QMap<size_t, EntryTypes> TypeEntryTypesHash;
-typedef QMap<size_t, const char*> TypeStringHash;
+typedef RegistryTable<EntryTypes> TypeEntryTypesHash;
+typedef RegistryTable<const char*> TypeStringHash;
 typedef QMap<size_t, QSharedPointer<QtJambiTypeInfo>> TypeIdToQTypeInfoHash;
 typedef QHash<QByteArray, const char*> StringStringHash;
 typedef QHash<QByteArray, const std::type_info*> StringTypeHash;
@@ -91,7 +266,7 @@ Q_GLOBAL_STATIC(SequentialContainerAccessFactoryByMetaTypeHash, gSequentialConta
 typedef QHash<QPair<int,int>, QHash<int,std::function<AbstractContainerAccess*()>>> MapAccessFactoryByMetaTypeHash;
 Q_GLOBAL_STATIC(MapAccessFactoryByMetaTypeHash, gMapAccessFactoryByMetaTypeHash)
 typedef QHash<int, const std::type_info*> MetaTypeIDHash;
-typedef QMap<size_t, int> MetaTypeIDMap;
+typedef RegistryTable<int> MetaTypeIDMap;
 Q_GLOBAL_STATIC(MetaTypeIDMap, gMetaTypeIDMap)
 Q_GLOBAL_STATIC(MetaTypeIDHash, gMetaTypeIDHash)
 typedef QMap<size_t, const void*> DefaultValueHash;
@@ -100,7 +275,7 @@ typedef QMap<size_t, QVector<FunctionInfo> > FunctionInfoHash;
 Q_GLOBAL_STATIC(FunctionInfoHash, gVirtualFunctionInfos)
 typedef QMap<size_t, QVector<ConstructorInfo> > ConstructorInfoHash;
 Q_GLOBAL_STATIC(ConstructorInfoHash, gConstructorInfos)
-typedef QMap<size_t, Destructor> DestructorHash;
+typedef RegistryTable<Destructor> DestructorHash;
 Q_GLOBAL_STATIC(DestructorHash, gDestructorHash)
 typedef QHash<hash_type, const char*> NameHash;
 Q_GLOBAL_STATIC(NameHash, gFlagEnumNameHash)
@@ -108,7 +283,7 @@ Q_GLOBAL_STATIC(NameHash, gInterfaceHash)
 Q_GLOBAL_STATIC(NameHash, gInterfaceIIDsHash)
 typedef QSet<hash_type> HashSet;
 Q_GLOBAL_STATIC(HashSet, gFunctionalHash)
-typedef QMap<size_t, PtrDeleterFunction> DeleterHash;
+typedef RegistryTable<PtrDeleterFunction> DeleterHash;
 Q_GLOBAL_STATIC(DeleterHash, gDeleterHash)
 #if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
 typedef QHash<const QtPrivate::QMetaTypeInterface *, jclass> MetaTypeJavaTypeHash;
@@ -123,17 +298,17 @@ Q_GLOBAL_STATIC(MetaTypeJavaTypeHash, gMetaTypeJavaTypeHash)
 Q_GLOBAL_STATIC(JavaTypeMetaTypesHash, gJavaTypeMetaTypesHash)
 Q_GLOBAL_STATIC(JObjectWrappedMetaTypeHash, gJObjectWrappedMetaTypes)
 
-typedef QMap<size_t, PtrOwnerFunction> OwnerFunctionHash;
+typedef RegistryTable<PtrOwnerFunction> OwnerFunctionHash;
 Q_GLOBAL_STATIC(OwnerFunctionHash, gOwnerFunctionHash)
 
 struct PolymorphicIdHandler;
-typedef QMultiHash<size_t, const PolymorphicIdHandler* > PolymorphicIdHash;
+typedef RegistryMultiTable<const PolymorphicIdHandler*> PolymorphicIdHash;
 Q_GLOBAL_STATIC(PolymorphicIdHash, g_polymorphic_ids)
-typedef QMultiMap<size_t, const std::type_info*> PolymorphicBasesHash;
+typedef RegistryMultiTable<const std::type_info*> PolymorphicBasesHash;
 Q_GLOBAL_STATIC(PolymorphicBasesHash, gPolymorphicBasesHash)
 
-typedef QMap<size_t, QHashFunctionPtr> HashFunctionHash;
-typedef QMap<size_t, size_t> SizeHash;
+typedef RegistryTable<QHashFunctionPtr> HashFunctionHash;
+typedef RegistryTable<size_t> SizeHash;
 typedef QMap<size_t, QMap<size_t, int>> OffsetHash;
 typedef QMap<size_t, QSet<const std::type_info*>> InterfacesHash;
 Q_GLOBAL_STATIC(SizeHash, gValueSizeHash)
@@ -561,8 +736,6 @@ NewContainerAccessFunction getSequentialContainerAccessFactory(const std::type_i
 
 
 EntryTypes getEntryType(const std::type_info& typeId){
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gEntryTypesHash->value(unique_id(typeId), EntryTypes::Unspecific);
 }
 
@@ -575,22 +748,16 @@ const std::type_info* getInterfaceTypeForIID(const char*interface_iid)
 
 bool isInterface(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gEntryTypesHash->value(unique_id(typeId), EntryTypes::Unspecific) == EntryTypes::InterfaceTypeInfo;
 }
 
 bool isQObject(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gEntryTypesHash->value(unique_id(typeId), EntryTypes::Unspecific) == EntryTypes::QObjectTypeInfo;
 }
 
 bool isFunctional(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gEntryTypesHash->value(unique_id(typeId), EntryTypes::Unspecific) == EntryTypes::FunctionalTypeInfo;
 }
 
@@ -603,8 +770,6 @@ bool isValueType(JNIEnv * env, jclass valueType, int* metaTypeId)
         *metaTypeId = QMetaType::UnknownType;
     if (!infos.isEmpty()){
         if(const std::type_info* typeId = getTypeByJavaName(QtJambiAPI::getClassName(env, infos.first().javaClass()).replace(QLatin1Char('.'), QLatin1Char('/')))){
-            QReadLocker locker(gLock());
-            Q_UNUSED(locker)
             EntryTypes entryType = gEntryTypesHash->value(unique_id(*typeId), EntryTypes::Unspecific);
             int _metaTypeId = registeredMetaTypeID(*typeId);
             if(metaTypeId && (entryType==EntryTypes::ValueTypeInfo || entryType==EntryTypes::InterfaceValueTypeInfo))
@@ -681,22 +846,16 @@ const QtJambiTypeInfo* getQTypeInfo(const std::type_info& typeId)
 
 const char * getQtName(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gTypeQtNameHash->value(unique_id(typeId), nullptr);
 }
 
 const char * getJavaName(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gTypeJavaNameHash->value(unique_id(typeId), nullptr);
 }
 
 const char * getJavaInterfaceName(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     if(gTypeJavaInterfaceHash->contains(unique_id(typeId)))
         return gTypeJavaInterfaceHash->value(unique_id(typeId), nullptr);
     return gTypeJavaNameHash->value(unique_id(typeId), nullptr);
@@ -1233,8 +1392,6 @@ int registerContainerMetaType(const QByteArray& typeName,
 
 int registeredMetaTypeID(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gMetaTypeIDMap->value(unique_id(typeId), QMetaType::UnknownType);
 }
 
@@ -1389,8 +1546,6 @@ void RegistryAPI::registerDeleter(const std::type_info& typeId, PtrDeleterFuncti
 
 PtrDeleterFunction deleter(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gDeleterHash->value(unique_id(typeId), nullptr);
 }
 
@@ -1403,8 +1558,6 @@ void RegistryAPI::registerOwnerFunction(const std::type_info& typeId, PtrOwnerFu
 
 PtrOwnerFunction registeredOwnerFunction(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gOwnerFunctionHash->value(unique_id(typeId), nullptr);
 }
 
@@ -1424,20 +1577,14 @@ void RegistryAPI::registerPolymorphyHandler(const std::type_info& polymorphicBas
 }
 
 bool isPolymorphicBase(const std::type_info& typeId){
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return g_polymorphic_ids->contains(unique_id(typeId));
 }
 
-QList<const std::type_info*> getPolymorphicBases(const std::type_info& typeId){
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
+const QList<const std::type_info*>& getPolymorphicBases(const std::type_info& typeId){
     return gPolymorphicBasesHash->values(unique_id(typeId));
 }
 
-QList<const PolymorphicIdHandler*> getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId){
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
+const QList<const PolymorphicIdHandler*>& getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId){
     return g_polymorphic_ids->values(unique_id(polymorphicBaseTypeId));
 }
 
@@ -1525,29 +1672,21 @@ void RegistryAPI::registerHashFunction(const std::type_info& typeId, QHashFuncti
 
 QHashFunctionPtr registeredHashFunction(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gHashFunctionHash->value(unique_id(typeId), nullptr);
 }
 
 size_t getValueSize(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gValueSizeHash->value(unique_id(typeId), 0);
 }
 
 size_t getValueAlignment(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gValueAlignmentHash->value(unique_id(typeId), 0);
 }
 
 size_t getShellSize(const std::type_info& typeId)
 {
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gShellSizeHash->value(unique_id(typeId), 0);
 }
 
@@ -1666,8 +1805,6 @@ void registerDestructor(const std::type_info& typeId, Destructor destructor)
 }
 
 Destructor registeredDestructor(const std::type_info& typeId){
-    QReadLocker locker(gLock());
-    Q_UNUSED(locker)
     return gDestructorHash->value(unique_id(typeId), nullptr);
 }
 
@@ -2524,14 +2661,14 @@ size_t QmlAPI::extendedSizeForClass(JNIEnv *env, jclass object_class)
 }
 
 void clearRegistryAtShutdown(JNIEnv * env){
-    PolymorphicIdHash polymorphic_ids;
+    QList<const PolymorphicIdHandler*> polymorphic_ids;
     {
         QWriteLocker locker(gLock());
         Q_UNUSED(locker)
         if(!g_polymorphic_ids.isDestroyed())
-            polymorphic_ids.swap(*g_polymorphic_ids);
+            polymorphic_ids = g_polymorphic_ids->takeAll();
     }
-    for(const PolymorphicIdHandler* handler : polymorphic_ids){
+    for(const PolymorphicIdHandler* handler : qAsConst(polymorphic_ids)){
         delete handler;
     }
 #ifndef QTJAMBI_NOCACHE
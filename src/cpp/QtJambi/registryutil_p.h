@@ -105,7 +105,7 @@ const QMetaObject* superTypeForCustomMetaObject(const std::type_info& typeId);
 Destructor registeredDestructor(const std::type_info& typeId);
 FunctionalResolver registeredFunctionalResolver(const std::type_info& typeId);
 jmethodID findInternalPrivateConstructor(JNIEnv *env, jclass clazz);
-QList<const std::type_info*> getPolymorphicBases(const std::type_info& typeId);
+const QList<const std::type_info*>& getPolymorphicBases(const std::type_info& typeId);
 void registeredInterfaceOffsets(const std::type_info& qt_type, InterfaceOffsetInfo* info);
 const InterfaceOffsetInfo* getInterfaceOffsets(JNIEnv *env, jclass clazz, const std::type_info& typeId, const SuperTypeInfos* superTypeInfos);
 const InterfaceOffsetInfo* getInterfaceOffsets(JNIEnv *env, jclass clazz);
@@ -139,7 +139,7 @@ void registerTypeInfo(const std::type_info& typeId, const QtJambiTypeInfo& info,
 void registerTypeAlias(const std::type_info& typeId, const char *qt_name, const char *java_name);
 void registerContainerTypeInfo(const std::type_info& typeId, const QtJambiTypeInfo& info, const char *qt_name, const char *java_name, const char *java_interface);
 void registerMetaTypeID(const std::type_info& typeId, const std::type_info& nonPointerTypeId, int qtMetaType);
-QList<const PolymorphicIdHandler*> getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId);
+const QList<const PolymorphicIdHandler*>& getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId);
 const char * registeredInterfaceID(const std::type_info& typeId);
 bool isQObject(const std::type_info& typeId);
 
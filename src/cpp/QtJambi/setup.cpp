@@ -66,6 +66,7 @@ void shutdown(JNIEnv * env);
 void clearGlobalClassPointersAtShutdown(JNIEnv *env);
 void clearRegistryAtShutdown(JNIEnv * env);
 void clearTypeHandlersAtShutdown(JNIEnv *env);
+void clearConvertersAtShutdown(JNIEnv *env);
 void clearMessageHandlerAtShutdown(JNIEnv *env);
 void clearSuperTypesAtShutdown(JNIEnv *env);
 void clearMetaObjectsAtShutdown(JNIEnv * env);
@@ -844,6 +845,7 @@ void shutdown(JNIEnv * env)
         clearSuperTypesAtShutdown(env);
         clearMetaObjectsAtShutdown(env);
         clearTypeHandlersAtShutdown(env);
+        clearConvertersAtShutdown(env);
         clearFunctionPointersAtShutdown();
         if(env){
             try{
@@ -56,7 +56,7 @@ Q_GLOBAL_STATIC(TypeEntryHash, gTypeEntryHash)
 Q_GLOBAL_STATIC_WITH_ARGS(QReadWriteLock, gTypeEntryLock, (QReadWriteLock::Recursive))
 
 const char* getJavaNameByFunctional(const char* qt_name);
-QList<const PolymorphicIdHandler*> getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId);
+const QList<const PolymorphicIdHandler*>& getPolymorphicIdHandlers(const std::type_info& polymorphicBaseTypeId);
 
 void clear_type_entry(const std::type_info& typeId)
 {
@@ -45,6 +45,7 @@ QT_WARNING_DISABLE_GCC("-Winit-list-lifetime")
 #include <QtCore/QMap>
 #include <QtCore/QMultiHash>
 #include <QtCore/QMultiMap>
+#include <QtCore/QMutex>
 
 #if QT_VERSION < QT_VERSION_CHECK(6,0,0)
 #include <QtCore/QLinkedList>
@@ -104,10 +105,173 @@ private:
 const char* getInterface(const char*qt_interface);
 
 Q_GLOBAL_STATIC_WITH_ARGS(QReadWriteLock, gCacheLock, (QReadWriteLock::Recursive))
-typedef QHash<hash_type, InternalToExternalConverter> InternalToExternalConverterHash;
-typedef QHash<hash_type, ExternalToInternalConverter> ExternalToInternalConverterHash;
-Q_GLOBAL_STATIC(InternalToExternalConverterHash, gInternalToExternalConverters)
-Q_GLOBAL_STATIC(ExternalToInternalConverterHash, gExternalToInternalConverters)
+
+/**
+ * Converter table keyed by the exact identity of the converted types:
+ * the meta type id (or the type name for unregistered types), the Java class
+ * compared by JNI object identity and the value pointer flag.
+ * Entries are prepended to lock-free bucket lists and never freed,
+ * so readers walk the lists without locking and call sites may keep
+ * pointers to entries in a ConverterInlineCache.
+ * Every entry holds a weak global reference to its Java class so that the cache
+ * does not keep the class and its class loader alive. The converter factories
+ * receive this reference and capture it instead of interning the class.
+ * An entry whose class has been unloaded is marked evicted on lookup and never matches again.
+ * Evicted entries are unlinked from their bucket on the next insertion into the bucket
+ * and their weak references are released at shutdown.
+ */
+template<typename Converter>
+struct ConverterCacheEntry{
+    mutable QAtomicPointer<const ConverterCacheEntry> next;
+    int metaTypeId;
+    QString typeName;
+    mutable jclass externalClass;
+    bool allowValuePointers;
+    Converter converter;
+    mutable QAtomicInt evicted;
+    mutable const ConverterCacheEntry* nextUnlinked;
+};
+
+template<typename Converter>
+class ConverterCache{
+public:
+    typedef ConverterCacheEntry<Converter> Entry;
+
+    ConverterCache() : m_mutex(), m_buckets(), m_unlinked(nullptr) {}
+
+    const Entry* find(JNIEnv* env, const QString &internalTypeName, const QMetaType& internalMetaType, jclass externalClass, bool allowValuePointers) const {
+        int metaTypeId = internalMetaType.isValid() ? internalMetaType.id() : int(QMetaType::UnknownType);
+        for(const Entry* entry = bucket(internalTypeName, metaTypeId).loadAcquire(); entry; entry = entry->next.loadAcquire()){
+            if(matches(env, entry, internalTypeName, metaTypeId, externalClass, allowValuePointers))
+                return entry;
+        }
+        return nullptr;
+    }
+
+    /**
+     * Creates the weak global reference a new entry holds on its class.
+     * The converter factories capture this reference, it is passed to insert() afterwards.
+     */
+    static jclass newClassRef(JNIEnv* env, jclass externalClass){
+        return externalClass ? jclass(env->NewWeakGlobalRef(externalClass)) : nullptr;
+    }
+
+    /**
+     * Inserts a converter for the given class reference created by newClassRef().
+     * The entry takes ownership of the reference unless an equal entry has been inserted meanwhile.
+     */
+    const Entry* insert(JNIEnv* env, const QString &internalTypeName, const QMetaType& internalMetaType, jclass classRef, bool allowValuePointers, Converter&& converter){
+        QMutexLocker locker(&m_mutex);
+        Q_UNUSED(locker)
+        if(const Entry* entry = find(env, internalTypeName, internalMetaType, classRef, allowValuePointers)){
+            // the discarded converter may have captured the reference
+            converter = Converter();
+            if(classRef)
+                env->DeleteWeakGlobalRef(jweak(classRef));
+            return entry;
+        }
+        int metaTypeId = internalMetaType.isValid() ? internalMetaType.id() : int(QMetaType::UnknownType);
+        QAtomicPointer<const Entry>& head = const_cast<QAtomicPointer<const Entry>&>(bucket(internalTypeName, metaTypeId));
+        unlinkEvicted(head);
+        const Entry* entry = new Entry{
+                head.loadAcquire(),
+                metaTypeId,
+                metaTypeId==QMetaType::UnknownType ? internalTypeName : QString(),
+                classRef,
+                allowValuePointers,
+                std::move(converter),
+                QAtomicInt(0),
+                nullptr
+            };
+        head.storeRelease(entry);
+        return entry;
+    }
+
+    /**
+     * Unlinks all entries and releases their class references.
+     * Evicted entries stay allocated for inline caches still pointing to them but never match again.
+     */
+    void evictAll(JNIEnv* env){
+        QMutexLocker locker(&m_mutex);
+        Q_UNUSED(locker)
+        for(QAtomicPointer<const Entry>& head : m_buckets){
+            for(const Entry* entry = head.fetchAndStoreAcquire(nullptr); entry; entry = entry->next.loadAcquire()){
+                evict(env, entry);
+            }
+        }
+        for(const Entry* entry = m_unlinked; entry; entry = entry->nextUnlinked){
+            evict(env, entry);
+        }
+        m_unlinked = nullptr;
+    }
+
+    static bool matches(JNIEnv* env, const Entry* entry, const QString &internalTypeName, int metaTypeId, jclass externalClass, bool allowValuePointers){
+        if(entry->evicted.loadAcquire())
+            return false;
+        if(entry->metaTypeId!=metaTypeId || entry->allowValuePointers!=allowValuePointers)
+            return false;
+        if(metaTypeId==QMetaType::UnknownType && entry->typeName!=internalTypeName)
+            return false;
+        if(!entry->externalClass)
+            return !externalClass;
+        if(!externalClass)
+            return false;
+        if(env->IsSameObject(entry->externalClass, externalClass))
+            return true;
+        if(env->IsSameObject(entry->externalClass, nullptr))
+            entry->evicted.storeRelease(1);
+        return false;
+    }
+private:
+    /**
+     * Unlinks the evicted entries of a bucket. Must be called with m_mutex locked.
+     * Readers walking the bucket meanwhile continue from an unlinked entry
+     * since its own link is kept. Unlinked entries are remembered to release
+     * their class references at shutdown.
+     */
+    void unlinkEvicted(QAtomicPointer<const Entry>& head){
+        QAtomicPointer<const Entry>* link = &head;
+        while(const Entry* entry = link->loadAcquire()){
+            if(entry->evicted.loadAcquire()){
+                link->storeRelease(entry->next.loadAcquire());
+                entry->nextUnlinked = m_unlinked;
+                m_unlinked = entry;
+            }else{
+                link = &entry->next;
+            }
+        }
+    }
+
+    static void evict(JNIEnv* env, const Entry* entry){
+        entry->evicted.storeRelease(1);
+        if(entry->externalClass){
+            if(env)
+                env->DeleteWeakGlobalRef(jweak(entry->externalClass));
+            entry->externalClass = nullptr;
+        }
+    }
+
+    enum { BucketCount = 1024 };
+    const QAtomicPointer<const Entry>& bucket(const QString &internalTypeName, int metaTypeId) const {
+        uint index = metaTypeId==QMetaType::UnknownType ? uint(qHash(internalTypeName)) : uint(metaTypeId);
+        return m_buckets[index % BucketCount];
+    }
+    QMutex m_mutex;
+    QAtomicPointer<const Entry> m_buckets[BucketCount];
+    const Entry* m_unlinked;
+};
+
+typedef ConverterCache<InternalToExternalConverter> InternalToExternalConverterCache;
+typedef ConverterCache<ExternalToInternalConverter> ExternalToInternalConverterCache;
+Q_GLOBAL_STATIC(InternalToExternalConverterCache, gInternalToExternalConverters)
+Q_GLOBAL_STATIC(ExternalToInternalConverterCache, gExternalToInternalConverters)
+
+void clearConvertersAtShutdown(JNIEnv *env){
+    if(!gInternalToExternalConverters.isDestroyed())
+        gInternalToExternalConverters->evictAll(env);
+    if(!gExternalToInternalConverters.isDestroyed())
+        gExternalToInternalConverters->evictAll(env);
+}
 typedef QMap<int, QHashFunction> HashFunctionHash;
 #if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
 typedef QHash<hash_type, QtMetaContainerPrivate::QMetaAssociationInterface> MetaAssociationHash;
@@ -921,74 +1085,26 @@ hash_type qHash(const QMetaType& metaType, hash_type seed = 0){
 }
 #endif
 
-hash_type computeHash(JNIEnv* env,
-                   const QString &internalTypeName,
-                   const QMetaType& internalMetaType,
-                   jclass externalClass,
-                   bool allowValuePointers){
-#if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
-    if(internalMetaType.isValid())
-        return qHashMulti(0, internalMetaType, externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0, allowValuePointers);
-    else
-        return qHashMulti(0, internalTypeName, externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0, allowValuePointers);
-#else
-    QList<hash_type> range;
-    if(internalMetaType.isValid())
-        range << qHash(internalMetaType);
-    else
-        range << qHash(internalTypeName);
-    range << qHash(externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0);
-    range << qHash(allowValuePointers);
-    return qHashRange(range.begin(), range.end());
-#endif
-}
-
-hash_type computeHash(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType) {
-#if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
-    if(internalMetaType.isValid())
-        return qHashMulti(0, internalMetaType, externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0);
-    else
-        return qHashMulti(0, internalTypeName, externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0);
-#else
-    QList<hash_type> range;
-    if(internalMetaType.isValid())
-        range << qHash(internalMetaType);
-    else
-        range << qHash(internalTypeName);
-    range << qHash(externalClass ? Java::Runtime::Object::hashCode(env, externalClass) : 0);
-    return qHashRange(range.begin(), range.end());
-#endif
-}
-
 InternalToExternalConverter QtJambiTypeManager::tryGetInternalToExternalConverter(
         JNIEnv* env,
         const QString &internalTypeName,
         const QMetaType& internalMetaType,
         jclass externalClass,
         bool allowValuePointers){
-    hash_type key = computeHash(env, internalTypeName, internalMetaType, externalClass, allowValuePointers);
-    {
-        QReadLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gInternalToExternalConverters()->contains(key))
-            return (*gInternalToExternalConverters())[key];
-    }
+    if(const InternalToExternalConverterCache::Entry* entry = gInternalToExternalConverters->find(env, internalTypeName, internalMetaType, externalClass, allowValuePointers))
+        return entry->converter;
 #if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
     if(internalMetaType.isValid() && !QMetaType(internalMetaType).iface()->metaObjectFn){
+        jclass classRef = InternalToExternalConverterCache::newClassRef(env, externalClass);
         InternalToExternalConverter converter = getInternalToExternalConverterImpl(
                     env,
                     internalTypeName,
                     internalMetaType,
-                    externalClass,
+                    classRef,
                     allowValuePointers
                 );
         Q_ASSERT(converter);
-        QWriteLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gInternalToExternalConverters()->contains(key))
-            return (*gInternalToExternalConverters())[key];
-        (*gInternalToExternalConverters())[key] = converter;
-        return converter;
+        return gInternalToExternalConverters->insert(env, internalTypeName, internalMetaType, classRef, allowValuePointers, std::move(converter))->converter;
     }
 #endif
     return InternalToExternalConverter();
@@ -1000,27 +1116,44 @@ InternalToExternalConverter QtJambiTypeManager::getInternalToExternalConverter(
                                const QMetaType& internalMetaType,
                                jclass externalClass,
                                bool allowValuePointers){
-    hash_type key = computeHash(env, internalTypeName, internalMetaType, externalClass, allowValuePointers);
-    {
-        QReadLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gInternalToExternalConverters()->contains(key))
-            return (*gInternalToExternalConverters())[key];
+    return getInternalToExternalConverterEntry(env, internalTypeName, internalMetaType, externalClass, allowValuePointers)->converter;
+}
+
+InternalToExternalConverter QtJambiTypeManager::getInternalToExternalConverter(
+                               JNIEnv* env,
+                               const QString &internalTypeName,
+                               const QMetaType& internalMetaType,
+                               jclass externalClass,
+                               bool allowValuePointers,
+                               ConverterInlineCache& inlineCache){
+    typedef InternalToExternalConverterCache::Entry Entry;
+    int metaTypeId = internalMetaType.isValid() ? internalMetaType.id() : int(QMetaType::UnknownType);
+    const Entry* entry = reinterpret_cast<const Entry*>(inlineCache.m_entry.loadAcquire());
+    if(!entry || !InternalToExternalConverterCache::matches(env, entry, internalTypeName, metaTypeId, externalClass, allowValuePointers)){
+        entry = getInternalToExternalConverterEntry(env, internalTypeName, internalMetaType, externalClass, allowValuePointers);
+        inlineCache.m_entry.storeRelease(entry);
     }
+    return entry->converter;
+}
+
+const ConverterCacheEntry<InternalToExternalConverter>* QtJambiTypeManager::getInternalToExternalConverterEntry(
+                               JNIEnv* env,
+                               const QString &internalTypeName,
+                               const QMetaType& internalMetaType,
+                               jclass externalClass,
+                               bool allowValuePointers){
+    if(const InternalToExternalConverterCache::Entry* entry = gInternalToExternalConverters->find(env, internalTypeName, internalMetaType, externalClass, allowValuePointers))
+        return entry;
+    jclass classRef = InternalToExternalConverterCache::newClassRef(env, externalClass);
     InternalToExternalConverter converter = getInternalToExternalConverterImpl(
                 env,
                 internalTypeName,
                 internalMetaType,
-                externalClass,
+                classRef,
                 allowValuePointers
             );
     Q_ASSERT(converter);
-    QWriteLocker locker(gCacheLock());
-    Q_UNUSED(locker)
-    if(gInternalToExternalConverters()->contains(key))
-        return (*gInternalToExternalConverters())[key];
-    (*gInternalToExternalConverters())[key] = converter;
-    return converter;
+    return gInternalToExternalConverters->insert(env, internalTypeName, internalMetaType, classRef, allowValuePointers, std::move(converter));
 }
 
 InternalToExternalConverter QtJambiTypeManager::getInternalToExternalConverterImpl(
@@ -1355,7 +1488,7 @@ InternalToExternalConverter QtJambiTypeManager::getInternalToExternalConverterIm
                 return true;
             };
         }else{
-            externalClass = getGlobalClassRef(_env, externalClass);
+            // externalClass is the weak reference held by the cache entry
             return [externalClass](JNIEnv* env, QtJambiScope*, const void* in, jvalue* p, bool)->bool{
                 p->l = QtJambiAPI::convertQFlagsToJavaObject(env, *reinterpret_cast<const int *>(in), externalClass);
                 return p->l!=nullptr;
@@ -2996,52 +3129,48 @@ QVariant int_for_QtEnumerator_or_QFlags(JNIEnv* env, jobject enum_value) {
 }
 
 ExternalToInternalConverter QtJambiTypeManager::tryGetExternalToInternalConverter(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType) {
-    hash_type key = computeHash(env, externalClass, internalTypeName, internalMetaType);
-    {
-        QReadLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gExternalToInternalConverters()->contains(key))
-            return (*gExternalToInternalConverters())[key];
-    }
+    if(const ExternalToInternalConverterCache::Entry* entry = gExternalToInternalConverters->find(env, internalTypeName, internalMetaType, externalClass, false))
+        return entry->converter;
 #if QT_VERSION >= QT_VERSION_CHECK(6, 0, 0)
     if(internalMetaType.isValid() && !QMetaType(internalMetaType).iface()->metaObjectFn){
-        ExternalToInternalConverter converter = getExternalToInternalConverterImpl(env, externalClass, internalTypeName, internalMetaType);
+        jclass classRef = ExternalToInternalConverterCache::newClassRef(env, externalClass);
+        ExternalToInternalConverter converter = getExternalToInternalConverterImpl(env, classRef, internalTypeName, internalMetaType);
         Q_ASSERT(converter);
-        QWriteLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gExternalToInternalConverters()->contains(key))
-            return (*gExternalToInternalConverters())[key];
-        (*gExternalToInternalConverters())[key] = converter;
-        return converter;
+        return gExternalToInternalConverters->insert(env, internalTypeName, internalMetaType, classRef, false, std::move(converter))->converter;
     }
 #endif
     return ExternalToInternalConverter();
 }
 
 ExternalToInternalConverter QtJambiTypeManager::getExternalToInternalConverter(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType) {
-    hash_type key = computeHash(env, externalClass, internalTypeName, internalMetaType);
-    {
-        QReadLocker locker(gCacheLock());
-        Q_UNUSED(locker)
-        if(gExternalToInternalConverters()->contains(key))
-            return (*gExternalToInternalConverters())[key];
+    return getExternalToInternalConverterEntry(env, externalClass, internalTypeName, internalMetaType)->converter;
+}
+
+ExternalToInternalConverter QtJambiTypeManager::getExternalToInternalConverter(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType, ConverterInlineCache& inlineCache) {
+    typedef ExternalToInternalConverterCache::Entry Entry;
+    int metaTypeId = internalMetaType.isValid() ? internalMetaType.id() : int(QMetaType::UnknownType);
+    const Entry* entry = reinterpret_cast<const Entry*>(inlineCache.m_entry.loadAcquire());
+    if(!entry || !ExternalToInternalConverterCache::matches(env, entry, internalTypeName, metaTypeId, externalClass, false)){
+        entry = getExternalToInternalConverterEntry(env, externalClass, internalTypeName, internalMetaType);
+        inlineCache.m_entry.storeRelease(entry);
     }
-    ExternalToInternalConverter converter = getExternalToInternalConverterImpl(env, externalClass, internalTypeName, internalMetaType);
+    return entry->converter;
+}
+
+const ConverterCacheEntry<ExternalToInternalConverter>* QtJambiTypeManager::getExternalToInternalConverterEntry(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType) {
+    if(const ExternalToInternalConverterCache::Entry* entry = gExternalToInternalConverters->find(env, internalTypeName, internalMetaType, externalClass, false))
+        return entry;
+    jclass classRef = ExternalToInternalConverterCache::newClassRef(env, externalClass);
+    ExternalToInternalConverter converter = getExternalToInternalConverterImpl(env, classRef, internalTypeName, internalMetaType);
     Q_ASSERT(converter);
-    QWriteLocker locker(gCacheLock());
-    Q_UNUSED(locker)
-    if(gExternalToInternalConverters()->contains(key))
-        return (*gExternalToInternalConverters())[key];
-    (*gExternalToInternalConverters())[key] = converter;
-    return converter;
+    return gExternalToInternalConverters->insert(env, internalTypeName, internalMetaType, classRef, false, std::move(converter));
 }
 
 ExternalToInternalConverter QtJambiTypeManager::getExternalToInternalConverterImpl(JNIEnv* _env, jclass externalClass, QString internalTypeName, const QMetaType& internalMetaType) {
     PointerType pointerType = PointerType::NoPointer;
     internalTypeName = processInternalTypeName(internalTypeName, pointerType);
-    if(_env->GetObjectRefType(externalClass)!=JNIGlobalRefType){
-        externalClass = getGlobalClassRef(_env, externalClass);
-    }
+    // externalClass is the weak reference held by the cache entry,
+    // the converters capture it without keeping the class alive
 
     if ( internalMetaType.id() == QMetaType::Nullptr
                || internalMetaType.id() == QMetaType::Void
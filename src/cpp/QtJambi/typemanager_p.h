@@ -37,10 +37,28 @@
 #include <QtCore/QObject>
 #include <QtCore/QString>
 #include <QtCore/QReadWriteLock>
+#include <QtCore/QAtomicPointer>
 #include <functional>
 #include "utils.h"
 #include "utils_p.h"
 
+template<typename Converter>
+struct ConverterCacheEntry;
+
+/**
+ * Remembers the converter last resolved at one call site.
+ * A hit compares the meta type and the Java class against the remembered
+ * entry of the global converter table and skips the table lookup.
+ */
+class ConverterInlineCache{
+public:
+    inline ConverterInlineCache() noexcept : m_entry(nullptr) {}
+private:
+    Q_DISABLE_COPY(ConverterInlineCache)
+    QAtomicPointer<const void> m_entry;
+    friend class QtJambiTypeManager;
+};
+
 class QtJambiTypeManager {
 public:
     enum TypePattern : quint64 {
@@ -105,6 +123,14 @@ public:
                                    jclass externalClass,
                                    bool allowValuePointers = false);
     static ExternalToInternalConverter getExternalToInternalConverter(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType);
+    static InternalToExternalConverter getInternalToExternalConverter(
+                                   JNIEnv* env,
+                                   const QString &internalTypeName,
+                                   const QMetaType& internalMetaType,
+                                   jclass externalClass,
+                                   bool allowValuePointers,
+                                   ConverterInlineCache& inlineCache);
+    static ExternalToInternalConverter getExternalToInternalConverter(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType, ConverterInlineCache& inlineCache);
 
     static InternalToExternalConverter tryGetInternalToExternalConverter(
                                    JNIEnv* env,
@@ -147,6 +173,13 @@ private:
                                    jclass externalClass,
                                    bool allowValuePointers = false);
     static ExternalToInternalConverter getExternalToInternalConverterImpl(JNIEnv* env, jclass externalClass, QString internalTypeName, const QMetaType& internalMetaType);
+    static const ConverterCacheEntry<InternalToExternalConverter>* getInternalToExternalConverterEntry(
+                                   JNIEnv* env,
+                                   const QString &internalTypeName,
+                                   const QMetaType& internalMetaType,
+                                   jclass externalClass,
+                                   bool allowValuePointers);
+    static const ConverterCacheEntry<ExternalToInternalConverter>* getExternalToInternalConverterEntry(JNIEnv* env, jclass externalClass, const QString &internalTypeName, const QMetaType& internalMetaType);
     static QString processInternalTypeName(const QString &typeName, PointerType &pointerType);
 };
 
@@ -209,12 +209,14 @@ static bool customConvert(const QVariant::Private *d, int t,
                     QString javaName = QtJambiTypeManager::getExternalTypeName(env, qtName, typeInfo);
                     jclass targetClass = JavaAPI::resolveClass(env, qPrintable(javaName));
                     // Find usage pattern
+                    static ConverterInlineCache inlineCache;
                     variantToJavaConverter = QtJambiTypeManager::getInternalToExternalConverter(
                                                         env,
                                                         qtName,
                                                         typeInfo,
                                                         targetClass,
-                                                        false);
+                                                        false,
+                                                        inlineCache);
                 }
                 if(variantToJavaConverter
                         && variantToJavaConverter(env, nullptr, in, &jval, true)){
@@ -546,12 +548,14 @@ static bool customCanConvert(const QVariant::Private *d, int t)
                         QString javaName = QtJambiTypeManager::getExternalTypeName(env, qtName, typeInfo);
                         jclass targetClass = JavaAPI::resolveClass(env, qPrintable(javaName));
                         // Find usage pattern
+                        static ConverterInlineCache inlineCache;
                         variantToJavaConverter = QtJambiTypeManager::getInternalToExternalConverter(
                                                             env,
                                                             qtName,
                                                             typeInfo,
                                                             targetClass,
-                                                            false);
+                                                            false,
+                                                            inlineCache);
                     }
                     if(variantToJavaConverter
                             && variantToJavaConverter(env, nullptr, in, &jval, true)){
@@ -40,7 +40,14 @@
 namespace Java{
 namespace QtConcurrent{
     QTJAMBI_REPOSITORY_DECLARE_CLASS(QtConcurrent,
-              QTJAMBI_REPOSITORY_DECLARE_OBJECT_METHOD(computeDefaultResult))
+              QTJAMBI_REPOSITORY_DECLARE_OBJECT_METHOD(computeDefaultResult)
+              QTJAMBI_REPOSITORY_DECLARE_STATIC_VOID_METHOD(mapChunk)
+              QTJAMBI_REPOSITORY_DECLARE_STATIC_OBJECTARRAY_METHOD(mappedChunk)
+              QTJAMBI_REPOSITORY_DECLARE_STATIC_OBJECTARRAY_METHOD(filteredChunk))
+
+    QTJAMBI_REPOSITORY_DECLARE_CLASS(QtConcurrent$ChunkReduction,
+              QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(reduce)
+              QTJAMBI_REPOSITORY_DECLARE_OBJECT_METHOD(result))
 
     QTJAMBI_REPOSITORY_DECLARE_CLASS(QtConcurrent$MapFunctor,
                   QTJAMBI_REPOSITORY_DECLARE_VOID_METHOD(map))
@@ -136,6 +143,14 @@ namespace QtConcurrent{
 
     QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/concurrent,QtConcurrent,
         QTJAMBI_REPOSITORY_DEFINE_METHOD(computeDefaultResult,(Lio/qt/concurrent/QtConcurrent$ReduceFunctor;)Ljava/lang/Object;)
+        QTJAMBI_REPOSITORY_DEFINE_STATIC_METHOD(mapChunk,(Lio/qt/concurrent/QtConcurrent$ChunkMapFunctor;Ljava/util/List;II)V)
+        QTJAMBI_REPOSITORY_DEFINE_STATIC_METHOD(mappedChunk,(Lio/qt/concurrent/QtConcurrent$ChunkMappedFunctor;Ljava/util/List;II)[Ljava/lang/Object;)
+        QTJAMBI_REPOSITORY_DEFINE_STATIC_METHOD(filteredChunk,(Lio/qt/concurrent/QtConcurrent$ChunkFilteredFunctor;Ljava/util/List;II)[Ljava/lang/Object;)
+    )
+
+    QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/concurrent,QtConcurrent$ChunkReduction,
+        QTJAMBI_REPOSITORY_DEFINE_METHOD(reduce,(Ljava/util/List;II)V)
+        QTJAMBI_REPOSITORY_DEFINE_METHOD(result,()Ljava/lang/Object;)
     )
 
     QTJAMBI_REPOSITORY_DEFINE_CLASS(io/qt/concurrent,QtConcurrent$MapFunctor,
@@ -1095,6 +1110,145 @@ jobject FutureWatcherStarter<T>::startAsynchronously(JNIEnv* env){
     return qtjambi_cast<jobject>(env, future);
 }
 
+/**
+ * Index based random access iterator over a Java list.
+ * It allows QtConcurrent's iterate kernels to hand blocks of indexes to Java.
+ */
+struct ChunkIterator{
+    typedef std::random_access_iterator_tag iterator_category;
+    typedef int difference_type;
+    typedef int value_type;
+    typedef const int *pointer;
+    typedef const int &reference;
+
+    ChunkIterator(int _index = 0) : index(_index) {}
+    inline const int &operator*() const { return index; }
+    inline ChunkIterator& operator++() { ++index; return *this; }
+    inline ChunkIterator operator++(int) { ChunkIterator result(*this); ++index; return result; }
+    inline ChunkIterator& operator--() { --index; return *this; }
+    inline ChunkIterator operator--(int) { ChunkIterator result(*this); --index; return result; }
+    inline ChunkIterator& operator+=(int n) { index += n; return *this; }
+    inline ChunkIterator& operator-=(int n) { index -= n; return *this; }
+    inline ChunkIterator operator+(int n) const { return ChunkIterator(index + n); }
+    inline ChunkIterator operator-(int n) const { return ChunkIterator(index - n); }
+    inline int operator-(const ChunkIterator& o) const { return index - o.index; }
+    inline bool operator==(const ChunkIterator& o) const { return index == o.index; }
+    inline bool operator!=(const ChunkIterator& o) const { return index != o.index; }
+    inline bool operator<(const ChunkIterator& o) const { return index < o.index; }
+    int index;
+};
+
+/**
+ * Base of the kernels calling Java functors once per block of a list.
+ * The block sizes are determined by QtConcurrent's block size manager
+ * measuring the time spent in the functor.
+ */
+template<typename T>
+class ChunkKernel : public QtConcurrent::IterateKernel<ChunkIterator, T>{
+public:
+    ChunkKernel(JNIEnv* env, jobject sequence, jint size, jobject functor)
+        : QtConcurrent::IterateKernel<ChunkIterator, T>(
+#if QT_VERSION >= QT_VERSION_CHECK(6,0,0)
+              QThreadPool::globalInstance(),
+#endif
+              ChunkIterator(0), ChunkIterator(size)),
+          m_sequence(env, sequence),
+          m_functor(env, functor)
+    {}
+
+    bool runIteration(ChunkIterator it, int index, T *result) override {
+        return this->runIterations(it, index, index + 1, result);
+    }
+protected:
+    const JObjectWrapper m_sequence;
+    const JObjectWrapper m_functor;
+};
+
+class MapChunkKernel : public ChunkKernel<void>{
+public:
+    using ChunkKernel<void>::ChunkKernel;
+
+    bool runIterations(ChunkIterator, int beginIndex, int endIndex, void *) override {
+        if(JniEnvironment env{200}){
+            Java::QtConcurrent::QtConcurrent::mapChunk(env, m_functor.object(), m_sequence.object(), jint(beginIndex), jint(endIndex));
+        }
+        return false;
+    }
+};
+
+class MappedChunkKernel : public ChunkKernel<QVariant>{
+public:
+    using ChunkKernel<QVariant>::ChunkKernel;
+
+    bool runIterations(ChunkIterator, int beginIndex, int endIndex, QVariant *results) override {
+        if(JniEnvironment env{200}){
+            jobjectArray array = Java::QtConcurrent::QtConcurrent::mappedChunk(env, m_functor.object(), m_sequence.object(), jint(beginIndex), jint(endIndex));
+            for(jsize i = 0; i < endIndex - beginIndex; ++i){
+                jobject element = env->GetObjectArrayElement(array, i);
+                results[i] = QVariant::fromValue(JObjectWrapper(env, element));
+                env->DeleteLocalRef(element);
+            }
+            return true;
+        }
+        return false;
+    }
+};
+
+class FilteredChunkKernel : public ChunkKernel<QVariant>{
+public:
+    using ChunkKernel<QVariant>::ChunkKernel;
+
+    void start() override {
+        if (this->futureInterface)
+            this->futureInterface->setFilterMode(true);
+        ChunkKernel<QVariant>::start();
+    }
+
+    bool runIterations(ChunkIterator, int beginIndex, int endIndex, QVariant *) override {
+        QVector<QVariant> results;
+        if(JniEnvironment env{200}){
+            jobjectArray array = Java::QtConcurrent::QtConcurrent::filteredChunk(env, m_functor.object(), m_sequence.object(), jint(beginIndex), jint(endIndex));
+            jsize length = env->GetArrayLength(array);
+            results.reserve(length);
+            for(jsize i = 0; i < length; ++i){
+                jobject element = env->GetObjectArrayElement(array, i);
+                results << QVariant::fromValue(JObjectWrapper(env, element));
+                env->DeleteLocalRef(element);
+            }
+        }
+        this->reportResults(results, beginIndex, endIndex - beginIndex);
+        return false;
+    }
+};
+
+class MappedReducedChunkKernel : public ChunkKernel<QVariant>{
+public:
+    using ChunkKernel<QVariant>::ChunkKernel;
+
+    bool runIterations(ChunkIterator, int beginIndex, int endIndex, QVariant *) override {
+        if(JniEnvironment env{200}){
+            Java::QtConcurrent::QtConcurrent$ChunkReduction::reduce(env, m_functor.object(), m_sequence.object(), jint(beginIndex), jint(endIndex));
+        }
+        return false;
+    }
+
+    void finish() override {
+        if(JniEnvironment env{200}){
+            try {
+                m_result = QVariant::fromValue(JObjectWrapper(env, Java::QtConcurrent::QtConcurrent$ChunkReduction::result(env, m_functor.object())));
+            } catch (const JavaException& exn) {
+                exn.report(env);
+            }
+        }
+    }
+
+    QVariant *result() override {
+        return &m_result;
+    }
+private:
+    QVariant m_result;
+};
+
 #if QT_VERSION < QT_VERSION_CHECK(6,0,0)
 #define THREADPOOL(_threadPool) Q_UNUSED(_threadPool)
 #else
@@ -1284,6 +1438,74 @@ extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurre
     return nullptr;
 }
 
+extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurrent_QtConcurrent_startMapChunked)
+(JNIEnv *env,
+ jclass,
+ jobject javaSequence,
+ jint size,
+ jobject javaFunctor)
+{
+    try{
+        FutureWatcherStarter<void>* watcher = new FutureWatcherStarter<void>();
+        watcher->setStarter(QtConcurrent::startThreadEngine(new MapChunkKernel(env, javaSequence, size, javaFunctor)));
+        return qtjambi_cast<jobject>(env, static_cast<ThreadEngineStarterInterface *>(watcher));
+    } catch (const JavaException& exn) {
+        exn.raiseInJava(env);
+    }
+    return nullptr;
+}
+
+extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurrent_QtConcurrent_startMappedChunked)
+(JNIEnv *env,
+ jclass,
+ jobject javaSequence,
+ jint size,
+ jobject javaFunctor)
+{
+    try{
+        FutureWatcherStarter<QVariant>* watcher = new FutureWatcherStarter<QVariant>();
+        watcher->setStarter(QtConcurrent::startThreadEngine(new MappedChunkKernel(env, javaSequence, size, javaFunctor)));
+        return qtjambi_cast<jobject>(env, static_cast<ThreadEngineStarterInterface *>(watcher));
+    } catch (const JavaException& exn) {
+        exn.raiseInJava(env);
+    }
+    return nullptr;
+}
+
+extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurrent_QtConcurrent_startMappedReducedChunked)
+(JNIEnv *env,
+ jclass,
+ jobject javaSequence,
+ jint size,
+ jobject javaReduction)
+{
+    try{
+        FutureWatcherStarter<QVariant>* watcher = new FutureWatcherStarter<QVariant>();
+        watcher->setStarter(QtConcurrent::startThreadEngine(new MappedReducedChunkKernel(env, javaSequence, size, javaReduction)));
+        return qtjambi_cast<jobject>(env, static_cast<ThreadEngineStarterInterface *>(watcher));
+    } catch (const JavaException& exn) {
+        exn.raiseInJava(env);
+    }
+    return nullptr;
+}
+
+extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurrent_QtConcurrent_startFilteredChunked)
+(JNIEnv *env,
+ jclass,
+ jobject javaSequence,
+ jint size,
+ jobject javaFunctor)
+{
+    try{
+        FutureWatcherStarter<QVariant>* watcher = new FutureWatcherStarter<QVariant>();
+        watcher->setStarter(QtConcurrent::startThreadEngine(new FilteredChunkKernel(env, javaSequence, size, javaFunctor)));
+        return qtjambi_cast<jobject>(env, static_cast<ThreadEngineStarterInterface *>(watcher));
+    } catch (const JavaException& exn) {
+        exn.raiseInJava(env);
+    }
+    return nullptr;
+}
+
 extern "C" JNIEXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_concurrent_QtConcurrent_runVoid0)
 (JNIEnv *env, jclass, jobject _threadPool, jobject javaRunnable)
 {
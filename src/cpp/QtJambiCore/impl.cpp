@@ -1430,6 +1430,52 @@ extern "C" Q_DECL_EXPORT jobject JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_core
     return _result;
 }
 
+// QIODevice::read(char *, qint64) into a direct buffer
+extern "C" Q_DECL_EXPORT jint JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_core_QIODevice_readDirect)
+(JNIEnv *env,
+ jclass,
+ QtJambiNativeID __this_nativeId,
+ jobject buffer,
+ jint position,
+ jint length)
+{
+    jint _result{-1};
+    QTJAMBI_TRY{
+        QIODevice *__qt_this = QtJambiAPI::objectFromNativeId<QIODevice>(__this_nativeId);
+        QtJambiAPI::checkPointer(env, __qt_this);
+        char* address = reinterpret_cast<char*>(env->GetDirectBufferAddress(buffer));
+        if(!address)
+            JavaException::raiseIllegalArgumentException(env, "Direct buffer expected." QTJAMBI_STACKTRACEINFO );
+        _result = jint(__qt_this->read(address + position, length));
+    }QTJAMBI_CATCH(const JavaException& exn){
+        exn.raiseInJava(env);
+    }QTJAMBI_TRY_END
+    return _result;
+}
+
+// QIODevice::write(const char *, qint64) from a direct buffer
+extern "C" Q_DECL_EXPORT jint JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_core_QIODevice_writeDirect)
+(JNIEnv *env,
+ jclass,
+ QtJambiNativeID __this_nativeId,
+ jobject buffer,
+ jint position,
+ jint length)
+{
+    jint _result{-1};
+    QTJAMBI_TRY{
+        QIODevice *__qt_this = QtJambiAPI::objectFromNativeId<QIODevice>(__this_nativeId);
+        QtJambiAPI::checkPointer(env, __qt_this);
+        const char* address = reinterpret_cast<const char*>(env->GetDirectBufferAddress(buffer));
+        if(!address)
+            JavaException::raiseIllegalArgumentException(env, "Direct buffer expected." QTJAMBI_STACKTRACEINFO );
+        _result = jint(__qt_this->write(address + position, length));
+    }QTJAMBI_CATCH(const JavaException& exn){
+        exn.raiseInJava(env);
+    }QTJAMBI_TRY_END
+    return _result;
+}
+
 // QObject::metaObject() const
 extern "C" Q_DECL_EXPORT jobject JNICALL
 QTJAMBI_FUNCTION_PREFIX(Java_io_qt_core_QObject_metaObject)
@@ -124,6 +124,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <T> QFuture<Void> map(Collection<T> sequence, MapFunctor<T> functor){
+        if(javaEngineEnabled)
+            return JavaEngine.map(Objects.requireNonNull(sequence), Objects.requireNonNull(functor));
         return startMap(0, Objects.requireNonNull(sequence), Objects.requireNonNull(functor)).startAsynchronously();
     }
     
@@ -141,6 +143,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <U, T> QFuture<U> mapped(Collection<T> sequence, MappedFunctor<U, T> functor){
+        if(javaEngineEnabled)
+            return JavaEngine.mapped(Objects.requireNonNull(sequence), Objects.requireNonNull(functor));
         return startMapped(0, Objects.requireNonNull(sequence), Objects.requireNonNull(functor)).startAsynchronously();
     }
     
@@ -174,6 +178,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <U, V, T> QFuture<U> mappedReduced(Collection<T> sequence, MappedFunctor<V, T> functor, ReduceFunctor<U, V> reduceFunctor, ReduceOptions options) {
+           if(javaEngineEnabled)
+               return JavaEngine.mappedReduced(Objects.requireNonNull(sequence), Objects.requireNonNull(functor), Objects.requireNonNull(reduceFunctor), computeDefaultResult(reduceFunctor), options.value());
            return startMappedReduced(0, Objects.requireNonNull(sequence), Objects.requireNonNull(functor), Objects.requireNonNull(reduceFunctor), computeDefaultResult(reduceFunctor), options.value()).startAsynchronously();
      }
     
@@ -209,6 +215,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <T> QFuture<Void> filter(Collection<T> sequence, FilteredFunctor<T> filteredFunctor){
+        if(javaEngineEnabled)
+            return JavaEngine.filter(Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor));
         return filter(0, Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor));
     }
 
@@ -226,6 +234,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <T> QFuture<T> filtered(Collection<T> sequence, FilteredFunctor<T> filteredFunctor){
+        if(javaEngineEnabled)
+            return JavaEngine.filtered(Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor));
         return startFiltered(0, Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor)).startAsynchronously();
     }
     
@@ -259,6 +269,8 @@ class QtConcurrent___ extends QtConcurrent {
      */
     @io.qt.QtUninvokable
     public static <U, T> QFuture<U> filteredReduced(Collection<T> sequence, FilteredFunctor<T> filteredFunctor, ReduceFunctor<U, T> reduceFunctor, ReduceOptions options) {
+        if(javaEngineEnabled)
+            return JavaEngine.filteredReduced(Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor), Objects.requireNonNull(reduceFunctor), computeDefaultResult(reduceFunctor), options.value());
         return startFilteredReduced(0, Objects.requireNonNull(sequence), Objects.requireNonNull(filteredFunctor), Objects.requireNonNull(reduceFunctor), computeDefaultResult(reduceFunctor), options.value()).startAsynchronously();
     }
     
@@ -289,6 +301,472 @@ class QtConcurrent___ extends QtConcurrent {
         return future.result();
     }
     
+    /**
+     * Implement this interface to perform a map operation on chunks of a collection.
+     * The size of the chunks is adapted to the measured cost of the operation.
+     * @see QtConcurrent#mapChunked(Collection, ChunkMapFunctor)
+     */
+    @FunctionalInterface
+    public interface ChunkMapFunctor<T> {
+        /**
+         * This method is called for each chunk of a collection. The chunk is a view of the sequence.
+         * The function is free to alter the chunk's objects as it sees fit.
+         */
+        public void map(List<T> chunk);
+    }
+    
+    /**
+     * Implement this interface to perform a mapped operation on chunks of a collection.
+     * The size of the chunks is adapted to the measured cost of the operation.
+     * @see QtConcurrent#mappedChunked(Collection, ChunkMappedFunctor)
+     */
+    @FunctionalInterface
+    public interface ChunkMappedFunctor<U, T> {
+        /**
+         * This method is called for each chunk of a collection.
+         * It has to return one result for each element of the chunk.
+         */
+        public List<U> map(List<T> chunk);
+    }
+    
+    /**
+     * Implement this interface to perform a filtered operation on chunks of a collection.
+     * The size of the chunks is adapted to the measured cost of the operation.
+     * @see QtConcurrent#filteredChunked(Collection, ChunkFilteredFunctor)
+     */
+    @FunctionalInterface
+    public interface ChunkFilteredFunctor<T> {
+        /**
+         * This method is called for each chunk of a collection.
+         * It has to return an array of the chunk's size specifying which elements are kept.
+         */
+        public boolean[] filter(List<T> chunk);
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code>.</p>
+     * <p>In contrast to {@link #map(Collection, MapFunctor)} the Java functor is not called per element
+     * but once for each chunk of elements determined by QtConcurrent's adaptive block size management.
+     * If <code>sequence</code> is a random access list the chunks are views of it.</p>
+     */
+    @io.qt.QtUninvokable
+    public static <T> QFuture<Void> mapChunked(Collection<T> sequence, ChunkMapFunctor<T> functor){
+        List<T> list = randomAccessList(sequence);
+        return startMapChunked(list, list.size(), Objects.requireNonNull(functor)).startAsynchronously();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and blocks until completed.</p>
+     * @see #mapChunked(Collection, ChunkMapFunctor)
+     */
+    @io.qt.QtUninvokable
+    public static <T> void blockingMapChunked(Collection<T> sequence, ChunkMapFunctor<T> functor){
+        QFuture<Void> future = mapChunked(sequence, functor);
+        future.waitForFinished();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and returns a future with the chunks' results.</p>
+     * <p>In contrast to {@link #mapped(Collection, MappedFunctor)} the Java functor is not called per element
+     * but once for each chunk of elements determined by QtConcurrent's adaptive block size management.</p>
+     */
+    @io.qt.QtUninvokable
+    public static <U, T> QFuture<U> mappedChunked(Collection<T> sequence, ChunkMappedFunctor<U, T> functor){
+        List<T> list = randomAccessList(sequence);
+        return startMappedChunked(list, list.size(), Objects.requireNonNull(functor)).startAsynchronously();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and blocks until all results are available.</p>
+     * @see #mappedChunked(Collection, ChunkMappedFunctor)
+     */
+    @io.qt.QtUninvokable
+    public static <U, T> QList<U> blockingMappedChunked(Collection<T> sequence, ChunkMappedFunctor<U, T> functor){
+        QFuture<U> future = mappedChunked(sequence, functor);
+        return future.results();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and reduces the chunks' results by <code>reduceFunctor</code>.</p>
+     * <p>The reduce functor is called for all results of a chunk at once and in the order of the completion of chunks,
+     * i.e. like with {@link ReduceOption#UnorderedReduce}.</p>
+     * @see #mappedChunked(Collection, ChunkMappedFunctor)
+     */
+    @io.qt.QtUninvokable
+    public static <U, V, T> QFuture<U> mappedReducedChunked(Collection<T> sequence, ChunkMappedFunctor<V, T> functor, ReduceFunctor<U, V> reduceFunctor){
+        List<T> list = randomAccessList(sequence);
+        ChunkReduction<U, V, T> reduction = new ChunkReduction<>(Objects.requireNonNull(functor), Objects.requireNonNull(reduceFunctor), computeDefaultResult(reduceFunctor));
+        return startMappedReducedChunked(list, list.size(), reduction).startAsynchronously();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code>, reduces the chunks' results by <code>reduceFunctor</code> and blocks until completed.</p>
+     * @see #mappedReducedChunked(Collection, ChunkMappedFunctor, ReduceFunctor)
+     */
+    @io.qt.QtUninvokable
+    public static <U, V, T> U blockingMappedReducedChunked(Collection<T> sequence, ChunkMappedFunctor<V, T> functor, ReduceFunctor<U, V> reduceFunctor){
+        QFuture<U> future = mappedReducedChunked(sequence, functor, reduceFunctor);
+        return future.result();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and returns a future with the kept elements.</p>
+     * <p>In contrast to {@link #filtered(Collection, FilteredFunctor)} the Java functor is not called per element
+     * but once for each chunk of elements determined by QtConcurrent's adaptive block size management.</p>
+     */
+    @io.qt.QtUninvokable
+    public static <T> QFuture<T> filteredChunked(Collection<T> sequence, ChunkFilteredFunctor<T> functor){
+        List<T> list = randomAccessList(sequence);
+        return startFilteredChunked(list, list.size(), Objects.requireNonNull(functor)).startAsynchronously();
+    }
+    
+    /**
+     * <p>Calls <code>functor</code> once for each chunk of <code>sequence</code> and blocks until all kept elements are available.</p>
+     * @see #filteredChunked(Collection, ChunkFilteredFunctor)
+     */
+    @io.qt.QtUninvokable
+    public static <T> QList<T> blockingFilteredChunked(Collection<T> sequence, ChunkFilteredFunctor<T> functor){
+        QFuture<T> future = filteredChunked(sequence, functor);
+        return future.results();
+    }
+    
+    private static <T> List<T> randomAccessList(Collection<T> sequence){
+        if(Objects.requireNonNull(sequence) instanceof List && sequence instanceof RandomAccess)
+            return (List<T>)sequence;
+        return new ArrayList<>(sequence);
+    }
+    
+    @io.qt.NativeAccess
+    private static <T> void mapChunk(ChunkMapFunctor<T> functor, List<T> sequence, int begin, int end) {
+        functor.map(sequence.subList(begin, end));
+    }
+    
+    @io.qt.NativeAccess
+    private static <U, T> Object[] mappedChunk(ChunkMappedFunctor<U, T> functor, List<T> sequence, int begin, int end) {
+        List<U> results = functor.map(Collections.unmodifiableList(sequence.subList(begin, end)));
+        if(results==null || results.size()!=end-begin)
+            throw new IllegalStateException(String.format("Chunk functor returned %1$s results for %2$s elements.", results==null ? 0 : results.size(), end-begin));
+        return results.toArray();
+    }
+    
+    @io.qt.NativeAccess
+    private static <T> Object[] filteredChunk(ChunkFilteredFunctor<T> functor, List<T> sequence, int begin, int end) {
+        List<T> chunk = Collections.unmodifiableList(sequence.subList(begin, end));
+        boolean[] keep = functor.filter(chunk);
+        if(keep==null || keep.length!=chunk.size())
+            throw new IllegalStateException(String.format("Chunk functor returned %1$s filter values for %2$s elements.", keep==null ? 0 : keep.length, chunk.size()));
+        List<T> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < keep.length; i++) {
+            if(keep[i])
+                results.add(chunk.get(i));
+        }
+        return results.toArray();
+    }
+    
+    private static final class ChunkReduction<U, V, T>{
+        private final ChunkMappedFunctor<V, T> functor;
+        private final ReduceFunctor<U, V> reduceFunctor;
+        private U result;
+        
+        ChunkReduction(ChunkMappedFunctor<V, T> functor, ReduceFunctor<U, V> reduceFunctor, U initialValue) {
+            this.functor = functor;
+            this.reduceFunctor = reduceFunctor;
+            this.result = initialValue;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @io.qt.NativeAccess
+        private void reduce(List<T> sequence, int begin, int end) {
+            Object[] values = mappedChunk(functor, sequence, begin, end);
+            synchronized(this) {
+                for (Object value : values) {
+                    result = reduceFunctor.reduce(result, (V)value);
+                }
+            }
+        }
+        
+        @io.qt.NativeAccess
+        private synchronized U result() {
+            return result;
+        }
+    }
+    
+    private static volatile boolean javaEngineEnabled = Boolean.getBoolean("io.qt.concurrent.java-engine");
+    
+    /**
+     * <p>Specifies whether map, filter and reduce operations on Java collections run in Java.</p>
+     * <p>If enabled, {@link #map(Collection, MapFunctor)}, {@link #mapped(Collection, MappedFunctor)}, {@link #filter(Collection, FilteredFunctor)},
+     * {@link #filtered(Collection, FilteredFunctor)}, their reducing variants and blocking counterparts
+     * run on a {@link ForkJoinPool} with the global {@link QThreadPool}'s maximum thread count as parallelism.
+     * The pool is replaced by the next operation after the maximum thread count has changed.
+     * Elements are processed in adaptively sized chunks without calling into native code per element.
+     * The returned {@link QFuture} supports progress, cancellation and {@link QFutureWatcher} as usual.</p>
+     * <p>Overloads taking an explicit {@link QThreadPool} always run natively in the given thread pool.</p>
+     * <p>The default is taken from system property <code>io.qt.concurrent.java-engine</code>.</p>
+     * @param enabled
+     */
+    public static void setJavaEngineEnabled(boolean enabled) {
+        javaEngineEnabled = enabled;
+    }
+    
+    /**
+     * Returns true if map, filter and reduce operations on Java collections run in Java.
+     * @see #setJavaEngineEnabled(boolean)
+     * @return java engine enabled
+     */
+    public static boolean isJavaEngineEnabled() {
+        return javaEngineEnabled;
+    }
+    
+    /**
+     * Runs map, filter and reduce operations on Java collections in a ForkJoinPool.
+     * Index ranges are split as long as the pool has no surplus of queued tasks,
+     * results are reported in ranges to the future interface.
+     */
+    private static final class JavaEngine<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int CANCEL_CHECK_INTERVAL = 256;
+        private static ForkJoinPool pool;
+        
+        private static synchronized ForkJoinPool pool() {
+            QThreadPool threadPool = QThreadPool.globalInstance();
+            int parallelism = Math.min(0x7fff, Math.max(1, threadPool==null ? Runtime.getRuntime().availableProcessors() : threadPool.maxThreadCount()));
+            if(pool==null || pool.getParallelism()!=parallelism) {
+                // operations still running complete in the previous pool
+                if(pool!=null)
+                    pool.shutdown();
+                pool = new ForkJoinPool(parallelism);
+            }
+            return pool;
+        }
+        
+        private interface RangeProcessor {
+            void process(int begin, int end);
+        }
+        
+        private final Object[] items;
+        private final QFutureInterfaceBase promise;
+        private final RangeProcessor processor;
+        private final java.util.concurrent.atomic.AtomicInteger progress;
+        private final int begin;
+        private final int end;
+        private final int grain;
+        
+        private JavaEngine(Object[] items, QFutureInterfaceBase promise, RangeProcessor processor, java.util.concurrent.atomic.AtomicInteger progress, int begin, int end, int grain) {
+            this.items = items;
+            this.promise = promise;
+            this.processor = processor;
+            this.progress = progress;
+            this.begin = begin;
+            this.end = end;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            int end = this.end;
+            java.util.List<JavaEngine<T>> forked = null;
+            while(end - begin > grain && getSurplusQueuedTaskCount() <= 3) {
+                int middle = (begin + end) >>> 1;
+                JavaEngine<T> right = new JavaEngine<>(items, promise, processor, progress, middle, end, grain);
+                right.fork();
+                if(forked==null)
+                    forked = new java.util.ArrayList<>();
+                forked.add(right);
+                end = middle;
+            }
+            try {
+                for(int i = begin; i < end && !promise.isCanceled(); i += CANCEL_CHECK_INTERVAL) {
+                    int blockEnd = Math.min(end, i + CANCEL_CHECK_INTERVAL);
+                    processor.process(i, blockEnd);
+                    promise.setProgressValue(progress.addAndGet(blockEnd - i));
+                }
+            }catch(Throwable e) {
+                // reporting the exception cancels the remaining ranges
+                promise.reportException(e);
+            }
+            if(forked!=null) {
+                for (int i = forked.size() - 1; i >= 0; --i) {
+                    forked.get(i).join();
+                }
+            }
+        }
+        
+        private static void run(Object[] items, QFutureInterfaceBase promise, RangeProcessor processor, Runnable finisher) {
+            promise.reportStarted();
+            promise.setProgressRange(0, items.length);
+            try {
+                // the pool is only replaced under this lock, hence it cannot be shut down before the task is submitted
+                synchronized(JavaEngine.class) {
+                    ForkJoinPool pool = pool();
+                    int grain = Math.max(1, items.length / (pool.getParallelism() * 64));
+                    pool.execute(()->{
+                        try {
+                            if(items.length>0)
+                                new JavaEngine<>(items, promise, processor, new java.util.concurrent.atomic.AtomicInteger(), 0, items.length, grain).invoke();
+                            if(!promise.isCanceled())
+                                finisher.run();
+                        }catch(Throwable e) {
+                            promise.reportException(e);
+                        }finally {
+                            promise.reportFinished();
+                        }
+                    });
+                }
+            }catch(Throwable e) {
+                // the task has not been submitted, e.g. RejectedExecutionException
+                promise.reportException(e);
+                promise.reportFinished();
+            }
+        }
+        
+        /**
+         * Collects range results and passes them to the consumer in index order.
+         */
+        private static final class OrderedRanges<R> {
+            private final java.util.TreeMap<Integer, Map.Entry<Integer,R>> pending = new java.util.TreeMap<>();
+            private int next;
+            
+            synchronized void add(int begin, int end, R result, java.util.function.Consumer<R> consumer) {
+                pending.put(begin, new AbstractMap.SimpleImmutableEntry<>(end, result));
+                Map.Entry<Integer,R> entry;
+                while((entry = pending.remove(next))!=null) {
+                    next = entry.getKey();
+                    consumer.accept(entry.getValue());
+                }
+            }
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <T> QFuture<Void> map(Collection<T> sequence, MapFunctor<T> functor) {
+            Object[] items = sequence.toArray();
+            QFutureInterface<Void> promise = QFutureInterface.createVoidFutureInterface();
+            run(items, promise, (begin, end)->{
+                for (int i = begin; i < end; i++) {
+                    functor.map((T)items[i]);
+                }
+            }, ()->{});
+            return promise.future();
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <U, T> QFuture<U> mapped(Collection<T> sequence, MappedFunctor<U, T> functor) {
+            Object[] items = sequence.toArray();
+            QFutureInterface<U> promise = new QFutureInterface<>();
+            run(items, promise, (begin, end)->{
+                Object[] results = new Object[end - begin];
+                for (int i = begin; i < end; i++) {
+                    results[i - begin] = functor.map((T)items[i]);
+                }
+                promise.reportResults((java.util.List<U>)Arrays.asList(results), begin, -1);
+            }, ()->{});
+            return promise.future();
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <U, V, T> QFuture<U> mappedReduced(Collection<T> sequence, MappedFunctor<V, T> functor, ReduceFunctor<U, V> reduceFunctor, U initialValue, int options) {
+            Object[] items = sequence.toArray();
+            QFutureInterface<U> promise = new QFutureInterface<>();
+            Object[] result = {initialValue};
+            java.util.function.Consumer<Object[]> reducer = values->{
+                synchronized(result) {
+                    for (Object value : values) {
+                        result[0] = reduceFunctor.reduce((U)result[0], (V)value);
+                    }
+                }
+            };
+            OrderedRanges<Object[]> ordered = (options & ReduceOption.OrderedReduce.value())!=0 ? new OrderedRanges<>() : null;
+            run(items, promise, (begin, end)->{
+                Object[] values = new Object[end - begin];
+                for (int i = begin; i < end; i++) {
+                    values[i - begin] = functor.map((T)items[i]);
+                }
+                if(ordered!=null)
+                    ordered.add(begin, end, values, reducer);
+                else
+                    reducer.accept(values);
+            }, ()->{
+                synchronized(result) {
+                    promise.reportResult((U)result[0]);
+                }
+            });
+            return promise.future();
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <T> QFuture<Void> filter(Collection<T> sequence, FilteredFunctor<T> filteredFunctor) {
+            Object[] items = sequence.toArray();
+            boolean[] keep = new boolean[items.length];
+            QFutureInterface<Void> promise = QFutureInterface.createVoidFutureInterface();
+            run(items, promise, (begin, end)->{
+                for (int i = begin; i < end; i++) {
+                    keep[i] = filteredFunctor.filter((T)items[i]);
+                }
+            }, ()->{
+                Iterator<T> iterator = sequence.iterator();
+                for (int i = 0; i < keep.length && iterator.hasNext(); i++) {
+                    iterator.next();
+                    if(!keep[i])
+                        iterator.remove();
+                }
+            });
+            return promise.future();
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <T> QFuture<T> filtered(Collection<T> sequence, FilteredFunctor<T> filteredFunctor) {
+            Object[] items = sequence.toArray();
+            QFutureInterface<T> promise = new QFutureInterface<>();
+            OrderedRanges<java.util.List<T>> ordered = new OrderedRanges<>();
+            int[] resultCount = {0};
+            run(items, promise, (begin, end)->{
+                java.util.List<T> results = new java.util.ArrayList<>();
+                for (int i = begin; i < end; i++) {
+                    if(filteredFunctor.filter((T)items[i]))
+                        results.add((T)items[i]);
+                }
+                ordered.add(begin, end, results, list->{
+                    if(!list.isEmpty()) {
+                        promise.reportResults(list, resultCount[0], -1);
+                        resultCount[0] += list.size();
+                    }
+                });
+            }, ()->{});
+            return promise.future();
+        }
+        
+        @SuppressWarnings("unchecked")
+        static <U, T> QFuture<U> filteredReduced(Collection<T> sequence, FilteredFunctor<T> filteredFunctor, ReduceFunctor<U, T> reduceFunctor, U initialValue, int options) {
+            Object[] items = sequence.toArray();
+            QFutureInterface<U> promise = new QFutureInterface<>();
+            Object[] result = {initialValue};
+            java.util.function.Consumer<java.util.List<T>> reducer = values->{
+                synchronized(result) {
+                    for (T value : values) {
+                        result[0] = reduceFunctor.reduce((U)result[0], value);
+                    }
+                }
+            };
+            OrderedRanges<java.util.List<T>> ordered = (options & ReduceOption.OrderedReduce.value())!=0 ? new OrderedRanges<>() : null;
+            run(items, promise, (begin, end)->{
+                java.util.List<T> values = new java.util.ArrayList<>();
+                for (int i = begin; i < end; i++) {
+                    if(filteredFunctor.filter((T)items[i]))
+                        values.add((T)items[i]);
+                }
+                if(ordered!=null)
+                    ordered.add(begin, end, values, reducer);
+                else
+                    reducer.accept(values);
+            }, ()->{
+                synchronized(result) {
+                    promise.reportResult((U)result[0]);
+                }
+            });
+            return promise.future();
+        }
+    }
+    
     @io.qt.QtUninvokable
     private native static <T> QFuture<Void> filter(long threadPool, Collection<T> sequence, FilteredFunctor<T> filteredFunctor);
     
@@ -307,6 +785,18 @@ class QtConcurrent___ extends QtConcurrent {
     @io.qt.QtUninvokable
     private native static <T> ThreadEngineStarter<T> startFiltered(long threadPool, Collection<T> sequence, FilteredFunctor<T> filteredFunctor);
     
+    @io.qt.QtUninvokable
+    private native static <T> ThreadEngineStarter<Void> startMapChunked(List<T> sequence, int size, ChunkMapFunctor<T> functor);
+    
+    @io.qt.QtUninvokable
+    private native static <U, T> ThreadEngineStarter<U> startMappedChunked(List<T> sequence, int size, ChunkMappedFunctor<U, T> functor);
+    
+    @io.qt.QtUninvokable
+    private native static <U, V, T> ThreadEngineStarter<U> startMappedReducedChunked(List<T> sequence, int size, ChunkReduction<U, V, T> reduction);
+    
+    @io.qt.QtUninvokable
+    private native static <T> ThreadEngineStarter<T> startFilteredChunked(List<T> sequence, int size, ChunkFilteredFunctor<T> functor);
+    
     /**
      * <p>See <a href="@docRoot/qtconcurrent.html#run">QtConcurrent::run(Function, ...)</a></p>
      */
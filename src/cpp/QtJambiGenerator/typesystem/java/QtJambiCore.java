@@ -12474,9 +12474,9 @@ class QIODevice_prefix__ extends QIODevice {
                 @Override
                 public long bytesAvailable() {
                     try {
-                        return stream.available();
+                        return super.bytesAvailable() + stream.available();
                     } catch (java.io.IOException e) {
-                        return 0;
+                        return super.bytesAvailable();
                     }
                 }
 
@@ -12485,11 +12485,6 @@ class QIODevice_prefix__ extends QIODevice {
                     return 0;
                 }
 
-                @Override
-                public boolean canReadLine() {
-                    return false;
-                }
-
                 @Override
                 public void close() {
                     try {
@@ -12516,11 +12511,6 @@ class QIODevice_prefix__ extends QIODevice {
                     return super.pos();
                 }
 
-                @Override
-                protected int readLineData(byte[] data) {
-                    return 0;
-                }
-
                 @Override
                 public boolean reset() {
                     try {
@@ -12677,6 +12667,560 @@ class QIODevice_suffix__ {
                 }
             };
         }
+        
+        /**
+         * <p>Reads up to <code>data.remaining()</code> bytes from the device into <code>data</code>
+         * and returns the number of bytes read or -1 if an error occurred.</p>
+         * <p>Override this method in addition to {@link #readData(byte[])} to receive Qt's target memory
+         * as direct buffer instead of a temporary array. The buffer is only valid during the call
+         * and must not be stored.</p>
+         * <p>The default implementation delegates to {@link #readData(byte[])}.</p>
+         * @param data target buffer
+         * @return number of read bytes
+         */
+        @io.qt.QtUninvokable
+        protected int readData(java.nio.ByteBuffer data) {
+            byte[] array = new byte[data.remaining()];
+            int result = readData(array);
+            if(result>0)
+                data.put(array, 0, result);
+            return result;
+        }
+        
+        /**
+         * <p>Writes the remaining bytes of <code>data</code> to the device
+         * and returns the number of bytes written or -1 if an error occurred.</p>
+         * <p>Override this method in addition to {@link #writeData(byte[])} to receive Qt's source memory
+         * as read-only direct buffer instead of a temporary array. The buffer is only valid during the call
+         * and must not be stored.</p>
+         * <p>The default implementation delegates to {@link #writeData(byte[])}.</p>
+         * @param data source buffer
+         * @return number of written bytes
+         */
+        @io.qt.QtUninvokable
+        protected int writeData(java.nio.ByteBuffer data) {
+            byte[] array = new byte[data.remaining()];
+            data.get(array);
+            int result = writeData(array);
+            if(result>=0 && result<array.length)
+                data.position(data.position() - array.length + result);
+            return result;
+        }
+        
+        private static final ClassValue<Integer> bufferDataOverridesByClass = new ClassValue<Integer>() {
+            @Override
+            protected Integer computeValue(Class<?> cls) {
+                int result = 0;
+                for(Class<?> c = cls; c!=null && c!=QIODevice.class; c = c.getSuperclass()) {
+                    try {
+                        c.getDeclaredMethod("readData", java.nio.ByteBuffer.class);
+                        result |= 0x1;
+                    } catch (NoSuchMethodException e) {
+                    }
+                    try {
+                        c.getDeclaredMethod("writeData", java.nio.ByteBuffer.class);
+                        result |= 0x2;
+                    } catch (NoSuchMethodException e) {
+                    }
+                }
+                return result;
+            }
+        };
+        
+        /**
+         * Returns which of the ByteBuffer based data methods are overridden by the given class:
+         * 0x1 for readData, 0x2 for writeData.
+         */
+        @io.qt.NativeAccess
+        private static int bufferDataOverrides(Class<?> cls) {
+            return bufferDataOverridesByClass.get(cls);
+        }
+        
+        /**
+         * <p>Reads up to <code>data.remaining()</code> bytes from the device into <code>data</code>
+         * and returns the number of bytes read or -1 if an error occurred.</p>
+         * <p>Direct buffers are filled by the device without intermediate copy.</p>
+         * @see #read(byte[])
+         * @param data target buffer
+         * @return number of read bytes
+         */
+        @io.qt.QtUninvokable
+        public final int read(java.nio.ByteBuffer data) {
+            if(data.isReadOnly())
+                throw new java.nio.ReadOnlyBufferException();
+            int length = data.remaining();
+            int result;
+            if(data.isDirect()) {
+                result = readDirect(QtJambi_LibraryUtilities.internal.nativeId(this), data, data.position(), length);
+                if(result>0)
+                    data.position(data.position() + result);
+            }else if(data.hasArray() && data.arrayOffset()+data.position()==0 && length==data.array().length) {
+                result = read(data.array());
+                if(result>0)
+                    data.position(data.position() + result);
+            }else {
+                byte[] array = new byte[length];
+                result = read(array);
+                if(result>0)
+                    data.put(array, 0, result);
+            }
+            return result;
+        }
+        
+        private static native int readDirect(long nativeId, java.nio.ByteBuffer data, int position, int length);
+        
+        /**
+         * <p>Writes the remaining bytes of <code>data</code> to the device
+         * and returns the number of bytes written or -1 if an error occurred.</p>
+         * <p>Direct buffers are read by the device without intermediate copy.</p>
+         * @see #write(byte[])
+         * @param data source buffer
+         * @return number of written bytes
+         */
+        @io.qt.QtUninvokable
+        public final int write(java.nio.ByteBuffer data) {
+            int length = data.remaining();
+            int result;
+            if(data.isDirect()) {
+                result = writeDirect(QtJambi_LibraryUtilities.internal.nativeId(this), data, data.position(), length);
+                if(result>0)
+                    data.position(data.position() + result);
+            }else if(data.hasArray() && data.arrayOffset()+data.position()==0 && length==data.array().length) {
+                result = write(data.array());
+                if(result>0)
+                    data.position(data.position() + result);
+            }else {
+                byte[] array = new byte[length];
+                data.get(array);
+                result = write(array);
+                data.position(data.position() - length + Math.max(0, result));
+            }
+            return result;
+        }
+        
+        private static native int writeDirect(long nativeId, java.nio.ByteBuffer data, int position, int length);
+        
+        /**
+         * <p>Creates a new open QIODevice for the given channel.</p>
+         * <p>The device is readable if the channel is a {@link java.nio.channels.ReadableByteChannel}
+         * and writable if it is a {@link java.nio.channels.WritableByteChannel}.
+         * For {@link java.nio.channels.FileChannel}s the device is only readable or writable
+         * if the file channel has been opened for reading or writing.
+         * {@link java.nio.channels.SeekableByteChannel}s result in random-access devices supporting {@link #seek(long)} and {@link #size()},
+         * other channels in sequential devices.
+         * Like {@link #fromFileChannel(java.nio.channels.FileChannel)}, a random-access device covers the entire channel:
+         * the channel is moved to position 0 regardless of its current position.</p>
+         * <p>Data is transferred between the channel and the device's internal buffer without intermediate copy.
+         * Closing the device closes the channel.</p>
+         * @param channel
+         * @return new open QIODevice
+         * @throws java.io.UncheckedIOException if a seekable channel cannot be moved to position 0
+         */
+        public static QIODevice fromChannel(java.nio.channels.Channel channel) {
+            int mode = 0;
+            if(channel instanceof java.nio.channels.FileChannel) {
+                java.nio.channels.FileChannel fileChannel = (java.nio.channels.FileChannel)channel;
+                if(isFileChannelOpenFor(fileChannel, false))
+                    mode |= OpenModeFlag.ReadOnly.value();
+                if(isFileChannelOpenFor(fileChannel, true))
+                    mode |= OpenModeFlag.WriteOnly.value();
+            }else {
+                if(channel instanceof java.nio.channels.ReadableByteChannel)
+                    mode |= OpenModeFlag.ReadOnly.value();
+                if(channel instanceof java.nio.channels.WritableByteChannel)
+                    mode |= OpenModeFlag.WriteOnly.value();
+            }
+            if(channel instanceof java.nio.channels.SeekableByteChannel) {
+                // the device starts at pos() 0 and seek(long) is absolute
+                try {
+                    ((java.nio.channels.SeekableByteChannel)channel).position(0);
+                } catch (java.io.IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            }
+            return new ChannelDevice(java.util.Objects.requireNonNull(channel), new OpenMode(mode));
+        }
+        
+        /**
+         * File channels throw NonReadableChannelException or NonWritableChannelException
+         * on any transfer not supported by their open options, even if no bytes are transferred.
+         */
+        private static boolean isFileChannelOpenFor(java.nio.channels.FileChannel channel, boolean write) {
+            try {
+                if(write)
+                    channel.write(java.nio.ByteBuffer.allocate(0), 0);
+                else
+                    channel.read(java.nio.ByteBuffer.allocate(0), 0);
+                return true;
+            } catch (java.nio.channels.NonReadableChannelException | java.nio.channels.NonWritableChannelException e) {
+                return false;
+            } catch (java.io.IOException e) {
+                return true;
+            }
+        }
+        
+        /**
+         * <p>Creates a new open read-only QIODevice for the given file channel.</p>
+         * <p>The device always covers the entire file: it starts reading at offset 0
+         * regardless of the channel's current position.</p>
+         * <p>If the file is smaller than 2 GB it is mapped into memory and read by the device without any copy.
+         * Otherwise the device reads from the channel like {@link #fromChannel(java.nio.channels.Channel)}
+         * after moving the channel to position 0.</p>
+         * @param channel
+         * @return new open read-only QIODevice
+         * @throws java.io.IOException if the channel is not open for reading or the file cannot be mapped
+         */
+        public static QIODevice fromFileChannel(java.nio.channels.FileChannel channel) throws java.io.IOException {
+            if(!isFileChannelOpenFor(channel, false))
+                throw new java.io.IOException("File channel is not open for reading.");
+            long size = channel.size();
+            if(size>0 && size<=Integer.MAX_VALUE) {
+                QIODevice device = fromDirectBuffer(channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size));
+                if(device!=null && device.open(OpenModeFlag.ReadOnly))
+                    return device;
+            }
+            channel.position(0);
+            return new ChannelDevice(channel, OpenModeFlag.ReadOnly.asFlags());
+        }
+        
+        /**
+         * <p>Returns an InputStream reading from this device.</p>
+         * <p>Reading blocks on sequential devices until data is available by calling {@link #waitForReadyRead(int)}.
+         * Closing the stream closes the device.</p>
+         * @return input stream
+         */
+        @io.qt.QtUninvokable
+        public final java.io.InputStream toInputStream() {
+            return new DeviceInputStream(this);
+        }
+        
+        /**
+         * <p>Returns an OutputStream writing to this device.</p>
+         * <p>Closing the stream closes the device.</p>
+         * @return output stream
+         */
+        @io.qt.QtUninvokable
+        public final java.io.OutputStream toOutputStream() {
+            return new DeviceOutputStream(this);
+        }
+        
+        /**
+         * <p>Returns a channel reading from and writing to this device.</p>
+         * <p>For random-access devices the channel is a {@link java.nio.channels.SeekableByteChannel}.
+         * Closing the channel closes the device.</p>
+         * @return channel
+         */
+        @io.qt.QtUninvokable
+        public final java.nio.channels.ByteChannel toChannel() {
+            return isSequential() ? new DeviceChannel(this) : new SeekableDeviceChannel(this);
+        }
+        
+        private static final class ChannelDevice extends QIODevice {
+            private final java.nio.channels.Channel channel;
+            
+            ChannelDevice(java.nio.channels.Channel channel, OpenMode mode) {
+                this.channel = channel;
+                setOpenMode(mode);
+            }
+
+            @Override
+            public boolean isSequential() {
+                return !(channel instanceof java.nio.channels.SeekableByteChannel);
+            }
+
+            @Override
+            public long size() {
+                if(channel instanceof java.nio.channels.SeekableByteChannel) {
+                    try {
+                        return ((java.nio.channels.SeekableByteChannel)channel).size();
+                    } catch (java.io.IOException e) {
+                        setErrorString(e.getMessage());
+                    }
+                }
+                return super.size();
+            }
+
+            @Override
+            public boolean seek(long pos) {
+                if(channel instanceof java.nio.channels.SeekableByteChannel) {
+                    java.nio.channels.SeekableByteChannel seekable = (java.nio.channels.SeekableByteChannel)channel;
+                    try {
+                        // the channel is ahead of pos() by the number of bytes in the device's read buffer
+                        long readAhead = seekable.position() - pos();
+                        long offset = pos - pos();
+                        if(!super.seek(pos))
+                            return false;
+                        if(offset<0 || offset>=readAhead)
+                            seekable.position(pos);
+                        return true;
+                    } catch (java.io.IOException e) {
+                        setErrorString(e.getMessage());
+                        return false;
+                    }
+                }
+                return super.seek(pos);
+            }
+
+            @Override
+            public void close() {
+                super.close();
+                try {
+                    channel.close();
+                } catch (java.io.IOException e) {
+                    setErrorString(e.getMessage());
+                }
+            }
+
+            @Override
+            protected int readData(byte[] data) {
+                return readData(java.nio.ByteBuffer.wrap(data));
+            }
+
+            @Override
+            protected int readData(java.nio.ByteBuffer data) {
+                if(!(channel instanceof java.nio.channels.ReadableByteChannel))
+                    return -1;
+                try {
+                    int result = ((java.nio.channels.ReadableByteChannel)channel).read(data);
+                    if(result<0)
+                        return isSequential() ? -1 : 0;
+                    return result;
+                } catch (java.nio.channels.NonReadableChannelException e) {
+                    setErrorString("Channel is not readable");
+                    return -1;
+                } catch (java.io.IOException e) {
+                    setErrorString(e.getMessage());
+                    return -1;
+                }
+            }
+
+            @Override
+            protected int writeData(byte[] data) {
+                return writeData(java.nio.ByteBuffer.wrap(data));
+            }
+
+            @Override
+            protected int writeData(java.nio.ByteBuffer data) {
+                if(!(channel instanceof java.nio.channels.WritableByteChannel))
+                    return -1;
+                try {
+                    long readAhead = -1;
+                    if(channel instanceof java.nio.channels.SeekableByteChannel) {
+                        // write at pos() and keep the channel behind the device's read buffer
+                        readAhead = ((java.nio.channels.SeekableByteChannel)channel).position();
+                        ((java.nio.channels.SeekableByteChannel)channel).position(pos());
+                    }
+                    int written = 0;
+                    while(data.hasRemaining()) {
+                        int result = ((java.nio.channels.WritableByteChannel)channel).write(data);
+                        if(result<=0)
+                            break;
+                        written += result;
+                    }
+                    if(readAhead>=0) {
+                        java.nio.channels.SeekableByteChannel seekable = (java.nio.channels.SeekableByteChannel)channel;
+                        seekable.position(Math.max(readAhead, seekable.position()));
+                    }
+                    return written;
+                } catch (java.nio.channels.NonWritableChannelException e) {
+                    setErrorString("Channel is not writable");
+                    return -1;
+                } catch (java.io.IOException e) {
+                    setErrorString(e.getMessage());
+                    return -1;
+                }
+            }
+        }
+        
+        private static final class DeviceInputStream extends java.io.InputStream {
+            private final QIODevice device;
+            
+            DeviceInputStream(QIODevice device) {
+                this.device = device;
+            }
+            
+            private boolean waitForData() {
+                return device.isSequential() && device.isOpen() && device.waitForReadyRead(-1);
+            }
+
+            @Override
+            public int read() throws java.io.IOException {
+                while(true) {
+                    Byte result = device.getByte();
+                    if(result!=null)
+                        return result & 0xff;
+                    if(!waitForData())
+                        return -1;
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws java.io.IOException {
+                if (off < 0 || len < 0 || len > b.length - off)
+                    throw new IndexOutOfBoundsException();
+                if(len==0)
+                    return 0;
+                while(true) {
+                    int result = device.read(java.nio.ByteBuffer.wrap(b, off, len).slice());
+                    if(result>0)
+                        return result;
+                    if(result<0) {
+                        if(device.isOpen() && !device.atEnd())
+                            throw new java.io.IOException(device.errorString());
+                        return -1;
+                    }
+                    if(!waitForData())
+                        return -1;
+                }
+            }
+
+            @Override
+            public long skip(long n) throws java.io.IOException {
+                return n>0 ? Math.max(0, device.skip(n)) : 0;
+            }
+
+            @Override
+            public int available() throws java.io.IOException {
+                return (int)Math.min(Integer.MAX_VALUE, Math.max(0, device.bytesAvailable()));
+            }
+
+            @Override
+            public void close() throws java.io.IOException {
+                device.close();
+            }
+        }
+        
+        private static final class DeviceOutputStream extends java.io.OutputStream {
+            private final QIODevice device;
+            
+            DeviceOutputStream(QIODevice device) {
+                this.device = device;
+            }
+
+            @Override
+            public void write(int b) throws java.io.IOException {
+                if(!device.putByte((byte)b))
+                    throw new java.io.IOException(device.errorString());
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws java.io.IOException {
+                if (off < 0 || len < 0 || len > b.length - off)
+                    throw new IndexOutOfBoundsException();
+                java.nio.ByteBuffer buffer = java.nio.ByteBuffer.wrap(b, off, len).slice();
+                while(buffer.hasRemaining()) {
+                    int result = device.write(buffer);
+                    if(result<0 || (result==0 && !(device.isSequential() && device.waitForBytesWritten(-1))))
+                        throw new java.io.IOException(device.errorString());
+                }
+            }
+
+            @Override
+            public void flush() throws java.io.IOException {
+                if(device instanceof QFileDevice) {
+                    ((QFileDevice)device).flush();
+                }else {
+                    while(device.bytesToWrite()>0 && device.waitForBytesWritten(-1)) {
+                    }
+                }
+            }
+
+            @Override
+            public void close() throws java.io.IOException {
+                device.close();
+            }
+        }
+        
+        private static class DeviceChannel implements java.nio.channels.ByteChannel {
+            final QIODevice device;
+            
+            DeviceChannel(QIODevice device) {
+                this.device = device;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return !device.isDisposed() && device.isOpen();
+            }
+
+            @Override
+            public void close() throws java.io.IOException {
+                if(!device.isDisposed())
+                    device.close();
+            }
+
+            @Override
+            public int read(java.nio.ByteBuffer dst) throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                if(!dst.hasRemaining())
+                    return 0;
+                while(true) {
+                    int result = device.read(dst);
+                    if(result>0)
+                        return result;
+                    if(result<0) {
+                        if(device.isOpen() && !device.atEnd())
+                            throw new java.io.IOException(device.errorString());
+                        return -1;
+                    }
+                    if(!device.isSequential() || !device.waitForReadyRead(-1))
+                        return -1;
+                }
+            }
+
+            @Override
+            public int write(java.nio.ByteBuffer src) throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                int result = device.write(src);
+                if(result<0)
+                    throw new java.io.IOException(device.errorString());
+                return result;
+            }
+        }
+        
+        private static final class SeekableDeviceChannel extends DeviceChannel implements java.nio.channels.SeekableByteChannel {
+            SeekableDeviceChannel(QIODevice device) {
+                super(device);
+            }
+
+            @Override
+            public long position() throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                return device.pos();
+            }
+
+            @Override
+            public SeekableDeviceChannel position(long newPosition) throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                if(!device.seek(newPosition))
+                    throw new java.io.IOException(device.errorString());
+                return this;
+            }
+
+            @Override
+            public long size() throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                return device.size();
+            }
+
+            @Override
+            public SeekableDeviceChannel truncate(long size) throws java.io.IOException {
+                if(!isOpen())
+                    throw new java.nio.channels.ClosedChannelException();
+                if(!(device instanceof QFileDevice))
+                    throw new UnsupportedOperationException();
+                if(size<device.size() && !((QFileDevice)device).resize(size))
+                    throw new java.io.IOException(device.errorString());
+                if(device.pos()>size)
+                    device.seek(size);
+                return this;
+            }
+        }
 }// class
 
 class QCalendar___ extends QCalendar {
@@ -15562,7 +16106,7 @@ class QMetaMethod___ {
             if(info.owner instanceof QMetaObject.Signal && info.reflectiveMethod.getName().equals("emit"))
                 return fromSignal((QMetaObject.Signal)info.owner);
             if(info.reflectiveMethod!=null)
-                return fromReflectedMethod(info.reflectiveMethod);
+                return info.metaMethod();
             if(info.reflectiveConstructor!=null)
                 return fromReflectedConstructor(info.reflectiveConstructor);
         }
@@ -17637,6 +18181,36 @@ class QLoggingCategory__{
         this(category==null ? null : new QByteArray(category), severityLevel);
     }
     
+    /**
+     * Cached level mask: generation in the upper 32 bits, enabled message types in the lower bits.
+     */
+    private volatile long levelMask;
+    
+    private static final long LEVEL_MASK_VALID = 0x80000000L;
+    
+    /**
+     * Java-side equivalent of {@link #isEnabled(io.qt.core.QtMsgType)} reading the level mask
+     * cached until filter rules change.
+     */
+    @io.qt.QtUninvokable
+    final boolean isEnabledCached(io.qt.core.QtMsgType type) {
+        long levelMask = this.levelMask;
+        int generation = QLogging.categoryLevelsGeneration();
+        if((levelMask & LEVEL_MASK_VALID)==0 || (int)(levelMask >>> 32)!=generation) {
+            levelMask = LEVEL_MASK_VALID | (((long)generation) << 32);
+            for(io.qt.core.QtMsgType t : new io.qt.core.QtMsgType[]{
+                    io.qt.core.QtMsgType.QtDebugMsg,
+                    io.qt.core.QtMsgType.QtInfoMsg,
+                    io.qt.core.QtMsgType.QtWarningMsg,
+                    io.qt.core.QtMsgType.QtCriticalMsg}) {
+                if(isEnabled(t))
+                    levelMask |= 1L << t.value();
+            }
+            this.levelMask = levelMask;
+        }
+        return type==io.qt.core.QtMsgType.QtFatalMsg || (levelMask & (1L << type.value()))!=0;
+    }
+    
 }// class
 
 class QFunctionPointer__{
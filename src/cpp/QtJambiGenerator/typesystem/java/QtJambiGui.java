@@ -336,11 +336,64 @@ class QImage___ extends QImage {
 
         private static native void initialize_native(QImage instance, byte data[], int width, int height, Format format);
         
+        /**
+         * <p>Constructs an image using the given buffer as pixel data.</p>
+         * <p>A writable direct buffer is used without copying: painting on the image writes into the buffer
+         * and the buffer is kept alive as long as the image uses it.
+         * Read-only direct buffers are used without copying until the image is modified.
+         * Heap buffers are copied.</p>
+         * @param data pixel data of at least <code>bytesPerLine * height</code> bytes
+         * @param width
+         * @param height
+         * @param format
+         */
         public QImage(java.nio.Buffer data, int width, int height, Format format) {
             initialize_native(this, data, width, height, format);
         }
 
         private static native void initialize_native(QImage instance, java.nio.Buffer data, int width, int height, Format format);
+        
+        /**
+         * <p>Constructs an image using the given buffer as pixel data with lines of <code>bytesPerLine</code> bytes.</p>
+         * @see #QImage(java.nio.Buffer, int, int, Format)
+         * @param data pixel data of at least <code>bytesPerLine * height</code> bytes
+         * @param width
+         * @param height
+         * @param bytesPerLine
+         * @param format
+         */
+        public QImage(java.nio.Buffer data, int width, int height, int bytesPerLine, Format format) {
+            initialize_native(this, data, width, height, bytesPerLine, format);
+        }
+
+        private static native void initialize_native(QImage instance, java.nio.Buffer data, int width, int height, int bytesPerLine, Format format);
+        
+        /**
+         * <p>Returns a read-only view of the pixels of a 32-bit image in native byte order.</p>
+         * <p>The view is only valid as long as the image is neither modified nor disposed.</p>
+         * @return pixel buffer
+         */
+        @io.qt.QtUninvokable
+        public final java.nio.IntBuffer pixels() {
+            if(depth()!=32)
+                throw new IllegalStateException("Pixel buffer requires an image with 32 bit depth.");
+            java.nio.ByteBuffer bits = bits();
+            return bits==null ? null : bits.order(java.nio.ByteOrder.nativeOrder()).asIntBuffer();
+        }
+        
+        /**
+         * <p>Returns a writable view of the pixels of a 32-bit image in native byte order.
+         * Calling this method detaches the image.</p>
+         * <p>The view is only valid until the image is detached again or disposed.</p>
+         * @return pixel buffer
+         */
+        @io.qt.QtUninvokable
+        public final java.nio.IntBuffer mutablePixels() {
+            if(depth()!=32)
+                throw new IllegalStateException("Pixel buffer requires an image with 32 bit depth.");
+            java.nio.ByteBuffer bits = mutableBits();
+            return bits==null ? null : bits.order(java.nio.ByteOrder.nativeOrder()).asIntBuffer();
+        }
 }// class
 
 class QImage::JNI{
@@ -356,14 +409,48 @@ void __qt_create_new_QImage_7(void* __qtjambi_ptr, JNIEnv* env, jobject, jvalue*
 
 }
 
+qint64 __qt_buffer_byte_size(JNIEnv* env, jobject data, qint64 size){
+    // JBufferData reports bytes for array-backed buffers but elements for direct buffers
+    if(!data || !Java::Runtime::Buffer::isDirect(env, data))
+        return size;
+    if(Java::Runtime::IntBuffer::isInstanceOf(env, data) || Java::Runtime::FloatBuffer::isInstanceOf(env, data))
+        return size * 4;
+    if(Java::Runtime::LongBuffer::isInstanceOf(env, data) || Java::Runtime::DoubleBuffer::isInstanceOf(env, data))
+        return size * 8;
+    if(Java::Runtime::ShortBuffer::isInstanceOf(env, data) || Java::Runtime::CharBuffer::isInstanceOf(env, data))
+        return size * 2;
+    return size;
+}
+
 void __qt_create_new_QImage_8(void* __qtjambi_ptr, JNIEnv* env, jobject, jvalue* arguments){
-    QTJAMBI_DEBUG_METHOD_PRINT("native", "new QImage(unsigned char * data, int width, int height, QImage::Format format, QImageCleanupFunction cleanupFunction = nullptr, void *cleanupInfo = nullptr)");
+    QTJAMBI_DEBUG_METHOD_PRINT("native", "new QImage(unsigned char * data, int width, int height, qsizetype bytesPerLine, QImage::Format format, QImageCleanupFunction cleanupFunction = nullptr, void *cleanupInfo = nullptr)");
     jobject data = arguments[0].l;
     jint width = arguments[1].i;
     jint height = arguments[2].i;
     jobject format = arguments[3].l;
-    JBufferConstData* qt_data = new JBufferConstData(env, data);
-    new(__qtjambi_ptr) QImage_shell(*qt_data, width, height, qtjambi_cast<QImage::Format>(env, format), [](void* ptr){ delete reinterpret_cast<JBufferConstData*>(ptr); }, qt_data);
+    jint bytesPerLine = arguments[4].i;
+    QImage::Format _format = qtjambi_cast<QImage::Format>(env, format);
+    qint64 minBytesPerLine = ((qint64(width) * QImage::toPixelFormat(_format).bitsPerPixel() + 31) >> 5) << 2;
+    if(bytesPerLine<0)
+        bytesPerLine = jint(minBytesPerLine);
+    else if(bytesPerLine<minBytesPerLine)
+        Java::Runtime::IllegalArgumentException::throwNew(env, QStringLiteral("bytesPerLine (%1) is less than the line size of the image (%2).").arg(bytesPerLine).arg(minBytesPerLine) QTJAMBI_STACKTRACEINFO );
+    if(data && Java::Runtime::Buffer::isDirect(env, data) && !Java::Runtime::Buffer::isReadOnly(env, data)){
+        // writable direct buffers are wrapped without copying
+        JBufferData* qt_data = new JBufferData(env, data);
+        if(__qt_buffer_byte_size(env, data, qt_data->size()) < qint64(bytesPerLine) * height){
+            delete qt_data;
+            Java::Runtime::IllegalArgumentException::throwNew(env, QStringLiteral("Buffer is too small for image of %1 lines with %2 bytes.").arg(height).arg(bytesPerLine) QTJAMBI_STACKTRACEINFO );
+        }
+        new(__qtjambi_ptr) QImage_shell(reinterpret_cast<uchar*>(qt_data->data()), width, height, bytesPerLine, _format, [](void* ptr){ delete reinterpret_cast<JBufferData*>(ptr); }, qt_data);
+    }else{
+        JBufferConstData* qt_data = new JBufferConstData(env, data);
+        if(__qt_buffer_byte_size(env, data, qt_data->size()) < qint64(bytesPerLine) * height){
+            delete qt_data;
+            Java::Runtime::IllegalArgumentException::throwNew(env, QStringLiteral("Buffer is too small for image of %1 lines with %2 bytes.").arg(height).arg(bytesPerLine) QTJAMBI_STACKTRACEINFO );
+        }
+        new(__qtjambi_ptr) QImage_shell(*qt_data, width, height, bytesPerLine, _format, [](void* ptr){ delete reinterpret_cast<JBufferConstData*>(ptr); }, qt_data);
+    }
 }
 
 extern "C" Q_DECL_EXPORT void JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_gui_QImage_initialize_1native__Lio_qt_gui_QImage_2_3BIILio_qt_gui_QImage_00024Format_2)
@@ -388,11 +475,30 @@ extern "C" Q_DECL_EXPORT void JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_gui_QIm
 {
     QTJAMBI_DEBUG_METHOD_PRINT("native", "QImage::QImage(unsigned char * data, int width, int height, QImage::Format format, QImageCleanupFunction cleanupFunction = nullptr, void *cleanupInfo = nullptr)");
     QTJAMBI_TRY{
-        jvalue arguments[4];
+        jvalue arguments[5];
+        arguments[0].l = data;
+        arguments[1].i = width;
+        arguments[2].i = height;
+        arguments[3].l = format;
+        arguments[4].i = -1;
+        QtJambiShell::initialize(env, __jni_class, java_object, &__qt_create_new_QImage_8, sizeof(QImage_shell), typeid(QImage), true, arguments);
+    }QTJAMBI_CATCH(const JavaException& exn){
+        exn.raiseInJava(env);
+    }QTJAMBI_TRY_END
+}
+
+// QImage::QImage(unsigned char * data, int width, int height, qsizetype bytesPerLine, QImage::Format format)
+extern "C" Q_DECL_EXPORT void JNICALL QTJAMBI_FUNCTION_PREFIX(Java_io_qt_gui_QImage_initialize_1native__Lio_qt_gui_QImage_2Ljava_nio_Buffer_2IIILio_qt_gui_QImage_00024Format_2)
+(JNIEnv *env, jclass __jni_class, jobject java_object, jobject data, jint width, jint height, jint bytesPerLine, jobject format)
+{
+    QTJAMBI_DEBUG_METHOD_PRINT("native", "QImage::QImage(unsigned char * data, int width, int height, qsizetype bytesPerLine, QImage::Format format, QImageCleanupFunction cleanupFunction = nullptr, void *cleanupInfo = nullptr)");
+    QTJAMBI_TRY{
+        jvalue arguments[5];
         arguments[0].l = data;
         arguments[1].i = width;
         arguments[2].i = height;
         arguments[3].l = format;
+        arguments[4].i = bytesPerLine;
         QtJambiShell::initialize(env, __jni_class, java_object, &__qt_create_new_QImage_8, sizeof(QImage_shell), typeid(QImage), true, arguments);
     }QTJAMBI_CATCH(const JavaException& exn){
         exn.raiseInJava(env);
@@ -30,15 +30,20 @@
 class QHttpServer___ {
     private QHttpServerRouter __rcRouter;
 
+    private boolean hasAfterRequestHandlers;
+    private io.qt.core.QMimeDatabase mimeDatabase;
+
     @io.qt.QtUninvokable
     public void afterRequest(java.util.function.Function<QHttpServerResponse, QHttpServerResponse> action) {
         afterRequest(QtJambi_LibraryUtilities.internal.nativeId(this), false, action);
+        hasAfterRequestHandlers = true;
     }
 
     @io.qt.QtUninvokable
     public void afterRequest(
             java.util.function.BiFunction<QHttpServerResponse, QHttpServerRequest, QHttpServerResponse> action) {
         afterRequest(QtJambi_LibraryUtilities.internal.nativeId(this), true, action);
+        hasAfterRequestHandlers = true;
     }
 
     @io.qt.QtUninvokable
@@ -57,25 +62,107 @@ class QHttpServer___ {
         void invoke(Object[] args, QHttpServerResponder responder, QHttpServerRequest request);
     }
 
-    private Object[] values(io.qt.core.QRegularExpressionMatch rem, io.qt.core.QMetaType[] metaTypes,
-            Object... requestResponder) {
-        Object[] values = new Object[metaTypes.length + requestResponder.length];
-        for (int i = 0; i < metaTypes.length; i++) {
-            String cpt = rem.captured(i + 1);
-            values[i] = io.qt.core.QVariant.convert(cpt, metaTypes[i]);
+    @FunctionalInterface
+    private interface ArgumentParser {
+        Object parse(String captured);
+    }
+
+    /**
+     * Argument layout of a route compiled at registration.
+     * Captured path segments are parsed by type-specific parsers
+     * and request and responder are placed at fixed positions.
+     */
+    private static final class RouteArguments {
+        private final ArgumentParser[] parsers;
+        private final int requestIndex;
+        private final int responderIndex;
+        private final int length;
+
+        RouteArguments(java.lang.reflect.Parameter[] parameters, io.qt.core.QMetaType[] metaTypes, int requestIndex,
+                int responderIndex) {
+            this.parsers = new ArgumentParser[metaTypes.length];
+            for (int i = 0; i < metaTypes.length; i++) {
+                Class<?> type = parameters != null ? parameters[i].getType() : metaTypes[i].javaType();
+                this.parsers[i] = parser(type, metaTypes[i]);
+            }
+            this.requestIndex = requestIndex;
+            this.responderIndex = responderIndex;
+            this.length = Math.max(metaTypes.length, Math.max(requestIndex, responderIndex) + 1);
         }
-        for (int i = 0; i < requestResponder.length; i++) {
-            values[metaTypes.length + i] = requestResponder[i];
+
+        Object[] values(io.qt.core.QRegularExpressionMatch rem, QHttpServerRequest request,
+                QHttpServerResponder responder) {
+            Object[] values = new Object[length];
+            for (int i = 0; i < parsers.length; i++) {
+                values[i] = parsers[i].parse(rem.captured(i + 1));
+            }
+            if (requestIndex >= 0)
+                values[requestIndex] = request;
+            if (responderIndex >= 0)
+                values[responderIndex] = responder;
+            return values;
+        }
+
+        private static ArgumentParser parser(Class<?> type, io.qt.core.QMetaType metaType) {
+            ArgumentParser conversion = cpt -> io.qt.core.QVariant.convert(cpt, metaType);
+            if (type == String.class) {
+                return cpt -> cpt;
+            } else if (type == int.class || type == Integer.class) {
+                return cpt -> {
+                    try {
+                        return Integer.valueOf(cpt);
+                    } catch (NumberFormatException e) {
+                        return conversion.parse(cpt);
+                    }
+                };
+            } else if (type == long.class || type == Long.class) {
+                return cpt -> {
+                    try {
+                        return Long.valueOf(cpt);
+                    } catch (NumberFormatException e) {
+                        return conversion.parse(cpt);
+                    }
+                };
+            } else if (type == java.util.UUID.class) {
+                return cpt -> {
+                    try {
+                        return java.util.UUID.fromString(cpt);
+                    } catch (IllegalArgumentException e) {
+                        return conversion.parse(cpt);
+                    }
+                };
+            } else {
+                return conversion;
+            }
         }
-        return values;
+    }
+
+    /**
+     * String and QByteArray results are written to the responder directly
+     * unless after-request handlers expect a QHttpServerResponse.
+     */
+    @io.qt.QtUninvokable
+    private boolean isDirectlyWritable(Object result) {
+        return !hasAfterRequestHandlers && (result instanceof String || result instanceof io.qt.core.QByteArray);
+    }
+
+    @io.qt.QtUninvokable
+    private void writeDirectly(Object result, QHttpServerResponder responder) {
+        io.qt.core.QByteArray data = result instanceof String ? io.qt.core.QString.toUtf8((String) result)
+                : (io.qt.core.QByteArray) result;
+        if (mimeDatabase == null)
+            mimeDatabase = new io.qt.core.QMimeDatabase();
+        responder.write(data, io.qt.core.QString.toUtf8(mimeDatabase.mimeTypeForData(data).name()),
+                QHttpServerResponder.StatusCode.Ok);
     }
 
     @io.qt.QtUninvokable
     private <R> QHttpServerRouterRule.RouterHandler createRouterHandler(
             java.util.function.BiFunction<Object[], QHttpServerRequest, R> viewHandler,
             io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             R result = viewHandler.apply(values, request);
             sendResponse(result, request, responder);
         };
@@ -84,8 +171,9 @@ class QHttpServer___ {
     @io.qt.QtUninvokable
     private <R> QHttpServerRouterRule.RouterHandler createRouterHandler(
             java.util.function.Function<Object[], R> viewHandler, io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             R result = viewHandler.apply(values);
             sendResponse(result, request, responder);
         };
@@ -93,9 +181,9 @@ class QHttpServer___ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerRequest(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes, request);
+            Object[] values = arguments.values(rem, request, null);
             Object result;
             try {
                 result = slotInvoker.invoke(viewHandler, values);
@@ -110,9 +198,9 @@ class QHttpServer___ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandler(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             Object result;
             try {
                 result = slotInvoker.invoke(viewHandler, values);
@@ -411,18 +499,19 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, responderArg);
             if (requestArg == -1) {
                 return router().addRule(new QHttpServerRouterRule(pathPattern,
-                        createRouterHandlerResponder(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandlerResponder(viewHandler, info.slotInvoker, arguments)), metaTypes);
             } else if (requestArg < responderArg) {
                 return router().addRule(
                         new QHttpServerRouterRule(pathPattern,
-                                createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, metaTypes)),
+                                createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             } else {
                 return router().addRule(
                         new QHttpServerRouterRule(pathPattern,
-                                createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, metaTypes)),
+                                createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             }
         } else {
@@ -437,12 +526,13 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, -1);
             if (requestArg == -1) {
                 return router().addRule(new QHttpServerRouterRule(pathPattern,
-                        createRouterHandler(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandler(viewHandler, info.slotInvoker, arguments)), metaTypes);
             } else {
                 return router().addRule(new QHttpServerRouterRule(pathPattern,
-                        createRouterHandlerRequest(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandlerRequest(viewHandler, info.slotInvoker, arguments)), metaTypes);
             }
         }
     }
@@ -488,19 +578,20 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, responderArg);
             if (requestArg == -1) {
                 return router().addRule(
-                        ruleFactory.apply(createRouterHandlerResponder(viewHandler, info.slotInvoker, metaTypes)),
+                        ruleFactory.apply(createRouterHandlerResponder(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             } else if (requestArg < responderArg) {
                 return router().addRule(
                         ruleFactory
-                                .apply(createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, metaTypes)),
+                                .apply(createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             } else {
                 return router().addRule(
                         ruleFactory
-                                .apply(createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, metaTypes)),
+                                .apply(createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             }
         } else {
@@ -515,12 +606,13 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, -1);
             if (requestArg == -1) {
                 return router().addRule(
-                        ruleFactory.apply(createRouterHandler(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        ruleFactory.apply(createRouterHandler(viewHandler, info.slotInvoker, arguments)), metaTypes);
             } else {
                 return router().addRule(
-                        ruleFactory.apply(createRouterHandlerRequest(viewHandler, info.slotInvoker, metaTypes)),
+                        ruleFactory.apply(createRouterHandlerRequest(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             }
         }
@@ -566,18 +658,19 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, responderArg);
             if (requestArg == -1) {
                 return router().addRule(new QHttpServerRouterRule(pathPattern, methods,
-                        createRouterHandlerResponder(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandlerResponder(viewHandler, info.slotInvoker, arguments)), metaTypes);
             } else if (requestArg < responderArg) {
                 return router().addRule(
                         new QHttpServerRouterRule(pathPattern, methods,
-                                createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, metaTypes)),
+                                createRouterHandlerRequestResponder(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             } else {
                 return router().addRule(
                         new QHttpServerRouterRule(pathPattern, methods,
-                                createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, metaTypes)),
+                                createRouterHandlerResponderRequest(viewHandler, info.slotInvoker, arguments)),
                         metaTypes);
             }
         } else {
@@ -592,12 +685,13 @@ class QHttpServer___ {
                 metaTypes[i] = new io.qt.core.QMetaType(
                         QtJambi_LibraryUtilities.internal.registerMetaType(parameters[i]));
             }
+            RouteArguments arguments = new RouteArguments(parameters, metaTypes, requestArg, -1);
             if (requestArg == -1) {
                 return router().addRule(new QHttpServerRouterRule(pathPattern, methods,
-                        createRouterHandler(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandler(viewHandler, info.slotInvoker, arguments)), metaTypes);
             } else {
                 return router().addRule(new QHttpServerRouterRule(pathPattern, methods,
-                        createRouterHandlerRequest(viewHandler, info.slotInvoker, metaTypes)), metaTypes);
+                        createRouterHandlerRequest(viewHandler, info.slotInvoker, arguments)), metaTypes);
             }
         }
     }
@@ -628,7 +722,9 @@ class QHttpServer_64__ {
 
     @io.qt.QtUninvokable
     private void sendResponse(Object result, QHttpServerRequest request, io.qt.network.QTcpSocket socket) {
-        if (result instanceof QHttpServerResponse)
+        if (isDirectlyWritable(result))
+            writeDirectly(result, makeResponder(request, socket));
+        else if (result instanceof QHttpServerResponse)
             sendResponse((QHttpServerResponse) result, request, socket);
         else if (result instanceof String)
             sendResponse(new QHttpServerResponse((String) result), request, socket);
@@ -647,8 +743,9 @@ class QHttpServer_64__ {
     @io.qt.QtUninvokable
     private QHttpServerRouterRule.RouterHandler createRouterHandler(GenericViewHandler viewHandler,
             io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, socket) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             viewHandler.invoke(values, makeResponder(request, socket), request);
         };
     }
@@ -657,17 +754,19 @@ class QHttpServer_64__ {
     private QHttpServerRouterRule.RouterHandler createRouterHandler(
             java.util.function.BiConsumer<Object[], QHttpServerResponder> viewHandler,
             io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, socket) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             viewHandler.accept(values, makeResponder(request, socket));
         };
     }
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerResponder(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, socket) -> {
-            Object[] values = values(rem, metaTypes, makeResponder(request, socket));
+            QHttpServerResponder responder = makeResponder(request, socket);
+            Object[] values = arguments.values(rem, null, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
@@ -680,9 +779,10 @@ class QHttpServer_64__ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerRequestResponder(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, socket) -> {
-            Object[] values = values(rem, metaTypes, request, makeResponder(request, socket));
+            QHttpServerResponder responder = makeResponder(request, socket);
+            Object[] values = arguments.values(rem, request, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
@@ -695,9 +795,10 @@ class QHttpServer_64__ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerResponderRequest(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, socket) -> {
-            Object[] values = values(rem, metaTypes, makeResponder(request, socket), request);
+            QHttpServerResponder responder = makeResponder(request, socket);
+            Object[] values = arguments.values(rem, request, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
@@ -747,7 +848,9 @@ class QHttpServer_65__ {
     @SuppressWarnings("unchecked")
     @io.qt.QtUninvokable
     private void sendResponse(Object result, QHttpServerRequest request, QHttpServerResponder responder) {
-        if (result instanceof QHttpServerResponse)
+        if (isDirectlyWritable(result))
+            writeDirectly(result, responder);
+        else if (result instanceof QHttpServerResponse)
             sendResponse((QHttpServerResponse) result, request, responder);
         else if (result instanceof String)
             sendResponse(new QHttpServerResponse((String) result), request, responder);
@@ -768,8 +871,9 @@ class QHttpServer_65__ {
     @io.qt.QtUninvokable
     private QHttpServerRouterRule.RouterHandler createRouterHandler(GenericViewHandler viewHandler,
             io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             viewHandler.invoke(values, responder, request);
         };
     }
@@ -778,17 +882,18 @@ class QHttpServer_65__ {
     private QHttpServerRouterRule.RouterHandler createRouterHandler(
             java.util.function.BiConsumer<Object[], QHttpServerResponder> viewHandler,
             io.qt.core.QMetaType... metaTypes) {
+        RouteArguments arguments = new RouteArguments(null, metaTypes, -1, -1);
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes);
+            Object[] values = arguments.values(rem, null, null);
             viewHandler.accept(values, responder);
         };
     }
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerResponder(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes, responder);
+            Object[] values = arguments.values(rem, null, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
@@ -801,9 +906,9 @@ class QHttpServer_65__ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerRequestResponder(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes, request, responder);
+            Object[] values = arguments.values(rem, request, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
@@ -816,9 +921,9 @@ class QHttpServer_65__ {
 
     @io.qt.QtUninvokable
     private <ViewHandler extends io.qt.core.QMetaObject.AbstractSlot> QHttpServerRouterRule.RouterHandler createRouterHandlerResponderRequest(
-            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, io.qt.core.QMetaType... metaTypes) {
+            ViewHandler viewHandler, SlotInvoker<ViewHandler> slotInvoker, RouteArguments arguments) {
         return (rem, request, responder) -> {
-            Object[] values = values(rem, metaTypes, responder, request);
+            Object[] values = arguments.values(rem, request, responder);
             try {
                 slotInvoker.invoke(viewHandler, values);
             } catch (RuntimeException | Error e) {
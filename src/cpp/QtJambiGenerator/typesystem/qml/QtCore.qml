@@ -12411,6 +12411,35 @@ TypeSystem{
         }
         ModifyFunction{
             signature: "readData(char*,long long)"
+            InjectCode{
+                target: CodeClass.Shell
+                position: Position.Beginning
+                ArgumentMap{
+                    index: 1
+                    metaName: "%1"
+                }
+                ArgumentMap{
+                    index: 2
+                    metaName: "%2"
+                }
+                Text{content: "if(__shell()->ioDeviceBufferOverrides(%env) & 0x1){\n"+
+                              "    qint64 __qt_result = 0;\n"+
+                              "    while(%2 > 0){\n"+
+                              "        jint __qt_length = jint(qMin(qint64(INT_MAX), %2));\n"+
+                              "        jobject __java_buffer = %env->NewDirectByteBuffer(%1, __qt_length);\n"+
+                              "        jint __qt_read = Java::QtCore::QIODevice::readData(%env, __java_this, __java_buffer);\n"+
+                              "        %env->DeleteLocalRef(__java_buffer);\n"+
+                              "        if(__qt_read < 0)\n"+
+                              "            return __qt_result > 0 ? __qt_result : qint64(__qt_read);\n"+
+                              "        __qt_result += __qt_read;\n"+
+                              "        if(__qt_read < __qt_length)\n"+
+                              "            break;\n"+
+                              "        %1 += __qt_read;\n"+
+                              "        %2 -= __qt_read;\n"+
+                              "    }\n"+
+                              "    return __qt_result;\n"+
+                              "}"}
+            }
             ModifyArgument{
                 index: 0
                 ReplaceType{
@@ -12455,6 +12484,37 @@ TypeSystem{
         }
         ModifyFunction{
             signature: "writeData(const char*,long long)"
+            InjectCode{
+                target: CodeClass.Shell
+                position: Position.Beginning
+                ArgumentMap{
+                    index: 1
+                    metaName: "%1"
+                }
+                ArgumentMap{
+                    index: 2
+                    metaName: "%2"
+                }
+                Text{content: "if(__shell()->ioDeviceBufferOverrides(%env) & 0x2){\n"+
+                              "    qint64 __qt_result = 0;\n"+
+                              "    while(%2 > 0){\n"+
+                              "        jint __qt_length = jint(qMin(qint64(INT_MAX), %2));\n"+
+                              "        jobject __java_data = %env->NewDirectByteBuffer(const_cast<char*>(%1), __qt_length);\n"+
+                              "        jobject __java_buffer = Java::Runtime::ByteBuffer::asReadOnlyBuffer(%env, __java_data);\n"+
+                              "        jint __qt_written = Java::QtCore::QIODevice::writeData(%env, __java_this, __java_buffer);\n"+
+                              "        %env->DeleteLocalRef(__java_buffer);\n"+
+                              "        %env->DeleteLocalRef(__java_data);\n"+
+                              "        if(__qt_written < 0)\n"+
+                              "            return __qt_result > 0 ? __qt_result : qint64(__qt_written);\n"+
+                              "        __qt_result += __qt_written;\n"+
+                              "        if(__qt_written < __qt_length)\n"+
+                              "            break;\n"+
+                              "        %1 += __qt_written;\n"+
+                              "        %2 -= __qt_written;\n"+
+                              "    }\n"+
+                              "    return __qt_result;\n"+
+                              "}"}
+            }
             ModifyArgument{
                 index: 0
                 ReplaceType{
@@ -21876,6 +21936,30 @@ TypeSystem{
                 }
             }
         }
+        ModifyFunction{
+            signature: "setEnabled(QtMsgType, bool)"
+            InjectCode{
+                target: CodeClass.Java
+                position: Position.End
+                Text{content: "QLogging.invalidateCategoryLevels();"}
+            }
+        }
+        ModifyFunction{
+            signature: "setFilterRules(const QString &)"
+            InjectCode{
+                target: CodeClass.Java
+                position: Position.End
+                Text{content: "QLogging.invalidateCategoryLevels();"}
+            }
+        }
+        ModifyFunction{
+            signature: "installFilter(QLoggingCategory::CategoryFilter)"
+            InjectCode{
+                target: CodeClass.Java
+                position: Position.End
+                Text{content: "QLogging.invalidateCategoryLevels();"}
+            }
+        }
         InjectCode{
             ImportFile{
                 name: ":/io/qtjambi/generator/typesystem/QtJambiCore.java"
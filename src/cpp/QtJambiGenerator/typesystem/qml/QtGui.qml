@@ -8190,12 +8190,40 @@ TypeSystem{
         }
         ModifyFunction{
             signature: "bits()"
-            Remove{
+            rename: "mutableBits"
+            ModifyArgument{
+                index: 0
+                ReplaceType{
+                    modifiedType: "java.nio.ByteBuffer"
+                }
+                ConversionRule{
+                    codeClass: CodeClass.Native
+                    Text{content: "%out = %in ? %env->NewDirectByteBuffer(%in, jlong(__qt_this->sizeInBytes())) : nullptr;"}
+                }
             }
         }
         ModifyFunction{
             signature: "scanLine(int)"
-            Remove{
+            rename: "mutableScanLine"
+            InjectCode{
+                target: CodeClass.Java
+                position: Position.Beginning
+                ArgumentMap{
+                    index: 1
+                    metaName: "%1"
+                }
+                Text{content: "if(%1<0 || %1>=height())\n"+
+                              "    throw new IndexOutOfBoundsException(\"Scan line \" + %1 + \" out of range [0,\" + height() + \").\");"}
+            }
+            ModifyArgument{
+                index: 0
+                ReplaceType{
+                    modifiedType: "java.nio.ByteBuffer"
+                }
+                ConversionRule{
+                    codeClass: CodeClass.Native
+                    Text{content: "%out = %in ? %env->NewDirectByteBuffer(%in, jlong(__qt_this->bytesPerLine())) : nullptr;"}
+                }
             }
         }
         ModifyFunction{
@@ -8495,6 +8523,16 @@ TypeSystem{
         }
         ModifyFunction{
             signature: "scanLine(int)const"
+            InjectCode{
+                target: CodeClass.Java
+                position: Position.Beginning
+                ArgumentMap{
+                    index: 1
+                    metaName: "%1"
+                }
+                Text{content: "if(%1<0 || %1>=height())\n"+
+                              "    throw new IndexOutOfBoundsException(\"Scan line \" + %1 + \" out of range [0,\" + height() + \").\");"}
+            }
             ModifyArgument{
                 index: 0
                 ReplaceType{
@@ -8502,7 +8540,7 @@ TypeSystem{
                 }
                 ConversionRule{
                     codeClass: CodeClass.Native
-                    Text{content: "%out = %env->NewDirectByteBuffer(reinterpret_cast<jbyte*>(const_cast<unsigned char*>(%in)), __qt_this->sizeInBytes());\n"+
+                    Text{content: "%out = %env->NewDirectByteBuffer(reinterpret_cast<jbyte*>(const_cast<unsigned char*>(%in)), __qt_this->bytesPerLine());\n"+
                                   "%out = Java::Runtime::ByteBuffer::asReadOnlyBuffer(%env, %out);"}
                 }
             }
@@ -40,6 +40,8 @@
 #include <QtCore/QScopeGuard>
 #include <QtCore/QCoreApplication>
 #include <QtCore/QProcess>
+#include <QtCore/QFile>
+#include <QtCore/QTextStream>
 
 #include <signal.h>
 
@@ -586,9 +588,35 @@ enum Parameters : qint64{
     ModulePath,
     LibraryPath,
     JVMArguments,
-    JNIMinimumVersion
+    JNIMinimumVersion,
+    CDSArchive,
+    CDSJavaVersion
 };
 
+QString javaRuntimeVersion(const QDir& javaHome){
+    QFile releaseFile(javaHome.filePath(QLatin1String("release")));
+    QString javaVersion;
+    if(releaseFile.open(QIODevice::ReadOnly)){
+        QTextStream in(&releaseFile);
+        while(!in.atEnd()){
+            QString line = in.readLine();
+            int idx = line.indexOf('=');
+            if(idx>0){
+                QString key = line.left(idx).trimmed();
+                QString value = line.mid(idx+1).trimmed();
+                if(value.startsWith('"') && value.endsWith('"') && value.size()>1)
+                    value = value.mid(1, value.size()-2);
+                if(key==QLatin1String("JAVA_RUNTIME_VERSION"))
+                    return value;
+                else if(key==QLatin1String("JAVA_VERSION"))
+                    javaVersion = value;
+            }
+        }
+        releaseFile.close();
+    }
+    return javaVersion;
+}
+
 void findJVM(const QDir& directory, QFileInfo& jvmLibraryInfo, const QString& libraryNamePattern){
     for(const QFileInfo& info : directory.entryInfoList()) {
         if(info.isDir()){
@@ -937,17 +965,31 @@ int main(int argc, char *argv[])
                 options << "-Dio.qt.debug=debug";
 #endif
                 bool hasAddModules = false;
+                bool hasSharingOption = false;
                 for (int i = 0; i < jvmArguments.size(); ++i) {
                     QByteArray option = jvmArguments[i].toByteArray();
                     if(!option.isEmpty()){
                         options << option;
                         if(option.startsWith("--add-modules="))
                             hasAddModules = true;
+                        else if(option.startsWith("-Xshare:") || option.startsWith("-XX:SharedArchiveFile="))
+                            hasSharingOption = true;
                     }
                 }
                 if(!modulePath.isEmpty() && !hasAddModules){
                     options << "--add-modules=ALL-MODULE-PATH,ALL-DEFAULT";
                 }
+                QString cdsArchive = runtimeParameters.value(CDSArchive).toString();
+                if(!cdsArchive.isEmpty() && !hasSharingOption && qEnvironmentVariableIsEmpty("QTJAMBI_LAUNCHER_NO_CDS")){
+                    // the archive is only valid for the JVM it has been dumped with.
+                    // In case of mismatch, the launcher starts without class data sharing.
+                    QFileInfo cdsArchiveInfo(programDir.filePath(cdsArchive));
+                    if(cdsArchiveInfo.isFile()
+                            && runtimeParameters.value(CDSJavaVersion).toString()==javaRuntimeVersion(QDir(vmDir.absoluteFilePath(QLatin1String(".."))))){
+                        options << "-Xshare:auto";
+                        options << QByteArray("-XX:SharedArchiveFile=") + QDir::toNativeSeparators(cdsArchiveInfo.absoluteFilePath()).toUtf8();
+                    }
+                }
                 QScopedArrayPointer<JavaVMOption> vm_options(new JavaVMOption[size_t(options.size())]);
                 for (int i=0; i<options.size(); ++i){
                     vm_options[i].optionString = options[i].data();
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,6 +15,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -29,6 +32,8 @@ import org.apache.tools.ant.PropertyHelper;
 import org.apache.tools.ant.Task;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 public class CreateNativeDeploymentTask extends Task {
 	
@@ -759,6 +764,7 @@ public class CreateNativeDeploymentTask extends Task {
 					if(doc.getDocumentElement().hasChildNodes()) {
 						if(!AntUtil.getPropertyAsString(propertyHelper, Constants.OSNAME).startsWith("android") || isUtilities) {
 							libraryIncludes += "," + deploymentFile.getName();
+							doc.getDocumentElement().setAttribute("hash", contentHash(doc, directory));
 							try(FileOutputStream fos = new FileOutputStream(deploymentFile)){
 								StreamResult result = new StreamResult(fos);
 								transformer.transform(new DOMSource(doc), result);
@@ -786,6 +792,48 @@ public class CreateNativeDeploymentTask extends Task {
 	private boolean debug = false;
 	private boolean plugin = false;
     
+    /**
+     * Computes the content hash of all bundled files used by QtJambi to identify persistent native deployments.
+     * The hash is built from the size and CRC-32 of each library and file exactly like QtJambi derives it
+     * from the jar entries of bundles without hash attribute.
+     */
+    static String contentHash(Document doc, File directory) throws Exception {
+    	Set<String> names = new TreeSet<>();
+    	NodeList childNodes = doc.getDocumentElement().getChildNodes();
+		for (int i = 0; i < childNodes.getLength(); i++) {
+			Node child = childNodes.item(i);
+			if(child instanceof Element) {
+				String tagName = ((Element)child).getTagName();
+				if(tagName.equals("library") || tagName.equals("file"))
+					names.add(((Element)child).getAttribute("name"));
+			}
+		}
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(doc.getDocumentElement().getAttribute("version").getBytes("UTF-8"));
+		byte[] buffer = new byte[64*1024];
+		for(String name : names) {
+			digest.update(name.getBytes("UTF-8"));
+			File file = new File(directory, name);
+			if(file.isFile()) {
+				CRC32 crc = new CRC32();
+				try(java.io.InputStream stream = new java.io.FileInputStream(file)){
+					int length;
+					while((length = stream.read(buffer))>0) {
+						crc.update(buffer, 0, length);
+					}
+				}
+				digest.update(Long.toHexString(file.length()).getBytes("UTF-8"));
+				digest.update(Long.toHexString(crc.getValue()).getBytes("UTF-8"));
+			}
+		}
+		StringBuilder hash = new StringBuilder();
+		byte[] bytes = digest.digest();
+		for (int i = 0; i < 16; i++) {
+			hash.append(String.format("%02x", bytes[i]));
+		}
+		return hash.toString();
+    }
+    
     static void copySubdirs(File root, File srcDir, File destDir, boolean debug, List<Map.Entry<String,Boolean>> additionalFiles, boolean allowHeaders) throws IOException {
     	if(srcDir.isDirectory()) {
 	    	for(File content : srcDir.listFiles()) {
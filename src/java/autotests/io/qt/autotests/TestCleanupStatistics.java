@@ -0,0 +1,158 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.qt.QtInvokable;
+import io.qt.QtUtilities;
+import io.qt.core.QCoreApplication;
+import io.qt.core.QEvent;
+import io.qt.core.QMetaObject;
+import io.qt.core.QObject;
+import io.qt.core.QPersistentModelIndex;
+import io.qt.core.QStringListModel;
+import io.qt.core.QThread;
+import io.qt.core.Qt;
+
+public class TestCleanupStatistics extends ApplicationInitializer {
+	
+	/** Longest time to wait for garbage collection in ms. */
+	private static final int TIME_LIMIT = 10000;
+	
+	private static final int OBJECT_COUNT = 1000;
+	
+	private static void createGarbage() {
+		for (int i = 0; i < OBJECT_COUNT; ++i) {
+			new QObject().setObjectName("garbage"+i);
+		}
+	}
+	
+	private static class PersistentIndexModel extends QStringListModel{
+		final CountDownLatch release = new CountDownLatch(1);
+		
+		@QtInvokable
+		public void block() {
+			try {
+				release.await(TIME_LIMIT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+			}
+		}
+		
+		@QtInvokable
+		public int persistentIndexCount() {
+			return persistentIndexList().size();
+		}
+	}
+	
+	private static void createPersistentIndexes(PersistentIndexModel model) {
+		for (int i = 0; i < OBJECT_COUNT; ++i) {
+			new QPersistentModelIndex(model.index(i, 0));
+		}
+	}
+	
+	/**
+	 * Persistent indexes are owned by the thread of their model.
+	 * Dropping them in Java must destroy them in the model's thread and not in the main thread.
+	 */
+	@Test
+	public void testCleanupInOwnerThread() throws InterruptedException {
+		QtUtilities.CleanupStatistics statistics = QtUtilities.cleanupStatistics();
+		QThread thread = new QThread();
+		thread.start();
+		PersistentIndexModel model = new PersistentIndexModel();
+		try {
+			model.insertRows(0, OBJECT_COUNT);
+			createPersistentIndexes(model);
+			assertEquals(OBJECT_COUNT, model.persistentIndexCount());
+			model.moveToThread(thread);
+			// the owner thread is blocked until all dropped indexes have been cleaned
+			QMetaObject.invokeMethod(model::block, Qt.ConnectionType.QueuedConnection);
+			long processedReferences = statistics.processedReferences();
+			long start = System.currentTimeMillis();
+			while (statistics.processedReferences() < processedReferences + OBJECT_COUNT
+					&& System.currentTimeMillis() - start < TIME_LIMIT) {
+				ApplicationInitializer.runGC();
+				Thread.sleep(100);
+				QCoreApplication.processEvents();
+				QCoreApplication.sendPostedEvents(null, QEvent.Type.DeferredDelete);
+			}
+			assertTrue(statistics.toString(), statistics.processedReferences() >= processedReferences + OBJECT_COUNT);
+			// nothing has been destroyed by the main thread
+			assertEquals(OBJECT_COUNT, model.persistentIndexCount());
+			model.release.countDown();
+			int count = OBJECT_COUNT;
+			start = System.currentTimeMillis();
+			while (count > 0 && System.currentTimeMillis() - start < TIME_LIMIT) {
+				Thread.sleep(50);
+				count = QMetaObject.invokeMethod(model::persistentIndexCount, Qt.ConnectionType.BlockingQueuedConnection);
+			}
+			assertEquals(0, count);
+		}finally {
+			model.release.countDown();
+			model.disposeLater();
+			thread.quit();
+			thread.join();
+			thread.dispose();
+		}
+	}
+	
+	@Test
+	public void testBatchedCleanup() throws InterruptedException {
+		QtUtilities.CleanupStatistics statistics = QtUtilities.cleanupStatistics();
+		long processedReferences = statistics.processedReferences();
+		long batches = statistics.batches();
+		createGarbage();
+		final long start = System.currentTimeMillis();
+		while (statistics.processedReferences() < processedReferences + OBJECT_COUNT
+				&& System.currentTimeMillis() - start < TIME_LIMIT) {
+			ApplicationInitializer.runGC();
+			Thread.sleep(100);
+			QCoreApplication.processEvents();
+			QCoreApplication.sendPostedEvents(null, QEvent.Type.DeferredDispose);
+		}
+		assertTrue(statistics.toString(), statistics.processedReferences() >= processedReferences + OBJECT_COUNT);
+		// references are processed in batches
+		assertTrue(statistics.toString(), statistics.batches() - batches < statistics.processedReferences() - processedReferences);
+		assertTrue(statistics.toString(), statistics.lastBatchSize() > 0);
+		assertTrue(statistics.toString(), statistics.maxBatchSize() >= statistics.lastBatchSize());
+		assertTrue(statistics.toString(), statistics.maxBatchNanos() >= statistics.lastBatchNanos());
+		// the backlog is counted from enqueued and processed references, not from the capped batch size
+		assertTrue(statistics.toString(), statistics.enqueuedReferences() >= statistics.processedReferences());
+		assertTrue(statistics.toString(), statistics.queueLength() >= 0);
+		assertTrue(statistics.toString(), statistics.maxQueueLength() >= statistics.maxBatchSize());
+	}
+}
@@ -546,6 +546,132 @@ public class TestConcurrent extends ApplicationInitializer {
     	Assert.assertTrue(isCanceled[0]);
     }
 
+    @Test
+    public void testMapChunked() {
+        List<MutableString> strings = new ArrayList<MutableString>();
+        for (int i=0; i<COUNT*100; ++i)
+            strings.add(new MutableString("" + i));
+
+        QtConcurrent.blockingMapChunked(strings, chunk -> {
+            assertTrue(chunk.size()>0);
+            for (MutableString s : chunk)
+                s.value += " foo";
+        });
+
+        for (int i=0; i<strings.size(); ++i)
+            assertEquals(i + " foo", strings.get(i).value);
+    }
+
+    @Test
+    public void testMappedChunked() {
+        List<String> strings = new ArrayList<String>();
+        for (int i=0; i<COUNT*100; ++i)
+            strings.add("" + (i*i));
+
+        List<Integer> results = QtConcurrent.blockingMappedChunked(strings, chunk -> {
+            List<Integer> ints = new ArrayList<>(chunk.size());
+            for (String s : chunk)
+                ints.add(Integer.parseInt(s));
+            return ints;
+        });
+
+        assertEquals(strings.size(), results.size());
+        for (int i=0; i<results.size(); ++i)
+            assertEquals(i*i, (int) results.get(i));
+    }
+
+    @Test
+    public void testMappedChunkedException() {
+    	Assume.assumeFalse(QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android));
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i=0; i<COUNT*100; ++i)
+            ints.add(i);
+
+        try {
+            QtConcurrent.blockingMappedChunked(ints, chunk -> {
+                if(chunk.contains(COUNT*50))
+                    throw new MissingFormatArgumentException("chunk");
+                return new ArrayList<>(chunk);
+            });
+            Assert.assertFalse("exception expected to be thrown", true);
+        } catch (MissingFormatArgumentException e) {
+            assertEquals("chunk", e.getFormatSpecifier());
+        }
+    }
+
+    @Test
+    public void testMappedChunkedWrongResultCount() {
+    	Assume.assumeFalse(QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android));
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i=0; i<COUNT*100; ++i)
+            ints.add(i);
+
+        try {
+            QtConcurrent.blockingMappedChunked(ints, chunk -> {
+                List<Integer> results = new ArrayList<>(chunk);
+                results.add(-1);
+                return results;
+            });
+            Assert.assertFalse("exception expected to be thrown", true);
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Chunk functor returned "));
+        }
+    }
+
+    @Test
+    public void testFilteredChunked() {
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i=0; i<COUNT*100; ++i)
+            ints.add(i);
+
+        List<Integer> results = QtConcurrent.blockingFilteredChunked(ints, chunk -> {
+            boolean[] keep = new boolean[chunk.size()];
+            for (int i=0; i<keep.length; ++i)
+                keep[i] = chunk.get(i) % 3 == 0;
+            return keep;
+        });
+
+        assertEquals((ints.size()+2)/3, results.size());
+        for (int i=0; i<results.size(); ++i)
+            assertEquals(i*3, (int) results.get(i));
+    }
+
+    @Test
+    public void testMappedReducedChunked() {
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i=0; i<COUNT*100; ++i)
+            ints.add(i);
+
+        Long sum = QtConcurrent.blockingMappedReducedChunked(ints, chunk -> {
+            List<Long> values = new ArrayList<>(chunk.size());
+            for (Integer i : chunk)
+                values.add((long)i);
+            return values;
+        }, (Long r, Long n) -> (r==null ? 0 : r) + n);
+
+        assertEquals((long)ints.size()*(ints.size()-1)/2, (long)sum);
+    }
+
+    @Test
+    public void benchmarkMappedChunked() {
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i=0; i<COUNT*10000; ++i)
+            ints.add(i);
+        long t1 = System.nanoTime();
+        List<Integer> results1 = QtConcurrent.blockingMapped(ints, i -> i+1);
+        long t2 = System.nanoTime();
+        List<Integer> results2 = QtConcurrent.blockingMappedChunked(ints, chunk -> {
+            List<Integer> values = new ArrayList<>(chunk.size());
+            for (Integer i : chunk)
+                values.add(i+1);
+            return values;
+        });
+        long t3 = System.nanoTime();
+        assertEquals(results1, results2);
+        java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, String.format("QtConcurrent on %1$d elements: mapped %2$.1f ms, mappedChunked %3$.1f ms",
+                ints.size(), (t2-t1)/1000000., (t3-t2)/1000000.));
+    }
+
     public static void main(String args[]) {
         org.junit.runner.JUnitCore.main(TestConcurrent.class.getName());
     }
@@ -0,0 +1,209 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.qt.concurrent.QtConcurrent;
+import io.qt.core.QFuture;
+import io.qt.core.QThreadPool;
+
+/**
+ * Tests map, filter and reduce operations running in the Java fork/join engine
+ * and compares them with the native engine.
+ */
+public class TestConcurrentJavaEngine extends ApplicationInitializer {
+	
+	private static final int COUNT = 100000;
+	
+	@After
+	public void disableJavaEngine() {
+		QtConcurrent.setJavaEngineEnabled(false);
+	}
+	
+	private static List<Integer> createInts(int count){
+		List<Integer> ints = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+			ints.add(i);
+		return ints;
+	}
+	
+	@Test
+	public void testMapped() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		List<Integer> ints = createInts(COUNT);
+		QFuture<String> future = QtConcurrent.mapped(ints, i->""+(i*2));
+		future.waitForFinished();
+		List<String> results = future.results();
+		assertEquals(COUNT, results.size());
+		for (int i = 0; i < COUNT; ++i)
+			assertEquals(""+(i*2), results.get(i));
+		assertEquals(COUNT, future.progressMaximum());
+		assertEquals(COUNT, future.progressValue());
+	}
+	
+	@Test
+	public void testMaxThreadCountChange() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		QThreadPool pool = QThreadPool.globalInstance();
+		int maxThreadCount = pool.maxThreadCount();
+		try {
+			for (int threads : new int[] {1, maxThreadCount+2}) {
+				pool.setMaxThreadCount(threads);
+				Set<Thread> threadsUsed = Collections.synchronizedSet(new HashSet<>());
+				List<Integer> results = QtConcurrent.blockingMapped(createInts(COUNT), i->{
+					threadsUsed.add(Thread.currentThread());
+					return i+1;
+				});
+				assertEquals(COUNT, results.size());
+				assertTrue(threadsUsed.size()<=threads);
+			}
+		}finally {
+			pool.setMaxThreadCount(maxThreadCount);
+		}
+	}
+	
+	@Test
+	public void testMap() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		List<AtomicInteger> ints = new ArrayList<>();
+		for (int i = 0; i < COUNT; ++i)
+			ints.add(new AtomicInteger(i));
+		QtConcurrent.blockingMap(ints, AtomicInteger::incrementAndGet);
+		for (int i = 0; i < COUNT; ++i)
+			assertEquals(i+1, ints.get(i).get());
+	}
+	
+	@Test
+	public void testFiltered() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		List<Integer> results = QtConcurrent.blockingFiltered(createInts(COUNT), i->i%3==0);
+		assertEquals((COUNT+2)/3, results.size());
+		for (int i = 0; i < results.size(); ++i)
+			assertEquals(i*3, (int)results.get(i));
+	}
+	
+	@Test
+	public void testFilter() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		List<Integer> ints = createInts(COUNT);
+		QtConcurrent.blockingFilter(ints, i->i%2==1);
+		assertEquals(COUNT/2, ints.size());
+		for (int i = 0; i < ints.size(); ++i)
+			assertEquals(i*2+1, (int)ints.get(i));
+	}
+	
+	@Test
+	public void testMappedReduced() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		long sum = QtConcurrent.blockingMappedReduced(createInts(COUNT), i->(long)i, (Long r, Long n) -> (r==null ? 0 : r) + n);
+		assertEquals((long)COUNT*(COUNT-1)/2, sum);
+		String ordered = QtConcurrent.blockingMappedReduced(createInts(COUNT), i->""+(i%10), 
+				(String r, String s) -> r==null ? s : r.length()<30 ? r+s : r, 
+				QtConcurrent.ReduceOption.OrderedReduce);
+		assertEquals("012345678901234567890123456789", ordered);
+	}
+	
+	@Test
+	public void testFilteredReduced() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		int count = QtConcurrent.blockingFilteredReduced(createInts(COUNT), i->i%2==0, (Integer r, Integer n) -> (r==null ? 0 : r) + 1);
+		assertEquals(COUNT/2, count);
+	}
+	
+	@Test
+	public void testCancel() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		AtomicInteger calls = new AtomicInteger();
+		QFuture<Integer> future = QtConcurrent.mapped(createInts(COUNT), i->{
+			calls.incrementAndGet();
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+			}
+			return i;
+		});
+		future.cancel();
+		future.waitForFinished();
+		assertTrue(future.isCanceled());
+		assertTrue(calls.get() < COUNT);
+	}
+	
+	@Test
+	public void testException() {
+		QtConcurrent.setJavaEngineEnabled(true);
+		QFuture<Integer> future = QtConcurrent.mapped(createInts(COUNT), i->{
+			if(i==COUNT/2)
+				throw new IllegalStateException("expected");
+			return i;
+		});
+		Throwable exception = null;
+		try {
+			future.waitForFinished();
+		}catch(Throwable e) {
+			exception = e;
+		}
+		assertTrue(future.isCanceled());
+		assertTrue("IllegalStateException expected", exception instanceof IllegalStateException);
+		assertEquals("expected", exception.getMessage());
+	}
+	
+	@Test
+	public void benchmarkJavaAgainstNativeEngine() {
+		List<Integer> ints = createInts(COUNT*10);
+		long[] nanos = new long[2];
+		for (int engine = 0; engine < 2; ++engine) {
+			QtConcurrent.setJavaEngineEnabled(engine==1);
+			for (int run = 0; run < 3; ++run) {
+				long t1 = System.nanoTime();
+				long sum = QtConcurrent.blockingMappedReduced(ints, i->(long)i*i, (Long r, Long n) -> (r==null ? 0 : r) + n);
+				List<Integer> filtered = QtConcurrent.blockingFiltered(ints, i->i%7==0);
+				nanos[engine] = System.nanoTime() - t1;
+				assertTrue(sum > 0);
+				assertEquals((ints.size()+6)/7, filtered.size());
+			}
+		}
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QtConcurrent mappedReduced+filtered on %1$d elements: native %2$.1f ms, java %3$.1f ms", 
+				ints.size(), nanos[0]/1000000., nanos[1]/1000000.));
+	}
+}
@@ -0,0 +1,193 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.qt.core.QList;
+import io.qt.core.QSet;
+
+/**
+ * Compares the bulk transfer methods of native containers with element-wise access.
+ */
+public class TestContainerBulkAccess extends ApplicationInitializer {
+	
+	private static final int LENGTH = 100000;
+	
+	@Test
+	public void testIntList() {
+		int[] values = new Random(LENGTH).ints(LENGTH).toArray();
+		QList<Integer> list = new QList<>(int.class);
+		list.addAll(values);
+		assertEquals(LENGTH, list.size());
+		assertEquals(values[LENGTH-1], (int)list.get(LENGTH-1));
+		assertArrayEquals(values, list.toIntArray());
+		
+		IntBuffer direct = ByteBuffer.allocateDirect(LENGTH*4).order(ByteOrder.nativeOrder()).asIntBuffer();
+		list.copyTo(direct);
+		assertEquals(LENGTH, direct.position());
+		direct.flip();
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals(values[i], direct.get(i));
+		}
+		IntBuffer bigEndian = ByteBuffer.allocateDirect(LENGTH*4).order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+		list.copyTo(bigEndian);
+		assertEquals(values[LENGTH/2], bigEndian.get(LENGTH/2));
+		IntBuffer heap = IntBuffer.allocate(LENGTH+1);
+		heap.put(-1);
+		list.copyTo(heap);
+		assertEquals(values[0], heap.get(1));
+		
+		assertEquals(list, list.stream().collect(Collectors.toList()));
+		assertEquals(list.size(), list.parallelStream().mapToInt(Integer::intValue).count());
+		assertArrayEquals(list.toArray(), list.stream().toArray());
+	}
+	
+	@Test
+	public void testDoubleList() {
+		double[] values = new Random(LENGTH).doubles(LENGTH).toArray();
+		QList<Double> list = new QList<>(double.class);
+		list.addAll(values);
+		assertArrayEquals(values, list.toDoubleArray(), 0.);
+		DoubleBuffer buffer = DoubleBuffer.allocate(LENGTH);
+		list.copyTo(buffer);
+		assertArrayEquals(values, buffer.array(), 0.);
+	}
+	
+	@Test
+	public void testOtherPrimitiveLists() {
+		QList<Boolean> booleans = new QList<>(boolean.class);
+		booleans.addAll(new boolean[] {true, false, true});
+		assertArrayEquals(new boolean[] {true, false, true}, booleans.toBooleanArray());
+		QList<Character> chars = new QList<>(char.class);
+		chars.addAll("bulk".toCharArray());
+		assertArrayEquals("bulk".toCharArray(), chars.toCharArray());
+		QList<Long> longs = new QList<>(long.class);
+		longs.addAll(new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE});
+		assertArrayEquals(new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE}, longs.toLongArray());
+		QList<Short> shorts = new QList<>(short.class);
+		shorts.addAll(new short[] {1, 2});
+		assertArrayEquals(new short[] {1, 2}, shorts.toShortArray());
+		QList<Float> floats = new QList<>(float.class);
+		floats.addAll(new float[] {1.5f, 2.5f});
+		assertArrayEquals(new float[] {1.5f, 2.5f}, floats.toFloatArray(), 0f);
+	}
+	
+	@Test
+	public void testStringList() {
+		QList<String> list = new QList<>(String.class);
+		for (int i = 0; i < 3000; i++) {
+			list.add("S"+i);
+		}
+		List<String> collected = list.stream().collect(Collectors.toList());
+		assertEquals(list, collected);
+		assertEquals("S2999", list.toArray(new String[0])[2999]);
+	}
+	
+	@Test
+	public void testSet() {
+		QSet<Integer> set = new QSet<>(int.class);
+		set.add(1);
+		set.add(2);
+		set.add(3);
+		int[] values = set.toIntArray();
+		java.util.Arrays.sort(values);
+		assertArrayEquals(new int[] {1, 2, 3}, values);
+	}
+	
+	@Test
+	public void testReadOnlyDirectBuffer() {
+		QList<Integer> list = new QList<>(int.class);
+		list.addAll(new int[] {1, 2, 3});
+		ByteBuffer bytes = ByteBuffer.allocateDirect(3*4).order(ByteOrder.nativeOrder());
+		IntBuffer readOnly = bytes.asIntBuffer().asReadOnlyBuffer();
+		try {
+			list.copyTo(readOnly);
+			fail("ReadOnlyBufferException expected");
+		}catch(ReadOnlyBufferException e) {
+		}
+		assertEquals(0, readOnly.position());
+		assertEquals(0, bytes.getInt(0));
+		assertEquals(0, bytes.getInt(8));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testIncompatibleType() {
+		QList<String> list = new QList<>(String.class);
+		list.add("bulk");
+		list.toIntArray();
+	}
+	
+	@Test
+	public void benchmarkBulkAccess() {
+		double[] values = new Random(LENGTH).doubles(LENGTH).toArray();
+		QList<Double> list = new QList<>(double.class);
+		long t1 = System.nanoTime();
+		for (double value : values) {
+			list.add(value);
+		}
+		long t2 = System.nanoTime();
+		list.clear();
+		list.addAll(values);
+		long t3 = System.nanoTime();
+		double[] copy = new double[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			copy[i] = list.get(i);
+		}
+		long t4 = System.nanoTime();
+		copy = list.toDoubleArray();
+		long t5 = System.nanoTime();
+		double sum = 0;
+		for (double value : list) {
+			sum += value;
+		}
+		long t6 = System.nanoTime();
+		double streamSum = list.stream().mapToDouble(Double::doubleValue).sum();
+		long t7 = System.nanoTime();
+		assertEquals(sum, streamSum, 0.0001);
+		assertArrayEquals(values, copy, 0.);
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QList<double> of %1$s elements: add %2$sus, addAll(double[]) %3$sus, get %4$sus, toDoubleArray %5$sus, iterator %6$sus, stream %7$sus", 
+				LENGTH, (t2-t1)/1000, (t3-t2)/1000, (t4-t3)/1000, (t5-t4)/1000, (t6-t5)/1000, (t7-t6)/1000));
+	}
+}
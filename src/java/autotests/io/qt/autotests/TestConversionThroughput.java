@@ -0,0 +1,93 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.qt.core.QCoreApplication;
+import io.qt.core.QObject;
+import io.qt.core.QPoint;
+import io.qt.core.QVariant;
+
+public class TestConversionThroughput extends ApplicationInitializer {
+	
+	private static final int CONVERSIONS_PER_THREAD = 100000;
+	
+	private static long runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			Thread thread = new Thread(()->{
+				try {
+					start.await();
+					task.run();
+				} catch (InterruptedException e) {
+				}finally {
+					finished.countDown();
+				}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+		long t1 = System.nanoTime();
+		start.countDown();
+		finished.await();
+		return System.nanoTime()-t1;
+	}
+	
+	@Test
+    public void testConcurrentTypeRegistryLookup() throws InterruptedException {
+		QObject application = QCoreApplication.instance();
+		for(int threadCount : new int[] {1, 2, 4, 8, 16}) {
+			AtomicInteger failures = new AtomicInteger();
+			long elapsed = runConcurrently(threadCount, ()->{
+				for (int i = 0; i < CONVERSIONS_PER_THREAD; i++) {
+					// polymorphic QObject lookup and value type conversion
+					if(QCoreApplication.instance()!=application)
+						failures.incrementAndGet();
+					QVariant variant = QVariant.fromValue(new QPoint(i, i));
+					if(!(variant.value() instanceof QPoint))
+						failures.incrementAndGet();
+					variant.dispose();
+				}
+			});
+			assertEquals(0, failures.get());
+			java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, 
+					String.format("%1$d converting threads: %2$d ns per conversion", threadCount, elapsed/((long)threadCount * CONVERSIONS_PER_THREAD)));
+		}
+		assertTrue(application!=null);
+	}
+}
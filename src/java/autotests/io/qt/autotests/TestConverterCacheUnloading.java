@@ -0,0 +1,112 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+import io.qt.core.QVariant;
+
+/**
+ * Converts an instance of a class defined by a throwaway class loader
+ * and checks that the converter cache does not keep the class loader alive.
+ */
+public class TestConverterCacheUnloading extends ApplicationInitializer {
+	
+	public static class ConvertedValue{
+		@Override
+		public String toString() {
+			return "ConvertedValue";
+		}
+	}
+	
+	private static class ThrowawayClassLoader extends ClassLoader{
+		ThrowawayClassLoader() {
+			super(TestConverterCacheUnloading.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if(ConvertedValue.class.getName().equals(name)) {
+				synchronized (getClassLoadingLock(name)) {
+					Class<?> cls = findLoadedClass(name);
+					if(cls==null) {
+						try(InputStream stream = getParent().getResourceAsStream(name.replace('.', '/')+".class")){
+							ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+							byte[] buffer = new byte[1024];
+							int length;
+							while((length = stream.read(buffer))>0)
+								bytes.write(buffer, 0, length);
+							byte[] data = bytes.toByteArray();
+							cls = defineClass(name, data, 0, data.length);
+						}catch(IOException e) {
+							throw new ClassNotFoundException(name, e);
+						}
+					}
+					if(resolve)
+						resolveClass(cls);
+					return cls;
+				}
+			}
+			return super.loadClass(name, resolve);
+		}
+	}
+	
+	private static WeakReference<ClassLoader> convertInThrowawayClassLoader() throws Exception {
+		ClassLoader loader = new ThrowawayClassLoader();
+		Class<?> cls = loader.loadClass(ConvertedValue.class.getName());
+		assertTrue(cls!=ConvertedValue.class);
+		Object value = cls.getConstructor().newInstance();
+		QVariant variant = QVariant.fromValue(value);
+		Object result = variant.value();
+		assertNotNull(result);
+		assertEquals(cls, result.getClass());
+		variant.dispose();
+		return new WeakReference<>(loader);
+	}
+	
+	@Test
+	public void testConvertedClassIsUnloaded() throws Exception {
+		WeakReference<ClassLoader> loader = convertInThrowawayClassLoader();
+		for (int i = 0; i < 50 && loader.get()!=null; i++) {
+			runGC();
+			Thread.sleep(50);
+		}
+		assertEquals("class loader of converted class has not been collected", null, loader.get());
+	}
+}
@@ -0,0 +1,143 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import io.qt.core.QByteArray;
+import io.qt.core.QDataStream;
+import io.qt.core.QIODevice;
+import io.qt.core.QVariant;
+
+/**
+ * Round-trips large primitive arrays and serializable objects stored in QVariant through QDataStream
+ * and reports the achieved throughput.
+ */
+public class TestDataStreamBulkTransfer extends ApplicationInitializer {
+	
+	private static final int LENGTH = 1024 * 1024;
+	
+	static class SerializableValue implements Serializable{
+		private static final long serialVersionUID = 1L;
+		byte[] data;
+		String name;
+	}
+	
+	private static Object roundTrip(Object value, QDataStream.ByteOrder byteOrder, QDataStream.FloatingPointPrecision precision, long byteSize) {
+		QByteArray buffer = new QByteArray();
+		long t1 = System.nanoTime();
+		QDataStream stream = new QDataStream(buffer, QIODevice.OpenModeFlag.WriteOnly);
+		stream.setByteOrder(byteOrder);
+		stream.setFloatingPointPrecision(precision);
+		stream.writeObject(QVariant.fromValue(value));
+		stream.dispose();
+		long t2 = System.nanoTime();
+		stream = new QDataStream(buffer, QIODevice.OpenModeFlag.ReadOnly);
+		stream.setByteOrder(byteOrder);
+		stream.setFloatingPointPrecision(precision);
+		QVariant variant = stream.readObject(QVariant.class);
+		assertEquals(QDataStream.Status.Ok, stream.status());
+		assertTrue("stream not at end", stream.atEnd());
+		stream.dispose();
+		long t3 = System.nanoTime();
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("%1$s (%2$s, %3$s): write %4$.1f MB/s, read %5$.1f MB/s", 
+				value.getClass().getSimpleName(), byteOrder, precision, 
+				byteSize * 1000. / Math.max(1, t2 - t1), 
+				byteSize * 1000. / Math.max(1, t3 - t2)));
+		return variant.value();
+	}
+	
+	private static void testArrays(QDataStream.ByteOrder byteOrder, QDataStream.FloatingPointPrecision precision) {
+		Random random = new Random(LENGTH);
+		byte[] bytes = new byte[LENGTH];
+		random.nextBytes(bytes);
+		assertArrayEquals(bytes, (byte[])roundTrip(bytes, byteOrder, precision, LENGTH));
+		
+		short[] shorts = new short[LENGTH];
+		char[] chars = new char[LENGTH];
+		int[] ints = new int[LENGTH];
+		long[] longs = new long[LENGTH];
+		float[] floats = new float[LENGTH];
+		double[] doubles = new double[LENGTH];
+		boolean[] booleans = new boolean[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			shorts[i] = (short)random.nextInt();
+			chars[i] = (char)random.nextInt();
+			ints[i] = random.nextInt();
+			longs[i] = random.nextLong();
+			floats[i] = random.nextFloat();
+			doubles[i] = precision==QDataStream.FloatingPointPrecision.SinglePrecision ? random.nextFloat() : random.nextDouble();
+			booleans[i] = random.nextBoolean();
+		}
+		assertArrayEquals(shorts, (short[])roundTrip(shorts, byteOrder, precision, 2L * LENGTH));
+		assertArrayEquals(chars, (char[])roundTrip(chars, byteOrder, precision, 2L * LENGTH));
+		assertArrayEquals(ints, (int[])roundTrip(ints, byteOrder, precision, 4L * LENGTH));
+		assertArrayEquals(longs, (long[])roundTrip(longs, byteOrder, precision, 8L * LENGTH));
+		assertArrayEquals(floats, (float[])roundTrip(floats, byteOrder, precision, 4L * LENGTH), 0f);
+		assertArrayEquals(doubles, (double[])roundTrip(doubles, byteOrder, precision, 8L * LENGTH), 0.);
+		assertTrue(Arrays.equals(booleans, (boolean[])roundTrip(booleans, byteOrder, precision, LENGTH)));
+	}
+	
+	@Test
+	public void testBigEndianDoublePrecision() {
+		testArrays(QDataStream.ByteOrder.BigEndian, QDataStream.FloatingPointPrecision.DoublePrecision);
+	}
+	
+	@Test
+	public void testLittleEndianSinglePrecision() {
+		testArrays(QDataStream.ByteOrder.LittleEndian, QDataStream.FloatingPointPrecision.SinglePrecision);
+	}
+	
+	@Test
+	public void testSerializable() {
+		SerializableValue value = new SerializableValue();
+		value.data = new byte[LENGTH];
+		new Random(LENGTH).nextBytes(value.data);
+		value.name = "bulk";
+		SerializableValue restored = (SerializableValue)roundTrip(value, QDataStream.ByteOrder.BigEndian, QDataStream.FloatingPointPrecision.DoublePrecision, LENGTH);
+		assertEquals(value.name, restored.name);
+		assertArrayEquals(value.data, restored.data);
+	}
+	
+	@Test
+	public void testEmptyArrays() {
+		assertEquals(0, ((int[])roundTrip(new int[0], QDataStream.ByteOrder.BigEndian, QDataStream.FloatingPointPrecision.DoublePrecision, 0)).length);
+		assertEquals(0, ((byte[])roundTrip(new byte[0], QDataStream.ByteOrder.BigEndian, QDataStream.FloatingPointPrecision.DoublePrecision, 0)).length);
+	}
+}
@@ -0,0 +1,122 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import io.qt.core.QObject;
+
+/**
+ * Measures the startup time of processes using a persistent native deployment
+ * on first extraction (cold), on reuse (warm) and when launched concurrently on an empty cache (shared).
+ */
+public class TestDeploymentCache extends ApplicationInitializer {
+	
+	private static final int SHARED_PROCESSES = 4;
+	
+	public static class Launch{
+		public static void main(String[] args) {
+			new QObject().dispose();
+		}
+	}
+	
+	private static Process launch(File deploymentDir) throws IOException {
+		ProcessBuilder builder = new ProcessBuilder(Arrays.asList(
+				new File(new File(System.getProperty("java.home"), "bin"), "java").getAbsolutePath(),
+				"-cp", System.getProperty("java.class.path"),
+				"-Djava.library.path="+System.getProperty("java.library.path", ""),
+				"-Dio.qt.deploymentdir="+deploymentDir.getAbsolutePath(),
+				Launch.class.getName()));
+		builder.inheritIO();
+		return builder.start();
+	}
+	
+	private static long launchAll(File deploymentDir, int count) throws Exception {
+		long t1 = System.nanoTime();
+		List<Process> processes = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			processes.add(launch(deploymentDir));
+		}
+		for(Process process : processes) {
+			assertEquals("exit code", 0, process.waitFor());
+		}
+		return (System.nanoTime() - t1) / 1000000;
+	}
+	
+	private static boolean hasStamp(File directory) {
+		if(directory.isDirectory()) {
+			for(File file : directory.listFiles()) {
+				if(file.isDirectory() ? hasStamp(file) : file.getName().endsWith(".stamp"))
+					return true;
+			}
+		}
+		return false;
+	}
+	
+	@Test
+    public void testStartupTime() throws Exception {
+		Assume.assumeTrue("no native deployment", TestDeploymentCache.class.getClassLoader().getResource("qtjambi-deployment.xml")!=null);
+		File coldDir = Files.createTempDirectory("QtJambiColdDeployment").toFile();
+		File sharedDir = Files.createTempDirectory("QtJambiSharedDeployment").toFile();
+		try {
+			long cold = launchAll(coldDir, 1);
+			assertTrue("deployment stamp expected", hasStamp(coldDir));
+			long warm = launchAll(coldDir, 1);
+			long shared = launchAll(sharedDir, SHARED_PROCESSES);
+			assertTrue("deployment stamp expected", hasStamp(sharedDir));
+			Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("startup: cold %1$sms, warm %2$sms, %3$s processes on shared cache %4$sms", cold, warm, SHARED_PROCESSES, shared));
+		}finally {
+			deleteRecursively(coldDir);
+			deleteRecursively(sharedDir);
+		}
+	}
+	
+	private static void deleteRecursively(File file) {
+		if(file.isDirectory() && !Files.isSymbolicLink(file.toPath())) {
+			for(File child : file.listFiles()) {
+				deleteRecursively(child);
+			}
+		}
+		file.delete();
+	}
+}
@@ -34,12 +34,18 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import org.junit.Assume;
 import org.junit.BeforeClass;
@@ -512,6 +518,64 @@ public class TestFileEngine extends ApplicationInitializer {
 		}
 	}
 
+	@Test
+    public void testRandomAccessJarEntries() throws Exception {
+		byte[] content = new byte[256*1024];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)(i * 31 + (i >> 8));
+		}
+		File tmpFile = File.createTempFile("TestRandomAccess", ".jar");
+		try {
+			try(JarOutputStream stream = new JarOutputStream(new FileOutputStream(tmpFile))){
+				CRC32 crc = new CRC32();
+				crc.update(content);
+				JarEntry stored = new JarEntry("TestRandomAccess_stored.bin");
+				stored.setMethod(ZipEntry.STORED);
+				stored.setSize(content.length);
+				stored.setCompressedSize(content.length);
+				stored.setCrc(crc.getValue());
+				stream.putNextEntry(stored);
+				stream.write(content);
+				stream.closeEntry();
+				JarEntry deflated = new JarEntry("TestRandomAccess_deflated.bin");
+				deflated.setMethod(ZipEntry.DEFLATED);
+				stream.putNextEntry(deflated);
+				stream.write(content);
+				stream.closeEntry();
+			}
+			QResource.addClassPath(tmpFile.getAbsolutePath());
+			for(String name : new String[]{"classpath:TestRandomAccess_stored.bin", "classpath:TestRandomAccess_deflated.bin"}) {
+				QFile file = new QFile(name);
+				try {
+					assertTrue(name, file.open(QIODevice.OpenModeFlag.ReadOnly));
+					assertEquals(name, content.length, file.size());
+					byte[] buffer = new byte[16];
+					for(long offset : new long[]{content.length-16, 0, 100_000, 17, content.length-16}) {
+						assertTrue(name, file.seek(offset));
+						assertEquals(name, offset, file.pos());
+						assertEquals(name, 16, file.read(buffer));
+						assertEquals(name, 16, byteArrayCompare(buffer, 0, content, (int)offset, 16));
+					}
+					assertEquals(name, -1, file.read(buffer));
+					ByteBuffer mapped = file.map(1024, 4096);
+					assertTrue(name, mapped!=null);
+					assertEquals(name, 4096, mapped.remaining());
+					for (int i = 0; i < 4096; i++) {
+						assertEquals(name, content[1024+i], mapped.get(i));
+					}
+					file.close();
+					assertEquals(name, content[1024], mapped.get(0));
+					assertTrue(name, file.unmap(mapped));
+				}finally {
+					file.dispose();
+				}
+			}
+		}finally {
+			QResource.removeClassPath(tmpFile.getAbsolutePath());
+			tmpFile.delete();
+		}
+	}
+
     public static void main(String args[]) {
         org.junit.runner.JUnitCore.main(TestFileEngine.class.getName());
     }
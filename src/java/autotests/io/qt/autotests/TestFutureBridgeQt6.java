@@ -0,0 +1,236 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.qt.core.QFuture;
+import io.qt.core.QFutureInterface;
+import io.qt.core.QThread;
+import io.qt.core.QThreadPool;
+
+public class TestFutureBridgeQt6 extends ApplicationInitializer {
+	
+	private static <T> void reportLater(QFutureInterface<T> promise, List<T> results, Throwable exception) {
+		Thread thread = new Thread(()->{
+			try {
+				Thread.sleep(100);
+				for (T result : results) {
+					promise.reportResult(result);
+				}
+				if(exception!=null)
+					promise.reportException(exception);
+			} catch (InterruptedException e) {
+			} finally {
+				promise.reportFinished();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	private static final String EXECUTOR_THREAD = "TestFutureBridgeQt6-executor";
+	
+	private static ExecutorService newExecutor() {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, EXECUTOR_THREAD);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	@Test
+	public void testToCompletableFuture() throws Exception {
+		QFutureInterface<String> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		CompletableFuture<String> completable = promise.future().toCompletableFuture();
+		reportLater(promise, Collections.singletonList("testToCompletableFuture"), null);
+		assertEquals("testToCompletableFuture", completable.get(5, TimeUnit.SECONDS));
+	}
+	
+	@Test
+	public void testToCompletableFutureInThreadPool() throws Exception {
+		QFutureInterface<String> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		QThread[] thread = {null};
+		boolean[] isPoolThread = {false};
+		CompletableFuture<String> completable = promise.future().toCompletableFuture(QThreadPool.globalInstance());
+		CompletableFuture<String> dependent = completable.thenApply(s -> {
+			thread[0] = QThread.currentThread();
+			isPoolThread[0] = QThreadPool.globalInstance().contains(thread[0]);
+			return s;
+		});
+		reportLater(promise, Collections.singletonList("testToCompletableFutureInThreadPool"), null);
+		assertEquals("testToCompletableFutureInThreadPool", dependent.get(5, TimeUnit.SECONDS));
+		assertNotNull(thread[0]);
+		assertTrue("dependent did not run in a thread of the thread pool", isPoolThread[0]);
+		assertFalse("dependent ran in the bridge thread", "QFutureBridge".equals(thread[0].objectName()));
+	}
+	
+	@Test
+	public void testToCompletableFutureWithExecutor() throws Exception {
+		ExecutorService executor = newExecutor();
+		try {
+			QFutureInterface<String> promise = new QFutureInterface<>();
+			promise.reportStarted();
+			String[] threadName = {null};
+			CompletableFuture<String> completable = promise.future().toCompletableFuture(executor);
+			CompletableFuture<String> dependent = completable.thenApply(s -> {
+				threadName[0] = Thread.currentThread().getName();
+				return s;
+			});
+			reportLater(promise, Collections.singletonList("testToCompletableFutureWithExecutor"), null);
+			assertEquals("testToCompletableFutureWithExecutor", dependent.get(5, TimeUnit.SECONDS));
+			assertEquals(EXECUTOR_THREAD, threadName[0]);
+		}finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testToCompletableFutureException() throws Exception {
+		QFutureInterface<String> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		CompletableFuture<String> completable = promise.future().toCompletableFuture();
+		reportLater(promise, Collections.emptyList(), new IllegalStateException("testToCompletableFutureException"));
+		try {
+			completable.get(5, TimeUnit.SECONDS);
+			fail("ExecutionException expected");
+		}catch(ExecutionException e) {
+			assertTrue(e.getCause()!=null);
+		}
+	}
+	
+	@Test
+	public void testCancelCompletableFuture() {
+		QFutureInterface<String> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		QFuture<String> future = promise.future();
+		CompletableFuture<String> completable = future.toCompletableFuture();
+		completable.cancel(false);
+		assertTrue(future.isCanceled());
+		promise.reportFinished();
+	}
+	
+	@Test
+	public void testCancelQFuture() throws Exception {
+		QFutureInterface<String> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		QFuture<String> future = promise.future();
+		CompletableFuture<String> completable = future.toCompletableFuture();
+		future.cancel();
+		promise.reportFinished();
+		try {
+			completable.get(5, TimeUnit.SECONDS);
+			fail("CancellationException expected");
+		}catch(CancellationException e) {
+		}
+	}
+	
+	@Test
+	public void testForEachResult() throws Exception {
+		QFutureInterface<Integer> promise = new QFutureInterface<>();
+		promise.reportStarted();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add(i);
+		}
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<Void> completable = promise.future().forEachResult(received::add);
+		reportLater(promise, expected, null);
+		completable.get(5, TimeUnit.SECONDS);
+		assertEquals(expected, received);
+	}
+	
+	@Test
+	public void testForEachResultWithExecutor() throws Exception {
+		ExecutorService executor = newExecutor();
+		try {
+			QFutureInterface<Integer> promise = new QFutureInterface<>();
+			promise.reportStarted();
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				expected.add(i);
+			}
+			List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+			List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+			CompletableFuture<Void> completable = promise.future().forEachResult(executor, value -> {
+				threadNames.add(Thread.currentThread().getName());
+				received.add(value);
+			});
+			reportLater(promise, expected, null);
+			completable.get(5, TimeUnit.SECONDS);
+			assertEquals(expected, received);
+			assertEquals(Collections.nCopies(expected.size(), EXECUTOR_THREAD), threadNames);
+		}finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testFromCompletionStage() {
+		CompletableFuture<String> completable = new CompletableFuture<>();
+		QFuture<String> future = QFuture.fromCompletionStage(completable);
+		assertTrue(!future.isFinished());
+		completable.complete("testFromCompletionStage");
+		future.waitForFinished();
+		assertEquals("testFromCompletionStage", future.result());
+	}
+	
+	@Test
+	public void testFromCompletionStageCanceled() throws Exception {
+		CompletableFuture<String> completable = new CompletableFuture<>();
+		QFuture<String> future = QFuture.fromCompletionStage(completable);
+		future.cancel();
+		try {
+			completable.get(5, TimeUnit.SECONDS);
+			fail("CancellationException expected");
+		}catch(CancellationException e) {
+		}
+		future.waitForFinished();
+		assertTrue(future.isCanceled());
+	}
+}
@@ -0,0 +1,148 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.qt.QtUtilities;
+import io.qt.core.QByteArray;
+import io.qt.core.QEventLoop;
+import io.qt.core.QMetaObject;
+import io.qt.core.Qt;
+import io.qt.httpserver.QHttpServer;
+import io.qt.network.QHostAddress;
+
+public class TestHttpServerRoutes extends ApplicationInitializer {
+	
+	private static final int REQUESTS = 2000;
+	
+	@BeforeClass
+	public static void testInitialize() throws Exception {
+		Assume.assumeTrue("QtHttpServer not available", QtUtilities.initializePackage("io.qt.httpserver"));
+		ApplicationInitializer.testInitialize();
+	}
+	
+	private QHttpServer server;
+	private int port;
+	
+	@Before
+	public void setUp() {
+		server = new QHttpServer();
+		server.route("/sum/<arg>/<arg>", (QMetaObject.Method2<Integer,Integer,String>)(a, b) -> Integer.toString(a + b));
+		server.route("/twice/<arg>", (QMetaObject.Method1<Long,String>)value -> Long.toString(2 * value));
+		server.route("/echo/<arg>", (QMetaObject.Method1<String,QByteArray>)text -> new QByteArray(text));
+		port = server.listen(QHostAddress.SpecialAddress.LocalHost, 0);
+		Assume.assumeTrue("Unable to listen on loopback", port > 0);
+	}
+	
+	@After
+	public void tearDown() {
+		server.dispose();
+		server = null;
+	}
+	
+	private String get(String path) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection)new URL("http", "localhost", port, path).openConnection();
+		try(InputStream stream = connection.getInputStream()){
+			assertEquals(200, connection.getResponseCode());
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[256];
+			int length;
+			while((length = stream.read(buffer))>0) {
+				out.write(buffer, 0, length);
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+	
+	private <T> T requestAsync(java.util.concurrent.Callable<T> client) throws Throwable {
+		QEventLoop loop = new QEventLoop();
+		Object[] result = {null};
+		Throwable[] exception = {null};
+		Thread thread = new Thread(()->{
+			try {
+				result[0] = client.call();
+			} catch (Throwable e) {
+				exception[0] = e;
+			} finally {
+				QMetaObject.invokeMethod(loop::quit, Qt.ConnectionType.QueuedConnection);
+			}
+		});
+		thread.start();
+		loop.exec();
+		thread.join();
+		loop.dispose();
+		if(exception[0]!=null)
+			throw exception[0];
+		@SuppressWarnings("unchecked")
+		T r = (T)result[0];
+		return r;
+	}
+	
+	@Test
+	public void testTypedArguments() throws Throwable {
+		assertEquals("5", requestAsync(()->get("/sum/2/3")));
+		assertEquals("8589934592", requestAsync(()->get("/twice/4294967296")));
+		assertEquals("text", requestAsync(()->get("/echo/text")));
+	}
+	
+	@Test
+	public void benchmarkLoopback() throws Throwable {
+		long nanos = requestAsync(()->{
+			for (int i = 0; i < REQUESTS / 10; i++) {
+				get("/sum/"+i+"/1");
+			}
+			long t1 = System.nanoTime();
+			for (int i = 0; i < REQUESTS; i++) {
+				assertEquals(Integer.toString(i+1), get("/sum/"+i+"/1"));
+			}
+			return System.nanoTime() - t1;
+		});
+		assertTrue(nanos>0);
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QHttpServer loopback: %1$s requests in %2$sms, %3$s requests/s", 
+				REQUESTS, nanos / 1000000, REQUESTS * 1000000000L / nanos));
+	}
+}
@@ -0,0 +1,280 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import io.qt.core.QBuffer;
+import io.qt.core.QByteArray;
+import io.qt.core.QIODevice;
+import io.qt.core.QTextStream;
+import io.qt.core.QXmlStreamReader;
+
+/**
+ * Tests the NIO based QIODevice adapters and the stream and channel views of QIODevice.
+ */
+public class TestIODeviceAdapters extends ApplicationInitializer {
+	
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+	
+	@Test
+	public void testInputStreamReadLine() {
+		QIODevice device = QIODevice.fromInputStream(new ByteArrayInputStream("first\nsecond\n".getBytes(StandardCharsets.US_ASCII)));
+		assertEquals(new QByteArray("first\n"), device.readLine());
+		assertTrue(device.canReadLine());
+		assertEquals(new QByteArray("second\n"), device.readLine());
+		device.close();
+		device.dispose();
+	}
+	
+	@Test
+	public void testSeekableChannel() throws Exception {
+		File file = File.createTempFile("channel", ".bin");
+		file.deleteOnExit();
+		byte[] bytes = randomBytes(100000);
+		Files.write(file.toPath(), bytes);
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)){
+			QIODevice device = QIODevice.fromChannel(channel);
+			assertFalse(device.isSequential());
+			assertEquals(bytes.length, device.size());
+			byte[] data = new byte[100];
+			assertEquals(data.length, device.read(data));
+			assertTrue(device.seek(50000));
+			assertEquals(data.length, device.read(data));
+			for (int i = 0; i < data.length; i++) {
+				assertEquals(bytes[50000+i], data[i]);
+			}
+			assertTrue(device.seek(10));
+			assertEquals(4, device.write(new byte[]{1,2,3,4}));
+			assertEquals(14, device.pos());
+			assertTrue(device.seek(10));
+			assertEquals(data.length, device.read(data));
+			assertEquals(1, data[0]);
+			assertEquals(4, data[3]);
+			assertEquals(bytes[14], data[4]);
+			device.close();
+			assertFalse(channel.isOpen());
+			device.dispose();
+		}
+	}
+	
+	@Test
+	public void testSeekableChannelAtOffset() throws Exception {
+		File file = File.createTempFile("channel", ".bin");
+		file.deleteOnExit();
+		byte[] bytes = randomBytes(1000);
+		Files.write(file.toPath(), bytes);
+		try(SeekableByteChannel channel = Files.newByteChannel(file.toPath(), StandardOpenOption.READ)){
+			// the device covers the entire channel independent of the channel position
+			channel.position(500);
+			QIODevice device = QIODevice.fromChannel(channel);
+			assertEquals(0, device.pos());
+			byte[] data = new byte[10];
+			assertEquals(data.length, device.read(data));
+			for (int i = 0; i < data.length; i++) {
+				assertEquals(bytes[i], data[i]);
+			}
+			assertTrue(device.seek(600));
+			assertEquals(data.length, device.read(data));
+			for (int i = 0; i < data.length; i++) {
+				assertEquals(bytes[600+i], data[i]);
+			}
+			device.close();
+			device.dispose();
+		}
+	}
+	
+	@Test
+	public void testReadOnlyFileChannel() throws Exception {
+		File file = File.createTempFile("channel", ".bin");
+		file.deleteOnExit();
+		byte[] bytes = randomBytes(1000);
+		Files.write(file.toPath(), bytes);
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			QIODevice device = QIODevice.fromChannel(channel);
+			assertTrue(device.isReadable());
+			assertFalse(device.isWritable());
+			assertEquals(-1, device.write(new byte[]{1,2,3,4}));
+			byte[] data = new byte[100];
+			assertEquals(data.length, device.read(data));
+			assertEquals(bytes[0], data[0]);
+			device.close();
+			device.dispose();
+		}
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)){
+			QIODevice device = QIODevice.fromChannel(channel);
+			assertFalse(device.isReadable());
+			assertTrue(device.isWritable());
+			device.close();
+			device.dispose();
+		}
+	}
+	
+	@Test
+	public void testFileChannel() throws Exception {
+		File file = File.createTempFile("mapped", ".xml");
+		file.deleteOnExit();
+		StringBuilder xml = new StringBuilder("<root>");
+		for (int i = 0; i < 10000; i++) {
+			xml.append("<item id=\"").append(i).append("\"/>");
+		}
+		xml.append("</root>");
+		Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			// the device covers the entire file independent of the channel position
+			channel.position(100);
+			QIODevice device = QIODevice.fromFileChannel(channel);
+			assertTrue(device.isOpen());
+			QXmlStreamReader reader = new QXmlStreamReader(device);
+			int items = 0;
+			while(!reader.atEnd()) {
+				if(reader.readNext()==QXmlStreamReader.TokenType.StartElement && "item".equals(reader.name().toString()))
+					++items;
+			}
+			assertFalse(reader.hasError());
+			assertEquals(10000, items);
+			reader.dispose();
+			device.close();
+			device.dispose();
+		}
+	}
+	
+	@Test
+	public void testStreamViews() throws Exception {
+		byte[] bytes = randomBytes(1024 * 1024);
+		QBuffer buffer = new QBuffer();
+		buffer.open(QIODevice.OpenModeFlag.ReadWrite);
+		try(OutputStream out = buffer.toOutputStream()){
+			out.write(bytes, 1, bytes.length-1);
+			out.write(bytes[0]);
+		}
+		assertEquals(bytes.length, buffer.size());
+		buffer.open(QIODevice.OpenModeFlag.ReadOnly);
+		byte[] result = new byte[bytes.length];
+		try(InputStream in = buffer.toInputStream()){
+			int first = in.read();
+			assertEquals(bytes[1] & 0xff, first);
+			result[0] = (byte)first;
+			int offset = 1;
+			int read;
+			while((read = in.read(result, offset, result.length - offset))>0) {
+				offset += read;
+			}
+			assertEquals(bytes.length, offset);
+			assertEquals(-1, in.read());
+		}
+		assertEquals(bytes[0], result[bytes.length-1]);
+		for (int i = 1; i < bytes.length; i++) {
+			assertEquals(bytes[i], result[i-1]);
+		}
+		buffer.dispose();
+	}
+	
+	@Test
+	public void testChannelView() throws Exception {
+		byte[] bytes = randomBytes(64 * 1024 * 1024);
+		QBuffer buffer = new QBuffer(new QByteArray(bytes));
+		buffer.open(QIODevice.OpenModeFlag.ReadOnly);
+		ByteChannel channel = buffer.toChannel();
+		assertTrue(channel instanceof SeekableByteChannel);
+		assertEquals(bytes.length, ((SeekableByteChannel)channel).size());
+		ByteBuffer target = ByteBuffer.allocateDirect(bytes.length);
+		long t1 = System.nanoTime();
+		while(channel.read(target)>0) {
+		}
+		long t2 = System.nanoTime();
+		assertFalse(target.hasRemaining());
+		target.flip();
+		byte[] result = new byte[bytes.length];
+		target.get(result);
+		assertArrayEquals(bytes, result);
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QIODevice channel view: read %1$.1f MB/s", bytes.length * 1000. / Math.max(1, t2 - t1)));
+		((SeekableByteChannel)channel).position(10);
+		ByteBuffer small = ByteBuffer.allocate(4);
+		assertEquals(4, channel.read(small));
+		assertEquals(bytes[10], small.get(0));
+		channel.close();
+		assertFalse(buffer.isOpen());
+		buffer.dispose();
+	}
+	
+	@Test
+	public void testChannelDeviceTextStream() throws Exception {
+		File file = File.createTempFile("lines", ".txt");
+		file.deleteOnExit();
+		StringBuilder text = new StringBuilder();
+		final int lines = 100000;
+		for (int i = 0; i < lines; i++) {
+			text.append("line ").append(i).append('\n');
+		}
+		Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+		for (int run = 0; run < 2; run++) {
+			try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+				QIODevice device = run==0 ? QIODevice.fromChannel(channel) : QIODevice.fromInputStream(Files.newInputStream(file.toPath()));
+				long t1 = System.nanoTime();
+				QTextStream stream = new QTextStream(device);
+				for (int i = 0; i < lines; i++) {
+					assertEquals("line " + i, stream.readLine());
+				}
+				long t2 = System.nanoTime();
+				stream.dispose();
+				Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QTextStream on %1$s: read %2$.1f MB/s", 
+						run==0 ? "QIODevice.fromChannel" : "QIODevice.fromInputStream", 
+						text.length() * 1000. / Math.max(1, t2 - t1)));
+				device.close();
+				device.dispose();
+			}
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import io.qt.core.QDataStream;
+import io.qt.core.QIODevice;
+import io.qt.core.QTextStream;
+
+/**
+ * Compares Java QIODevice subclasses implementing the array based readData/writeData
+ * with subclasses additionally overriding the ByteBuffer based methods.
+ */
+public class TestIODeviceBufferData extends ApplicationInitializer {
+	
+	private static final int LENGTH = 16 * 1024 * 1024;
+	
+	static class ArrayDevice extends QIODevice {
+		byte[] store = new byte[1024];
+		int size;
+		int readPosition;
+		
+		ArrayDevice(){
+			open(OpenModeFlag.ReadWrite);
+		}
+		
+		void ensureCapacity(int length) {
+			if(size + length > store.length)
+				store = Arrays.copyOf(store, Math.max(store.length * 2, size + length));
+		}
+
+		@Override
+		public boolean isSequential() {
+			return true;
+		}
+
+		@Override
+		public long bytesAvailable() {
+			return size - readPosition + super.bytesAvailable();
+		}
+
+		@Override
+		protected int readData(byte[] data) {
+			int length = Math.min(data.length, size - readPosition);
+			System.arraycopy(store, readPosition, data, 0, length);
+			readPosition += length;
+			return length;
+		}
+
+		@Override
+		protected int writeData(byte[] data) {
+			ensureCapacity(data.length);
+			System.arraycopy(data, 0, store, size, data.length);
+			size += data.length;
+			return data.length;
+		}
+	}
+	
+	static class BufferDevice extends ArrayDevice {
+		int bufferReads;
+		int bufferWrites;
+		
+		@Override
+		protected int readData(ByteBuffer data) {
+			assertTrue(data.isDirect());
+			++bufferReads;
+			int length = Math.min(data.remaining(), size - readPosition);
+			data.put(store, readPosition, length);
+			readPosition += length;
+			return length;
+		}
+		
+		@Override
+		protected int writeData(ByteBuffer data) {
+			assertTrue(data.isDirect());
+			assertTrue(data.isReadOnly());
+			++bufferWrites;
+			int length = data.remaining();
+			ensureCapacity(length);
+			data.get(store, size, length);
+			size += length;
+			return length;
+		}
+	}
+	
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+	
+	@Test
+	public void testBufferDataIsUsed() {
+		BufferDevice device = new BufferDevice();
+		byte[] bytes = randomBytes(1024);
+		assertEquals(bytes.length, device.write(bytes));
+		assertEquals(1, device.bufferWrites);
+		byte[] result = new byte[bytes.length];
+		assertEquals(bytes.length, device.read(result));
+		assertTrue(device.bufferReads>0);
+		assertArrayEquals(bytes, result);
+		device.close();
+		device.dispose();
+	}
+	
+	@Test
+	public void testDataStream() {
+		for(ArrayDevice device : new ArrayDevice[]{new ArrayDevice(), new BufferDevice()}) {
+			byte[] bytes = randomBytes(LENGTH);
+			long t1 = System.nanoTime();
+			QDataStream stream = new QDataStream(device);
+			for (int i = 0; i < 1024; i++) {
+				stream.writeInt(i);
+			}
+			stream.writeBytes(bytes);
+			stream.dispose();
+			long t2 = System.nanoTime();
+			stream = new QDataStream(device);
+			for (int i = 0; i < 1024; i++) {
+				assertEquals(i, stream.readInt());
+			}
+			byte[] result = new byte[bytes.length];
+			assertEquals(bytes.length, stream.readBytes(result));
+			assertEquals(QDataStream.Status.Ok, stream.status());
+			stream.dispose();
+			long t3 = System.nanoTime();
+			assertArrayEquals(bytes, result);
+			Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QDataStream on %1$s: write %2$.1f MB/s, read %3$.1f MB/s", 
+					device.getClass().getSimpleName(), 
+					LENGTH * 1000. / Math.max(1, t2 - t1), 
+					LENGTH * 1000. / Math.max(1, t3 - t2)));
+			device.close();
+			device.dispose();
+		}
+	}
+	
+	@Test
+	public void testTextStream() {
+		for(ArrayDevice device : new ArrayDevice[]{new ArrayDevice(), new BufferDevice()}) {
+			final int lines = 100000;
+			long t1 = System.nanoTime();
+			QTextStream stream = new QTextStream(device);
+			for (int i = 0; i < lines; i++) {
+				stream.append("line ").append(i).append("\n");
+			}
+			stream.flush();
+			stream.dispose();
+			long t2 = System.nanoTime();
+			long size = device.size;
+			stream = new QTextStream(device);
+			for (int i = 0; i < lines; i++) {
+				assertEquals("line " + i, stream.readLine());
+			}
+			stream.dispose();
+			long t3 = System.nanoTime();
+			Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("QTextStream on %1$s: write %2$.1f MB/s, read %3$.1f MB/s", 
+					device.getClass().getSimpleName(), 
+					size * 1000. / Math.max(1, t2 - t1), 
+					size * 1000. / Math.max(1, t3 - t2)));
+			device.close();
+			device.dispose();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.qt.QtInvokable;
+import io.qt.core.QMetaMethod;
+import io.qt.core.QMetaObject;
+import io.qt.core.QObject;
+import io.qt.core.Qt;
+import io.qt.internal.ClassAnalyzerUtility;
+
+/**
+ * Resolves repeatedly created lambdas and method references of the same class
+ * and checks that their captured values are read for every instance.
+ */
+public class TestLambdaShapeCache extends ApplicationInitializer {
+	
+	private static final int ITERATIONS = 100000;
+	
+	private static boolean hasSerializableLambdas;
+	
+	@BeforeClass
+	public static void testInitialize() throws Exception {
+		ApplicationInitializer.testInitialize();
+		hasSerializableLambdas = ClassAnalyzerUtility.serializeLambdaExpression((QMetaObject.Slot0)ApplicationInitializer::testInitializeWithWidgets) != null;
+	}
+	
+	static class Invokable extends QObject{
+		int value;
+		
+		@QtInvokable
+		public int add(int a) {
+			value += a;
+			return value;
+		}
+		
+		@QtInvokable
+		public String concat(String a, String b) {
+			return objectName() + a + b;
+		}
+	}
+	
+	private static QMetaObject.Method1<Integer,Integer> add(Invokable object){
+		return object::add;
+	}
+	
+	private static ClassAnalyzerUtility.LambdaInfo capture(String a, String b){
+		QMetaObject.Method0<String> method = ()->a+b;
+		return ClassAnalyzerUtility.lambdaInfo(method);
+	}
+	
+	@Test
+	public void testMethodReferenceOwner() {
+		Assume.assumeTrue(hasSerializableLambdas);
+		Invokable first = new Invokable();
+		Invokable second = new Invokable();
+		ClassAnalyzerUtility.LambdaInfo info1 = ClassAnalyzerUtility.lambdaInfo(add(first));
+		ClassAnalyzerUtility.LambdaInfo info2 = ClassAnalyzerUtility.lambdaInfo(add(second));
+		assertNotNull(info1);
+		assertNotNull(info2);
+		assertSame(first, info1.owner);
+		assertSame(first, info1.qobject);
+		assertSame(second, info2.owner);
+		assertSame(second, info2.qobject);
+		assertSame(info1.reflectiveMethod, info2.reflectiveMethod);
+		QMetaMethod method = info2.metaMethod();
+		assertNotNull(method);
+		assertEquals("add", method.name().toString());
+		assertEquals(method, info1.metaMethod());
+		assertEquals(Integer.valueOf(3), QMetaObject.invokeMethod(add(first), Qt.ConnectionType.DirectConnection, 3));
+		assertEquals(Integer.valueOf(5), QMetaObject.invokeMethod(add(second), Qt.ConnectionType.DirectConnection, 5));
+		assertEquals(3, first.value);
+		assertEquals(5, second.value);
+	}
+	
+	@Test
+	public void testCapturedArguments() {
+		Assume.assumeTrue(hasSerializableLambdas);
+		for (int i = 0; i < 3; i++) {
+			ClassAnalyzerUtility.LambdaInfo info = capture("A"+i, "B"+i);
+			assertNotNull(info);
+			assertEquals(2, info.lambdaArgs.size());
+			assertEquals("A"+i, info.lambdaArgs.get(0));
+			assertEquals("B"+i, info.lambdaArgs.get(1));
+		}
+	}
+	
+	@Test
+	public void testResolutionCost() {
+		Assume.assumeTrue(hasSerializableLambdas);
+		Invokable object = new Invokable();
+		object.setObjectName("X");
+		String result = null;
+		long t1 = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			result = QMetaObject.invokeMethod(object::concat, Qt.ConnectionType.DirectConnection, "Y", "Z");
+		}
+		long t2 = System.nanoTime();
+		assertEquals("XYZ", result);
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("%1$d method reference invocations: %2$d ms", ITERATIONS, (t2-t1)/1000000));
+	}
+}
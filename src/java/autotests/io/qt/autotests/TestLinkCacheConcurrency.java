@@ -0,0 +1,95 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.qt.core.QObject;
+
+public class TestLinkCacheConcurrency extends ApplicationInitializer {
+	
+	private static final int THREADS = 16;
+	private static final int OBJECTS_PER_THREAD = 20000;
+	
+	private static class JavaObject extends QObject{
+		JavaObject(QObject parent) {
+			super(parent);
+		}
+	}
+	
+	@Test
+    public void testCreateDestroyRace() throws InterruptedException {
+		AtomicInteger failures = new AtomicInteger();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(THREADS);
+		for (int t = 0; t < THREADS; t++) {
+			Thread thread = new Thread(()->{
+				try {
+					start.await();
+					for (int i = 0; i < OBJECTS_PER_THREAD; i++) {
+						QObject parent = new JavaObject(null);
+						QObject child1 = new JavaObject(parent);
+						new QObject(parent);
+						List<QObject> children = parent.children();
+						if(children.size()!=2 || children.get(0)!=child1)
+							failures.incrementAndGet();
+						parent.dispose();
+						if(!child1.isDisposed())
+							failures.incrementAndGet();
+					}
+				} catch (Throwable e) {
+					if(!error.compareAndSet(null, e))
+						error.get().addSuppressed(e);
+				}finally {
+					finished.countDown();
+				}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+		long t1 = System.nanoTime();
+		start.countDown();
+		finished.await();
+		long elapsed = System.nanoTime()-t1;
+		if(error.get()!=null)
+			throw new AssertionError("Exception in worker thread", error.get());
+		assertEquals(0, failures.get());
+		java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, 
+				String.format("%1$d threads: %2$d objects wrapped per second", THREADS, 3L * THREADS * OBJECTS_PER_THREAD * 1000000000L / elapsed));
+	}
+}
@@ -0,0 +1,107 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.qt.core.QObject;
+import io.qt.core.QTimeLine;
+
+public class TestNativeSignalDispatch extends ApplicationInitializer {
+	
+	private static final int FRAMES = 100000;
+	
+	@Test
+    public void testPrimitiveArgument() {
+		QTimeLine timeLine = new QTimeLine(FRAMES);
+		timeLine.setFrameRange(0, FRAMES);
+		AtomicInteger lastFrame = new AtomicInteger(-1);
+		timeLine.frameChanged.connect(lastFrame::set);
+		timeLine.setCurrentTime(FRAMES/2);
+		assertEquals(FRAMES/2, lastFrame.get());
+		timeLine.dispose();
+	}
+	
+	@Test
+    public void testDoubleArgument() {
+		QTimeLine timeLine = new QTimeLine(FRAMES);
+		AtomicReference<Double> lastValue = new AtomicReference<>();
+		timeLine.valueChanged.connect(lastValue::set);
+		timeLine.setCurrentTime(FRAMES/2);
+		assertTrue(lastValue.get()!=null);
+		assertEquals(timeLine.currentValue(), lastValue.get(), 0.);
+		timeLine.dispose();
+	}
+	
+	@Test
+    public void testQObjectArgument() {
+		QObject object = new QObject();
+		AtomicReference<QObject> destroyed = new AtomicReference<>();
+		object.destroyed.connect(destroyed::set);
+		object.dispose();
+		assertTrue(destroyed.get()!=null);
+	}
+	
+	@Test
+    public void testAllocationRate() {
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if(!(threadBean instanceof com.sun.management.ThreadMXBean))
+			return;
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)threadBean;
+		QTimeLine timeLine = new QTimeLine(FRAMES);
+		timeLine.setFrameRange(0, FRAMES);
+		AtomicInteger calls = new AtomicInteger();
+		timeLine.frameChanged.connect(frame->calls.incrementAndGet());
+		// warm up
+		for (int i = 0; i < FRAMES/2; i++) {
+			timeLine.setCurrentTime(i);
+		}
+		calls.set(0);
+		long threadId = Thread.currentThread().getId();
+		long bytes = bean.getThreadAllocatedBytes(threadId);
+		long t1 = System.nanoTime();
+		for (int i = FRAMES/2; i < FRAMES; i++) {
+			timeLine.setCurrentTime(i);
+		}
+		long elapsed = System.nanoTime()-t1;
+		bytes = bean.getThreadAllocatedBytes(threadId) - bytes;
+		assertEquals(FRAMES/2, calls.get());
+		java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, 
+				String.format("native signal to Slot1: %1$d bytes allocated and %2$d ns per emission", bytes/calls.get(), elapsed/calls.get()));
+		timeLine.dispose();
+	}
+}
@@ -0,0 +1,196 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import io.qt.QtPropertyReader;
+import io.qt.QtPropertyWriter;
+import io.qt.core.QMetaMethod;
+import io.qt.core.QMetaObject;
+import io.qt.core.QMetaProperty;
+import io.qt.core.QObject;
+import io.qt.internal.DeployerUtility;
+
+public class TestPrecomputedMetaObject extends ApplicationInitializer {
+	
+	public static class PrecomputedObject extends QObject {
+		public enum Mode { First, Second }
+		
+		public final Signal1<String> textChanged = new Signal1<>();
+		public final Signal2<Integer,List<String>> valuesChanged = new Signal2<>();
+		private String text = "";
+		private Mode mode = Mode.First;
+		
+		@QtPropertyReader
+		public String text() {
+			return text;
+		}
+		
+		@QtPropertyWriter
+		public void setText(String text) {
+			this.text = text;
+			textChanged.emit(text);
+		}
+		
+		public Mode mode() {
+			return mode;
+		}
+		
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+		
+		public int compute(int a, int b) {
+			return a * b;
+		}
+		
+		public void collect(QObject object, List<String> values) {
+			valuesChanged.emit(values.size(), values);
+		}
+	}
+	
+	public static class AnalyzedObject extends QObject {
+		public enum Mode { First, Second }
+		
+		public final Signal1<String> textChanged = new Signal1<>();
+		public final Signal2<Integer,List<String>> valuesChanged = new Signal2<>();
+		private String text = "";
+		private Mode mode = Mode.First;
+		
+		@QtPropertyReader
+		public String text() {
+			return text;
+		}
+		
+		@QtPropertyWriter
+		public void setText(String text) {
+			this.text = text;
+			textChanged.emit(text);
+		}
+		
+		public Mode mode() {
+			return mode;
+		}
+		
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+		
+		public int compute(int a, int b) {
+			return a * b;
+		}
+		
+		public void collect(QObject object, List<String> values) {
+			valuesChanged.emit(values.size(), values);
+		}
+	}
+	
+	private static List<String> describe(QMetaObject metaObject, String className) {
+		List<String> result = new ArrayList<>();
+		for(QMetaMethod method : metaObject.methods()) {
+			result.add((method.methodType()+" "+method.typeName()+" "+method.methodSignature()).replace(className, "?"));
+		}
+		for(QMetaProperty property : metaObject.properties()) {
+			result.add(("property "+property.typeName()+" "+property.name()+" "+property.isWritable()+" "+property.hasNotifySignal()).replace(className, "?"));
+		}
+		return result;
+	}
+	
+	@Test
+	public void testPrecomputedMetaObject() throws Exception {
+		String resourcePath = DeployerUtility.metaObjectDataResourcePath(PrecomputedObject.class);
+		String className = PrecomputedObject.class.getName();
+		URL classFile = PrecomputedObject.class.getResource(className.substring(className.lastIndexOf('.')+1)+".class");
+		Assume.assumeTrue("class files are not located in file system", classFile!=null && "file".equals(classFile.getProtocol()));
+		File resourceFile = new File(new File(classFile.toURI()).getParentFile(), resourcePath.substring(resourcePath.lastIndexOf('/')+1));
+		List<LogRecord> records = new ArrayList<>();
+		Handler handler = new Handler() {
+			@Override
+			public void publish(LogRecord record) {
+				records.add(record);
+			}
+			@Override
+			public void flush() {}
+			@Override
+			public void close() {}
+		};
+		Logger logger = Logger.getLogger("io.qt.internal");
+		Level level = logger.getLevel();
+		try {
+			try(OutputStream stream = new FileOutputStream(resourceFile)){
+				assertTrue(DeployerUtility.writeMetaObjectData(PrecomputedObject.class, stream));
+			}
+			logger.setLevel(Level.FINE);
+			logger.addHandler(handler);
+			QMetaObject precomputed = QMetaObject.forType(PrecomputedObject.class);
+			logger.removeHandler(handler);
+			assertEquals("precomputed meta object data not used", Arrays.asList(), records);
+			QMetaObject analyzed = QMetaObject.forType(AnalyzedObject.class);
+			assertEquals(describe(analyzed, "AnalyzedObject"), describe(precomputed, "PrecomputedObject"));
+			
+			PrecomputedObject object = new PrecomputedObject();
+			List<Object> received = new ArrayList<>();
+			object.textChanged.connect(received::add);
+			object.valuesChanged.connect((size, values)->{
+				received.add(size);
+				received.addAll(values);
+			});
+			assertTrue(object.setProperty("text", "precomputed"));
+			assertEquals("precomputed", object.property("text"));
+			assertTrue(object.setProperty("mode", PrecomputedObject.Mode.Second));
+			assertEquals(PrecomputedObject.Mode.Second, object.property("mode"));
+			assertEquals(6, QMetaObject.invokeMethod(object, "compute", 2, 3));
+			QMetaObject.invokeMethod(object, "collect", object, Arrays.asList("a", "b"));
+			assertEquals(Arrays.asList("precomputed", 2, "a", "b"), received);
+			object.dispose();
+		}finally {
+			logger.removeHandler(handler);
+			logger.setLevel(level);
+			resourceFile.delete();
+		}
+	}
+}
@@ -31,8 +31,12 @@ package io.qt.autotests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,6 +50,7 @@ import io.qt.core.QCoreApplication;
 import io.qt.gui.QImage;
 import io.qt.gui.QImage.Format;
 import io.qt.gui.QImageReader;
+import io.qt.gui.QPainter;
 
 public class TestQImage extends ApplicationInitializer {
 	
@@ -175,4 +180,76 @@ public class TestQImage extends ApplicationInitializer {
 		assertEquals( 5, sample.pixel(0, 0));
 	}
 	
+	@org.junit.Test
+	public void testDirectBufferImage() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(16*8*4);
+		QImage image = new QImage(buffer, 16, 8, Format.Format_ARGB32_Premultiplied);
+		QPainter painter = new QPainter(image);
+		painter.fillRect(0, 0, 16, 8, new io.qt.gui.QColor(0x10, 0x20, 0x30));
+		painter.end();
+		IntBuffer pixels = buffer.order(ByteOrder.nativeOrder()).asIntBuffer();
+		assertEquals(0xff102030, pixels.get(0));
+		assertEquals(0xff102030, pixels.get(16*8-1));
+		image.dispose();
+	}
+	
+	@org.junit.Test
+	public void testBufferImageTooSmall() {
+		try {
+			new QImage(ByteBuffer.allocateDirect(16*8*4-1), 16, 8, Format.Format_ARGB32);
+			fail("IllegalArgumentException expected");
+		}catch(IllegalArgumentException e) {
+		}
+		try {
+			new QImage(ByteBuffer.allocateDirect(16*8*4), 16, 8, 32, Format.Format_ARGB32);
+			fail("IllegalArgumentException expected");
+		}catch(IllegalArgumentException e) {
+		}
+	}
+	
+	@org.junit.Test
+	public void testHeapIntBufferImageTooSmall() {
+		// a heap IntBuffer of 16*8/4 ints only holds a quarter of the required bytes
+		try {
+			new QImage(IntBuffer.allocate(16*8/4), 16, 8, Format.Format_ARGB32);
+			fail("IllegalArgumentException expected");
+		}catch(IllegalArgumentException e) {
+		}
+		try {
+			new QImage(IntBuffer.allocate(16*8-1), 16, 8, 16*4, Format.Format_ARGB32);
+			fail("IllegalArgumentException expected");
+		}catch(IllegalArgumentException e) {
+		}
+		QImage image = new QImage(IntBuffer.allocate(16*8), 16, 8, Format.Format_ARGB32);
+		assertEquals(16, image.width());
+		assertEquals(8, image.height());
+		image.dispose();
+	}
+	
+	@org.junit.Test
+	public void testPixelBuffers() {
+		QImage image = new QImage(5, 3, Format.Format_ARGB32);
+		image.fill(0xff00ff00);
+		image.setPixel(4, 2, 0xffff0000);
+		IntBuffer pixels = image.pixels();
+		assertTrue(pixels.isReadOnly());
+		assertEquals(image.pixel(0, 0), pixels.get(0));
+		assertEquals(image.pixel(4, 2), pixels.get(2*image.bytesPerLine()/4+4));
+		IntBuffer mutablePixels = image.mutablePixels();
+		mutablePixels.put(0, 0xff0000ff);
+		assertEquals(0xff0000ff, image.pixel(0, 0));
+		ByteBuffer line = image.scanLine(1);
+		assertEquals(image.bytesPerLine(), line.capacity());
+		try {
+			image.scanLine(3);
+			fail("IndexOutOfBoundsException expected");
+		}catch(IndexOutOfBoundsException e) {
+		}
+		try {
+			image.mutableScanLine(-1);
+			fail("IndexOutOfBoundsException expected");
+		}catch(IndexOutOfBoundsException e) {
+		}
+	}
+	
 }
@@ -291,6 +291,74 @@ public class TestQMessageHandler extends UnitTestInitializer {
         }
     }
 
+    @Test
+    public void testCategoryLevelCache() {
+    	QtMessageHandler handler = (messageType, context, message)->{
+    		lastMessage.put(messageType, message);
+    	};
+        try {
+        	qInstallMessageHandler(handler);
+        	QLoggingCategory category = new QLoggingCategory("qtjambi.levelcache");
+        	qCDebug(category, "debug %1$s", "sent");
+        	assertEquals("debug sent", lastMessage.get(QtMsgType.QtDebugMsg));
+        	lastMessage.clear();
+        	QLoggingCategory.setFilterRules("qtjambi.levelcache.debug=false");
+        	assertFalse(category.isDebugEnabled());
+        	qCDebug(category, "debug %1$s", "sent");
+        	qCDebug(category, ()->{
+        		fail("Supplier of disabled category called.");
+        		return "";
+        	});
+        	assertEquals(null, lastMessage.get(QtMsgType.QtDebugMsg));
+        	qCWarning(category, "warning %1$s", "sent");
+        	assertEquals("warning sent", lastMessage.get(QtMsgType.QtWarningMsg));
+        	category.setEnabled(QtMsgType.QtDebugMsg, true);
+        	qCDebug(category, ()->"debug sent");
+        	assertEquals("debug sent", lastMessage.get(QtMsgType.QtDebugMsg));
+        } finally {
+        	QLoggingCategory.setFilterRules("");
+        	qInstallMessageHandler(null);
+        	lastMessage.clear();
+        }
+    }
+    
+    @Test
+    public void benchmarkCategoryLogging() {
+    	int[] counter = {0};
+    	QtMessageHandler handler = (messageType, context, message)->{
+    		++counter[0];
+    	};
+        try {
+        	qInstallMessageHandler(handler);
+        	QLoggingCategory category = new QLoggingCategory("qtjambi.benchmark");
+        	QLoggingCategory.setFilterRules("qtjambi.benchmark.debug=false");
+        	long disabledFormat = measure(()->qCDebug(category, "value %1$s of %2$s", 5, 8.2));
+        	long disabledSupplier = measure(()->qCDebug(category, ()->"value"));
+        	assertEquals(0, counter[0]);
+        	QLoggingCategory.setFilterRules("");
+        	long enabledFormat = measure(()->qCDebug(category, "value %1$s of %2$s", 5, 8.2));
+        	long enabledSupplier = measure(()->qCDebug(category, ()->"value"));
+        	assertTrue(counter[0]>0);
+        	java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, String.format("qCDebug: disabled format %1$sns, disabled supplier %2$sns, enabled format %3$sns, enabled supplier %4$sns", 
+        			disabledFormat, disabledSupplier, enabledFormat, enabledSupplier));
+        } finally {
+        	QLoggingCategory.setFilterRules("");
+        	qInstallMessageHandler(null);
+        }
+    }
+    
+	private static long measure(Runnable runnable) {
+		final int iterations = 10000;
+		for (int i = 0; i < iterations / 10; i++) {
+			runnable.run();
+		}
+		long t1 = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			runnable.run();
+		}
+		return (System.nanoTime() - t1) / iterations;
+	}
+
     private Map<QtMsgType,String> lastMessage = new EnumMap<>(QtMsgType.class);
     private Map<QtMsgType,String> lastFile = new EnumMap<>(QtMsgType.class);
     private Map<QtMsgType,String> lastFunction = new EnumMap<>(QtMsgType.class);
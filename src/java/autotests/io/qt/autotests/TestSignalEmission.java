@@ -0,0 +1,126 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import io.qt.core.QObject;
+
+/**
+ * Emits Java-declared signals with primitive, QString and QObject parameters
+ * and reports the cost of an emission with and without connected receivers.
+ */
+public class TestSignalEmission extends ApplicationInitializer {
+	
+	private static final int ITERATIONS = 1000000;
+	
+	static class Sender extends QObject{
+		public final Signal0 signal0 = new Signal0();
+		public final Signal1<Integer> intSignal = new Signal1<>();
+		public final Signal2<Double, Boolean> primitiveSignal = new Signal2<>();
+		public final Signal2<String, QObject> objectSignal = new Signal2<>();
+	}
+	
+	static class Receiver extends QObject{
+		int intValue;
+		double doubleValue;
+		boolean booleanValue;
+		String stringValue;
+		QObject objectValue;
+		
+		void receiveInt(int value) {
+			intValue = value;
+		}
+		
+		void receivePrimitives(double d, boolean b) {
+			doubleValue = d;
+			booleanValue = b;
+		}
+		
+		void receiveObjects(String s, QObject o) {
+			stringValue = s;
+			objectValue = o;
+		}
+	}
+	
+	@Test
+	public void testBoundEmission() {
+		Sender sender = new Sender();
+		Receiver receiver = new Receiver();
+		sender.intSignal.connect(receiver::receiveInt);
+		sender.primitiveSignal.connect(receiver::receivePrimitives);
+		sender.objectSignal.connect(receiver::receiveObjects);
+		sender.intSignal.emit(42);
+		assertEquals(42, receiver.intValue);
+		sender.primitiveSignal.emit(2.5, true);
+		assertEquals(2.5, receiver.doubleValue, 0.);
+		assertEquals(true, receiver.booleanValue);
+		sender.objectSignal.emit("bound", receiver);
+		assertEquals("bound", receiver.stringValue);
+		assertSame(receiver, receiver.objectValue);
+		sender.objectSignal.emit("unbound", null);
+		assertEquals("unbound", receiver.stringValue);
+		assertEquals(null, receiver.objectValue);
+		sender.dispose();
+		receiver.dispose();
+	}
+	
+	@Test
+	public void benchmarkEmission() {
+		Sender sender = new Sender();
+		Receiver receiver = new Receiver();
+		long unconnected0 = measure(()->sender.signal0.emit());
+		long unconnected1 = measure(()->sender.intSignal.emit(1));
+		long reference = measure(()->sender.objectName());
+		sender.intSignal.connect(receiver::receiveInt);
+		long connected1 = measure(()->sender.intSignal.emit(1));
+		assertEquals(1, receiver.intValue);
+		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("emit: Signal0 %1$sns, Signal1<Integer> %2$sns, connected Signal1<Integer> %3$sns, plain native call %4$sns", 
+				unconnected0, unconnected1, connected1, reference));
+		sender.dispose();
+		receiver.dispose();
+	}
+	
+	private static long measure(Runnable runnable) {
+		for (int i = 0; i < ITERATIONS / 10; i++) {
+			runnable.run();
+		}
+		long t1 = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			runnable.run();
+		}
+		return (System.nanoTime() - t1) / ITERATIONS;
+	}
+}
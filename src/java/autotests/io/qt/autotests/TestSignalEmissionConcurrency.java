@@ -0,0 +1,113 @@
+/****************************************************************************
+**
+** Copyright (C) 1992-2009 Nokia. All rights reserved.
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.qt.core.QDeclarableSignals;
+import io.qt.core.QMetaObject;
+
+public class TestSignalEmissionConcurrency extends ApplicationInitializer {
+	
+	private static final int EMISSIONS_PER_THREAD = 200000;
+	
+	@Test
+    public void testConnectDuringEmission() {
+		QDeclarableSignals.Signal1<Integer> signal = new QDeclarableSignals.Signal1<>(Integer.class);
+		AtomicInteger lateCalls = new AtomicInteger();
+		AtomicInteger calls = new AtomicInteger();
+		signal.connect(i->{
+			calls.incrementAndGet();
+			signal.connect(j->lateCalls.incrementAndGet());
+		});
+		signal.emit(1);
+		assertEquals(1, calls.get());
+		assertEquals(0, lateCalls.get());
+		signal.emit(2);
+		assertEquals(2, calls.get());
+		assertEquals(1, lateCalls.get());
+	}
+	
+	@Test
+    public void testDisconnectDuringEmission() {
+		QDeclarableSignals.Signal1<Integer> signal = new QDeclarableSignals.Signal1<>(Integer.class);
+		AtomicInteger calls = new AtomicInteger();
+		QMetaObject.Connection[] second = {null};
+		signal.connect(i->{
+			signal.disconnect(second[0]);
+		});
+		second[0] = signal.connect(i->calls.incrementAndGet());
+		signal.emit(1);
+		assertEquals(0, calls.get());
+		assertFalse(second[0].isConnected());
+	}
+	
+	@Test
+    public void testContendedEmission() throws InterruptedException {
+		for(int threadCount : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+			QDeclarableSignals.Signal1<Integer> signal = new QDeclarableSignals.Signal1<>(Integer.class);
+			AtomicLong sum = new AtomicLong();
+			for (int i = 0; i < 4; i++) {
+				signal.connect(value->sum.addAndGet(value));
+			}
+			CountDownLatch start = new CountDownLatch(1);
+			CountDownLatch finished = new CountDownLatch(threadCount);
+			for (int t = 0; t < threadCount; t++) {
+				Thread thread = new Thread(()->{
+					try {
+						start.await();
+						for (int i = 0; i < EMISSIONS_PER_THREAD; i++) {
+							signal.emit(1);
+						}
+					} catch (InterruptedException e) {
+					}finally {
+						finished.countDown();
+					}
+				});
+				thread.setDaemon(true);
+				thread.start();
+			}
+			long t1 = System.nanoTime();
+			start.countDown();
+			finished.await();
+			long elapsed = System.nanoTime()-t1;
+			assertEquals(4L * threadCount * EMISSIONS_PER_THREAD, sum.get());
+			java.util.logging.Logger.getLogger("io.qt.autotests").log(java.util.logging.Level.INFO, 
+					String.format("%1$d emitting threads: %2$d ns per emission", threadCount, elapsed/((long)threadCount * EMISSIONS_PER_THREAD)));
+		}
+	}
+}
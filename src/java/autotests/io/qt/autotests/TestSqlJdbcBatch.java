@@ -0,0 +1,179 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.qt.core.QFileInfo;
+import io.qt.core.QOperatingSystemVersion;
+import io.qt.core.QStandardPaths;
+import io.qt.sql.QSqlDatabase;
+import io.qt.sql.QSqlDriver;
+import io.qt.sql.QSqlError;
+import io.qt.sql.QSqlQuery;
+
+/**
+ * Inserts rows into an embedded SQLite database through the QJDBC driver
+ * one by one and by batch execution and reports the throughput of both.
+ */
+public class TestSqlJdbcBatch extends ApplicationInitializer {
+	
+	private static final int ROWS = 20000;
+	
+	@Test
+    public void testExecBatch() {
+    	QFileInfo file = new QFileInfo(QStandardPaths.writableLocation(QStandardPaths.StandardLocation.TempLocation)+"/test-batch.sqlite");
+    	if(file.exists())
+    		new File(file.absoluteFilePath()).delete();
+    	QSqlDatabase db = QSqlDatabase.addDatabase("QJDBC", "jdbc-batch");
+    	try {
+	    	db.setDatabaseName("jdbc:sqlite:"+file.absoluteFilePath());
+	    	boolean isOpen = db.open();
+	    	QSqlError lastError = db.lastError();
+	    	Assert.assertTrue(lastError.driverText() + " " + lastError.databaseText(), isOpen);
+	    	try {
+	    		Assert.assertTrue(db.driver().hasFeature(QSqlDriver.DriverFeature.BatchOperations));
+	    		QSqlQuery query = new QSqlQuery(db);
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("CREATE TABLE singletest (id integer PRIMARY KEY, name text)"));
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("CREATE TABLE batchtest (id integer PRIMARY KEY, name text)"));
+	    		
+	    		long t1 = System.nanoTime();
+	    		Assert.assertTrue(db.transaction());
+	    		for (int i = 0; i < ROWS; i++) {
+	    			Assert.assertTrue(query.prepare("INSERT INTO singletest (id, name) VALUES (?, ?)"));
+	    			query.addBindValue(i);
+	    			query.addBindValue("row" + i);
+	    			Assert.assertTrue(query.lastError().toString(), query.exec());
+				}
+	    		Assert.assertTrue(db.commit());
+	    		long t2 = System.nanoTime();
+	    		
+	    		List<Object> ids = new ArrayList<>(ROWS);
+	    		List<Object> names = new ArrayList<>(ROWS);
+	    		for (int i = 0; i < ROWS; i++) {
+	    			ids.add(i);
+	    			names.add(i % 100 == 0 ? null : "row" + i);
+	    		}
+	    		Assert.assertTrue(db.transaction());
+	    		Assert.assertTrue(query.prepare("INSERT INTO batchtest (id, name) VALUES (?, ?)"));
+	    		query.addBindValue(ids);
+	    		query.addBindValue(names);
+	    		Assert.assertTrue(query.lastError().toString(), query.execBatch());
+	    		Assert.assertTrue(db.commit());
+	    		long t3 = System.nanoTime();
+	    		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("inserting %1$d rows: single %2$d ms, batch %3$d ms", ROWS, (t2-t1)/1000000, (t3-t2)/1000000));
+	    		
+	    		Assert.assertTrue(query.exec("SELECT COUNT(*), COUNT(name) FROM batchtest"));
+	    		Assert.assertTrue(query.next());
+	    		Assert.assertEquals(ROWS, ((Number)query.value(0)).intValue());
+	    		Assert.assertEquals(ROWS - ROWS/100, ((Number)query.value(1)).intValue());
+	    		Assert.assertTrue(query.exec("SELECT name FROM batchtest WHERE id = 4321"));
+	    		Assert.assertTrue(query.next());
+	    		Assert.assertEquals("row4321", query.value(0));
+	    		
+	    		Assert.assertTrue(query.prepare("INSERT INTO batchtest (id, name) VALUES (?, ?)"));
+	    		query.addBindValue(ids.subList(0, 2));
+	    		query.addBindValue(names.subList(0, 1));
+	    		Assert.assertFalse(query.execBatch());
+	    		query.dispose();
+	    	}finally {
+	    		db.close();
+	    	}
+    	}catch(UnsatisfiedLinkError e) {
+    		if(!QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android)) {
+    			throw e;
+    		}
+    	}finally {
+    		db.dispose();
+    		QSqlDatabase.removeDatabase("jdbc-batch");
+    		new File(file.absoluteFilePath()).delete();
+    	}
+    }
+	
+	@Test
+    public void testPreparedStatementReuse() {
+    	QFileInfo file = new QFileInfo(QStandardPaths.writableLocation(QStandardPaths.StandardLocation.TempLocation)+"/test-statement-cache.sqlite");
+    	if(file.exists())
+    		new File(file.absoluteFilePath()).delete();
+    	QSqlDatabase db = QSqlDatabase.addDatabase("QJDBC", "jdbc-statement-cache");
+    	try {
+	    	db.setDatabaseName("jdbc:sqlite:"+file.absoluteFilePath());
+	    	boolean isOpen = db.open();
+	    	QSqlError lastError = db.lastError();
+	    	Assert.assertTrue(lastError.driverText() + " " + lastError.databaseText(), isOpen);
+	    	try {
+	    		QSqlQuery query = new QSqlQuery(db);
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("CREATE TABLE cachetest (id integer PRIMARY KEY, name text)"));
+	    		query.dispose();
+	    		
+	    		String sql = "INSERT INTO cachetest (id, name) VALUES (?, ?)";
+	    		QSqlQuery first = new QSqlQuery(db);
+	    		Assert.assertTrue(first.lastError().toString(), first.prepare(sql));
+	    		first.addBindValue(1);
+	    		first.addBindValue("first");
+	    		Assert.assertTrue(first.lastError().toString(), first.exec());
+	    		Object statement = first.result().handle();
+	    		Assert.assertTrue(statement instanceof java.sql.PreparedStatement);
+	    		// deleting the query returns its statement to the connection's cache
+	    		first.dispose();
+	    		
+	    		QSqlQuery second = new QSqlQuery(db);
+	    		Assert.assertTrue(second.lastError().toString(), second.prepare(sql));
+	    		Assert.assertSame(statement, second.result().handle());
+	    		second.addBindValue(2);
+	    		second.addBindValue("second");
+	    		Assert.assertTrue(second.lastError().toString(), second.exec());
+	    		second.dispose();
+	    		
+	    		query = new QSqlQuery(db);
+	    		Assert.assertTrue(query.exec("SELECT COUNT(*) FROM cachetest"));
+	    		Assert.assertTrue(query.next());
+	    		Assert.assertEquals(2, ((Number)query.value(0)).intValue());
+	    		query.dispose();
+	    	}finally {
+	    		db.close();
+	    	}
+    	}catch(UnsatisfiedLinkError e) {
+    		if(!QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android)) {
+    			throw e;
+    		}
+    	}finally {
+    		db.dispose();
+    		QSqlDatabase.removeDatabase("jdbc-statement-cache");
+    		new File(file.absoluteFilePath()).delete();
+    	}
+    }
+}
@@ -0,0 +1,408 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.autotests;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.qt.core.QFileInfo;
+import io.qt.core.QOperatingSystemVersion;
+import io.qt.core.QStandardPaths;
+import io.qt.sql.QSqlDatabase;
+import io.qt.sql.QSqlError;
+import io.qt.sql.QSqlQuery;
+
+/**
+ * Reads a table of an embedded SQLite database through the QJDBC driver
+ * with row-wise conversion and with the batched conversion of forward-only queries
+ * and checks that both deliver the same values.
+ * SQLite's JDBC result sets are always forward-only. Scrollable cursors are tested
+ * by {@link ScrollableDriver} which hands out SQLite connections whose result sets
+ * are copied into memory and report {@link ResultSet#TYPE_SCROLL_INSENSITIVE}.
+ */
+public class TestSqlJdbcStreaming extends ApplicationInitializer {
+	
+	private static final int ROWS = 20000;
+	
+	@Test
+    public void testForwardOnlyQuery() {
+    	QFileInfo file = new QFileInfo(QStandardPaths.writableLocation(QStandardPaths.StandardLocation.TempLocation)+"/test-streaming.sqlite");
+    	if(file.exists())
+    		new File(file.absoluteFilePath()).delete();
+    	QSqlDatabase db = QSqlDatabase.addDatabase("QJDBC", "jdbc-streaming");
+    	try {
+	    	db.setDatabaseName("jdbc:sqlite:"+file.absoluteFilePath());
+	    	db.setConnectOptions("QJDBC_FETCH_SIZE=500");
+	    	boolean isOpen = db.open();
+	    	QSqlError lastError = db.lastError();
+	    	Assert.assertTrue(lastError.driverText() + " " + lastError.databaseText(), isOpen);
+	    	try {
+	    		QSqlQuery query = new QSqlQuery(db);
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("CREATE TABLE streamingtest (id integer PRIMARY KEY, value real, name text)"));
+	    		Assert.assertTrue(db.transaction());
+	    		Assert.assertTrue(query.prepare("INSERT INTO streamingtest (id, value, name) VALUES (?, ?, ?)"));
+	    		for (int i = 0; i < ROWS; i++) {
+	    			query.addBindValue(i);
+	    			query.addBindValue(i * 0.5);
+	    			query.addBindValue(i % 10 == 0 ? null : "row" + i);
+	    			Assert.assertTrue(query.lastError().toString(), query.exec());
+				}
+	    		Assert.assertTrue(db.commit());
+	    		
+	    		long t1 = System.nanoTime();
+	    		int defaultRows = readTable(db, false);
+	    		long t2 = System.nanoTime();
+	    		int forwardOnlyRows = readTable(db, true);
+	    		long t3 = System.nanoTime();
+	    		Assert.assertEquals(ROWS, defaultRows);
+	    		Assert.assertEquals(ROWS, forwardOnlyRows);
+	    		Logger.getLogger("io.qt.autotests").log(Level.INFO, String.format("reading %1$d rows: default %2$d ms, forward-only %3$d ms", ROWS, (t2-t1)/1000000, (t3-t2)/1000000));
+	    		
+	    		query = new QSqlQuery(db);
+	    		query.setForwardOnly(true);
+	    		Assert.assertTrue(query.exec("SELECT id FROM streamingtest ORDER BY id"));
+	    		Assert.assertTrue(query.seek(1234));
+	    		Assert.assertEquals(1234, ((Number)query.value(0)).intValue());
+	    		Assert.assertTrue(query.last());
+	    		Assert.assertEquals(ROWS-1, ((Number)query.value(0)).intValue());
+	    		Assert.assertFalse(query.next());
+	    	}finally {
+	    		db.close();
+	    	}
+    	}catch(UnsatisfiedLinkError e) {
+    		if(!QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android)) {
+    			throw e;
+    		}
+    	}finally {
+    		db.dispose();
+    		QSqlDatabase.removeDatabase("jdbc-streaming");
+    		new File(file.absoluteFilePath()).delete();
+    	}
+    }
+	
+	@Test
+    public void testScrollableQuery() throws SQLException {
+    	QFileInfo file = new QFileInfo(QStandardPaths.writableLocation(QStandardPaths.StandardLocation.TempLocation)+"/test-scrolling.sqlite");
+    	if(file.exists())
+    		new File(file.absoluteFilePath()).delete();
+    	ScrollableDriver driver = new ScrollableDriver();
+    	DriverManager.registerDriver(driver);
+    	QSqlDatabase db = QSqlDatabase.addDatabase("QJDBC", "jdbc-scrolling");
+    	try {
+	    	db.setDatabaseName(ScrollableDriver.PREFIX+file.absoluteFilePath());
+	    	boolean isOpen = db.open();
+	    	QSqlError lastError = db.lastError();
+	    	Assert.assertTrue(lastError.driverText() + " " + lastError.databaseText(), isOpen);
+	    	try {
+	    		QSqlQuery query = new QSqlQuery(db);
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("CREATE TABLE scrollingtest (id integer PRIMARY KEY, name text)"));
+	    		Assert.assertTrue(db.transaction());
+	    		Assert.assertTrue(query.prepare("INSERT INTO scrollingtest (id, name) VALUES (?, ?)"));
+	    		for (int i = 0; i < 2000; i++) {
+	    			query.addBindValue(i);
+	    			query.addBindValue(i % 10 == 0 ? null : "row" + i);
+	    			Assert.assertTrue(query.lastError().toString(), query.exec());
+				}
+	    		Assert.assertTrue(db.commit());
+	    		
+	    		query = new QSqlQuery(db);
+	    		query.setForwardOnly(false);
+	    		Assert.assertTrue(query.lastError().toString(), query.exec("SELECT id, name FROM scrollingtest ORDER BY id"));
+	    		Assert.assertFalse("query has been switched to forward-only", query.isForwardOnly());
+	    		Assert.assertTrue(query.seek(1234));
+	    		Assert.assertEquals(1234, ((Number)query.value(0)).intValue());
+	    		Assert.assertEquals("row1234", query.value(1));
+	    		Assert.assertTrue(query.previous());
+	    		Assert.assertEquals(1233, query.at());
+	    		Assert.assertEquals(1233, ((Number)query.value(0)).intValue());
+	    		Assert.assertTrue(query.seek(10));
+	    		Assert.assertEquals(10, ((Number)query.value(0)).intValue());
+	    		Assert.assertTrue(query.isNull(1));
+	    		Assert.assertTrue(query.seek(-5, true));
+	    		Assert.assertEquals(5, ((Number)query.value(0)).intValue());
+	    		Assert.assertTrue(query.last());
+	    		Assert.assertEquals(1999, query.at());
+	    		Assert.assertEquals(1999, ((Number)query.value(0)).intValue());
+	    		Assert.assertTrue(query.first());
+	    		Assert.assertEquals(0, ((Number)query.value(0)).intValue());
+	    		Assert.assertFalse(query.previous());
+	    		query.dispose();
+	    	}finally {
+	    		db.close();
+	    	}
+    	}catch(UnsatisfiedLinkError e) {
+    		if(!QOperatingSystemVersion.current().isAnyOfType(QOperatingSystemVersion.OSType.Android)) {
+    			throw e;
+    		}
+    	}finally {
+    		db.dispose();
+    		QSqlDatabase.removeDatabase("jdbc-scrolling");
+    		DriverManager.deregisterDriver(driver);
+    		new File(file.absoluteFilePath()).delete();
+    	}
+    }
+	
+	/**
+	 * Opens SQLite connections for URLs starting with {@link #PREFIX}.
+	 * Statements are created forward-only in SQLite and their result sets
+	 * are copied into scrollable in-memory result sets.
+	 */
+	public static class ScrollableDriver implements Driver {
+		static final String PREFIX = "jdbc:scrollable:";
+		
+		@Override
+		public Connection connect(String url, Properties info) throws SQLException {
+			if(!acceptsURL(url))
+				return null;
+			Connection connection = DriverManager.getConnection("jdbc:sqlite:"+url.substring(PREFIX.length()), info);
+			Connection[] proxy = {null};
+			proxy[0] = (Connection)Proxy.newProxyInstance(ScrollableDriver.class.getClassLoader(), new Class[]{Connection.class}, (Object p, Method method, Object[] args)->{
+				Object result;
+				Class<?>[] types = method.getParameterTypes();
+				if(method.getName().equals("createStatement")) {
+					result = connection.createStatement();
+				}else if(method.getName().equals("prepareStatement") && types.length>=3 && types[1]==int.class && types[2]==int.class) {
+					result = connection.prepareStatement((String)args[0]);
+				}else {
+					result = invoke(connection, method, args);
+				}
+				if(result instanceof Statement)
+					result = wrapStatement((Statement)result, proxy[0]);
+				return result;
+			});
+			return proxy[0];
+		}
+		
+		private static Statement wrapStatement(Statement statement, Connection connection) {
+			Class<?> type = statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+			Statement[] proxy = {null};
+			proxy[0] = (Statement)Proxy.newProxyInstance(ScrollableDriver.class.getClassLoader(), new Class[]{type}, (Object p, Method method, Object[] args)->{
+				switch(method.getName()) {
+				case "getConnection":
+					return connection;
+				case "getResultSet":
+				case "executeQuery":
+					ResultSet resultSet = (ResultSet)invoke(statement, method, args);
+					return resultSet==null ? null : scrollable(resultSet, proxy[0]);
+				default:
+					return invoke(statement, method, args);
+				}
+			});
+			return proxy[0];
+		}
+		
+		private static ResultSet scrollable(ResultSet resultSet, Statement statement) throws SQLException {
+			ResultSetMetaData meta = resultSet.getMetaData();
+			int columnCount = meta.getColumnCount();
+			// copy all column properties since the meta data of the SQLite result set becomes invalid when it is closed
+			Map<String,Object[]> columnProperties = new HashMap<>();
+			for(Method method : ResultSetMetaData.class.getMethods()) {
+				if(method.getParameterCount()==1 && method.getParameterTypes()[0]==int.class) {
+					Object[] values = new Object[columnCount];
+					for (int i = 0; i < columnCount; i++) {
+						try {
+							values[i] = method.invoke(meta, i+1);
+						} catch (ReflectiveOperationException e) {
+							values[i] = null;
+						}
+					}
+					columnProperties.put(method.getName(), values);
+				}
+			}
+			ResultSetMetaData metaCopy = (ResultSetMetaData)Proxy.newProxyInstance(ScrollableDriver.class.getClassLoader(), new Class[]{ResultSetMetaData.class}, (Object p, Method method, Object[] args)->{
+				if(method.getDeclaringClass()==Object.class)
+					return method.invoke(columnProperties, args);
+				if(method.getName().equals("getColumnCount"))
+					return columnCount;
+				Object[] values = columnProperties.get(method.getName());
+				if(values==null)
+					throw new SQLFeatureNotSupportedException(method.getName());
+				return values[(Integer)args[0]-1];
+			});
+			List<Object[]> rows = new ArrayList<>();
+			while(resultSet.next()) {
+				Object[] row = new Object[columnCount];
+				for (int i = 0; i < columnCount; i++) {
+					row[i] = resultSet.getObject(i+1);
+				}
+				rows.add(row);
+			}
+			resultSet.close();
+			InvocationHandler handler = new InvocationHandler() {
+				// 0 is before the first row, rows.size()+1 is after the last row
+				private int cursor;
+				private boolean wasNull;
+				private boolean closed;
+				
+				private boolean moveTo(int row) {
+					cursor = Math.max(0, Math.min(row, rows.size()+1));
+					return cursor>0 && cursor<=rows.size();
+				}
+				
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					if(method.getDeclaringClass()==Object.class)
+						return method.invoke(this, args);
+					switch(method.getName()) {
+					case "next": return moveTo(cursor+1);
+					case "previous": return moveTo(cursor-1);
+					case "first": return moveTo(1);
+					case "last": return moveTo(rows.size());
+					case "beforeFirst": moveTo(0); return null;
+					case "afterLast": moveTo(rows.size()+1); return null;
+					case "absolute":
+						int row = (Integer)args[0];
+						return moveTo(row>=0 ? row : rows.size()+1+row);
+					case "relative": return moveTo(cursor+(Integer)args[0]);
+					case "getRow": return cursor>0 && cursor<=rows.size() ? cursor : 0;
+					case "getType": return ResultSet.TYPE_SCROLL_INSENSITIVE;
+					case "getConcurrency": return ResultSet.CONCUR_READ_ONLY;
+					case "getMetaData": return metaCopy;
+					case "getStatement": return statement;
+					case "close": closed = true; return null;
+					case "isClosed": return closed;
+					case "wasNull": return wasNull;
+					case "getWarnings": return null;
+					case "clearWarnings":
+					case "setFetchSize":
+					case "setFetchDirection":
+						return null;
+					default:
+						break;
+					}
+					if(method.getName().startsWith("get") && args!=null && args.length==1 && args[0] instanceof Integer) {
+						if(cursor<1 || cursor>rows.size())
+							throw new SQLException("No current row");
+						Object value = rows.get(cursor-1)[(Integer)args[0]-1];
+						wasNull = value==null;
+						Class<?> type = method.getReturnType();
+						if(type==Object.class)
+							return value;
+						if(type==String.class)
+							return value==null ? null : value.toString();
+						if(type==boolean.class)
+							return value!=null && ((Number)value).intValue()!=0;
+						Number number = value==null ? 0 : (Number)value;
+						if(type==long.class)
+							return number.longValue();
+						if(type==int.class)
+							return number.intValue();
+						if(type==short.class)
+							return number.shortValue();
+						if(type==double.class)
+							return number.doubleValue();
+						if(type==float.class)
+							return number.floatValue();
+					}
+					throw new SQLFeatureNotSupportedException(method.getName());
+				}
+			};
+			return (ResultSet)Proxy.newProxyInstance(ScrollableDriver.class.getClassLoader(), new Class[]{ResultSet.class}, handler);
+		}
+		
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+		
+		@Override
+		public boolean acceptsURL(String url) {
+			return url!=null && url.startsWith(PREFIX);
+		}
+		
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+		
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+		
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+		
+		@Override
+		public boolean jdbcCompliant() {
+			return false;
+		}
+		
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+	
+	private static int readTable(QSqlDatabase db, boolean forwardOnly) {
+		QSqlQuery query = new QSqlQuery(db);
+		query.setForwardOnly(forwardOnly);
+		Assert.assertTrue(query.lastError().toString(), query.exec("SELECT id, value, name FROM streamingtest ORDER BY id"));
+		int rows = 0;
+		while(query.next()) {
+			Assert.assertEquals(rows, ((Number)query.value(0)).intValue());
+			Assert.assertEquals(rows * 0.5, ((Number)query.value(1)).doubleValue(), 0.0);
+			if(rows % 10 == 0)
+				Assert.assertTrue(query.isNull(2));
+			else
+				Assert.assertEquals("row" + rows, query.value(2));
+			++rows;
+		}
+		query.dispose();
+		return rows;
+	}
+}
@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -80,6 +81,10 @@ final class AppGenerator {
 	    QCommandLineOption applicationExeOption = new QCommandLineOption(QStringList.of("executable"), "Path to executable file.\nExamples:\n--executable=path"+File.separator+"QtJambiLauncher.exe\n--executable=macos"+File.pathSeparator+"path"+File.separator+"QtJambiLauncher.app", "file");
 	    QCommandLineOption applicationExeLocationOption = new QCommandLineOption(QStringList.of("executable-location"), "Directory containing QtJambiLauncher executable", "path");
 	    QCommandLineOption applicationJVMArgOption = new QCommandLineOption(QStringList.of("jvmarg"), "JVM argument", "arg");
+	    QCommandLineOption applicationCDSArchiveOption = new QCommandLineOption(QStringList.of("cds-archive"), "Dynamic CDS archive (relative to app binary) created by a training launch of the application", "file");
+	    QCommandLineOption applicationCDSTrainingArgOption = new QCommandLineOption(QStringList.of("cds-training-arg"), "Application argument for the CDS training launch", "arg");
+	    QCommandLineOption applicationCDSTrainingTimeoutOption = new QCommandLineOption(QStringList.of("cds-training-timeout"), "Seconds until the CDS training launch is terminated (default: 120)", "seconds");
+	    QCommandLineOption applicationCDSMeasureOption = new QCommandLineOption(QStringList.of("cds-measure"), "Measure cold start with and without CDS archive by the given number of launches", "count");
 	    parser.addOptions(Arrays.asList(
 	    		platformOption,
 	    		configurationOption,
@@ -96,6 +101,10 @@ final class AppGenerator {
 	    		applicationExeOption,
 	    		applicationExeLocationOption,
 	    		applicationJVMArgOption,
+	    		applicationCDSArchiveOption,
+	    		applicationCDSTrainingArgOption,
+	    		applicationCDSTrainingTimeoutOption,
+	    		applicationCDSMeasureOption,
 	    		
 	    		dirOption,
 	    		classPathOption
@@ -136,7 +145,7 @@ final class AppGenerator {
 		
 		Integer jniMinimumVersion = null;
 		if(parser.isSet(applicationJNIMinVersionOption))
-			jniMinimumVersion = Integer.parseInt(parser.value(applicationJNIMinVersionOption), 16);
+			jniMinimumVersion = intValue(parser, applicationJNIMinVersionOption, 16);
 		
 		List<String> classPaths = new ArrayList<>();
 		if(parser.isSet(classPathOption))
@@ -232,11 +241,23 @@ final class AppGenerator {
         
         int minimumJVMVersion = 11;
 		if(parser.isSet(applicationJVMMinVersionOption))
-			minimumJVMVersion = Integer.parseInt(parser.value(applicationJVMMinVersionOption));
+			minimumJVMVersion = intValue(parser, applicationJVMMinVersionOption, 10);
 		
 		List<String> arguments = new ArrayList<>(additionalArguments);
 		if(parser.isSet(applicationJVMArgOption))
 			arguments.addAll(parser.values(applicationJVMArgOption));
+		
+		String cdsArchive = null;
+		if(parser.isSet(applicationCDSArchiveOption))
+			cdsArchive = parser.value(applicationCDSArchiveOption);
+		
+		int cdsTrainingTimeout = 120;
+		if(parser.isSet(applicationCDSTrainingTimeoutOption))
+			cdsTrainingTimeout = intValue(parser, applicationCDSTrainingTimeoutOption, 10);
+		
+		int cdsMeasureCount = 0;
+		if(parser.isSet(applicationCDSMeasureOption))
+			cdsMeasureCount = intValue(parser, applicationCDSMeasureOption, 10);
 
 		if(appName==null || appName.isEmpty()) {
 			throw new Error("Missing application name. Please use --application=...");
@@ -319,10 +340,9 @@ final class AppGenerator {
 		if(jniMinimumVersion!=null) {
 			cborValue.setValue(Parameters.JNIMinimumVersion.value(), new QCborValue(jniMinimumVersion));
 		}
-		QByteArray cborData = cborValue.toCborValue().toCbor();
-		if(cborData.size()>16384) {
-			throw new Error("Launcher metadata exceeds maximum size of 16384 byte.");
-		}
+		List<String> cdsTrainingArguments = parser.isSet(applicationCDSTrainingArgOption) ? parser.values(applicationCDSTrainingArgOption) : new ArrayList<>();
+		// CDS archives are generated per launcher directory after the launchers have been written
+		Map<String,CDSArchiveGenerator> cdsGenerators = new LinkedHashMap<>();
 		System.gc();
 		final QByteArray QTJAMBI_LAUNCHER = new QByteArray("QTJAMBI_LAUNCHER!");
 		
@@ -330,6 +350,24 @@ final class AppGenerator {
 			String os = entry.getKey();
 			if(os!=null && (platform==null || platform.startsWith(os))) {
                 URL file = entry.getValue();
+                // the launcher resolves all paths against the directory of its executable
+                QDir programDir = os.equalsIgnoreCase("macos") || os.equalsIgnoreCase("osx") ? new QDir(dir.absoluteFilePath(appName + ".app/Contents/MacOS")) : dir;
+                QCborMap launcherParameters = cborValue;
+                if(cdsArchive!=null && !cdsArchive.isEmpty()) {
+                	CDSArchiveGenerator cdsGenerator = cdsGenerators.get(programDir.absolutePath());
+                	if(cdsGenerator==null) {
+                		cdsGenerator = new CDSArchiveGenerator(jvmPath, programDir, classPaths, modulePaths, libraryPaths, arguments, mainClass, cdsTrainingArguments);
+                		cdsGenerators.put(programDir.absolutePath(), cdsGenerator);
+                	}
+                	// the launcher ignores the archive if the training launch does not create it
+                	launcherParameters = cborValue.clone();
+                	launcherParameters.setValue(Parameters.CDSArchive.value(), new QCborValue(cdsArchive));
+                	launcherParameters.setValue(Parameters.CDSJavaVersion.value(), new QCborValue(cdsGenerator.javaRuntimeVersion()));
+                }
+                QByteArray cborData = launcherParameters.toCborValue().toCbor();
+                if(cborData.size()>16384) {
+                	throw new Error("Launcher metadata exceeds maximum size of 16384 byte.");
+                }
 				QFile newFile;
                 switch(os.toLowerCase()) {
 				case "linux":
@@ -535,5 +573,24 @@ final class AppGenerator {
 				}
 			}
 		}
+		for(CDSArchiveGenerator cdsGenerator : cdsGenerators.values()) {
+			if(cdsGenerator.generate(cdsArchive, cdsTrainingTimeout) && cdsMeasureCount>0)
+				cdsGenerator.measure(cdsArchive, cdsMeasureCount, cdsTrainingTimeout);
+		}
+	}
+	
+	/**
+	 * Parses the integer value of the given option.
+	 * Prints the usage and exits if the value is no valid number.
+	 */
+	private static int intValue(QCommandLineParser parser, QCommandLineOption option, int radix) {
+		String value = parser.value(option);
+		try {
+			return Integer.parseInt(value, radix);
+		}catch(NumberFormatException e) {
+			System.err.println("Invalid value for --"+option.names().get(0)+": "+value);
+			parser.showHelp(1);
+			return 0;
+		}
 	}
 }
@@ -0,0 +1,222 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.qtjambi.deployer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.qt.core.QDir;
+import io.qt.core.QFileInfo;
+import io.qt.core.QProcess;
+import io.qt.core.QStringList;
+
+/**
+ * Creates dynamic class data sharing (CDS) archives by training launches of an application
+ * and measures the cold start of the application with and without archive.
+ * All paths are resolved against the directory of the launcher executable, as QtJambiLauncher does.
+ */
+final class CDSArchiveGenerator {
+	
+	/**
+	 * System property set for training and measurement launches.
+	 * Applications may quit as soon as they are started up when it is set.
+	 */
+	static final String STARTUP_PROBE_PROPERTY = "io.qt.deployer.startup-probe";
+	
+	private final File javaExecutable;
+	private final String javaRuntimeVersion;
+	private final QDir programDir;
+	private final List<String> classPaths;
+	private final List<String> modulePaths;
+	private final List<String> libraryPaths;
+	private final List<String> jvmArguments;
+	private final String mainClass;
+	private final List<String> applicationArguments;
+	
+	CDSArchiveGenerator(String jvmPath, QDir programDir, List<String> classPaths, List<String> modulePaths, List<String> libraryPaths, List<String> jvmArguments, String mainClass, List<String> applicationArguments) {
+		File javaHome = findJavaHome(jvmPath, programDir);
+		this.javaExecutable = new File(new File(javaHome, "bin"), System.getProperty("os.name").toLowerCase().startsWith("windows") ? "java.exe" : "java");
+		this.javaRuntimeVersion = javaRuntimeVersion(javaHome);
+		this.programDir = programDir;
+		this.classPaths = classPaths;
+		this.modulePaths = modulePaths;
+		this.libraryPaths = libraryPaths;
+		this.jvmArguments = jvmArguments;
+		this.mainClass = mainClass;
+		this.applicationArguments = applicationArguments;
+	}
+	
+	/**
+	 * Version of the Java runtime the archive is created with.
+	 * The launcher only uses the archive with a runtime of the same version.
+	 */
+	String javaRuntimeVersion() {
+		return javaRuntimeVersion;
+	}
+	
+	/**
+	 * Launches the application with <code>-XX:ArchiveClassesAtExit</code>.
+	 * The launch is terminated when it does not exit within the given timeout.
+	 * @return true if the archive has been written
+	 */
+	boolean generate(String archive, int timeoutSeconds) {
+		if(!javaExecutable.isFile()) {
+			System.err.println("Unable to generate CDS archive: no java executable found at "+javaExecutable.getAbsolutePath());
+			return false;
+		}
+		File archiveFile = new File(programDir.absoluteFilePath(archive));
+		archiveFile.delete();
+		List<String> arguments = new ArrayList<>();
+		arguments.add("-XX:ArchiveClassesAtExit="+archiveFile.getAbsolutePath());
+		launch(arguments, timeoutSeconds);
+		if(!archiveFile.isFile()) {
+			System.err.println("Training launch did not create CDS archive "+archiveFile.getAbsolutePath());
+			return false;
+		}
+		System.out.println("CDS archive created: "+archiveFile.getAbsolutePath());
+		return true;
+	}
+	
+	/**
+	 * Launches the application repeatedly without and with the archive and prints the average start duration.
+	 */
+	void measure(String archive, int count, int timeoutSeconds) {
+		List<String> withArchive = new ArrayList<>();
+		withArchive.add("-Xshare:auto");
+		withArchive.add("-XX:SharedArchiveFile="+new File(programDir.absoluteFilePath(archive)).getAbsolutePath());
+		long total = 0, totalCDS = 0;
+		for (int i = 0; i < count; i++) {
+			long duration = launch(new ArrayList<>(), timeoutSeconds);
+			long durationCDS = launch(withArchive, timeoutSeconds);
+			if(duration<0 || durationCDS<0) {
+				System.err.println("Cold start measurement aborted: application did not exit within "+timeoutSeconds+" seconds.");
+				return;
+			}
+			total += duration;
+			totalCDS += durationCDS;
+		}
+		System.out.println(String.format("Cold start of %1$s (%2$d launches): %3$d ms without CDS archive, %4$d ms with CDS archive", mainClass, count, total/count/1000000, totalCDS/count/1000000));
+	}
+	
+	/**
+	 * @return the duration of the launch in nanoseconds or -1 if it has been terminated
+	 */
+	private long launch(List<String> additionalJvmArguments, int timeoutSeconds) {
+		String sep = File.pathSeparator;
+		QStringList arguments = new QStringList(additionalJvmArguments);
+		arguments.add("-D"+STARTUP_PROBE_PROPERTY+"=true");
+		if(!classPaths.isEmpty())
+			arguments.add("-Djava.class.path="+resolve(classPaths, sep));
+		if(!modulePaths.isEmpty()) {
+			arguments.add("--module-path="+resolve(modulePaths, sep));
+			if(jvmArguments.stream().noneMatch(a->a.startsWith("--add-modules=")))
+				arguments.add("--add-modules=ALL-MODULE-PATH,ALL-DEFAULT");
+		}
+		if(!libraryPaths.isEmpty())
+			arguments.add("-Djava.library.path="+resolve(libraryPaths, sep));
+		arguments.addAll(jvmArguments);
+		arguments.add(mainClass);
+		arguments.addAll(applicationArguments);
+		QProcess process = new QProcess();
+		process.setProcessChannelMode(QProcess.ProcessChannelMode.ForwardedChannels);
+		process.setWorkingDirectory(programDir.absolutePath());
+		long t1 = System.nanoTime();
+		process.start(javaExecutable.getAbsolutePath(), arguments);
+		try {
+			if(!process.waitForStarted())
+				return -1;
+			if(!process.waitForFinished(timeoutSeconds*1000)) {
+				// a terminated JVM still runs its exit hooks and writes the archive
+				process.terminate();
+				if(!process.waitForFinished(10000))
+					process.kill();
+				return -1;
+			}
+			return System.nanoTime() - t1;
+		}finally {
+			process.dispose();
+		}
+	}
+	
+	/**
+	 * Resolves the paths canonically like QtJambiLauncher does
+	 * because a CDS archive is only used with the class path it has been created with.
+	 */
+	private String resolve(List<String> paths, String sep) {
+		List<String> result = new ArrayList<>();
+		for(String p : paths) {
+			result.add(QDir.toNativeSeparators(new QFileInfo(programDir.filePath(p)).canonicalFilePath()));
+		}
+		return String.join(sep, result);
+	}
+	
+	private static File findJavaHome(String jvmPath, QDir programDir) {
+		if(jvmPath!=null && !jvmPath.isEmpty()) {
+			File path = new File(jvmPath);
+			if(!path.isAbsolute())
+				path = new File(programDir.absoluteFilePath(jvmPath));
+			// accept java home, bin directory or java executable
+			while(path!=null && !new File(path, "release").isFile()) {
+				path = path.getParentFile();
+			}
+			if(path!=null)
+				return path;
+		}
+		return new File(System.getProperty("java.home"));
+	}
+	
+	/**
+	 * Reads <code>JAVA_RUNTIME_VERSION</code> or <code>JAVA_VERSION</code> from the release file of the Java home.
+	 */
+	static String javaRuntimeVersion(File javaHome) {
+		String version = "";
+		try {
+			for(String line : Files.readAllLines(new File(javaHome, "release").toPath(), StandardCharsets.UTF_8)) {
+				if(line.startsWith("JAVA_RUNTIME_VERSION=")) {
+					return unquote(line.substring(21));
+				}else if(line.startsWith("JAVA_VERSION=")) {
+					version = unquote(line.substring(13));
+				}
+			}
+		} catch (IOException e) {
+		}
+		return version;
+	}
+	
+	private static String unquote(String value) {
+		value = value.trim();
+		if(value.length()>=2 && value.startsWith("\"") && value.endsWith("\""))
+			value = value.substring(1, value.length()-1);
+		return value;
+	}
+}
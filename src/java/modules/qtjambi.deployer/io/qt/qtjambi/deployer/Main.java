@@ -67,7 +67,9 @@ public class Main {
 	    ModulePath,
 	    LibraryPath,
 	    JVMArguments,
-	    JNIMinimumVersion
+	    JNIMinimumVersion,
+	    CDSArchive,
+	    CDSJavaVersion
 	};
 	
     @SuppressWarnings("unused")
@@ -148,8 +150,15 @@ public class Main {
 								args,
 								dirOption);
 						break;
+					case "metaobjects":
+					case "mo":
+						MetaObjectGenerator.generate(parser, 
+								args,
+								dirOption,
+								classPathOption);
+						break;
 						default: 
-							throw new Error("QtJambi Deployer, illegal argument: "+args[0]+", expected: one of plugin|qml|application|qtbundles|containeraccess");
+							throw new Error("QtJambi Deployer, illegal argument: "+args[0]+", expected: one of plugin|qml|application|qtbundles|containeraccess|metaobjects");
 					}
 				}
 			} catch (Error e) {
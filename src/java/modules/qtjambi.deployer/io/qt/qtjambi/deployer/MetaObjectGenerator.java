@@ -0,0 +1,160 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+package io.qt.qtjambi.deployer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import io.qt.QtAsGadget;
+import io.qt.core.QCommandLineOption;
+import io.qt.core.QCommandLineParser;
+import io.qt.core.QObject;
+import io.qt.core.QStringList;
+import io.qt.internal.DeployerUtility;
+
+/**
+ * Precomputes the meta objects of all Java-declared QObject subclasses and gadgets
+ * available in the given class path and writes them as class resources into the target directory.
+ * The target directory is supposed to be packaged along with the classes.
+ */
+final class MetaObjectGenerator {
+	static void generate(QCommandLineParser parser, String[] args, QCommandLineOption dirOption, QCommandLineOption classPathOption) throws InterruptedException, IOException {
+		QCommandLineOption classOption = new QCommandLineOption(QStringList.of("class"), "Class to analyze (default: all classes in class path)", "class");
+		QCommandLineOption qmlOption = new QCommandLineOption(QStringList.of("qml"), "Analyze classes as used in QML");
+		parser.addOptions(Arrays.asList(
+	    		dirOption,
+	    		classPathOption,
+	    		classOption,
+	    		qmlOption
+			));
+		if(args.length==1)
+			parser.showHelp();
+		parser.process(new QStringList(args));
+		QStringList unusedArguments = new QStringList(parser.positionalArguments());
+		if(unusedArguments.size()>1)
+			throw new Error("Meta object generation, illegal argument: "+unusedArguments.join(", "));
+		
+		if(!parser.isSet(classPathOption))
+			throw new Error("Missing class path. Please use --class-path=...");
+		if(!parser.isSet(dirOption))
+			throw new Error("Missing target directory. Please use --dir=...");
+		File dir = new File(parser.value(dirOption));
+		
+		List<File> classPaths = new ArrayList<>();
+		List<URL> urls = new ArrayList<>();
+		for(String path : parser.value(classPathOption).split(File.pathSeparator)) {
+			File file = new File(path);
+			if(file.exists()) {
+				classPaths.add(file);
+				urls.add(file.toURI().toURL());
+			}
+		}
+		
+		TreeSet<String> classNames = new TreeSet<>();
+		if(parser.isSet(classOption)) {
+			classNames.addAll(parser.values(classOption));
+		}else {
+			for(File classPath : classPaths) {
+				if(classPath.isDirectory()) {
+					Path root = classPath.toPath();
+					try(Stream<Path> stream = Files.walk(root)){
+						stream.filter(p->p.toString().endsWith(".class"))
+							  .map(p->root.relativize(p).toString())
+							  .forEach(p->classNames.add(toClassName(p)));
+					}
+				}else {
+					try(JarFile jarFile = new JarFile(classPath)){
+						Enumeration<JarEntry> entries = jarFile.entries();
+						while(entries.hasMoreElements()) {
+							JarEntry entry = entries.nextElement();
+							if(!entry.isDirectory() && entry.getName().endsWith(".class"))
+								classNames.add(toClassName(entry.getName()));
+						}
+					}
+				}
+			}
+			classNames.removeIf(name->name.endsWith("module-info") || name.endsWith("package-info") || name.startsWith("io.qt."));
+		}
+		
+		if(parser.isSet(qmlOption)) {
+			try {
+				Class.forName("io.qt.qml.QtQml");
+			} catch (ClassNotFoundException e) {
+				throw new Error("Unable to load QtQml", e);
+			}
+		}
+		
+		try(URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]), MetaObjectGenerator.class.getClassLoader())){
+			for(String className : classNames) {
+				Class<?> cls;
+				try {
+					cls = Class.forName(className, false, classLoader);
+				} catch (ClassNotFoundException | LinkageError e) {
+					Logger.getLogger("io.qt.deployer").log(Level.WARNING, "Unable to load class "+className, e);
+					continue;
+				}
+				if(cls.isInterface() || (!QObject.class.isAssignableFrom(cls) && !cls.isAnnotationPresent(QtAsGadget.class)))
+					continue;
+				File file = new File(dir, DeployerUtility.metaObjectDataResourcePath(cls).replace('/', File.separatorChar));
+				file.getParentFile().mkdirs();
+				boolean written = false;
+				try(OutputStream stream = new FileOutputStream(file)){
+					written = DeployerUtility.writeMetaObjectData(cls, stream);
+				} catch (RuntimeException | Error e) {
+					Logger.getLogger("io.qt.deployer").log(Level.WARNING, "Unable to analyze class "+className, e);
+				}
+				if(written) {
+					System.out.println("Meta object of "+className+" written to "+file.getAbsolutePath());
+				}else {
+					file.delete();
+				}
+			}
+		}
+	}
+	
+	private static String toClassName(String path) {
+		return path.substring(0, path.length()-6).replace('/', '.').replace('\\', '.');
+	}
+}
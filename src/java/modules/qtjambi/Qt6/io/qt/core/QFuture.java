@@ -450,6 +450,90 @@ public final class QFuture<T>
     @io.qt.QtUninvokable
     private native static <T> QFuture<T> onCanceledContext(long __this_nativeId, long contextId, java.lang.Object function);
     
+    /**
+     * <p>Returns a {@link java.util.concurrent.CompletableFuture} completing with the first result of this future.</p>
+     * <p>The completion is driven by a {@link QFutureWatcher} living in a shared bridge thread. No thread waits for this future.
+     * Dependent actions run in the bridge thread and must not block.</p>
+     * <p>Failures complete the returned future exceptionally. Canceling this future cancels the returned future and vice versa.</p>
+     * @return completable future
+     */
+    @io.qt.QtUninvokable
+    public java.util.concurrent.CompletableFuture<T> toCompletableFuture(){
+        return QFutureBridge.toCompletableFuture(this, null);
+    }
+    
+    /**
+     * <p>Returns a {@link java.util.concurrent.CompletableFuture} completing with the first result of this future.</p>
+     * <p>The returned future is completed by the given executor.</p>
+     * @see #toCompletableFuture()
+     * @param executor
+     * @return completable future
+     */
+    @io.qt.QtUninvokable
+    public java.util.concurrent.CompletableFuture<T> toCompletableFuture(java.util.concurrent.Executor executor){
+        return QFutureBridge.toCompletableFuture(this, java.util.Objects.requireNonNull(executor));
+    }
+    
+    /**
+     * <p>Returns a {@link java.util.concurrent.CompletableFuture} completing with the first result of this future.</p>
+     * <p>The returned future is completed in the given thread pool.</p>
+     * @see #toCompletableFuture()
+     * @param pool
+     * @return completable future
+     */
+    @io.qt.QtUninvokable
+    public java.util.concurrent.CompletableFuture<T> toCompletableFuture(QThreadPool pool){
+        java.util.Objects.requireNonNull(pool);
+        return QFutureBridge.toCompletableFuture(this, runnable -> pool.start(runnable));
+    }
+    
+    /**
+     * <p>Calls <code>action</code> for each result of this future in the order of their indexes as soon as they are reported.</p>
+     * <p>The returned {@link java.util.concurrent.CompletableFuture} completes after all results have been delivered.
+     * Exceptions of the action and failures of this future complete it exceptionally.
+     * Canceling the returned future cancels this future and stops the delivery.</p>
+     * <p>This can be used to publish the results, e.g. by a <code>java.util.concurrent.SubmissionPublisher</code>:</p>
+     * <pre>
+     * SubmissionPublisher&lt;T&gt; publisher = new SubmissionPublisher&lt;&gt;();
+     * future.forEachResult(publisher::submit).whenComplete((r, e) -&gt; {
+     *     if(e!=null)
+     *         publisher.closeExceptionally(e);
+     *     else
+     *         publisher.close();
+     * });
+     * </pre>
+     * @see #toCompletableFuture()
+     * @param action
+     * @return completable future
+     */
+    @io.qt.QtUninvokable
+    public java.util.concurrent.CompletableFuture<Void> forEachResult(java.util.function.Consumer<? super T> action){
+        return QFutureBridge.forEachResult(this, null, java.util.Objects.requireNonNull(action));
+    }
+    
+    /**
+     * <p>Calls <code>action</code> for each result of this future in the order of their indexes by the given executor.</p>
+     * @see #forEachResult(java.util.function.Consumer)
+     * @param executor
+     * @param action
+     * @return completable future
+     */
+    @io.qt.QtUninvokable
+    public java.util.concurrent.CompletableFuture<Void> forEachResult(java.util.concurrent.Executor executor, java.util.function.Consumer<? super T> action){
+        return QFutureBridge.forEachResult(this, java.util.Objects.requireNonNull(executor), java.util.Objects.requireNonNull(action));
+    }
+    
+    /**
+     * <p>Returns a future reporting the outcome of the given completion stage.</p>
+     * <p>Canceling the returned future cancels the completion stage if it supports {@link java.util.concurrent.CompletionStage#toCompletableFuture()}.</p>
+     * @param stage
+     * @return future
+     */
+    @io.qt.QtUninvokable
+    public static <T> QFuture<T> fromCompletionStage(java.util.concurrent.CompletionStage<T> stage){
+        return QFutureBridge.fromCompletionStage(java.util.Objects.requireNonNull(stage));
+    }
+    
     public <U> QFuture<U> unwrap(Class<U> flatType){
 		QFutureInterface<U> promise = new QFutureInterface<>(QFutureInterfaceBase.State.Pending);
 		this.then(nested->{
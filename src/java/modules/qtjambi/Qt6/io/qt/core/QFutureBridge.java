@@ -0,0 +1,196 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+
+package io.qt.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Connects {@link QFuture} with Java's {@link CompletableFuture}.
+ * All future watchers live in one shared thread running an event loop,
+ * so no thread is parked while waiting for a future.
+ */
+final class QFutureBridge {
+    private QFutureBridge() {throw new RuntimeException();}
+    
+    private static QThread thread;
+    
+    private static synchronized QThread thread() {
+        if(thread==null) {
+            thread = new QThread();
+            thread.setObjectName("QFutureBridge");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return thread;
+    }
+    
+    /**
+     * Creates a future watcher calling the given handlers in the bridge thread.
+     */
+    private static <T> void watch(QFuture<T> future, Runnable onResults, Runnable onCanceled, Runnable onFinished) {
+        QFutureWatcher<T> watcher = new QFutureWatcher<>();
+        if(onResults!=null)
+            watcher.resultsReadyAt.connect((begin, end) -> onResults.run());
+        if(onCanceled!=null)
+            watcher.canceled.connect(onCanceled::run);
+        watcher.finished.connect(() -> {
+            try {
+                onFinished.run();
+            }finally {
+                watcher.disposeLater();
+            }
+        });
+        watcher.setFuture(future);
+        watcher.moveToThread(thread());
+    }
+    
+    private static void execute(Executor executor, Runnable runnable) {
+        if(executor==null)
+            runnable.run();
+        else
+            executor.execute(runnable);
+    }
+    
+    private static Throwable unwrap(Throwable exception) {
+        if(exception instanceof CompletionException && exception.getCause()!=null)
+            return exception.getCause();
+        return exception;
+    }
+    
+    static <T> CompletableFuture<T> toCompletableFuture(QFuture<T> future, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.whenComplete((r, e) -> {
+            if(result.isCancelled())
+                future.cancel();
+        });
+        watch(future, null, null, () -> {
+            Runnable completion;
+            try {
+                future.waitForFinished();
+                if(future.isCanceled()) {
+                    completion = () -> result.cancel(false);
+                }else {
+                    T value = future.resultCount()>0 ? future.resultAt(0) : null;
+                    completion = () -> result.complete(value);
+                }
+            }catch(Throwable e) {
+                completion = () -> result.completeExceptionally(e);
+            }
+            execute(executor, completion);
+        });
+        return result;
+    }
+    
+    static <T> CompletableFuture<Void> forEachResult(QFuture<T> future, Executor executor, Consumer<? super T> action) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        result.whenComplete((r, e) -> {
+            if(e!=null)
+                future.cancel();
+        });
+        // both are only accessed in the bridge thread
+        int[] next = {0};
+        AtomicReference<CompletableFuture<Void>> tail = new AtomicReference<>(CompletableFuture.completedFuture(null));
+        Runnable deliver = () -> {
+            List<T> batch = new ArrayList<>();
+            try {
+                while(!result.isDone() && future.isResultReadyAt(next[0])) {
+                    batch.add(future.resultAt(next[0]++));
+                }
+            }catch(Throwable e) {
+                // the exception is reported when the future has finished
+            }
+            if(!batch.isEmpty()) {
+                Runnable delivery = () -> {
+                    for (T value : batch) {
+                        action.accept(value);
+                    }
+                };
+                tail.set(executor==null ? tail.get().thenRun(delivery) : tail.get().thenRunAsync(delivery, executor));
+            }
+        };
+        watch(future, deliver, null, () -> {
+            deliver.run();
+            Throwable failure = null;
+            try {
+                future.waitForFinished();
+            }catch(Throwable e) {
+                failure = e;
+            }
+            boolean canceled = future.isCanceled();
+            Throwable _failure = failure;
+            tail.get().whenComplete((r, e) -> {
+                if(e!=null)
+                    result.completeExceptionally(unwrap(e));
+                else if(_failure!=null)
+                    result.completeExceptionally(_failure);
+                else if(canceled)
+                    result.cancel(false);
+                else
+                    result.complete(null);
+            });
+        });
+        return result;
+    }
+    
+    static <T> QFuture<T> fromCompletionStage(CompletionStage<T> stage) {
+        QFutureInterface<T> promise = new QFutureInterface<>();
+        promise.reportStarted();
+        QFuture<T> future = promise.future();
+        CompletableFuture<T> completable;
+        try {
+            completable = stage.toCompletableFuture();
+        }catch(UnsupportedOperationException e) {
+            completable = null;
+        }
+        if(completable!=null) {
+            CompletableFuture<T> _completable = completable;
+            watch(future, null, () -> _completable.cancel(false), () -> {});
+        }
+        stage.whenComplete((r, e) -> {
+            e = unwrap(e);
+            if(e instanceof CancellationException)
+                promise.reportCanceled();
+            else if(e!=null)
+                promise.reportException(e);
+            else
+                promise.reportResult(r);
+            promise.reportFinished();
+        });
+        return future;
+    }
+}
@@ -144,6 +144,10 @@ class Utility extends io.qt.internal.NativeUtility{
 		io.qt.internal.NativeUtility.loadQtJambiLibrary(callerClass, library);
 	}
 	
+	protected static QtUtilities.CleanupStatistics cleanupStatistics() {
+		return io.qt.internal.NativeUtility.cleanupStatistics();
+	}
+	
 	protected static void loadJambiLibrary(Class<?> callerClass, String library) {
 		io.qt.internal.NativeUtility.loadJambiLibrary(callerClass, library);
 	}
@@ -310,6 +310,63 @@ public final class QtUtilities {
      */
     public static native boolean restoreUnixSignalHandlers();
     
+    /**
+     * Statistics of the {@code QtJambiCleanupThread} disposing the native resources of garbage collected Java objects.
+     * The cleanup thread cleans enqueued references in batches of at most {@code io.qt.cleanup-batch-size} references (default: 256)
+     * and frees the native resources of each batch by one native call.
+     * Objects owned by other threads are posted to their owner threads in bulk, one event per thread and batch,
+     * and destroyed there grouped by deleter.
+     * @see QtUtilities#cleanupStatistics()
+     */
+    public interface CleanupStatistics {
+    	/**
+    	 * @return total number of references taken from the reference queue by the cleanup thread
+    	 */
+    	long enqueuedReferences();
+    	/**
+    	 * @return total number of references processed by the cleanup thread
+    	 */
+    	long processedReferences();
+    	/**
+    	 * The number of enqueued references not processed yet,
+    	 * i.e. {@link #enqueuedReferences()} minus {@link #processedReferences()}.
+    	 * @return current cleanup backlog
+    	 */
+    	long queueLength();
+    	/**
+    	 * @return largest cleanup backlog observed
+    	 */
+    	long maxQueueLength();
+    	/**
+    	 * @return number of batches processed by the cleanup thread
+    	 */
+    	long batches();
+    	/**
+    	 * @return number of references processed in the last batch
+    	 */
+    	int lastBatchSize();
+    	/**
+    	 * @return size of the largest batch
+    	 */
+    	int maxBatchSize();
+    	/**
+    	 * @return cleanup latency of the last batch in nanoseconds
+    	 */
+    	long lastBatchNanos();
+    	/**
+    	 * @return maximum cleanup latency of a batch in nanoseconds
+    	 */
+    	long maxBatchNanos();
+    }
+    
+    /**
+     * Returns the statistics of the {@code QtJambiCleanupThread}.
+     * @return cleanup statistics
+     */
+    public static CleanupStatistics cleanupStatistics() {
+    	return Utility.cleanupStatistics();
+    }
+    
     /**
      * Return the version of QtJambi
      * @return qtjambi version
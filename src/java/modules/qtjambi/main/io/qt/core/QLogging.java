@@ -35,6 +35,7 @@ import java.util.EnumSet;
 import java.util.IllegalFormatException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -235,6 +236,24 @@ public final class QLogging {
     static void initialize() {
     }
     
+    private static final AtomicInteger categoryLevelsGeneration = new AtomicInteger();
+    
+    @QtUninvokable
+    static int categoryLevelsGeneration() {
+    	return categoryLevelsGeneration.get();
+    }
+    
+    /**
+     * Invalidates the level masks cached by all {@link QLoggingCategory} instances.
+     * It is called by {@link QLoggingCategory#setFilterRules(String)}, {@link QLoggingCategory#installFilter(QLoggingCategory.CategoryFilter)}
+     * and {@link QLoggingCategory#setEnabled(QtMsgType, boolean)}.
+     * Call it after changing filter rules from native code.
+     */
+    @QtUninvokable
+    public static void invalidateCategoryLevels() {
+    	categoryLevelsGeneration.incrementAndGet();
+    }
+    
     @QtUninvokable
     private static Supplier<String> format(String message, Object...args) {
     	return ()->{
@@ -396,7 +415,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCWarning(QLoggingCategory category, String message) {
-    	showCMessage(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtWarningMsg))
+    		showCMessage(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -408,7 +428,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCWarning(QLoggingCategory category, String message, Object...args) {
-    	showCMessageFromSupplier(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), format(message, args));
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtWarningMsg))
+    		showCMessageFromSupplier(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), format(message, args));
     }
     
     /**
@@ -419,7 +440,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCDebug(QLoggingCategory category, String message) {
-    	showCMessage(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtDebugMsg))
+    		showCMessage(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -431,7 +453,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCDebug(QLoggingCategory category, String message, Object...args) {
-    	showCMessageFromSupplier(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), format(message, args));
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtDebugMsg))
+    		showCMessageFromSupplier(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), format(message, args));
     }
     
     /**
@@ -442,7 +465,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCInfo(QLoggingCategory category, String message) {
-    	showCMessage(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtInfoMsg))
+    		showCMessage(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -454,7 +478,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCInfo(QLoggingCategory category, String message, Object...args) {
-    	showCMessageFromSupplier(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), format(message, args));
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtInfoMsg))
+    		showCMessageFromSupplier(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), format(message, args));
     }
     
     /**
@@ -465,7 +490,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCCritical(QLoggingCategory category, String message) {
-    	showCMessage(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtCriticalMsg))
+    		showCMessage(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -477,7 +503,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCCritical(QLoggingCategory category, String message, Object...args) {
-    	showCMessageFromSupplier(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), format(message, args));
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtCriticalMsg))
+    		showCMessageFromSupplier(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), format(message, args));
     }
     
     /**
@@ -539,7 +566,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCWarning(QLoggingCategory category, Supplier<String> message) {
-    	showCMessageFromSupplier(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtWarningMsg))
+    		showCMessageFromSupplier(QtMsgType.QtWarningMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -550,7 +578,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCDebug(QLoggingCategory category, Supplier<String> message) {
-    	showCMessageFromSupplier(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtDebugMsg))
+    		showCMessageFromSupplier(QtMsgType.QtDebugMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -561,7 +590,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCInfo(QLoggingCategory category, Supplier<String> message) {
-    	showCMessageFromSupplier(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtInfoMsg))
+    		showCMessageFromSupplier(QtMsgType.QtInfoMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -572,7 +602,8 @@ public final class QLogging {
      */
     @QtUninvokable
     public static void qCCritical(QLoggingCategory category, Supplier<String> message) {
-    	showCMessageFromSupplier(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(Objects.requireNonNull(category)), message);
+    	if(Objects.requireNonNull(category).isEnabledCached(QtMsgType.QtCriticalMsg))
+    		showCMessageFromSupplier(QtMsgType.QtCriticalMsg.value(), QtJambi_LibraryUtilities.internal.checkedNativeId(category), message);
     }
     
     /**
@@ -29,7 +29,6 @@
 ****************************************************************************/
 package io.qt.core;
 
-import static io.qt.core.QMetaMethod.fromReflectedMethod;
 import static io.qt.internal.MetaTypeUtility.internalNameOfArgumentType;
 import static io.qt.internal.MetaTypeUtility.internalTypeName;
 import static io.qt.internal.MetaTypeUtility.internalTypeNameOfClass;
@@ -926,7 +925,7 @@ public final class QMetaObject {
     public static <R> R invokeMethod(Method0<R> method, Qt.ConnectionType type) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type);
@@ -1041,7 +1040,7 @@ public final class QMetaObject {
     public static <A,R> R invokeMethod(Method1<A,R> method, Qt.ConnectionType type, A arg1) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+1) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1);
@@ -1162,7 +1161,7 @@ public final class QMetaObject {
     public static <A,B,R> R invokeMethod(Method2<A,B,R> method, Qt.ConnectionType type, A arg1, B arg2) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+2) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2);
@@ -1285,7 +1284,7 @@ public final class QMetaObject {
     public static <A,B,C,R> R invokeMethod(Method3<A,B,C,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+3) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3);
@@ -1413,7 +1412,7 @@ public final class QMetaObject {
     public static <A,B,C,D,R> R invokeMethod(Method4<A,B,C,D,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+4) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4);
@@ -1546,7 +1545,7 @@ public final class QMetaObject {
     public static <A,B,C,D,E,R> R invokeMethod(Method5<A,B,C,D,E,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4, E arg5) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+5) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5);
@@ -1687,7 +1686,7 @@ public final class QMetaObject {
     public static <A,B,C,D,E,F,R> R invokeMethod(Method6<A,B,C,D,E,F,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4, E arg5, F arg6) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+6) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6);
@@ -1830,7 +1829,7 @@ public final class QMetaObject {
     public static <A,B,C,D,E,F,G,R> R invokeMethod(Method7<A,B,C,D,E,F,G,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4, E arg5, F arg6, G arg7) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+7) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
@@ -1978,7 +1977,7 @@ public final class QMetaObject {
     public static <A,B,C,D,E,F,G,H,R> R invokeMethod(Method8<A,B,C,D,E,F,G,H,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4, E arg5, F arg6, G arg7, H arg8) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+8) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
@@ -2131,7 +2130,7 @@ public final class QMetaObject {
     public static <A,B,C,D,E,F,G,H,I,R> R invokeMethod(Method9<A,B,C,D,E,F,G,H,I,R> method, Qt.ConnectionType type, A arg1, B arg2, C arg3, D arg4, E arg5, F arg6, G arg7, H arg8, I arg9) throws QUnsuccessfulInvocationException, QNoSuchMethodException {
         ClassAnalyzerUtility.LambdaInfo info = ClassAnalyzerUtility.lambdaInfo(method);
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed() && info.reflectiveMethod!=null) {
-            QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+            QMetaMethod qmethod = info.metaMethod();
             if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+9) {
                 if(info.lambdaArgs.isEmpty()) {
                     return (R)qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
@@ -2244,7 +2243,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed()) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()) {
                     qmethod.invoke(info.qobject, type, info.lambdaArgs.toArray());
                     return;
@@ -2371,7 +2370,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed()) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+1) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1);
@@ -2509,7 +2508,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed()) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+2) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2);
@@ -2656,7 +2655,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+3) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3);
@@ -2802,7 +2801,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+4) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4);
@@ -2953,7 +2952,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+5) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5);
@@ -3108,7 +3107,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+6) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6);
@@ -3269,7 +3268,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+7) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
@@ -3435,7 +3434,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed()) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+8) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
@@ -3606,7 +3605,7 @@ public final class QMetaObject {
         QThread thread = null;
         if(info!=null && info.qobject!=null && !info.qobject.isDisposed()) {
             if(info.reflectiveMethod!=null) {
-                QMetaMethod qmethod = fromReflectedMethod(info.reflectiveMethod);
+                QMetaMethod qmethod = info.metaMethod();
                 if(qmethod!=null && qmethod.isValid() && qmethod.parameterTypes().size()==info.lambdaArgs.size()+9) {
                     if(info.lambdaArgs.isEmpty()) {
                         qmethod.invoke(info.qobject, type, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
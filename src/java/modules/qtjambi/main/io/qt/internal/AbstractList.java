@@ -30,10 +30,14 @@
 package io.qt.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import io.qt.QtUninvokable;
 
@@ -67,6 +71,172 @@ public abstract class AbstractList<E> extends AbstractSequentialContainer<E> imp
         return true;
     }
 
+    /**
+     * Appends all values to a list with element type <code>bool</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>bool</code>
+     */
+    @QtUninvokable
+    public final boolean addAll(boolean[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'Z');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with 8-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not an 8-bit integer
+     */
+    @QtUninvokable
+    public final boolean addAll(byte[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'B');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with 16-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 16-bit integer
+     */
+    @QtUninvokable
+    public final boolean addAll(short[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'S');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with element type <code>QChar</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>QChar</code>
+     */
+    @QtUninvokable
+    public final boolean addAll(char[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'C');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with 32-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 32-bit integer
+     */
+    @QtUninvokable
+    public final boolean addAll(int[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'I');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with 64-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 64-bit integer
+     */
+    @QtUninvokable
+    public final boolean addAll(long[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'J');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with element type <code>float</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>float</code>
+     */
+    @QtUninvokable
+    public final boolean addAll(float[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'F');
+    	return values.length>0;
+    }
+
+    /**
+     * Appends all values to a list with element type <code>double</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>double</code>
+     */
+    @QtUninvokable
+    public final boolean addAll(double[] values) {
+    	appendArray(NativeUtility.nativeId(this), values, 0, values.length, 'D');
+    	return values.length>0;
+    }
+
+    @Override
+    @QtUninvokable
+    public Object[] toArray() {
+    	int size = size();
+        return size==0 ? new Object[0] : elements(NativeUtility.nativeId(this), 0, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    @QtUninvokable
+    public <T> T[] toArray(T[] a) {
+    	Object[] elements = toArray();
+        if (a.length < elements.length)
+            a = (T[])Arrays.copyOf(a, elements.length, a.getClass());
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        return a;
+    }
+
+    /**
+     * Returns a spliterator fetching the list elements in batches of native calls.
+     */
+    @Override
+    @QtUninvokable
+    public Spliterator<E> spliterator() {
+    	return new BatchSpliterator(0, -1);
+    }
+    
+    private final class BatchSpliterator implements Spliterator<E>{
+    	private static final int BATCH_SIZE = 1024;
+    	private int index;
+    	private int fence;
+    	private Object[] batch;
+    	private int batchStart;
+    	
+		BatchSpliterator(int index, int fence) {
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		private int fence() {
+			if(fence<0)
+				fence = size();
+			return fence;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			if(index>=fence())
+				return false;
+			if(batch==null || index>=batchStart+batch.length) {
+				batchStart = index;
+				batch = elements(NativeUtility.nativeId(AbstractList.this), index, Math.min(BATCH_SIZE, fence-index));
+			}
+			action.accept((E)batch[index++ - batchStart]);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			while(tryAdvance(action)) {
+			}
+		}
+		
+		@Override
+		public Spliterator<E> trySplit() {
+			int lo = index, mid = (lo + fence()) >>> 1;
+			if(mid - lo < BATCH_SIZE)
+				return null;
+			index = mid;
+			batch = null;
+			return new BatchSpliterator(lo, mid);
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence() - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+    }
+
     @Override
     @QtUninvokable
     public final boolean addAll(int index, Collection<? extends E> c) {
@@ -30,6 +30,16 @@
 package io.qt.internal;
 
 import java.util.ArrayList;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -149,4 +159,199 @@ public abstract class AbstractSequentialContainer<E> extends QtObject implements
     protected java.util.Iterator<E> descendingIterator() {
         return constEnd().toJavaDescendingIterator(this::constBegin);
     }
+    
+    /**
+     * Returns the elements of a container with element type <code>bool</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>bool</code>
+     */
+    @QtUninvokable
+    public final boolean[] toBooleanArray() {
+    	boolean[] result = new boolean[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'Z');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with 8-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not an 8-bit integer
+     */
+    @QtUninvokable
+    public final byte[] toByteArray() {
+    	byte[] result = new byte[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'B');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with 16-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 16-bit integer
+     */
+    @QtUninvokable
+    public final short[] toShortArray() {
+    	short[] result = new short[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'S');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with element type <code>QChar</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>QChar</code>
+     */
+    @QtUninvokable
+    public final char[] toCharArray() {
+    	char[] result = new char[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'C');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with 32-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 32-bit integer
+     */
+    @QtUninvokable
+    public final int[] toIntArray() {
+    	int[] result = new int[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'I');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with 64-bit integer element type in one native call.
+     * @throws IllegalArgumentException if the element type is not a 64-bit integer
+     */
+    @QtUninvokable
+    public final long[] toLongArray() {
+    	long[] result = new long[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'J');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with element type <code>float</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>float</code>
+     */
+    @QtUninvokable
+    public final float[] toFloatArray() {
+    	float[] result = new float[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'F');
+    	return result;
+    }
+    
+    /**
+     * Returns the elements of a container with element type <code>double</code> in one native call.
+     * @throws IllegalArgumentException if the element type is not <code>double</code>
+     */
+    @QtUninvokable
+    public final double[] toDoubleArray() {
+    	double[] result = new double[size()];
+    	copyToArray(NativeUtility.nativeId(this), 0, result, 0, result.length, 'D');
+    	return result;
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not an 8-bit integer
+     */
+    @QtUninvokable
+    public final void copyTo(ByteBuffer buffer) {
+    	if(!copyToBuffer(buffer, ByteOrder.nativeOrder(), 'B'))
+    		buffer.put(toByteArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not a 16-bit integer
+     */
+    @QtUninvokable
+    public final void copyTo(ShortBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'S'))
+    		buffer.put(toShortArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not <code>QChar</code>
+     */
+    @QtUninvokable
+    public final void copyTo(CharBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'C'))
+    		buffer.put(toCharArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not a 32-bit integer
+     */
+    @QtUninvokable
+    public final void copyTo(IntBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'I'))
+    		buffer.put(toIntArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not a 64-bit integer
+     */
+    @QtUninvokable
+    public final void copyTo(LongBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'J'))
+    		buffer.put(toLongArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not <code>float</code>
+     */
+    @QtUninvokable
+    public final void copyTo(FloatBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'F'))
+    		buffer.put(toFloatArray());
+    }
+    
+    /**
+     * Copies all elements into the given buffer starting at its current position.
+     * @throws BufferOverflowException if the buffer has not enough space remaining
+     * @throws IllegalArgumentException if the element type is not <code>double</code>
+     */
+    @QtUninvokable
+    public final void copyTo(DoubleBuffer buffer) {
+    	if(!copyToBuffer(buffer, buffer.order(), 'D'))
+    		buffer.put(toDoubleArray());
+    }
+    
+    /**
+     * Copies the elements into writable direct buffers of native byte order and into writable array-backed buffers.
+     * Returns false for all other buffers.
+     */
+    private boolean copyToBuffer(Buffer buffer, ByteOrder order, char kind) {
+    	int length = size();
+    	int position = buffer.position();
+    	if(buffer.remaining()<length)
+    		throw new BufferOverflowException();
+    	if(buffer.isDirect()) {
+    		if(order!=ByteOrder.nativeOrder() || buffer.isReadOnly())
+    			return false;
+    		copyToBuffer(NativeUtility.nativeId(this), 0, buffer, position, length, kind);
+    	}else if(buffer.hasArray()) {
+    		copyToArray(NativeUtility.nativeId(this), 0, buffer.array(), buffer.arrayOffset() + position, length, kind);
+    	}else {
+    		return false;
+    	}
+    	buffer.position(position + length);
+    	return true;
+    }
+    
+    static native int copyToArray(long nativeId, int from, Object array, int offset, int length, char kind);
+    
+    private static native int copyToBuffer(long nativeId, int from, Buffer buffer, int position, int length, char kind);
+    
+    static native void appendArray(long nativeId, Object array, int offset, int length, char kind);
+    
+    static native Object[] elements(long nativeId, int from, int length);
 }
@@ -33,10 +33,12 @@ import java.io.Serializable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandleInfo;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -49,9 +51,12 @@ import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import io.qt.NativeAccess;
@@ -63,6 +68,7 @@ import io.qt.QtObject;
 import io.qt.QtObjectInterface;
 import io.qt.QtSignalEmitterInterface;
 import io.qt.QtUtilities;
+import io.qt.core.QMetaMethod;
 import io.qt.core.QMetaObject;
 import io.qt.core.QMetaType;
 import io.qt.core.QObject;
@@ -558,6 +564,11 @@ public abstract class ClassAnalyzerUtility {
 	public static final class LambdaInfo {
 		public LambdaInfo(Class<?> ownerClass, Object owner, QObject qobject, boolean isStatic,
 				MethodHandle methodHandle, Method reflectiveMethod, Constructor<?> reflectiveConstructor, List<Object> lambdaArgs) {
+			this(ownerClass, owner, qobject, isStatic, methodHandle, reflectiveMethod, reflectiveConstructor, lambdaArgs, null);
+		}
+		
+		private LambdaInfo(Class<?> ownerClass, Object owner, QObject qobject, boolean isStatic,
+				MethodHandle methodHandle, Method reflectiveMethod, Constructor<?> reflectiveConstructor, List<Object> lambdaArgs, LambdaShape shape) {
 			super();
 			this.ownerClass = ownerClass;
 			this.owner = owner;
@@ -567,6 +578,7 @@ public abstract class ClassAnalyzerUtility {
 			this.reflectiveMethod = reflectiveMethod;
 			this.reflectiveConstructor = reflectiveConstructor;
 			this.lambdaArgs = lambdaArgs;
+			this.shape = shape;
 		}
 
 		public final Class<?> ownerClass;
@@ -577,67 +589,227 @@ public abstract class ClassAnalyzerUtility {
 		public final Method reflectiveMethod;
 		public final Constructor<?> reflectiveConstructor;
 		public final List<Object> lambdaArgs;
+		private final LambdaShape shape;
+		
+		/**
+		 * Returns the meta method of the reflective method, resolved once per lambda class.
+		 */
+		public QMetaMethod metaMethod() {
+			if(reflectiveMethod==null)
+				return null;
+			if(shape==null)
+				return QMetaMethod.fromReflectedMethod(reflectiveMethod);
+			if(!shape.metaMethodResolved) {
+				shape.metaMethod = QMetaMethod.fromReflectedMethod(reflectiveMethod);
+				shape.metaMethodResolved = true;
+			}
+			return shape.metaMethod;
+		}
 	}
+	
+	/**
+	 * Shape of a lambda class: implementation method and accessors to the captured values.
+	 * It is resolved by serializing the first lambda instance of a class.
+	 */
+	private static final class LambdaShape {
+		static final LambdaShape NONE = new LambdaShape(null, false, null, null, null, null);
+		
+		LambdaShape(Class<?> ownerClass, boolean isStatic, MethodHandle methodHandle, Method reflectiveMethod,
+				Constructor<?> reflectiveConstructor, MethodHandle[] capturedArgs) {
+			this.ownerClass = ownerClass;
+			this.isStatic = isStatic;
+			this.methodHandle = methodHandle;
+			this.reflectiveMethod = reflectiveMethod;
+			this.reflectiveConstructor = reflectiveConstructor;
+			this.capturedArgs = capturedArgs;
+		}
+		
+		final Class<?> ownerClass;
+		final boolean isStatic;
+		final MethodHandle methodHandle;
+		final Method reflectiveMethod;
+		final Constructor<?> reflectiveConstructor;
+		final MethodHandle[] capturedArgs;
+		volatile QMetaMethod metaMethod;
+		volatile boolean metaMethodResolved;
+		
+		Object capturedArg(Object lambda, int i) {
+			try {
+				return capturedArgs[i].invokeExact(lambda);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+		
+		LambdaInfo lambdaInfo(Object lambda) {
+			Object owner = null;
+			QObject qobject = null;
+			List<Object> lambdaArgsList = Collections.emptyList();
+			if(isStatic) {
+				if(capturedArgs.length>0) {
+					lambdaArgsList = new ArrayList<>(capturedArgs.length);
+					for (int i = 0; i < capturedArgs.length; i++) {
+						Object arg = capturedArg(lambda, i);
+						if (qobject == null && arg instanceof QObject) {
+							qobject = (QObject) arg;
+						} else {
+							lambdaArgsList.add(arg);
+						}
+					}
+					lambdaArgsList = Collections.unmodifiableList(lambdaArgsList);
+				}
+			}else if(capturedArgs.length>0) {
+				owner = capturedArg(lambda, 0);
+				if(!ownerClass.isInstance(owner))
+					return null;
+				if (owner instanceof QObject)
+					qobject = (QObject) owner;
+				if(capturedArgs.length>1) {
+					lambdaArgsList = new ArrayList<>(capturedArgs.length-1);
+					for (int i = 1; i < capturedArgs.length; i++) {
+						lambdaArgsList.add(capturedArg(lambda, i));
+					}
+					lambdaArgsList = Collections.unmodifiableList(lambdaArgsList);
+				}
+			}
+			return new LambdaInfo(ownerClass, owner, qobject, isStatic, methodHandle, reflectiveMethod,
+					reflectiveConstructor, lambdaArgsList, this);
+		}
+	}
+	
+	/**
+	 * Lambda shapes are attached to the lambda classes so that they don't keep the classes from being unloaded.
+	 * The shape is resolved with the first lambda instance of a class.
+	 */
+	private static final ClassValue<AtomicReference<LambdaShape>> lambdaShapes = new ClassValue<AtomicReference<LambdaShape>>() {
+		@Override
+		protected AtomicReference<LambdaShape> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
 
 	public static LambdaInfo lambdaInfo(Serializable slotObject) {
-		//String className = slotObject.getClass().getName();
 		Class<?> slotClass = ClassAnalyzerUtility.getClass(slotObject);
-		if (slotClass.isSynthetic()
-				//&& className.contains("Lambda$") && className.contains("/")
-				) {
+		AtomicReference<LambdaShape> shapeRef = lambdaShapes.get(slotClass);
+		LambdaShape shape = shapeRef.get();
+		if(shape==null) {
+			if(!slotClass.isSynthetic()) {
+				shapeRef.set(LambdaShape.NONE);
+				return null;
+			}
 			SerializedLambda serializedLambda = serializeLambdaExpression(slotObject);
 			if(serializedLambda == null)
 				return null;
-			MethodHandle methodHandle = ReflectionUtility.lambdaSlotHandles(slotClass, serializedLambda);
-			Method reflectiveMethod = null;
-			Constructor<?> reflectiveConstructor = null;
-			Class<?> ownerClass = null;
-			Object owner = null;
-			QObject qobject = null;
-			List<Object> lambdaArgsList = Collections.emptyList();
-			if (methodHandle != null) {
-				if(serializedLambda.getImplMethodKind()==MethodHandleInfo.REF_newInvokeSpecial)
-					reflectiveConstructor = MethodHandles.reflectAs(Constructor.class, methodHandle);
-				else
-					reflectiveMethod = MethodHandles.reflectAs(Method.class, methodHandle);
-				if (methodHandle.isVarargsCollector()) {
-					methodHandle = methodHandle.asFixedArity();
-				}
-				if (reflectiveConstructor != null || reflectiveMethod != null) {
-					ownerClass = reflectiveMethod==null ? reflectiveConstructor.getDeclaringClass() : reflectiveMethod.getDeclaringClass();
-					if (Modifier.isStatic(reflectiveMethod==null ? reflectiveConstructor.getModifiers() : reflectiveMethod.getModifiers())) {
-						if (serializedLambda.getCapturedArgCount() > 0) {
-							if (serializedLambda.getCapturedArgCount() > 0)
-								lambdaArgsList = new ArrayList<>();
-							for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++) {
-								if (qobject == null && serializedLambda.getCapturedArg(i) instanceof QObject) {
-									qobject = (QObject) serializedLambda.getCapturedArg(i);
-								} else {
-									lambdaArgsList.add(serializedLambda.getCapturedArg(i));
-								}
-							}
-						}
-						return new LambdaInfo(ownerClass, owner, qobject, true, methodHandle, reflectiveMethod,
-								reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
-										: Collections.unmodifiableList(lambdaArgsList));
-					} else if (serializedLambda.getCapturedArgCount() > 0
-							&& ownerClass.isInstance(serializedLambda.getCapturedArg(0))) {
-						if (serializedLambda.getCapturedArg(0) instanceof QObject)
-							qobject = (QObject) serializedLambda.getCapturedArg(0);
-						owner = serializedLambda.getCapturedArg(0);
-						if (serializedLambda.getCapturedArgCount() > 1)
+			LambdaInfo info = lambdaInfo(slotClass, serializedLambda);
+			shape = lambdaShape(slotObject, slotClass, serializedLambda, info);
+			shapeRef.set(shape==null ? LambdaShape.NONE : shape);
+			return info;
+		}else if(shape==LambdaShape.NONE) {
+			if(slotClass.isSynthetic()) {
+				SerializedLambda serializedLambda = serializeLambdaExpression(slotObject);
+				if(serializedLambda != null)
+					return lambdaInfo(slotClass, serializedLambda);
+			}
+			return null;
+		}else {
+			return shape.lambdaInfo(slotObject);
+		}
+	}
+	
+	/**
+	 * Creates the shape of a lambda class if its captured values can be read from its fields.
+	 * Lambda classes store the captured arguments in declaration order.
+	 */
+	private static LambdaShape lambdaShape(Object slotObject, Class<?> slotClass, SerializedLambda serializedLambda, LambdaInfo info) {
+		if(info==null)
+			return null;
+		List<Field> fields = new ArrayList<>();
+		for(Field field : slotClass.getDeclaredFields()) {
+			if(!Modifier.isStatic(field.getModifiers()))
+				fields.add(field);
+		}
+		if(fields.size()!=serializedLambda.getCapturedArgCount())
+			return null;
+		fields.sort(Comparator.comparingInt(ClassAnalyzerUtility::capturedArgIndex));
+		MethodHandle[] capturedArgs = new MethodHandle[fields.size()];
+		try {
+			for (int i = 0; i < capturedArgs.length; i++) {
+				capturedArgs[i] = ReflectionUtility.getFieldGetterHandle(fields.get(i)).asType(MethodType.methodType(Object.class, Object.class));
+			}
+		} catch (Throwable e) {
+			return null;
+		}
+		LambdaShape shape = new LambdaShape(info.ownerClass, info.isStatic, info.methodHandle, info.reflectiveMethod, info.reflectiveConstructor, capturedArgs);
+		for (int i = 0; i < capturedArgs.length; i++) {
+			if(!Objects.equals(serializedLambda.getCapturedArg(i), shape.capturedArg(slotObject, i))) {
+				return null;
+			}
+		}
+		return shape;
+	}
+	
+	private static int capturedArgIndex(Field field) {
+		String name = field.getName();
+		int idx = name.lastIndexOf('$');
+		try {
+			return Integer.parseInt(name.substring(idx+1));
+		} catch (NumberFormatException e) {
+			return Integer.MAX_VALUE;
+		}
+	}
+	
+	private static LambdaInfo lambdaInfo(Class<?> slotClass, SerializedLambda serializedLambda) {
+		MethodHandle methodHandle = ReflectionUtility.lambdaSlotHandles(slotClass, serializedLambda);
+		Method reflectiveMethod = null;
+		Constructor<?> reflectiveConstructor = null;
+		Class<?> ownerClass = null;
+		Object owner = null;
+		QObject qobject = null;
+		List<Object> lambdaArgsList = Collections.emptyList();
+		if (methodHandle != null) {
+			if(serializedLambda.getImplMethodKind()==MethodHandleInfo.REF_newInvokeSpecial)
+				reflectiveConstructor = MethodHandles.reflectAs(Constructor.class, methodHandle);
+			else
+				reflectiveMethod = MethodHandles.reflectAs(Method.class, methodHandle);
+			if (methodHandle.isVarargsCollector()) {
+				methodHandle = methodHandle.asFixedArity();
+			}
+			if (reflectiveConstructor != null || reflectiveMethod != null) {
+				ownerClass = reflectiveMethod==null ? reflectiveConstructor.getDeclaringClass() : reflectiveMethod.getDeclaringClass();
+				if (Modifier.isStatic(reflectiveMethod==null ? reflectiveConstructor.getModifiers() : reflectiveMethod.getModifiers())) {
+					if (serializedLambda.getCapturedArgCount() > 0) {
+						if (serializedLambda.getCapturedArgCount() > 0)
 							lambdaArgsList = new ArrayList<>();
-						for (int i = 1; i < serializedLambda.getCapturedArgCount(); i++) {
-							lambdaArgsList.add(serializedLambda.getCapturedArg(i));
+						for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++) {
+							if (qobject == null && serializedLambda.getCapturedArg(i) instanceof QObject) {
+								qobject = (QObject) serializedLambda.getCapturedArg(i);
+							} else {
+								lambdaArgsList.add(serializedLambda.getCapturedArg(i));
+							}
 						}
-						return new LambdaInfo(ownerClass, owner, qobject, false, methodHandle, reflectiveMethod,
-								reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
-										: Collections.unmodifiableList(lambdaArgsList));
-					} else if (serializedLambda.getCapturedArgCount() == 0) {
-						return new LambdaInfo(ownerClass, owner, qobject, false, methodHandle, reflectiveMethod,
-								reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
-										: Collections.unmodifiableList(lambdaArgsList));
 					}
+					return new LambdaInfo(ownerClass, owner, qobject, true, methodHandle, reflectiveMethod,
+							reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
+									: Collections.unmodifiableList(lambdaArgsList));
+				} else if (serializedLambda.getCapturedArgCount() > 0
+						&& ownerClass.isInstance(serializedLambda.getCapturedArg(0))) {
+					if (serializedLambda.getCapturedArg(0) instanceof QObject)
+						qobject = (QObject) serializedLambda.getCapturedArg(0);
+					owner = serializedLambda.getCapturedArg(0);
+					if (serializedLambda.getCapturedArgCount() > 1)
+						lambdaArgsList = new ArrayList<>();
+					for (int i = 1; i < serializedLambda.getCapturedArgCount(); i++) {
+						lambdaArgsList.add(serializedLambda.getCapturedArg(i));
+					}
+					return new LambdaInfo(ownerClass, owner, qobject, false, methodHandle, reflectiveMethod,
+							reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
+									: Collections.unmodifiableList(lambdaArgsList));
+				} else if (serializedLambda.getCapturedArgCount() == 0) {
+					return new LambdaInfo(ownerClass, owner, qobject, false, methodHandle, reflectiveMethod,
+							reflectiveConstructor, lambdaArgsList == Collections.emptyList() ? lambdaArgsList
+									: Collections.unmodifiableList(lambdaArgsList));
 				}
 			}
 		}
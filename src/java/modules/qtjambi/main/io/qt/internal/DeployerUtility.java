@@ -29,6 +29,8 @@
 ****************************************************************************/
 package io.qt.internal;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 import io.qt.core.QPair;
@@ -58,4 +60,20 @@ public abstract class DeployerUtility {
 	public static boolean isMinGWBuilt() {
 		return LibraryUtility.isMinGWBuilt();
 	}
+	
+	/**
+	 * Analyzes the given class and writes its meta object data to the stream.
+	 * @return false if the data cannot be precomputed for the given class
+	 */
+	public static boolean writeMetaObjectData(Class<?> cls, OutputStream stream) throws IOException {
+		return MetaObjectUtility.writeMetaObjectData(cls, stream);
+	}
+	
+	/**
+	 * Returns the path of the resource file containing precomputed meta object data of the given class.
+	 */
+	public static String metaObjectDataResourcePath(Class<?> cls) {
+		String path = cls.getName().replace('.', '/');
+		return path.substring(0, path.lastIndexOf('/')+1) + MetaObjectDataResource.resourceName(cls);
+	}
 }
@@ -108,6 +108,7 @@ public final class LibraryBundle {
     private String system;
     private String version;
     private String module;
+    private String hash;
 	private URL url;
     private File extractionDir;
     private boolean hasPluginPaths;
@@ -165,6 +166,9 @@ public final class LibraryBundle {
         	depl.compiler = null;
         if(depl.module!=null && depl.module.isEmpty())
         	depl.module = null;
+        depl.hash = doc.getDocumentElement().getAttribute("hash");
+        if(depl.hash!=null && depl.hash.isEmpty())
+        	depl.hash = null;
         String configuration = doc.getDocumentElement().getAttribute("configuration");
         if(LibraryBundle.Configuration.Release.toString().equalsIgnoreCase(configuration))
         	depl.configuration = LibraryBundle.Configuration.Release;
@@ -269,6 +273,14 @@ public final class LibraryBundle {
 		return module;
 	}
 
+	/**
+	 * Content hash of the bundled files as recorded in the deployment spec.
+	 * @return hash or null if the spec does not provide one
+	 */
+	public String hash() {
+		return hash;
+	}
+
 	public boolean hasPluginPaths() {
 		return hasPluginPaths;
 	}
@@ -350,6 +362,10 @@ public final class LibraryBundle {
 	    private final List<ExtractionFunction> extractionFunctions = new LinkedList<>();
 	    private final List<ExtractionFunction> qmlExtractionFunctions = new LinkedList<>();
 	    private final List<ExtractionFunction> headersExtractionFunctions = new LinkedList<>();
+	    // held while running extraction functions so that concurrent callers wait instead of extracting twice
+	    private final Object extractionLock = new Object();
+	    private final Object qmlExtractionLock = new Object();
+	    private final Object headersExtractionLock = new Object();
 
 		void addExtractionFunction(ExtractionFunction loadFunction) {
 			synchronized(this.extractionFunctions) {
@@ -389,46 +405,52 @@ public final class LibraryBundle {
 		
 		public void extract() throws Throwable {
 			Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format("extracting %1$s", name));
-			ExtractionFunction first = null;
-			while(true){
-				synchronized(this.extractionFunctions) {
-					this.extractionFunctions.remove(first);
-					if(this.extractionFunctions.isEmpty())
-						break;
-					else
-						first = this.extractionFunctions.get(0);
+			synchronized(this.extractionLock) {
+				ExtractionFunction first = null;
+				while(true){
+					synchronized(this.extractionFunctions) {
+						this.extractionFunctions.remove(first);
+						if(this.extractionFunctions.isEmpty())
+							break;
+						else
+							first = this.extractionFunctions.get(0);
+					}
+					first.extract();
 				}
-				first.extract();
 			}
 		}
 		
 		public void extractQml() throws Throwable {
 			Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format("extracting qml of %1$s", name));
-			ExtractionFunction first = null;
-			while(true){
-				synchronized(this.qmlExtractionFunctions) {
-					this.qmlExtractionFunctions.remove(first);
-					if(this.qmlExtractionFunctions.isEmpty())
-						break;
-					else
-						first = this.qmlExtractionFunctions.get(0);
+			synchronized(this.qmlExtractionLock) {
+				ExtractionFunction first = null;
+				while(true){
+					synchronized(this.qmlExtractionFunctions) {
+						this.qmlExtractionFunctions.remove(first);
+						if(this.qmlExtractionFunctions.isEmpty())
+							break;
+						else
+							first = this.qmlExtractionFunctions.get(0);
+					}
+					first.extract();
 				}
-				first.extract();
 			}
 		}
 		
 		public void extractHeaders() throws Throwable {
 			Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format("extracting headers of %1$s", name));
-			ExtractionFunction first = null;
-			while(true){
-				synchronized(this.headersExtractionFunctions) {
-					this.headersExtractionFunctions.remove(first);
-					if(this.headersExtractionFunctions.isEmpty())
-						break;
-					else
-						first = this.headersExtractionFunctions.get(0);
+			synchronized(this.headersExtractionLock) {
+				ExtractionFunction first = null;
+				while(true){
+					synchronized(this.headersExtractionFunctions) {
+						this.headersExtractionFunctions.remove(first);
+						if(this.headersExtractionFunctions.isEmpty())
+							break;
+						else
+							first = this.headersExtractionFunctions.get(0);
+					}
+					first.extract();
 				}
-				first.extract();
 			}
 		}
 	}
@@ -32,11 +32,18 @@ package io.qt.internal;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,12 +59,18 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.prefs.Preferences;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipException;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -112,6 +125,7 @@ final class LibraryUtility {
     private static final List<Library> pluginLibraries = Collections.synchronizedList(new ArrayList<>());
 
     private static final boolean deleteTmpDeployment;
+    private static final List<DeploymentStamp> deploymentStamps = Collections.synchronizedList(new ArrayList<>());
     
     private static final Map<String,List<String>> javaLibraryPaths = Collections.synchronizedMap(new TreeMap<>());
     private static final Map<String,List<String>> ldLibraryPaths = Collections.synchronizedMap(new TreeMap<>());
@@ -956,6 +970,12 @@ final class LibraryUtility {
     	synchronized(loadedNativeDeploymentUrls) {
     		nativeDeployments.clear();
     	}
+    	synchronized(deploymentStamps) {
+    		for(DeploymentStamp stamp : deploymentStamps) {
+    			stamp.flush();
+    		}
+    		deploymentStamps.clear();
+    	}
         if(deleteTmpDeployment) {
         	Preferences preferences = Preferences.userNodeForPackage(LibraryUtility.class);
 	        if(jambiDeploymentDir.exists() && jambiDeploymentDir.isDirectory()) {
@@ -1669,67 +1689,235 @@ final class LibraryUtility {
     	}
     }
 
-    private static class ExecutorThread extends Thread implements Executor{
+    private static ForkJoinPool extractionPool;
+    
+    /**
+     * Shared pool extracting native libraries in parallel.
+     * Its parallelism is given by system property io.qt.library-extraction-threads and defaults to the number of processors (at most 8).
+     * Being a fork/join pool, workers waiting for the extraction of a dependency are compensated so that
+     * the walk along the dependency graph cannot exhaust the pool.
+     */
+    private static synchronized ForkJoinPool extractionPool() {
+    	if(extractionPool==null) {
+    		int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    		try {
+    			parallelism = Integer.parseInt(System.getProperty("io.qt.library-extraction-threads", ""+parallelism));
+    		}catch(NumberFormatException e) {}
+    		extractionPool = new ForkJoinPool(Math.max(1, parallelism), pool->{
+    			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    			thread.setName("QtJambi_LibraryExtractor_"+thread.getPoolIndex());
+    			thread.setDaemon(true);
+    			return thread;
+    		}, (thread, e)->java.util.logging.Logger.getLogger("io.qt.internal").log(java.util.logging.Level.SEVERE, "", e), false);
+    	}
+    	return extractionPool;
+    }
+    
+    private static CompletableFuture<Throwable> extractAsync(Library.ExtractionFunction extractor){
+    	return CompletableFuture.supplyAsync(()->{
+            try {
+            	extractor.extract();
+            } catch (Throwable e) {
+            	return e;
+            }
+            return null;
+    	}, extractionPool());
+    }
+    
+    private static Library.ExtractionFunction awaitExtraction(CompletableFuture<Throwable> future, CompletableFuture<Throwable> utilities){
+    	return ()->{
+    		Throwable exn = future.get();
+    		if(exn==null && utilities!=null)
+    			exn = utilities.get();
+    		if(exn!=null)
+    			throw exn;
+    	};
+    }
+    
+    /**
+     * Records which files of a bundle in a persistent deployment have been completely extracted.
+     * The stamp file is named after the bundle's module, version and content hash and lists the published files
+     * together with their size and CRC-32 checksum. Listed files are not extracted again as long as the file on disk
+     * still matches size and checksum. All other files are extracted and atomically published
+     * since they may stem from a bundle of different content. The stamp is updated when the process terminates
+     * or as soon as all planned files are in place.
+     */
+    private static class DeploymentStamp{
+    	private final File stampFile;
+    	private final String prefix;
+    	private final Map<String,String> publishedFiles;
+    	private final Map<String,String> newlyPublishedFiles = Collections.synchronizedMap(new TreeMap<>());
+    	private final AtomicInteger pendingFiles = new AtomicInteger(1);
     	
-    	private final List<Runnable> commands = new LinkedList<>();
-    	private boolean noMoreExpected = false;
+    	private DeploymentStamp(File directory, String module, String version, String hash) {
+    		this.prefix = "."+(module==null ? "qtjambi" : module)+"."+version+".";
+    		this.stampFile = new File(directory, prefix+hash+".stamp");
+    		this.publishedFiles = readStamp();
+    	}
     	
-		private ExecutorThread(String module) {
-			super();
-			this.setDaemon(true);
-			this.setName("QtJambi_LibraryExtractor_"+module);
-		}
-
-		@Override
-		public void execute(Runnable command) {
-			synchronized(this.commands) {
-				this.commands.add(command);
-				this.commands.notifyAll();
-			}
-		}
-
-		@Override
-		public void run() {
-			try {
-				while(true) {
-					Runnable first;
-					synchronized(this.commands) {
-						if(this.commands.isEmpty()) {
-							if(noMoreExpected)
-								break;
-							this.commands.wait();
-							if(!this.commands.isEmpty()) {
-								first = this.commands.remove(0);
-							}else {
-								if(noMoreExpected)
-									break;
-								continue;
-							}
-						}else {
-							first = this.commands.remove(0);
-						}
-					}
-					try {
-						first.run();
-					} catch (Throwable e) {
-						if(e instanceof InterruptedException)
-							throw e;
-						java.util.logging.Logger.getLogger("io.qt.internal").log(java.util.logging.Level.SEVERE, "", e);
-					}
+    	static DeploymentStamp create(File directory, LibraryBundle spec, URL deploymentSpec) {
+    		String hash = spec.hash();
+    		if(hash==null)
+    			hash = computeHash(spec, deploymentSpec);
+    		if(hash==null)
+    			return null;
+    		DeploymentStamp stamp = new DeploymentStamp(directory, spec.module(), spec.version(), hash);
+    		deploymentStamps.add(stamp);
+    		return stamp;
+    	}
+    	
+    	/**
+    	 * Without hash in the deployment spec the content is identified by the size and checksum of the bundled entries
+    	 * as found in the jar's central directory which does not require to read the entries.
+    	 * CreateNativeDeploymentTask writes the hash attribute by the same scheme.
+    	 */
+    	private static String computeHash(LibraryBundle spec, URL deploymentSpec) {
+    		try {
+	    		URLConnection connection = deploymentSpec.openConnection();
+	    		if(!(connection instanceof JarURLConnection))
+	    			return null;
+	    		JarFile jarFile = ((JarURLConnection)connection).getJarFile();
+	    		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+	    		digest.update(spec.version().getBytes(StandardCharsets.UTF_8));
+	    		Set<String> names = new TreeSet<>();
+	    		for(Library library : spec.libraries()) {
+	    			if(!(library instanceof Symlink))
+	    				names.add(library.getName());
+	    		}
+	    		for(QPair<String,Boolean> file : spec.files()) {
+	    			names.add(file.first);
+	    		}
+	    		for(String name : names) {
+	    			JarEntry entry = jarFile.getJarEntry(name);
+	    			digest.update(name.getBytes(StandardCharsets.UTF_8));
+	    			if(entry!=null) {
+	    				digest.update(Long.toHexString(entry.getSize()).getBytes(StandardCharsets.UTF_8));
+	    				digest.update(Long.toHexString(entry.getCrc()).getBytes(StandardCharsets.UTF_8));
+	    			}
+	    		}
+	    		StringBuilder hash = new StringBuilder();
+	    		byte[] bytes = digest.digest();
+	    		for (int i = 0; i < 16; i++) {
+					hash.append(String.format("%02x", bytes[i]));
 				}
-			} catch (InterruptedException e) {
-			}
-		}
-
-		void setNoMoreExpected() {
-			synchronized(this.commands) {
-				noMoreExpected = true;
-				this.commands.notifyAll();
-			}
-		}
+	    		return hash.toString();
+    		}catch(IOException | NoSuchAlgorithmException e) {
+    			Logger.getLogger("io.qt.internal").log(Level.FINEST, "Unable to compute deployment hash", e);
+    			return null;
+    		}
+    	}
+    	
+    	/**
+    	 * Each line of the stamp reads {@code name<TAB>size<TAB>crc}.
+    	 * Lines of older stamps without checksum are ignored and hence lead to extraction.
+    	 */
+    	private Map<String,String> readStamp(){
+    		Map<String,String> files = new TreeMap<>();
+    		if(stampFile.isFile()) {
+    			try {
+    				for(String line : Files.readAllLines(stampFile.toPath(), StandardCharsets.UTF_8)) {
+    					int idx = line.indexOf('\t');
+    					if(idx>0)
+    						files.put(line.substring(0, idx), line.substring(idx+1));
+    				}
+				} catch (IOException e) {
+				}
+    		}
+    		return files;
+    	}
+    	
+    	boolean isPublished(String file, File outFile) {
+    		String checksum = publishedFiles.get(file);
+    		if(checksum==null)
+    			return false;
+    		int idx = checksum.indexOf('\t');
+    		if(idx<0 || !checksum.substring(0, idx).equals(Long.toString(outFile.length())))
+    			return false;
+    		CRC32 crc = new CRC32();
+    		try(InputStream in = new CheckedInputStream(Files.newInputStream(outFile.toPath()), crc)){
+    			byte[] buffer = new byte[65536];
+    			while(in.read(buffer)>=0) {}
+    		} catch (IOException e) {
+    			return false;
+    		}
+    		return checksum.substring(idx+1).equals(Long.toHexString(crc.getValue()));
+    	}
+    	
+    	void expectFile() {
+    		pendingFiles.incrementAndGet();
+    	}
+    	
+    	void filePublished(String file, long size, long crc) {
+    		newlyPublishedFiles.put(file, size+"\t"+Long.toHexString(crc));
+    		if(pendingFiles.decrementAndGet()==0)
+    			flush();
+    	}
+    	
+    	/**
+    	 * Called when all extraction functions have been registered.
+    	 */
+    	void planned() {
+    		if(pendingFiles.decrementAndGet()==0)
+    			flush();
+    	}
+    	
+    	void flush() {
+    		Map<String,String> files;
+    		synchronized(newlyPublishedFiles) {
+    			if(newlyPublishedFiles.isEmpty())
+    				return;
+    			files = new TreeMap<>(newlyPublishedFiles);
+    			newlyPublishedFiles.clear();
+    		}
+    		synchronized(this) {
+	    		publishedFiles.putAll(files);
+	    		// other processes may have published further files meanwhile
+	    		files.putAll(readStamp());
+	    		files.putAll(publishedFiles);
+	    		try {
+	    			File directory = stampFile.getParentFile();
+	    			directory.mkdirs();
+	    			Path tmpFile = Files.createTempFile(directory.toPath(), stampFile.getName(), ".tmp");
+	    			List<String> lines = new ArrayList<>();
+	    			for(Map.Entry<String,String> entry : files.entrySet()) {
+	    				lines.add(entry.getKey()+"\t"+entry.getValue());
+	    			}
+	    			Files.write(tmpFile, lines, StandardCharsets.UTF_8);
+	    			publish(tmpFile, stampFile);
+	    			Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format(" - deployment stamp updated: %1$s", stampFile.getAbsolutePath()));
+	    			// stamps of other contents of the same module version are outdated
+	    			for(File file : directory.listFiles()) {
+	    				if(file.getName().startsWith(prefix) && file.getName().endsWith(".stamp") && !file.equals(stampFile))
+	    					file.delete();
+	    			}
+	    		} catch (IOException e) {
+	    			Logger.getLogger("io.qt.internal").log(Level.FINEST, "Unable to write deployment stamp", e);
+	    		}
+    		}
+    	}
+    }
+    
+    /**
+     * Moves the temporary file to its final destination in one step so that concurrently running processes
+     * never see a partially written library.
+     */
+    private static void publish(Path tmpFile, File outFile) throws IOException {
+    	try {
+    		try {
+    			Files.move(tmpFile, outFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    		}catch(AtomicMoveNotSupportedException e) {
+    			Files.move(tmpFile, outFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    		}
+    	}catch(IOException e) {
+    		// the file may be in use by another process having published it before (e.g. a loaded library on Windows)
+    		if(!outFile.exists())
+    			throw e;
+    	}finally {
+    		Files.deleteIfExists(tmpFile);
+    	}
     }
     
-    private static Library.ExtractionFunction getLibraryExtractor(String urlBase, String libName, File outFile, boolean executable, boolean isDebug, boolean isQtLib, int... version){
+    private static Library.ExtractionFunction getLibraryExtractor(String urlBase, String libName, File outFile, boolean executable, boolean isDebug, boolean isQtLib, DeploymentStamp stamp, int... version){
     	String qtLibName = null;
     	if(isQtLib) {
 	    	qtLibName = outFile.getName();
@@ -1797,9 +1985,45 @@ final class LibraryUtility {
 	        }
     	}
 		List<Dependency> dependencies = qtLibName==null ? Collections.emptyList() : QtJambi_LibraryUtilities.getDependencies().getOrDefault("Qt"+qtLibName, Collections.emptyList());
-		
+		if(stamp!=null)
+			stamp.expectFile();
+		AtomicBoolean extracted = new AtomicBoolean(false);
     	return ()->{
+    		if(extracted.get())
+    			return;
+    		// dependencies are extracted in parallel to this library and are ready before it is loaded
+    		List<CompletableFuture<Throwable>> dependencyExtractions = Collections.emptyList();
+    		if(!dependencies.isEmpty()) {
+    			dependencyExtractions = new ArrayList<>();
+    			boolean qmlExtract = isQmlLoaded.get();
+    			for(Dependency dep : dependencies) {
+    				List<String> replacements = new ArrayList<>();
+    				String libFormat = qtLibraryName("Qt", dep.library, LIBINFIX, null, configuration, replacements, version);
+    		        Iterator<String> iter = replacements.iterator();
+    		        do {
+    		        	String library;
+    		        	if(!iter.hasNext()) {
+    		        		library = libFormat;
+    		        	}else {
+    		        		library = String.format(libFormat, iter.next());
+    		        	}
+    		        	Library qmlLibrary = LibraryBundle.findLibrary(library);
+    					if(qmlLibrary!=null) {
+    						if(!qmlLibrary.isLoaded() && qmlLibrary.isExtracting()) {
+    							dependencyExtractions.add(extractAsync(()->{
+	        						qmlLibrary.extract();
+	        						if(qmlExtract && qmlLibrary.isQmlExtracting()) {
+	    		            			qmlLibrary.extractQml();
+	        		            	}
+    							}));
+    						}
+    						break;
+    					}
+    		        }while(iter.hasNext());
+    			}
+			}
 	    	URL entryURL = new URL(urlBase+libName);
+	    	long startTime = System.nanoTime();
 	        try(InputStream in = entryURL.openStream()){
 	        	File outFileDir = outFile.getParentFile();
 	        	Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format(" - copying '%1$s' to %2$s", libName, outFile.getAbsolutePath()));
@@ -1807,42 +2031,30 @@ final class LibraryUtility {
 	            	Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format(" - creating directory: %1$s", outFileDir.getAbsolutePath()));
 	                outFileDir.mkdirs();
 	            }
-	            Files.copy(in, outFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	            Path tmpFile = Files.createTempFile(outFileDir.toPath(), "."+outFile.getName(), ".tmp");
+	            CRC32 crc = new CRC32();
+	            long size = Files.copy(new CheckedInputStream(in, crc), tmpFile, StandardCopyOption.REPLACE_EXISTING);
                 if(executable)
-                	outFile.setExecutable(true);
-                
-        		if(!dependencies.isEmpty()) {
-        			boolean qmlExtract = isQmlLoaded.get();
-        			for(Dependency dep : dependencies) {
-        				List<String> replacements = new ArrayList<>();
-        				String libFormat = qtLibraryName("Qt", dep.library, LIBINFIX, null, configuration, replacements, version);
-        		        Iterator<String> iter = replacements.iterator();
-        		        do {
-        		        	String library;
-        		        	if(!iter.hasNext()) {
-        		        		library = libFormat;
-        		        	}else {
-        		        		library = String.format(libFormat, iter.next());
-        		        	}
-        		        	Library qmlLibrary = LibraryBundle.findLibrary(library);
-        					if(qmlLibrary!=null) {
-        						if(!qmlLibrary.isLoaded() && qmlLibrary.isExtracting()) {
-	        						qmlLibrary.extract();
-	        						if(qmlExtract && qmlLibrary.isQmlExtracting()) {
-	    		            			qmlLibrary.extractQml();
-	        		            	}
-        						}
-        						break;
-        					}
-        		        }while(iter.hasNext());
-        			}
-    			}
+                	tmpFile.toFile().setExecutable(true);
+                publish(tmpFile, outFile);
+                if(!extracted.getAndSet(true) && stamp!=null)
+                	stamp.filePublished(libName, size, crc.getValue());
+                long duration = System.nanoTime() - startTime;
+                Logger.getLogger("io.qt.internal").log(Level.FINE, ()->String.format("extracted %1$s (%2$s bytes) in %3$s ms on %4$s", libName, outFile.length(), duration/1000000.0, Thread.currentThread().getName()));
 			} catch (Exception e1) {
 				return;
+			}finally {
+				for(CompletableFuture<Throwable> dependencyExtraction : dependencyExtractions) {
+					dependencyExtraction.join();
+				}
 			}
 		};
     }
     
+    private static boolean isDeployed(DeploymentStamp stamp, String libName, File outFile) {
+    	return outFile.exists() && (stamp==null || stamp.isPublished(libName, outFile));
+    }
+    
     private static LibraryBundle prepareNativeDeployment(URL deploymentSpec, String jarName, Boolean shouldUnpack) throws ParserConfigurationException, SAXException, IOException{
         if(jarName!=null)
         	Logger.getLogger("io.qt.internal").log(Level.FINEST, ()->String.format("Unpacking .jar file: '%1$s'", jarName==null ? deploymentSpec.toString() : jarName));
@@ -1869,6 +2081,8 @@ final class LibraryUtility {
         	tmpDir = jambiDeploymentDir;
         }
         spec.setExtractionDir(tmpDir);
+        // persistent deployments are shared between launches and processes and hence require a stamp of the content
+        final DeploymentStamp stamp = deleteTmpDeployment ? null : DeploymentStamp.create(tmpDir, spec, deploymentSpec);
         File dummyFile = null;
         if(shouldUnpack == null) {
         	if(spec.module()!=null) {
@@ -1911,8 +2125,8 @@ final class LibraryUtility {
             List<Library.ExtractionFunction> headersExtractionFunctions = new LinkedList<>();
             for(QPair<String,Boolean> pair : _spec.files()) {
                 File outFile = new File(tmpDir, pair.first.replace('/', File.separatorChar));
-                if(!outFile.exists()) {
-                	Library.ExtractionFunction extractor = getLibraryExtractor(_urlBase, pair.first, outFile, Boolean.TRUE.equals(pair.second), isDebug, false, specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
+                if(!isDeployed(stamp, pair.first, outFile)) {
+                	Library.ExtractionFunction extractor = getLibraryExtractor(_urlBase, pair.first, outFile, Boolean.TRUE.equals(pair.second), isDebug, false, stamp, specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
                 	if(pair.first.startsWith("qml/")) {
                 		qmlExtractionFunctions.add(extractor);
                 	}else if(pair.first.startsWith("include/")
@@ -1926,13 +2140,24 @@ final class LibraryUtility {
             
             Map<String,Library> entries = new TreeMap<>();
             
-            ExecutorThread executor = null;
-            if("qtjambi".equals(spec.module()) || "qt.lib.core".equals(spec.module())) {
-            	executor = new ExecutorThread(spec.module());
-            	executor.start();
+            // libraries of these modules are extracted ahead of loading
+            final boolean extractAhead = "qtjambi".equals(spec.module()) || "qt.lib.core".equals(spec.module());
+            CompletableFuture<Throwable> utilities = null;
+            if(extractAhead && !utilExtractionFunctions.isEmpty()) {
+            	List<CompletableFuture<Throwable>> utilityExtractions = new ArrayList<>();
+            	for(Library.ExtractionFunction extractor : utilExtractionFunctions) {
+            		utilityExtractions.add(extractAsync(extractor));
+            	}
+            	utilities = CompletableFuture.allOf(utilityExtractions.toArray(new CompletableFuture[utilityExtractions.size()])).handle((result,exn)->{
+            		for(CompletableFuture<Throwable> extraction : utilityExtractions) {
+            			Throwable t = extraction.getNow(null);
+            			if(t!=null)
+            				return t;
+            		}
+            		return exn;
+            	});
             }
             
-            try {
             	List<Library> libraries = spec.libraries();
             	Library library = null;
             	if(isQtLib) {
@@ -1943,33 +2168,10 @@ final class LibraryUtility {
 	            		String libName = library.getName();
 	                    File outFile = new File(tmpDir, libName.replace('/', File.separatorChar));
 	                    
-	                    if(!outFile.exists()) {
-	                		Library.ExtractionFunction extractLibrary = getLibraryExtractor(_urlBase, libName, outFile, false, isDebug, isQtLib, specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
-	                		if(executor!=null) {
-	                    		CompletableFuture<Throwable> future = CompletableFuture.supplyAsync(()->{
-	        	                    try {
-		                    			extractLibrary.extract();
-	                    				Library.ExtractionFunction first = null;
-		                    			while(true) {
-		                    				synchronized(utilExtractionFunctions) {
-		                    					utilExtractionFunctions.remove(first);
-			                    				if(utilExtractionFunctions.isEmpty())
-			                    					break;
-			                    				else
-			                    					first = utilExtractionFunctions.get(0);
-		                    				}
-		                    				first.extract();
-		                    			}
-	        	                    } catch (Throwable e1) {
-	        	                    	return e1;
-	        	                    }
-	    	                        return null;
-	                        	}, executor);
-	                    		library.addExtractionFunction(()->{
-	                        		Throwable exn = future.get();
-	                        		if(exn!=null)
-	                        			throw exn;
-	                        	});
+	                    if(!isDeployed(stamp, libName, outFile)) {
+	                		Library.ExtractionFunction extractLibrary = getLibraryExtractor(_urlBase, libName, outFile, false, isDebug, isQtLib, stamp, specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
+	                		if(extractAhead) {
+	                    		library.addExtractionFunction(awaitExtraction(extractAsync(extractLibrary), utilities));
 	                    	}else {
 	                    		library.addExtractionFunction(extractLibrary);
                     			library.addExtractionFunctions(utilExtractionFunctions);
@@ -2000,7 +2202,7 @@ final class LibraryUtility {
 	            	if(!(e instanceof Symlink)) {
 	            		String libName = e.getName();
 	                    File outFile = new File(tmpDir, libName.replace('/', File.separatorChar));
-	                    if(!outFile.exists()) {
+	                    if(!isDeployed(stamp, libName, outFile)) {
 	                    	boolean isQtJambiPlugin = spec.module()!=null && spec.module().startsWith("qtjambi.plugin.") && libName.startsWith("plugins/");
 	                		if(isQtJambiPlugin || isQtPlugin || isQtQml) {
 	                			outFile.getParentFile().mkdirs();
@@ -2010,7 +2212,7 @@ final class LibraryUtility {
 	                				libName.startsWith("lib/libQt"+QtJambi_LibraryUtilities.qtMajorVersion)
 	                				|| (libName.startsWith("lib/Qt") && !libName.startsWith("lib/QtJambi"))
 	                				|| libName.startsWith("bin/Qt"+QtJambi_LibraryUtilities.qtMajorVersion), 
-	                				specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
+	                				stamp, specVersion.qtMajorVersion, specVersion.qtMinorVersion, specVersion.qtJambiPatch);
 	                		if(library!=null) {
 	                			if(libName.startsWith("qml/")) {
 	                				library.addQmlExtractionFunction(extractLibrary);
@@ -2021,36 +2223,13 @@ final class LibraryUtility {
 	                				library.addExtractionFunction(extractLibrary);
 	                			}
 	                			e.addExtractionFunction(extractLibrary);
-	                		}else if(executor!=null
+	                		}else if(extractAhead
 	                    			&& ((!libName.contains("QtJambiGui")
 	                            			&& !libName.contains("QtJambiWidgets")
 	                            			&& !(libName.startsWith("include/")
 	        	                        			|| (operatingSystem==OperatingSystem.MacOS && libName.contains("/Headers/"))))
 	                            			|| isQtJambiPlugin)) {
-	                    		CompletableFuture<Throwable> future = CompletableFuture.supplyAsync(()->{
-	        	                    try {
-		                    			extractLibrary.extract();
-	                    				Library.ExtractionFunction first = null;
-		                    			while(true) {
-		                    				synchronized(utilExtractionFunctions) {
-		                    					utilExtractionFunctions.remove(first);
-			                    				if(utilExtractionFunctions.isEmpty())
-			                    					break;
-			                    				else
-			                    					first = utilExtractionFunctions.get(0);
-		                    				}
-		                    				first.extract();
-		                    			}
-	        	                    } catch (Throwable e1) {
-	        	                    	return e1;
-	        	                    }
-	    	                        return null;
-	                        	}, executor);
-	                        	e.addExtractionFunction(()->{
-	                        		Throwable exn = future.get();
-	                        		if(exn!=null)
-	                        			throw exn;
-	                        	});
+	                        	e.addExtractionFunction(awaitExtraction(extractAsync(extractLibrary), utilities));
 	                    	}else {
 	                    		e.addExtractionFunction(extractLibrary);
                     			e.addExtractionFunctions(utilExtractionFunctions);
@@ -2178,14 +2357,12 @@ final class LibraryUtility {
 	                }
 	            }
 	
+	            if(stamp!=null)
+	            	stamp.planned();
 	            if (dummyFile != null && !dummyFile.createNewFile()) {
 	                throw new SpecificationException("Can't create dummy file in cache directory");
 	            }
 	            spec.setExtractionDir(tmpDir);
-            }finally {
-            	if(executor!=null)
-            		executor.setNoMoreExpected();
-            }
         } else if(spec.extractionDir() == null) {
             String path = deploymentSpec.getPath();
             int i = path.lastIndexOf('/');  // URL path
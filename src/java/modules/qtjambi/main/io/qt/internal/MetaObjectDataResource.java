@@ -0,0 +1,578 @@
+/****************************************************************************
+**
+** Copyright (C) 2009-2023 Dr. Peter Droste, Omix Visualization GmbH & Co. KG. All rights reserved.
+**
+** This file is part of Qt Jambi.
+**
+** $BEGIN_LICENSE$
+** GNU Lesser General Public License Usage
+** This file may be used under the terms of the GNU Lesser
+** General Public License version 2.1 as published by the Free Software
+** Foundation and appearing in the file LICENSE.LGPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU Lesser General Public License version 2.1 requirements
+** will be met: http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html.
+** 
+** GNU General Public License Usage
+** Alternatively, this file may be used under the terms of the GNU
+** General Public License version 3.0 as published by the Free Software
+** Foundation and appearing in the file LICENSE.GPL included in the
+** packaging of this file.  Please review the following information to
+** ensure the GNU General Public License version 3.0 requirements will be
+** met: http://www.gnu.org/copyleft/gpl.html.
+** $END_LICENSE$
+**
+** This file is provided AS IS with NO WARRANTY OF ANY KIND, INCLUDING THE
+** WARRANTY OF DESIGN, MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE.
+**
+****************************************************************************/
+
+package io.qt.internal;
+
+import static io.qt.internal.MetaTypeUtility.findMetaType;
+import static io.qt.internal.MetaTypeUtility.registerMetaType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import io.qt.core.QMetaType;
+import io.qt.internal.SignalUtility.SignalParameterType;
+
+/**
+ * Reads and writes precomputed meta object data.
+ * The deployer analyzes Java-declared QObject subclasses and gadgets at build time
+ * and stores the result as class resource next to the class file.
+ * At runtime the resource replaces reflective analysis as long as it matches the class file,
+ * the Qt version and the runtime configuration. Otherwise, the class is analyzed reflectively.
+ */
+final class MetaObjectDataResource {
+	
+	private MetaObjectDataResource() { throw new RuntimeException();}
+	
+	static final String RESOURCE_SUFFIX = ".qtmetaobject";
+	
+	private static final int MAGIC = 0x514d4f44;
+	private static final int FORMAT_VERSION = 1;
+	private static final int CUSTOM_TYPE = 0x80000000;
+	private static final byte ORIGIN_SIGNAL = 1;
+	private static final byte ORIGIN_METHOD = 2;
+	private static final byte ORIGIN_CONSTRUCTOR = 3;
+	private static final byte ORIGIN_PROPERTY = 4;
+	private static final boolean disabled = Boolean.getBoolean("io.qt.disable-precomputed-metaobjects");
+	
+	static String resourceName(Class<?> clazz) {
+		String name = clazz.getName();
+		return name.substring(name.lastIndexOf('.')+1) + RESOURCE_SUFFIX;
+	}
+	
+	/**
+	 * Checksum of the class file including the class files of all member classes
+	 * and of all superclasses up to the first generated Qt class.
+	 * Returns -1 if a class file is not accessible as resource.
+	 */
+	private static long fingerprint(Class<?> clazz) throws IOException {
+		CRC32 crc = new CRC32();
+		if(!update(crc, clazz))
+			return -1;
+		Class<?>[] declaredClasses = clazz.getDeclaredClasses();
+		Arrays.sort(declaredClasses, Comparator.comparing(Class::getName));
+		for(Class<?> declaredClass : declaredClasses) {
+			if(!update(crc, declaredClass))
+				return -1;
+		}
+		for(Class<?> superClass = clazz.getSuperclass(); superClass!=null && !ClassAnalyzerUtility.isGeneratedClass(superClass); superClass = superClass.getSuperclass()) {
+			if(!update(crc, superClass))
+				return -1;
+		}
+		return crc.getValue();
+	}
+	
+	private static boolean update(CRC32 crc, Class<?> cls) throws IOException {
+		String name = cls.getName();
+		try(InputStream stream = cls.getResourceAsStream(name.substring(name.lastIndexOf('.')+1) + ".class")){
+			if(stream==null)
+				return false;
+			byte[] buffer = new byte[8192];
+			int length;
+			while((length = stream.read(buffer))>0) {
+				crc.update(buffer, 0, length);
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Runtime settings influencing the analysis result.
+	 */
+	private static int configuration(Class<?> clazz) {
+		int configuration = 0;
+		if(ClassAnalyzerUtility.useAnnotatedType)
+			configuration |= 0x01;
+		if(MetaObjectUtility.hasQmlClassInfoGenerator())
+			configuration |= 0x02;
+		if(MetaObjectUtility.isUsedAsGadget(clazz))
+			configuration |= 0x04;
+		return configuration;
+	}
+	
+	private static boolean isCustomType(int metaTypeId) {
+		return metaTypeId>=QMetaType.Type.User.value();
+	}
+	
+	private static void collectCustomTypes(Map<Integer,Integer> customTypeIndexes, List<int[]> customTypes, int[] metaTypes, int origin, int index, int firstParameter) {
+		for (int j = firstParameter; j < metaTypes.length; j++) {
+			if(isCustomType(metaTypes[j]) && !customTypeIndexes.containsKey(metaTypes[j])) {
+				customTypeIndexes.put(metaTypes[j], customTypes.size());
+				customTypes.add(new int[] {metaTypes[j], origin, index, j});
+			}
+		}
+	}
+	
+	/**
+	 * Writes the meta object data of the given class.
+	 * Returns false if the data cannot be restored at runtime.
+	 */
+	static boolean write(Class<?> clazz, MetaObjectData data, OutputStream stream) throws IOException {
+		long fingerprint = fingerprint(clazz);
+		if(fingerprint<0)
+			return false;
+		Map<Integer,Integer> customTypeIndexes = new HashMap<>();
+		List<int[]> customTypes = new ArrayList<>();
+		for (int i = 0; i < data.signalInfos.size(); i++) {
+			collectCustomTypes(customTypeIndexes, customTypes, data.signalInfos.get(i).signalMetaTypes, ORIGIN_SIGNAL, i, 0);
+		}
+		for (int i = 0; i < data.methodMetaTypes.size(); i++) {
+			collectCustomTypes(customTypeIndexes, customTypes, data.methodMetaTypes.get(i), ORIGIN_METHOD, i, 0);
+		}
+		for (int i = 0; i < data.constructorMetaTypes.size(); i++) {
+			collectCustomTypes(customTypeIndexes, customTypes, data.constructorMetaTypes.get(i), ORIGIN_CONSTRUCTOR, i, 1);
+		}
+		for (int i = 0; i < data.propertyMetaTypes.size(); i++) {
+			collectCustomTypes(customTypeIndexes, customTypes, Arrays.copyOf(data.propertyMetaTypes.get(i), 1), ORIGIN_PROPERTY, i, 0);
+		}
+		int[] metaTypes = new int[data.metaTypes.size()];
+		for (int i = 0; i < metaTypes.length; i++) {
+			metaTypes[i] = data.metaTypes.get(i);
+			if(isCustomType(metaTypes[i]) && !customTypeIndexes.containsKey(metaTypes[i]))
+				return false;
+		}
+		
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(QtJambi_LibraryUtilities.qtMajorVersion);
+		out.writeInt(QtJambi_LibraryUtilities.qtMinorVersion);
+		out.writeInt(QtJambi_LibraryUtilities.qtJambiPatch);
+		out.writeInt(configuration(clazz));
+		out.writeLong(fingerprint);
+		
+		out.writeInt(data.stringDataSize());
+		for (int i = 0; i < data.stringDataSize(); i++) {
+			writeString(out, data.getStringData(i));
+		}
+		out.writeInt(data.intData.size());
+		for (int i = 0; i < data.intData.size(); i++) {
+			out.writeInt(data.intData.get(i));
+		}
+		
+		out.writeInt(customTypes.size());
+		for (int[] customType : customTypes) {
+			writeString(out, new QMetaType(customType[0]).name().toString());
+			out.writeByte(customType[1]);
+			out.writeInt(customType[2]);
+			out.writeInt(customType[3]);
+		}
+		
+		out.writeInt(data.signalInfos.size());
+		for (MetaObjectData.SignalInfo signalInfo : data.signalInfos) {
+			writeString(out, signalInfo.field.getName());
+			out.writeInt(signalInfo.signalTypes.size());
+			boolean isMultiSignal = signalInfo.signalClass!=signalInfo.field.getType();
+			out.writeBoolean(isMultiSignal);
+			if(isMultiSignal) {
+				List<Class<?>> emitParameterTypes = null;
+				for(Map.Entry<List<Class<?>>,SignalUtility.EmitMethodInfo> entry : SignalUtility.findEmitMethods(signalInfo.field.getType()).entrySet()) {
+					if(entry.getValue().methodId==signalInfo.methodId) {
+						emitParameterTypes = entry.getKey();
+						break;
+					}
+				}
+				if(emitParameterTypes==null)
+					return false;
+				writeClass(out, signalInfo.signalClass);
+				writeClasses(out, emitParameterTypes.toArray(new Class[emitParameterTypes.size()]));
+			}
+			writeMetaTypes(out, signalInfo.signalMetaTypes, customTypeIndexes);
+		}
+		
+		out.writeInt(data.methods.size());
+		for (int i = 0; i < data.methods.size(); i++) {
+			writeMethod(out, data.methods.get(i));
+			writeMetaTypes(out, data.methodMetaTypes.get(i), customTypeIndexes);
+		}
+		
+		out.writeInt(data.constructors.size());
+		for (int i = 0; i < data.constructors.size(); i++) {
+			writeClasses(out, data.constructors.get(i).getParameterTypes());
+			writeMetaTypes(out, data.constructorMetaTypes.get(i), customTypeIndexes);
+		}
+		
+		out.writeInt(data.propertyMetaTypes.size());
+		for (int i = 0; i < data.propertyMetaTypes.size(); i++) {
+			writeMethod(out, data.propertyReaders.get(i));
+			writeMethod(out, data.propertyWriters.get(i));
+			writeMethod(out, data.propertyResetters.get(i));
+			Integer notify = data.propertyNotifies.get(i);
+			out.writeInt(notify==null ? -1 : notify);
+			writeMethod(out, data.propertyBindables.get(i));
+			writeField(out, data.propertyQPropertyFields.get(i));
+			writeField(out, data.propertyMemberFields.get(i));
+			writeMethod(out, data.propertyDesignableResolvers.get(i));
+			writeMethod(out, data.propertyScriptableResolvers.get(i));
+			writeMethod(out, data.propertyEditableResolvers.get(i));
+			writeMethod(out, data.propertyStoredResolvers.get(i));
+			writeMethod(out, data.propertyUserResolvers.get(i));
+			writeMetaTypes(out, data.propertyMetaTypes.get(i), customTypeIndexes);
+			writeClass(out, data.propertyClassTypes.get(i));
+		}
+		
+		out.writeInt(data.relatedMetaObjects.size());
+		for (Class<?> relatedMetaObject : data.relatedMetaObjects) {
+			writeClass(out, relatedMetaObject);
+		}
+		out.writeBoolean(data.hasStaticMembers);
+		writeMetaTypes(out, metaTypes, customTypeIndexes);
+		out.flush();
+		return true;
+	}
+	
+	/**
+	 * Reads the precomputed meta object data of the given class.
+	 * Returns null if there is no data available or the data does not apply to the class.
+	 */
+	static MetaObjectData read(Class<?> clazz) {
+		if(disabled)
+			return null;
+		InputStream stream = clazz.getResourceAsStream(resourceName(clazz));
+		if(stream==null)
+			return null;
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(stream))){
+			if(in.readInt()!=MAGIC
+					|| in.readInt()!=FORMAT_VERSION
+					|| in.readInt()!=QtJambi_LibraryUtilities.qtMajorVersion
+					|| in.readInt()!=QtJambi_LibraryUtilities.qtMinorVersion
+					|| in.readInt()!=QtJambi_LibraryUtilities.qtJambiPatch
+					|| in.readInt()!=configuration(clazz)
+					|| in.readLong()!=fingerprint(clazz)) {
+				Logger.getLogger("io.qt.internal").log(Level.FINE, ()->String.format("Precomputed meta object data of class %1$s is outdated.", clazz.getName()));
+				return null;
+			}
+			ClassLoader classLoader = clazz.getClassLoader();
+			MetaObjectData data = new MetaObjectData();
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.addStringData(readString(in));
+			}
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.intData.add(in.readInt());
+			}
+			
+			int customTypeCount = in.readInt();
+			String[] customTypeNames = new String[customTypeCount];
+			int[][] customTypeOrigins = new int[customTypeCount][];
+			for (int i = 0; i < customTypeCount; i++) {
+				customTypeNames[i] = readString(in);
+				customTypeOrigins[i] = new int[] {in.readByte(), in.readInt(), in.readInt()};
+			}
+			
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				Field field = clazz.getDeclaredField(readString(in));
+				int argc = in.readInt();
+				Class<?> signalClass;
+				List<SignalParameterType> signalTypes;
+				long methodId;
+				if(in.readBoolean()) {
+					signalClass = readClass(in, classLoader);
+					SignalUtility.EmitMethodInfo emitMethodInfo = SignalUtility.findEmitMethods(field.getType()).get(Arrays.asList(readClasses(in, classLoader)));
+					if(emitMethodInfo==null || emitMethodInfo.parameterTypes.size()!=argc)
+						throw new NoSuchMethodException(String.format("Emit method of signal %1$s", field.getName()));
+					signalTypes = emitMethodInfo.parameterTypes;
+					methodId = emitMethodInfo.methodId;
+				}else {
+					signalClass = field.getType();
+					signalTypes = SignalUtility.resolveSignal(field);
+					if(signalTypes.size()<argc)
+						throw new NoSuchMethodException(String.format("Emit method of signal %1$s", field.getName()));
+					signalTypes = new ArrayList<>(signalTypes.subList(0, argc));
+					methodId = MetaObjectUtility.findEmitMethodId(signalClass, Collections.nCopies(argc, Object.class));
+				}
+				if(methodId==0)
+					throw new NoSuchMethodException(String.format("Emit method of signal %1$s", field.getName()));
+				data.signalInfos.add(new MetaObjectData.SignalInfo(field, signalTypes, signalClass, readMetaTypes(in), methodId));
+			}
+			
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.methods.add(readMethod(in, classLoader));
+				data.methodMetaTypes.add(readMetaTypes(in));
+			}
+			
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.constructors.add(clazz.getDeclaredConstructor(readClasses(in, classLoader)));
+				data.constructorMetaTypes.add(readMetaTypes(in));
+			}
+			
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.propertyReaders.add(readMethod(in, classLoader));
+				data.propertyWriters.add(readMethod(in, classLoader));
+				data.propertyResetters.add(readMethod(in, classLoader));
+				int notify = in.readInt();
+				data.propertyNotifies.add(notify<0 ? null : notify);
+				data.propertyBindables.add(readMethod(in, classLoader));
+				data.propertyQPropertyFields.add(readField(in, classLoader));
+				data.propertyMemberFields.add(readField(in, classLoader));
+				data.propertyDesignableResolvers.add(readMethod(in, classLoader));
+				data.propertyScriptableResolvers.add(readMethod(in, classLoader));
+				data.propertyEditableResolvers.add(readMethod(in, classLoader));
+				data.propertyStoredResolvers.add(readMethod(in, classLoader));
+				data.propertyUserResolvers.add(readMethod(in, classLoader));
+				data.propertyMetaTypes.add(readMetaTypes(in));
+				data.propertyClassTypes.add(readClass(in, classLoader));
+			}
+			
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				data.relatedMetaObjects.add(readClass(in, classLoader));
+			}
+			data.hasStaticMembers = in.readBoolean();
+			int[] metaTypes = readMetaTypes(in);
+			
+			// custom meta types are resolved by name or registered again from their declaring member
+			int[] customTypes = new int[customTypeCount];
+			for (int i = 0; i < customTypeCount; i++) {
+				customTypes[i] = resolveMetaType(data, customTypeNames[i], customTypeOrigins[i][0], customTypeOrigins[i][1], customTypeOrigins[i][2]);
+			}
+			for (MetaObjectData.SignalInfo signalInfo : data.signalInfos) {
+				decodeMetaTypes(signalInfo.signalMetaTypes, customTypes);
+			}
+			for (int[] methodMetaTypes : data.methodMetaTypes) {
+				decodeMetaTypes(methodMetaTypes, customTypes);
+			}
+			for (int[] constructorMetaTypes : data.constructorMetaTypes) {
+				decodeMetaTypes(constructorMetaTypes, customTypes);
+			}
+			for (int[] propertyMetaTypes : data.propertyMetaTypes) {
+				decodeMetaTypes(propertyMetaTypes, customTypes);
+			}
+			decodeMetaTypes(metaTypes, customTypes);
+			for (int metaType : metaTypes) {
+				data.metaTypes.add(metaType);
+			}
+			return data;
+		} catch (IOException | ReflectiveOperationException | RuntimeException e) {
+			Logger.getLogger("io.qt.internal").log(Level.FINE, String.format("Unable to use precomputed meta object data of class %1$s.", clazz.getName()), e);
+			return null;
+		}
+	}
+	
+	private static int resolveMetaType(MetaObjectData data, String typeName, int origin, int index, int parameter) {
+		Class<?> type;
+		Type genericType;
+		AnnotatedElement annotatedType = null;
+		boolean isPointer = typeName.endsWith("*");
+		boolean isReference = typeName.endsWith("&");
+		switch(origin) {
+		case ORIGIN_SIGNAL:
+			SignalParameterType signalType = data.signalInfos.get(index).signalTypes.get(parameter);
+			type = signalType.type;
+			genericType = signalType.genericType;
+			isPointer = signalType.isPointer;
+			isReference = signalType.isReference;
+			break;
+		case ORIGIN_METHOD:
+			Method method = data.methods.get(index);
+			if(parameter==0) {
+				type = method.getReturnType();
+				genericType = method.getGenericReturnType();
+				if(ClassAnalyzerUtility.useAnnotatedType)
+					annotatedType = method.getAnnotatedReturnType();
+			}else {
+				type = method.getParameterTypes()[parameter-1];
+				genericType = method.getGenericParameterTypes()[parameter-1];
+				if(ClassAnalyzerUtility.useAnnotatedType)
+					annotatedType = method.getAnnotatedParameterTypes()[parameter-1];
+			}
+			break;
+		case ORIGIN_CONSTRUCTOR:
+			Constructor<?> constructor = data.constructors.get(index);
+			type = constructor.getParameterTypes()[parameter-1];
+			genericType = constructor.getGenericParameterTypes()[parameter-1];
+			if(ClassAnalyzerUtility.useAnnotatedType)
+				annotatedType = constructor.getAnnotatedParameterTypes()[parameter-1];
+			break;
+		case ORIGIN_PROPERTY:
+			Method reader = data.propertyReaders.get(index);
+			Field qPropertyField = data.propertyQPropertyFields.get(index);
+			Field memberField = data.propertyMemberFields.get(index);
+			Method writer = data.propertyWriters.get(index);
+			if(reader!=null) {
+				type = reader.getReturnType();
+				genericType = reader.getGenericReturnType();
+				if(ClassAnalyzerUtility.useAnnotatedType)
+					annotatedType = reader.getAnnotatedReturnType();
+			}else if(qPropertyField!=null) {
+				MetaObjectUtility.QPropertyTypeInfo info = MetaObjectUtility.getQPropertyTypeInfo(qPropertyField);
+				if(info==null)
+					throw new IllegalStateException(String.format("Unable to resolve type of property %1$s.", qPropertyField.getName()));
+				type = info.propertyType;
+				genericType = info.genericPropertyType;
+				annotatedType = info.annotatedPropertyType;
+			}else if(memberField!=null) {
+				type = memberField.getType();
+				genericType = memberField.getGenericType();
+				if(ClassAnalyzerUtility.useAnnotatedType)
+					annotatedType = memberField.getAnnotatedType();
+			}else if(writer!=null) {
+				type = writer.getParameterTypes()[0];
+				genericType = writer.getGenericParameterTypes()[0];
+				if(ClassAnalyzerUtility.useAnnotatedType)
+					annotatedType = writer.getAnnotatedParameterTypes()[0];
+			}else {
+				throw new IllegalStateException(String.format("Unable to resolve type %1$s of property %2$s.", typeName, index));
+			}
+			break;
+		default:
+			throw new IllegalStateException(String.format("Unable to resolve type %1$s.", typeName));
+		}
+		int metaTypeId = findMetaType(typeName);
+		if(metaTypeId==QMetaType.Type.UnknownType.value() || new QMetaType(metaTypeId).javaType()!=type) {
+			metaTypeId = registerMetaType(type, genericType, annotatedType, isPointer, isReference);
+		}
+		if(metaTypeId==QMetaType.Type.UnknownType.value() || !new QMetaType(metaTypeId).name().toString().equals(typeName))
+			throw new IllegalStateException(String.format("Unable to resolve type %1$s.", typeName));
+		return metaTypeId;
+	}
+	
+	private static void writeMetaTypes(DataOutputStream out, int[] metaTypes, Map<Integer,Integer> customTypeIndexes) throws IOException {
+		out.writeInt(metaTypes.length);
+		for (int metaType : metaTypes) {
+			out.writeInt(isCustomType(metaType) ? CUSTOM_TYPE | customTypeIndexes.get(metaType) : metaType);
+		}
+	}
+	
+	private static int[] readMetaTypes(DataInputStream in) throws IOException {
+		int[] metaTypes = new int[in.readInt()];
+		for (int i = 0; i < metaTypes.length; i++) {
+			metaTypes[i] = in.readInt();
+		}
+		return metaTypes;
+	}
+	
+	private static void decodeMetaTypes(int[] metaTypes, int[] customTypes) {
+		for (int i = 0; i < metaTypes.length; i++) {
+			if((metaTypes[i] & CUSTOM_TYPE)==CUSTOM_TYPE)
+				metaTypes[i] = customTypes[metaTypes[i] & ~CUSTOM_TYPE];
+		}
+	}
+	
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private static void writeClass(DataOutputStream out, Class<?> cls) throws IOException {
+		out.writeBoolean(cls!=null);
+		if(cls!=null)
+			writeString(out, cls.getName());
+	}
+	
+	private static Class<?> readClass(DataInputStream in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		return in.readBoolean() ? loadClass(readString(in), classLoader) : null;
+	}
+	
+	private static void writeClasses(DataOutputStream out, Class<?>[] classes) throws IOException {
+		out.writeInt(classes.length);
+		for (Class<?> cls : classes) {
+			writeString(out, cls.getName());
+		}
+	}
+	
+	private static Class<?>[] readClasses(DataInputStream in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		Class<?>[] classes = new Class[in.readInt()];
+		for (int i = 0; i < classes.length; i++) {
+			classes[i] = loadClass(readString(in), classLoader);
+		}
+		return classes;
+	}
+	
+	private static void writeMethod(DataOutputStream out, Method method) throws IOException {
+		out.writeBoolean(method!=null);
+		if(method!=null) {
+			writeString(out, method.getDeclaringClass().getName());
+			writeString(out, method.getName());
+			writeClasses(out, method.getParameterTypes());
+		}
+	}
+	
+	private static Method readMethod(DataInputStream in, ClassLoader classLoader) throws IOException, ReflectiveOperationException {
+		if(!in.readBoolean())
+			return null;
+		Class<?> declaringClass = loadClass(readString(in), classLoader);
+		String name = readString(in);
+		return declaringClass.getDeclaredMethod(name, readClasses(in, classLoader));
+	}
+	
+	private static void writeField(DataOutputStream out, Field field) throws IOException {
+		out.writeBoolean(field!=null);
+		if(field!=null) {
+			writeString(out, field.getDeclaringClass().getName());
+			writeString(out, field.getName());
+		}
+	}
+	
+	private static Field readField(DataInputStream in, ClassLoader classLoader) throws IOException, ReflectiveOperationException {
+		if(!in.readBoolean())
+			return null;
+		Class<?> declaringClass = loadClass(readString(in), classLoader);
+		return declaringClass.getDeclaredField(readString(in));
+	}
+	
+	private static Class<?> loadClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+		switch(name) {
+		case "boolean": return boolean.class;
+		case "byte": return byte.class;
+		case "char": return char.class;
+		case "short": return short.class;
+		case "int": return int.class;
+		case "long": return long.class;
+		case "float": return float.class;
+		case "double": return double.class;
+		case "void": return void.class;
+		default: return Class.forName(name, false, classLoader);
+		}
+	}
+}
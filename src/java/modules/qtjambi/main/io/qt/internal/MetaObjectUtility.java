@@ -111,11 +111,28 @@ final class MetaObjectUtility extends AbstractMetaObjectUtility{
 	}
 	
     /**
-     * this method analyzes the given class for meta object data.
-     * It is based upon code of the moc tool.
+     * this method provides meta object data of the given class.
+     * Precomputed data is used if available, otherwise the class is analyzed.
      */
     @NativeAccess
     private static MetaObjectData analyze(Class<?> clazz) {
+    	MetaObjectData metaObjectData = clazz.isPrimitive() || clazz.isArray() ? null : MetaObjectDataResource.read(clazz);
+    	return metaObjectData!=null ? metaObjectData : analyzeReflectively(clazz);
+    }
+    
+    /**
+     * Writes the meta object data of the given class for being loaded at runtime instead of analyzing the class.
+     * Returns false if the class is not supported.
+     */
+    static boolean writeMetaObjectData(Class<?> clazz, java.io.OutputStream stream) throws java.io.IOException {
+    	return MetaObjectDataResource.write(clazz, analyzeReflectively(clazz), stream);
+    }
+    
+    /**
+     * this method analyzes the given class for meta object data.
+     * It is based upon code of the moc tool.
+     */
+    private static MetaObjectData analyzeReflectively(Class<?> clazz) {
         try {
             if(clazz.isPrimitive()) {
                 throw new RuntimeException("Cannot analyze meta object from primitive type");
@@ -193,7 +210,7 @@ final class MetaObjectUtility extends AbstractMetaObjectUtility{
             	throw new IllegalStateException("Must not annotate QObject type '"+clazz.getTypeName()+"' with @QtAsGadget.");
             }
             if(!isQObject && !isGadget){
-            	isGadget = gadgetClasses.contains(clazz) || gadgetPackages.contains(clazz.getPackage().getName());
+            	isGadget = isUsedAsGadget(clazz);
             }
             {
             	TreeSet<Field> declaredFields = new TreeSet<>((m1, m2)->{
@@ -2398,7 +2415,7 @@ cloop: 		    for(Constructor<?> constructor : declaredConstructors){
         }
     }
 	
-	private static long findEmitMethodId(Class<?> signalClass, List<Class<?>> signalTypes) {
+	static long findEmitMethodId(Class<?> signalClass, List<Class<?>> signalTypes) {
 		Map<List<Class<?>>,SignalUtility.EmitMethodInfo> emitMethods = SignalUtility.findEmitMethods(signalClass);
 		SignalUtility.EmitMethodInfo result;
 		if(emitMethods.isEmpty())
@@ -2444,12 +2461,20 @@ cloop: 		    for(Constructor<?> constructor : declaredConstructors){
     	gadgetPackages.add(_package);
     }
     
+    static boolean isUsedAsGadget(Class<?> clazz) {
+    	return gadgetClasses.contains(clazz) || (clazz.getPackage()!=null && gadgetPackages.contains(clazz.getPackage().getName()));
+    }
+    
     private static java.util.function.Function<Class<?>,Map<String,String>> qmlClassInfoGeneratorFunction;
     
 	public static void setQmlClassInfoGeneratorFunction(
 			java.util.function.Function<Class<?>, Map<String, String>> qmlClassInfogeneratorFunction) {
 		MetaObjectUtility.qmlClassInfoGeneratorFunction = qmlClassInfogeneratorFunction;
 	}
+	
+	static boolean hasQmlClassInfoGenerator() {
+		return qmlClassInfoGeneratorFunction!=null;
+	}
 }
 
 @NativeAccess
@@ -2505,6 +2530,10 @@ class MetaObjectData {
 		return index;
 	}
 	
+	void addStringData(String data) {
+		stringData.add(data);
+	}
+	
 	int stringDataSize() {
 		return stringData.size();
 	}
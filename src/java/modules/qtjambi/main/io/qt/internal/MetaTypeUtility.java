@@ -44,6 +44,8 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -215,6 +217,58 @@ public final class MetaTypeUtility {
 		});
 	}
 
+	private static final int BLOCK_SIZE = 64 * 1024;
+	
+	@FunctionalInterface
+	private interface BlockTransfer{
+		void transfer(ByteBuffer block, int offset, int count);
+	}
+	
+	/**
+	 * Transfers primitive array content in blocks of raw data
+	 * encoded in the stream's byte order identical to the element-wise stream operators.
+	 */
+	private static void writeBlocks(QDataStream s, int length, int elementSize, BlockTransfer transfer) {
+		int blockLength = BLOCK_SIZE / elementSize;
+		ByteOrder order = s.byteOrder()==QDataStream.ByteOrder.LittleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		byte[] block = null;
+		for (int offset = 0; offset < length; offset += blockLength) {
+			int count = Math.min(blockLength, length - offset);
+			if(block==null || block.length!=count * elementSize)
+				block = new byte[count * elementSize];
+			transfer.transfer(ByteBuffer.wrap(block).order(order), offset, count);
+			s.writeBytes(block);
+		}
+	}
+	
+	private static void readBlocks(QDataStream s, int length, int elementSize, BlockTransfer transfer) {
+		int blockLength = BLOCK_SIZE / elementSize;
+		ByteOrder order = s.byteOrder()==QDataStream.ByteOrder.LittleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		byte[] block = null;
+		for (int offset = 0; offset < length; offset += blockLength) {
+			int count = Math.min(blockLength, length - offset);
+			if(block==null || block.length!=count * elementSize)
+				block = new byte[count * elementSize];
+			int read = s.readBytes(block);
+			if(read < block.length) // stream ran short: element-wise reads would yield zero here
+				Arrays.fill(block, Math.max(read, 0), block.length, (byte)0);
+			transfer.transfer(ByteBuffer.wrap(block).order(order), offset, count);
+		}
+	}
+	
+	/**
+	 * QDataStream::Qt_4_6 introduced the floating point precision setting.
+	 */
+	private static final int QDATASTREAM_QT_4_6 = 12;
+	
+	private static boolean isFloatWrittenAsDouble(QDataStream s) {
+		return s.version() >= QDATASTREAM_QT_4_6 && s.floatingPointPrecision()==QDataStream.FloatingPointPrecision.DoublePrecision;
+	}
+	
+	private static boolean isDoubleWrittenAsFloat(QDataStream s) {
+		return s.version() >= QDATASTREAM_QT_4_6 && s.floatingPointPrecision()==QDataStream.FloatingPointPrecision.SinglePrecision;
+	}
+	
 	@SuppressWarnings("deprecation")
 	@NativeAccess
 	private static Object readSerializableJavaObject(final QDataStream s) throws ClassNotFoundException, IOException {
@@ -224,16 +278,31 @@ public final class MetaTypeUtility {
 			public int read() throws IOException {
 				return s.readByte();
 			}
+			
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if(len==0)
+					return 0;
+				int count;
+				if(off==0 && len==b.length) {
+					count = s.readBytes(b);
+				}else {
+					byte[] block = new byte[len];
+					count = s.readBytes(block);
+					if(count>0)
+						System.arraycopy(block, 0, b, off, count);
+				}
+				// readBytes returns 0 at the end of the device and -1 on error
+				return count>0 ? count : -1;
+			}
 		};
 		boolean isSerialized = true;
 		s.startTransaction();
 		{
-			int ch1 = is.read();
-	        int ch2 = is.read();
-			int ch3 = is.read();
-	        int ch4 = is.read();
-	        short magic = (short)((ch1 << 8) + (ch2 & 0xFF));
-	        short version = (short)((ch3 << 8) + (ch4 & 0xFF));
+			byte[] header = new byte[4];
+			s.readBytes(header);
+	        short magic = (short)((header[0] << 8) + (header[1] & 0xFF));
+	        short version = (short)((header[2] << 8) + (header[3] & 0xFF));
 			if(magic!=ObjectStreamConstants.STREAM_MAGIC
 					|| version!=ObjectStreamConstants.STREAM_VERSION) {
 				isSerialized = false;
@@ -253,9 +322,8 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					byte[] array = new byte[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readByte();
-					}
+					if(length>0)
+						s.readBytes(array);
 					res = array;
 				}
 				break;
@@ -263,9 +331,7 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					short[] array = new short[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readShort();
-					}
+					readBlocks(s, length, 2, (block, offset, count)->block.asShortBuffer().get(array, offset, count));
 					res = array;
 				}
 				break;
@@ -273,9 +339,7 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					int[] array = new int[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readInt();
-					}
+					readBlocks(s, length, 4, (block, offset, count)->block.asIntBuffer().get(array, offset, count));
 					res = array;
 				}
 				break;
@@ -283,9 +347,7 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					long[] array = new long[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readLong();
-					}
+					readBlocks(s, length, 8, (block, offset, count)->block.asLongBuffer().get(array, offset, count));
 					res = array;
 				}
 				break;
@@ -293,8 +355,14 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					float[] array = new float[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readFloat();
+					if(isFloatWrittenAsDouble(s)) {
+						readBlocks(s, length, 8, (block, offset, count)->{
+							for (int i = 0; i < count; i++) {
+								array[offset+i] = (float)block.getDouble();
+							}
+						});
+					}else {
+						readBlocks(s, length, 4, (block, offset, count)->block.asFloatBuffer().get(array, offset, count));
 					}
 					res = array;
 				}
@@ -303,8 +371,14 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					double[] array = new double[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readDouble();
+					if(isDoubleWrittenAsFloat(s)) {
+						readBlocks(s, length, 4, (block, offset, count)->{
+							for (int i = 0; i < count; i++) {
+								array[offset+i] = block.getFloat();
+							}
+						});
+					}else {
+						readBlocks(s, length, 8, (block, offset, count)->block.asDoubleBuffer().get(array, offset, count));
 					}
 					res = array;
 				}
@@ -313,9 +387,11 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					boolean[] array = new boolean[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readBoolean();
-					}
+					readBlocks(s, length, 1, (block, offset, count)->{
+						for (int i = 0; i < count; i++) {
+							array[offset+i] = block.get()!=0;
+						}
+					});
 					res = array;
 				}
 				break;
@@ -323,9 +399,7 @@ public final class MetaTypeUtility {
 				length = s.readInt();
 				{
 					char[] array = new char[length];
-					for (int i = 0; i < array.length; i++) {
-						array[i] = s.readChar();
-					}
+					readBlocks(s, length, 2, (block, offset, count)->block.asCharBuffer().get(array, offset, count));
 					res = array;
 				}
 				break;
@@ -400,58 +474,63 @@ public final class MetaTypeUtility {
 				byte[] array = (byte[])o;
 				s.writeInt(BYTE_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeByte(array[i]);
-				}
+				if(array.length>0)
+					s.writeBytes(array);
 			}else if(objectClass==short[].class) {
 				short[] array = (short[])o;
 				s.writeInt(SHORT_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeShort(array[i]);
-				}
+				writeBlocks(s, array.length, 2, (block, offset, count)->block.asShortBuffer().put(array, offset, count));
 			}else if(objectClass==int[].class) {
 				int[] array = (int[])o;
 				s.writeInt(INT_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeInt(array[i]);
-				}
+				writeBlocks(s, array.length, 4, (block, offset, count)->block.asIntBuffer().put(array, offset, count));
 			}else if(objectClass==long[].class) {
 				long[] array = (long[])o;
 				s.writeInt(LONG_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeLong(array[i]);
-				}
+				writeBlocks(s, array.length, 8, (block, offset, count)->block.asLongBuffer().put(array, offset, count));
 			}else if(objectClass==float[].class) {
 				float[] array = (float[])o;
 				s.writeInt(FLOAT_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeFloat(array[i]);
+				if(isFloatWrittenAsDouble(s)) {
+					writeBlocks(s, array.length, 8, (block, offset, count)->{
+						for (int i = 0; i < count; i++) {
+							block.putDouble(array[offset+i]);
+						}
+					});
+				}else {
+					writeBlocks(s, array.length, 4, (block, offset, count)->block.asFloatBuffer().put(array, offset, count));
 				}
 			}else if(objectClass==double[].class) {
 				double[] array = (double[])o;
 				s.writeInt(DOUBLE_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeDouble(array[i]);
+				if(isDoubleWrittenAsFloat(s)) {
+					writeBlocks(s, array.length, 4, (block, offset, count)->{
+						for (int i = 0; i < count; i++) {
+							block.putFloat((float)array[offset+i]);
+						}
+					});
+				}else {
+					writeBlocks(s, array.length, 8, (block, offset, count)->block.asDoubleBuffer().put(array, offset, count));
 				}
 			}else if(objectClass==boolean[].class) {
 				boolean[] array = (boolean[])o;
 				s.writeInt(BOOLEAN_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeBoolean(array[i]);
-				}
+				writeBlocks(s, array.length, 1, (block, offset, count)->{
+					for (int i = 0; i < count; i++) {
+						block.put(array[offset+i] ? (byte)1 : (byte)0);
+					}
+				});
 			}else if(objectClass==char[].class) {
 				char[] array = (char[])o;
 				s.writeInt(CHAR_ARRAY_MAGIC);
 				s.writeInt(array.length);
-				for (int i = 0; i < array.length; i++) {
-					s.writeChar(array[i]);
-				}
+				writeBlocks(s, array.length, 2, (block, offset, count)->block.asCharBuffer().put(array, offset, count));
 			}else {
 				Object[] array = (Object[])o;
 				s.writeInt(OBJECT_ARRAY_MAGIC_V2);
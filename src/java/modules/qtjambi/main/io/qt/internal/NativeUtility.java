@@ -33,6 +33,7 @@ import java.io.File;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,6 +51,7 @@ import io.qt.QtObject;
 import io.qt.QtObjectInterface;
 import io.qt.QtUninvokable;
 import io.qt.QtUtilities;
+import io.qt.QtUtilities.CleanupStatistics;
 import io.qt.QtUtilities.LibraryRequirementMode;
 import io.qt.core.QMetaObject;
 import io.qt.core.QObject;
@@ -61,30 +63,79 @@ public abstract class NativeUtility {
 	private static final Map<AssociativeReference, java.lang.Object> object2ObjectAssociations = new HashMap<>();
 	static final ReferenceQueue<java.lang.Object> referenceQueue = new ReferenceQueue<>();
 	private static final Thread cleanupRegistrationThread;
+	private static final CleanupStatisticsCollector cleanupStatistics = new CleanupStatisticsCollector();
 	static {
 		interfaceLinks = Collections.synchronizedMap(new HashMap<>());
 		disposedSignals = Collections.synchronizedMap(new HashMap<>());
+		int batchSize = 256;
+		try {
+			batchSize = Math.max(1, Integer.parseInt(System.getProperty("io.qt.cleanup-batch-size", "256")));
+		} catch (NumberFormatException e) {
+		}
+		final int cleanupBatchSize = batchSize;
 		cleanupRegistrationThread = new Thread(() -> {
+			// references are cleaned in batches: all native links of a batch are cleaned by one native call.
+			// The reference queue is emptied into the pending queue before each batch so that the backlog is known.
+			final ArrayDeque<Reference<?>> pending = new ArrayDeque<>();
+			final NativeLink[] links = new NativeLink[cleanupBatchSize];
+			final Cleanable[] cleanables = new Cleanable[cleanupBatchSize];
 			while (true) {
 				if(Thread.interrupted())
 					break;
+				int linkCount = 0;
+				int cleanableCount = 0;
 				try {
-					Reference<?> ref = referenceQueue.remove();
-					try {
-						if(Thread.interrupted())
-							break;
-						if (ref instanceof Cleanable) {
-							((Cleanable) ref).clean();
-							if(Thread.interrupted())
-								break;
+					Reference<?> ref;
+					int enqueued = 0;
+					if (pending.isEmpty()) {
+						pending.add(referenceQueue.remove());
+						++enqueued;
+					}
+					while ((ref = referenceQueue.poll()) != null) {
+						pending.add(ref);
+						++enqueued;
+					}
+					cleanupStatistics.enqueued(enqueued);
+					long start = System.nanoTime();
+					int drained = 0;
+					while (drained < cleanupBatchSize && (ref = pending.poll()) != null) {
+						++drained;
+						if (ref instanceof NativeLink) {
+							links[linkCount++] = (NativeLink) ref;
+						} else if (ref instanceof Cleanable) {
+							cleanables[cleanableCount++] = (Cleanable) ref;
 						}
-					} finally {
-						ref = null;
 					}
+					ref = null;
+					if(Thread.interrupted())
+						break;
+					boolean interrupted = false;
+					if (linkCount > 0) {
+						try {
+							NativeLink.cleanAll(links, linkCount);
+						} catch (Throwable e) {
+							e.printStackTrace();
+						}
+						interrupted = Thread.interrupted();
+					}
+					for (int i = 0; i < cleanableCount && !interrupted; ++i) {
+						try {
+							cleanables[i].clean();
+						} catch (Throwable e) {
+							e.printStackTrace();
+						}
+						interrupted = Thread.interrupted();
+					}
+					cleanupStatistics.record(drained, System.nanoTime() - start);
+					if(interrupted)
+						break;
 				} catch (InterruptedException e) {
 					break;
 				} catch (Throwable e) {
 					e.printStackTrace();
+				} finally {
+					Arrays.fill(links, 0, linkCount, null);
+					Arrays.fill(cleanables, 0, cleanableCount, null);
 				}
 				if(Thread.interrupted())
 					break;
@@ -109,6 +160,90 @@ public abstract class NativeUtility {
 		}
 	}
 
+	private static final class CleanupStatisticsCollector implements CleanupStatistics {
+		private long enqueuedReferences;
+		private long maxQueueLength;
+		private long processedReferences;
+		private long batches;
+		private int lastBatchSize;
+		private int maxBatchSize;
+		private long lastBatchNanos;
+		private long maxBatchNanos;
+
+		synchronized void enqueued(int count) {
+			enqueuedReferences += count;
+			long queueLength = enqueuedReferences - processedReferences;
+			if (queueLength > maxQueueLength)
+				maxQueueLength = queueLength;
+		}
+
+		synchronized void record(int batchSize, long nanos) {
+			processedReferences += batchSize;
+			++batches;
+			lastBatchSize = batchSize;
+			lastBatchNanos = nanos;
+			if (batchSize > maxBatchSize)
+				maxBatchSize = batchSize;
+			if (nanos > maxBatchNanos)
+				maxBatchNanos = nanos;
+		}
+
+		@Override
+		public synchronized long enqueuedReferences() {
+			return enqueuedReferences;
+		}
+
+		@Override
+		public synchronized long processedReferences() {
+			return processedReferences;
+		}
+
+		@Override
+		public synchronized long queueLength() {
+			return enqueuedReferences - processedReferences;
+		}
+
+		@Override
+		public synchronized long maxQueueLength() {
+			return maxQueueLength;
+		}
+
+		@Override
+		public synchronized long batches() {
+			return batches;
+		}
+
+		@Override
+		public synchronized int lastBatchSize() {
+			return lastBatchSize;
+		}
+
+		@Override
+		public synchronized int maxBatchSize() {
+			return maxBatchSize;
+		}
+
+		@Override
+		public synchronized long lastBatchNanos() {
+			return lastBatchNanos;
+		}
+
+		@Override
+		public synchronized long maxBatchNanos() {
+			return maxBatchNanos;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("CleanupStatistics[enqueuedReferences=%1$s, processedReferences=%2$s, queueLength=%3$s, maxQueueLength=%4$s, batches=%5$s, lastBatchSize=%6$s, maxBatchSize=%7$s, lastBatchNanos=%8$s, maxBatchNanos=%9$s]",
+					enqueuedReferences, processedReferences, enqueuedReferences - processedReferences, maxQueueLength, batches, lastBatchSize, maxBatchSize, lastBatchNanos, maxBatchNanos);
+		}
+	}
+
+	protected static CleanupStatistics cleanupStatistics() {
+		return cleanupStatistics;
+	}
+
 	static class NativeLink extends WeakReference<QtObjectInterface> implements Cleanable {
 
 		private NativeLink(QtObjectInterface object) {
@@ -144,12 +279,81 @@ public abstract class NativeUtility {
 
 		@Override
 		public synchronized void clean() {
-			if (native__id != 0) {
-				clean(native__id);
-			} else {
-				QMetaObject.DisposedSignal disposed = takeSignalOnDispose(this);
-				if (disposed != null)
-					disposed.disconnect();
+			prepareClean();
+			try {
+				if (native__id != 0) {
+					clean(native__id);
+				} else {
+					QMetaObject.DisposedSignal disposed = takeSignalOnDispose(this);
+					if (disposed != null)
+						disposed.disconnect();
+				}
+			} finally {
+				finishClean();
+			}
+		}
+
+		/**
+		 * Java-side cleanup performed before the native resources are freed.
+		 */
+		void prepareClean() {
+		}
+
+		/**
+		 * Java-side cleanup performed after the native resources are freed.
+		 */
+		void finishClean() {
+		}
+
+		/**
+		 * Cleans the first {@code length} links of the given array.
+		 * Links being already disposed are cleaned on Java side.
+		 * All others are passed to native side in one call.
+		 * Links disposed in the meantime are skipped by the native call
+		 * and have their disposed signal released afterwards.
+		 */
+		static void cleanAll(NativeLink[] links, int length) {
+			int nativeLength = 0;
+			for (int i = 0; i < length; ++i) {
+				NativeLink link = links[i];
+				boolean isDisposed;
+				synchronized (link) {
+					link.prepareClean();
+					isDisposed = link.native__id == 0;
+				}
+				if (isDisposed) {
+					try {
+						QMetaObject.DisposedSignal disposed = takeSignalOnDispose(link);
+						if (disposed != null)
+							disposed.disconnect();
+					} finally {
+						link.finishClean();
+					}
+				} else {
+					links[nativeLength++] = link;
+				}
+			}
+			if (nativeLength > 0) {
+				try {
+					cleanBatch(links, nativeLength);
+				} finally {
+					for (int i = 0; i < nativeLength; ++i) {
+						NativeLink link = links[i];
+						try {
+							boolean isDisposed;
+							synchronized (link) {
+								isDisposed = link.native__id == 0;
+							}
+							if (isDisposed) {
+								QMetaObject.DisposedSignal disposed = takeSignalOnDispose(link);
+								if (disposed != null)
+									disposed.disconnect();
+							}
+						} finally {
+							link.finishClean();
+						}
+					}
+				}
 			}
 		}
 
@@ -164,6 +368,7 @@ public abstract class NativeUtility {
 		}
 
 		private static native void clean(long native__id);
+		private static native void cleanBatch(NativeLink[] links, int length);
 		private static native boolean hasDisposedSignal(long native__id);
 		private static native void setHasDisposedSignal(long native__id);
 
@@ -312,9 +517,8 @@ public abstract class NativeUtility {
 		}
 
 		@Override
-		public synchronized void clean() {
+		synchronized void prepareClean() {
 			referenceCounts = null;
-			super.clean();
 		}
 
 		void initialize(NativeUtility.Object obj) {
@@ -332,8 +536,7 @@ public abstract class NativeUtility {
 		}
 
 		@Override
-		public synchronized void clean() {
-			super.clean();
+		void finishClean() {
 			interfaceLinks.remove(ownerHashCode);
 		}
 	}
@@ -58,7 +58,6 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -487,7 +486,7 @@ abstract class SignalUtility {
             QMetaObject.Connection connection = connectNative(NativeUtility.checkedNativeId(senderObject), 
             		methodIndex, metaObjectId, 
             		lambdaOwner instanceof QObject ? NativeUtility.checkedNativeId((QObject)lambdaOwner) : 0,
-    				c, -1, flags);
+    				c, c instanceof GenericSlotObjectConnection ? -1 : c.argumentCount(), flags);
 			if(connection.isConnected()) {
 				synchronized(nativeConnectionHandles) {
 					nativeConnectionHandles.add(new QPair<>(c, connection));
@@ -755,10 +754,24 @@ abstract class SignalUtility {
 
 		private final boolean isNativeSignal;
 		private final Class<?> declaringClass;
+		/**
+		 * Native emitter bound at first emission, <code>-1</code> if the signal's parameters don't allow a bound emitter.
+		 */
+		private volatile long emitter;
 		
 		Class<?> getDeclaringClass(AbstractSignal signal){ 
 			return declaringClass; 
 		}
+		
+		private void emitNative(QObject senderObject, Object[] args) {
+			long emitter = this.emitter;
+			if(emitter==0)
+				this.emitter = emitter = bindSignalEmitter(this.metaObjectId, this.methodIndex);
+			if(emitter!=-1)
+				emitBoundSignal(senderObject, NativeUtility.nativeId(senderObject), emitter, args);
+			else
+				emitNativeSignal(senderObject, this.methodIndex, this.metaObjectId, 0, args);
+		}
 
 		@Override
 		final void emitSignal(AbstractSignal signal, Object[] args, Supplier<?>... suppliers) {
@@ -775,10 +788,10 @@ abstract class SignalUtility {
                 			Supplier<?> supplier = suppliers[i];
                 			args[offset+i] = supplier==null ? null : supplier.get();
         				}
-        				emitNativeSignal(senderObject, this.methodIndex, this.metaObjectId, 0, args);
+        				emitNative(senderObject, args);
         			}
         		}else {
-        			emitNativeSignal(senderObject, this.methodIndex, this.metaObjectId, 0, args);
+        			emitNative(senderObject, args);
         		}
         	}else {
         		throw new RuntimeException("QObject signal without method index"); 
@@ -887,64 +900,41 @@ abstract class SignalUtility {
 			super(signalParameterTypes);
 		}
 
-		private int currentConnectionId = 0;
-		private AbstractConnection<?> firstConnection;
-		private AbstractConnection<?> lastConnection;
-		private ReentrantReadWriteLock connectionsLock = new ReentrantReadWriteLock();
-		
-		AbstractConnection<?> next(AbstractConnection<?> current){
-			connectionsLock.readLock().lock();
-			AbstractConnection<?> next = current.next;
-			connectionsLock.readLock().unlock();
-			return next;
-		}
+		private static final AbstractConnection<?>[] NO_CONNECTIONS = {};
 		
-		AbstractConnection<?> begin(){
-			connectionsLock.readLock().lock();
-			AbstractConnection<?> next = firstConnection;
-			connectionsLock.readLock().unlock();
-			return next;
-		}
+		/**
+		 * Immutable snapshot of all connections in connection order.
+		 * Emission reads this array without locking, connect and disconnect replace it (copy-on-write).
+		 */
+		private volatile AbstractConnection<?>[] connections = NO_CONNECTIONS;
+		private final Object connectionsLock = new Object();
 		
-		AbstractConnection<?> eraseAndNext(AbstractConnection<?> current){
-			connectionsLock.writeLock().lock();
-			current.setDisconnected();
-			if(current==firstConnection) {
-				if(current.next==null) {
-					firstConnection = null;
-					lastConnection = null;
-					current = null;
-				}else {
-					firstConnection = current.next;
-					current = current.next;
-				}
-			}else {
-				current.previous.next = current.next;
-				if(current.next==null) {
-					lastConnection = current.previous;
-				}else {
-					current.next.previous = current.previous;
+		void eraseConnection(AbstractConnection<?> connection){
+			synchronized(connectionsLock) {
+				connection.setDisconnected();
+				AbstractConnection<?>[] connections = this.connections;
+				for (int i = 0; i < connections.length; i++) {
+					if(connections[i]==connection) {
+						if(connections.length==1) {
+							this.connections = NO_CONNECTIONS;
+						}else {
+							AbstractConnection<?>[] newConnections = new AbstractConnection<?>[connections.length-1];
+							System.arraycopy(connections, 0, newConnections, 0, i);
+							System.arraycopy(connections, i+1, newConnections, i, newConnections.length-i);
+							this.connections = newConnections;
+						}
+						break;
+					}
 				}
-				current= current.next;
 			}
-			connectionsLock.writeLock().unlock();
-			return current;
 		}
 		
 		private void addConnection(AbstractConnection<?> connection) {
-            connectionsLock.writeLock().lock();
-			try{
-				connection.id = ++currentConnectionId;
-				if(firstConnection==null) {
-					firstConnection = connection;
-					lastConnection = connection;
-				}else {
-					connection.previous = lastConnection;
-					lastConnection.next = connection;
-					lastConnection = connection;
-				}
-			}finally {
-				connectionsLock.writeLock().unlock();
+			synchronized(connectionsLock) {
+				AbstractConnection<?>[] connections = this.connections;
+				AbstractConnection<?>[] newConnections = Arrays.copyOf(connections, connections.length+1);
+				newConnections[connections.length] = connection;
+				this.connections = newConnections;
 			}
 		}
 		
@@ -968,12 +958,11 @@ abstract class SignalUtility {
 				}
         	}
 
-			connectionsLock.readLock().lock();
-			AbstractConnection<?> currentConnection = firstConnection;
-			int highestConnectionId = lastConnection==null ? 0 : lastConnection.id;
-			connectionsLock.readLock().unlock();
-			
-			while(currentConnection!=null && currentConnection.id<=highestConnectionId){
+			// connections added during emission are not part of this snapshot
+			for(AbstractConnection<?> currentConnection : connections){
+				// connections removed during emission are skipped at once
+				if(!currentConnection.isConnected())
+					continue;
                 // We do a direct connection in three cases:
                 // 1. If the connection is explicitly set to be direct
                 // 2. If it is automatic and the receiver is not a QObject (no thread() function)
@@ -1005,7 +994,7 @@ abstract class SignalUtility {
 					   (receiver == null && !isStatic)
 					|| (receiver instanceof QtObjectInterface && NativeUtility.nativeId((QtObjectInterface)receiver) == 0)
 				  ){
-					currentConnection = eraseAndNext(currentConnection);
+					eraseConnection(currentConnection);
 					continue;
 				}
                 boolean directCall = false;
@@ -1114,11 +1103,8 @@ abstract class SignalUtility {
 									receiver==null ? "N/A" : ClassAnalyzerUtility.getClass(receiver).getName()
 								)
 							);
-						currentConnection = next(currentConnection);
-						continue;
 					}
                 }
-				currentConnection = next(currentConnection);
             }
 		}
 		
@@ -1126,8 +1112,7 @@ abstract class SignalUtility {
 		final Connection addConnectionToMethod(AbstractSignal signal, Object receiver, Method slot, MethodHandle slotHandle, 
 				List<Supplier<?>> lambdaArgs, ConnectionType... connectionType) {
 			if(isUnique(connectionType)){
-				AbstractConnection<?> currentConnection = begin();
-				while(currentConnection!=null){
+				for(AbstractConnection<?> currentConnection : connections){
 					Object resolvedReceiver = currentConnection.resolveReceiver();
 					if(currentConnection instanceof ReflectiveConnection){
 						if (resolvedReceiver == receiver
@@ -1135,7 +1120,6 @@ abstract class SignalUtility {
 							return new NonConnection();
 						}
 					}
-					currentConnection = next(currentConnection);
 				}
 			}
 
@@ -1164,15 +1148,13 @@ abstract class SignalUtility {
 		final <Slot extends Serializable> Connection addConnectionToSlotObject(AbstractSignal signal,
 				SlotConnectionFactory<Slot> factory, Object lambdaOwner, Class<?> lambdaOwnerClass, int lambdaHashCode, Slot slotObject, ConnectionType[] connectionType) {
 			if(isUnique(connectionType)){
-				AbstractConnection<?> currentConnection = begin();
-				while(currentConnection!=null){
+				for(AbstractConnection<?> currentConnection : connections){
 					Object resolvedReceiver = currentConnection.resolveReceiver();
 					if(currentConnection instanceof SlotObjectConnection){
 						if (resolvedReceiver == slotObject) {
 							return new NonConnection();
 						}
 					}
-					currentConnection = next(currentConnection);
 				}
 			}
 			
@@ -1203,26 +1185,25 @@ abstract class SignalUtility {
 					break;
 				}
 			}
-			AbstractConnection<?> currentConnection = begin();
-			while(currentConnection!=null){
+			for(AbstractConnection<?> currentConnection : connections){
 				Object resolvedReceiver = currentConnection.resolveReceiver();
 				if(currentConnection instanceof MetaMethodConnection){
 					if (resolvedReceiver == null) {  // GCed receiver
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						continue;
 					} else if ((receiver == null || resolvedReceiver == receiver)
 						&& (slot == null || slot.equals(((MetaMethodConnection)currentConnection).slot))) {
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
 				}else if(currentConnection instanceof ReflectiveConnection){
 					if (resolvedReceiver == null) {  // GCed receiver
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						continue;
 					} else if ((receiver == null || resolvedReceiver == receiver)
 						&& (slot==null || (slotMethod != null && slotMethod.equals(((ReflectiveConnection)currentConnection).slot)))) {
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
@@ -1234,28 +1215,27 @@ abstract class SignalUtility {
 						if(receiver != null && slot == null){
 							if(lambdaOwner == receiver || 
 									lambdaOwnerClass == receiver){
-								currentConnection = eraseAndNext(currentConnection);
+								eraseConnection(currentConnection);
 								returned = true;
 								continue;
 							}
 						}else if(receiver == null && slot == null){
-							currentConnection = eraseAndNext(currentConnection);
+							eraseConnection(currentConnection);
 							returned = true;
 							continue;
 						}else{
 							// remove if lambda owner has been disposed
 							if(lambdaOwner instanceof NativeUtility.Object && NativeUtility.nativeId((NativeUtility.Object)lambdaOwner)==0){
-								currentConnection = eraseAndNext(currentConnection);
+								eraseConnection(currentConnection);
 								continue;
 							}
 						}
 					}else if(resolvedReceiver == receiver){
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
 				}
-				currentConnection = next(currentConnection);
 			}
 			return returned;
 		}
@@ -1263,25 +1243,24 @@ abstract class SignalUtility {
 		@Override
 		final boolean removeConnectionToMethod(AbstractSignal signal, Object receiver, Method slot, Object[] lambdaArgs, boolean allowNativeDisconnect) {
 			boolean returned = false;
-			AbstractConnection<?> currentConnection = begin();
-			while(currentConnection!=null) {
+			for(AbstractConnection<?> currentConnection : connections) {
 				Object resolvedReceiver = currentConnection.resolveReceiver();
 				if(currentConnection instanceof MetaMethodConnection){
 					if (resolvedReceiver == null) {  // GCed receiver
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						continue;
 					} else if ((receiver == null || resolvedReceiver == receiver) && slot == null) {
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
 				}else if(currentConnection instanceof ReflectiveConnection){
 					if (resolvedReceiver == null) {  // GCed receiver
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						continue;
 					} else if ((receiver == null || resolvedReceiver == receiver)
 						&& (slot == null || slot.equals(((ReflectiveConnection)currentConnection).slot))) {
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
@@ -1293,28 +1272,27 @@ abstract class SignalUtility {
 						if(receiver != null && slot == null){
 							if(lambdaOwner == receiver || 
 									lambdaOwnerClass == receiver){
-								currentConnection = eraseAndNext(currentConnection);
+								eraseConnection(currentConnection);
 								returned = true;
 								continue;
 							}
 						}else if(receiver == null && slot == null){
-							currentConnection = eraseAndNext(currentConnection);
+							eraseConnection(currentConnection);
 							returned = true;
 							continue;
 						}else{
 							// remove if lambda owner has been disposed
 							if(lambdaOwner instanceof NativeUtility.Object && NativeUtility.nativeId((NativeUtility.Object)lambdaOwner)==0){
-								currentConnection = eraseAndNext(currentConnection);
+								eraseConnection(currentConnection);
 								continue;
 							}
 						}
 					}else if(resolvedReceiver == receiver){
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
 				}
-				currentConnection = next(currentConnection);
 			}
 			return returned;
 		}
@@ -1325,8 +1303,7 @@ abstract class SignalUtility {
 				int _lambdaHashCode, boolean useLambdaInfo) {
 			boolean returned = true;
 			if(useLambdaInfo) {
-				AbstractConnection<?> currentConnection = begin();
-				while(currentConnection!=null) {
+				for(AbstractConnection<?> currentConnection : connections) {
 					Object resolvedReceiver = currentConnection.resolveReceiver();
 					if(currentConnection instanceof SlotObjectConnection){
 						SlotObjectConnection<?> slotObjectConnection = (SlotObjectConnection<?>)currentConnection;
@@ -1339,23 +1316,20 @@ abstract class SignalUtility {
 									&& _lambdaOwnerClass==lambdaOwnerClass 
 									&& _lambdaHashCode==slotObjectConnection.lambdaHashCode
 								)){
-							currentConnection = eraseAndNext(currentConnection);
+							eraseConnection(currentConnection);
 							returned = true;
 							continue;
 						}
 					}
-					currentConnection = next(currentConnection);
 				}
 			}else {
-				AbstractConnection<?> currentConnection = begin();
-				while(currentConnection!=null) {
+				for(AbstractConnection<?> currentConnection : connections) {
 					Object resolvedReceiver = currentConnection.resolveReceiver();
 					if(resolvedReceiver==slotObject){
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
-					currentConnection = next(currentConnection);
 				}
 			}
 			return returned;
@@ -1364,13 +1338,12 @@ abstract class SignalUtility {
 		@Override
 		final boolean removeConnection(AbstractSignal signal, JavaConnection javaConnection) {
 			boolean returned = false;
-			AbstractConnection<?> currentConnection = begin();
-			while(currentConnection!=null){
+			for(AbstractConnection<?> currentConnection : connections){
 				Object resolvedReceiver = currentConnection.resolveReceiver();
 				if(currentConnection instanceof ReflectiveConnection){
 					if (resolvedReceiver == null   // GCed receiver
 						|| currentConnection.equals(javaConnection)) {
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						continue;
 					}
 				}else if(currentConnection instanceof SlotObjectConnection){
@@ -1379,23 +1352,22 @@ abstract class SignalUtility {
 					Class<?> lambdaOwnerClass = slotObjectConnection.lambdaOwnerClass;
 					if(lambdaOwner!=null || lambdaOwnerClass!=null){
 						if(currentConnection.equals(javaConnection)){
-							currentConnection = eraseAndNext(currentConnection);
+							eraseConnection(currentConnection);
 							returned = true;
 							continue;
 						}else{
 							// remove if lambda owner has been disposed
 							if(lambdaOwner instanceof NativeUtility.Object && NativeUtility.nativeId((NativeUtility.Object)lambdaOwner)==0){
-								currentConnection = eraseAndNext(currentConnection);
+								eraseConnection(currentConnection);
 								continue;
 							}
 						}
 					}else if(currentConnection.equals(javaConnection)){
-						currentConnection = eraseAndNext(currentConnection);
+						eraseConnection(currentConnection);
 						returned = true;
 						continue;
 					}
 				}
-				currentConnection = next(currentConnection);
 			}
 			return returned;
 		}
@@ -4176,11 +4148,7 @@ abstract class SignalUtility {
     private static abstract class AbstractConnection<T>{
     	private final static int Disconnected = 0x08;
         public final T receiver;
-        private byte flags;
-        
-        AbstractConnection<?> previous;
-        AbstractConnection<?> next;
-        int id = 0;
+        private volatile byte flags;
         
         AbstractConnection(T receiver, Qt.ConnectionType... connectionType) {
             this.receiver = receiver;
@@ -4442,6 +4410,104 @@ abstract class SignalUtility {
 		
 		abstract void invoke(Object[] args) throws Throwable;
 		
+		/*
+		 * Typed entry points called by native signal dispatch.
+		 * Subclasses override the one matching their arity to avoid the argument array.
+		 */
+		@NativeAccess
+		void invoke0() throws Throwable{
+			invoke(new Object[0]);
+		}
+		
+		@NativeAccess
+		void invoke1(Object a0) throws Throwable{
+			invoke(new Object[]{a0});
+		}
+		
+		@NativeAccess
+		void invoke2(Object a0, Object a1) throws Throwable{
+			invoke(new Object[]{a0, a1});
+		}
+		
+		@NativeAccess
+		void invoke3(Object a0, Object a1, Object a2) throws Throwable{
+			invoke(new Object[]{a0, a1, a2});
+		}
+		
+		@NativeAccess
+		void invoke4(Object a0, Object a1, Object a2, Object a3) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3});
+		}
+		
+		@NativeAccess
+		void invoke5(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3, a4});
+		}
+		
+		@NativeAccess
+		void invoke6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3, a4, a5});
+		}
+		
+		@NativeAccess
+		void invoke7(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3, a4, a5, a6});
+		}
+		
+		@NativeAccess
+		void invoke8(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3, a4, a5, a6, a7});
+		}
+		
+		@NativeAccess
+		void invoke9(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8) throws Throwable{
+			invoke(new Object[]{a0, a1, a2, a3, a4, a5, a6, a7, a8});
+		}
+		
+		/*
+		 * Primitive entry points for one or two arguments of the same primitive type.
+		 * Boxing happens here where the JIT can inline valueOf instead of native code calling it.
+		 */
+		@NativeAccess
+		final void invokeInt1(int a0) throws Throwable{
+			invoke1(Integer.valueOf(a0));
+		}
+		
+		@NativeAccess
+		final void invokeInt2(int a0, int a1) throws Throwable{
+			invoke2(Integer.valueOf(a0), Integer.valueOf(a1));
+		}
+		
+		@NativeAccess
+		final void invokeLong1(long a0) throws Throwable{
+			invoke1(Long.valueOf(a0));
+		}
+		
+		@NativeAccess
+		final void invokeLong2(long a0, long a1) throws Throwable{
+			invoke2(Long.valueOf(a0), Long.valueOf(a1));
+		}
+		
+		@NativeAccess
+		final void invokeDouble1(double a0) throws Throwable{
+			invoke1(Double.valueOf(a0));
+		}
+		
+		@NativeAccess
+		final void invokeDouble2(double a0, double a1) throws Throwable{
+			invoke2(Double.valueOf(a0), Double.valueOf(a1));
+		}
+		
+		@NativeAccess
+		final void invokeBoolean1(boolean a0) throws Throwable{
+			invoke1(Boolean.valueOf(a0));
+		}
+		
+		@NativeAccess
+		final void invokeBoolean2(boolean a0, boolean a1) throws Throwable{
+			invoke2(Boolean.valueOf(a0), Boolean.valueOf(a1));
+		}
+		
 		@Override
 		public String toString() {
 			return "slot connection to "+this.resolveReceiver();
@@ -4474,6 +4540,11 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 0;        		
 		}
+		
+		@Override
+		void invoke0() throws Throwable{
+			resolveReceiver().invoke();
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4490,6 +4561,12 @@ abstract class SignalUtility {
     	int argumentCount() {
     		return 1;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke1(Object a0) throws Throwable{
+			resolveReceiver().invoke(a0);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4508,6 +4585,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 2;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke2(Object a0, Object a1) throws Throwable{
+			resolveReceiver().invoke(a0, a1);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4526,6 +4609,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 3;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke3(Object a0, Object a1, Object a2) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4545,6 +4634,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 4;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke4(Object a0, Object a1, Object a2, Object a3) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4564,6 +4659,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 5;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke5(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3, a4);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4583,6 +4684,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 6;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3, a4, a5);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4603,6 +4710,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 7;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke7(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3, a4, a5, a6);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4623,6 +4736,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 8;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke8(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3, a4, a5, a6, a7);
+		}
     }
     
     @SuppressWarnings("rawtypes")
@@ -4643,6 +4762,12 @@ abstract class SignalUtility {
 		int argumentCount() {
     		return 9;
 		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void invoke9(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8) throws Throwable{
+			resolveReceiver().invoke(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+		}
     }
     
     private static boolean isUnique(Qt.ConnectionType... connectionType) {
@@ -4661,6 +4786,10 @@ abstract class SignalUtility {
 
 	protected native static void emitNativeSignal(QObject senderNative, int methodIndex, long senderMetaObjectId, int defaults, Object args[]);
 	
+	private native static long bindSignalEmitter(long senderMetaObjectId, int methodIndex);
+	
+	private native static void emitBoundSignal(QObject senderNative, long senderObjectId, long emitter, Object args[]);
+	
     protected static void checkConnectionToDisposedSignalImpl(QMetaObject.DisposedSignal signal, Object receiver, boolean slotObject) {
     	if(receiver==signal) {
 			throw new IllegalArgumentException("Cannot connect a signal to itself.");
@@ -43,6 +43,12 @@ import io.qt.sql.QSqlDriverPlugin;
  * Below you find an example use of the QJdbc database driver in
  * combination with a mysql JDBC driver and opens the output in
  * two separate QTableView's.
+ *
+ * The connect option <code>QJDBC_FETCH_SIZE=n</code> passes a fetch size
+ * to the JDBC statements. Forward-only queries (see {@link io.qt.sql.QSqlQuery#setForwardOnly(boolean)})
+ * convert their rows in batches of this size.
+ * Prepared statements are kept for reuse per connection; the option
+ * <code>QJDBC_STATEMENT_CACHE_SIZE=n</code> limits their number (default 32, 0 disables the cache).
 
  <pre>
     public static void main(String args[])
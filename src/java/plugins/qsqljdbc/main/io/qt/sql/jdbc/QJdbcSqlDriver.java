@@ -33,9 +33,12 @@ package io.qt.sql.jdbc;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 import io.qt.sql.QSql;
@@ -56,6 +59,7 @@ class QJdbcSqlDriver extends QSqlDriver
     @Override
     public void close()
     {
+        clearStatementCache();
         if (connection != null) {
             try {
                 connection.close();
@@ -76,7 +80,7 @@ class QJdbcSqlDriver extends QSqlDriver
     @Override
     public QSqlResult createResult()
     {
-        return new QJdbcSqlResult(this, connection);
+        return new QJdbcSqlResult(this, connection, fetchSize);
     }
 
     @Override
@@ -128,6 +132,7 @@ class QJdbcSqlDriver extends QSqlDriver
         switch (f) {
         case PreparedQueries:
         case PositionalPlaceholders:
+        case BatchOperations: // value lists are bound row by row to a JDBC batch
         case BLOB:
         case Unicode:
         case Transactions:
@@ -143,7 +148,6 @@ class QJdbcSqlDriver extends QSqlDriver
 
         case QuerySize: // we can only retrieve the fetch count - not the actual result set size
         case NamedPlaceholders: // JDBC supports only positional placeholders
-        case BatchOperations: // JDBC can batch statements, but not a bunch of values
         case SimpleLocking: // don't know how to find that out - but shouldn't matter for JDBC
         case LowPrecisionNumbers: // Java has BigInts - no more double vs. string hassle
             return false;
@@ -187,6 +191,8 @@ class QJdbcSqlDriver extends QSqlDriver
         }
 
         this.connection = con;
+        this.fetchSize = parseIntOption(connOpts, "QJDBC_FETCH_SIZE", 0);
+        this.statementCacheSize = parseIntOption(connOpts, "QJDBC_STATEMENT_CACHE_SIZE", DEFAULT_STATEMENT_CACHE_SIZE);
 
         setOpen(true);
         setOpenError(false);
@@ -320,11 +326,109 @@ class QJdbcSqlDriver extends QSqlDriver
         return true;
     }
 
+    /**
+     * Reads a non-negative integer option <code>name=n</code> from the semicolon separated connect options.
+     */
+    private static int parseIntOption(String connOpts, String name, int defaultValue)
+    {
+        if (connOpts == null)
+            return defaultValue;
+        for (String option : connOpts.split(";")) {
+            int idx = option.indexOf('=');
+            if (idx > 0 && name.equals(option.substring(0, idx).trim())) {
+                try {
+                    return Math.max(0, Integer.parseInt(option.substring(idx + 1).trim()));
+                } catch (NumberFormatException e) {
+                    java.util.logging.Logger.getLogger("io.qt.sql.jdbc").log(java.util.logging.Level.WARNING, "Invalid "+name+": "+option);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Removes an idle prepared statement for the given query from the cache.
+     * @return the statement or null if none is cached
+     */
+    PreparedStatement takePreparedStatement(String query, boolean forwardOnly)
+    {
+        PreparedStatement statement = statementCache.remove(statementKey(query, forwardOnly));
+        try {
+            if (statement != null && statement.isClosed())
+                statement = null;
+        } catch (SQLException e) {
+            statement = null;
+        }
+        return statement;
+    }
+
+    /**
+     * Keeps a prepared statement no longer used by its result for later reuse.
+     * The least recently used statement is closed when the cache is full.
+     * @return false if the statement has not been cached and needs to be closed by the caller
+     */
+    boolean releasePreparedStatement(String query, boolean forwardOnly, PreparedStatement statement)
+    {
+        if (connection == null || statementCacheSize <= 0)
+            return false;
+        try {
+            if (statement.isClosed() || statement.getConnection() != connection)
+                return false;
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            return false;
+        }
+        PreparedStatement replaced = statementCache.put(statementKey(query, forwardOnly), statement);
+        if (replaced != null && replaced != statement)
+            closeStatement(replaced);
+        return true;
+    }
+
+    private static String statementKey(String query, boolean forwardOnly)
+    {
+        return (forwardOnly ? "F:" : "S:") + query;
+    }
+
+    private static void closeStatement(PreparedStatement statement)
+    {
+        try {
+            statement.close();
+        } catch (SQLException ex) {
+            System.err.println(ex);
+        }
+    }
+
+    private void clearStatementCache()
+    {
+        for (PreparedStatement statement : statementCache.values()) {
+            closeStatement(statement);
+        }
+        statementCache.clear();
+    }
+
     private void setError(SQLException e, String driverText, QSqlError.ErrorType t)
     {
         setLastError(QJdbcSqlUtil.getError(e, driverText, t));
     }
 
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+
     private Connection connection = null;
+    private int fetchSize = 0;
+    private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+    private final LinkedHashMap<String, PreparedStatement> statementCache = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+        {
+            if (size() > statementCacheSize) {
+                closeStatement(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
 }
 
@@ -38,7 +38,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
+import io.qt.QtUtilities;
 import io.qt.sql.QSql;
 import io.qt.sql.QSqlDriver;
 import io.qt.sql.QSqlError;
@@ -48,10 +50,26 @@ import io.qt.sql.QSqlResult;
 
 class QJdbcSqlResult extends QSqlResult
 {
+    /**
+     * Number of rows converted at once by forward-only results
+     * when no fetch size is configured.
+     */
+    static final int DEFAULT_BATCH_SIZE = 256;
+
     public QJdbcSqlResult(QSqlDriver db, Connection c)
+    {
+        this(db, c, 0);
+    }
+
+    /**
+     * @param fetchSize number of rows the JDBC driver should fetch at once, 0 to keep the driver's default.
+     */
+    public QJdbcSqlResult(QSqlDriver db, Connection c, int fetchSize)
     {
         super(db);
+        this.driver = db instanceof QJdbcSqlDriver ? (QJdbcSqlDriver)db : null;
         this.connection = c;
+        this.fetchSize = fetchSize;
         try(Statement st = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
                 ResultSet.CONCUR_READ_ONLY)){
     	} catch (SQLException ex) {
@@ -60,6 +78,9 @@ class QJdbcSqlResult extends QSqlResult
     		}
     	} catch (Throwable ex) {
         }
+        // the native result is deleted together with its QSqlQuery:
+        // return the statement to the connection's cache then
+        QtUtilities.getSignalOnDispose(this).connect(()->releaseStatement());
     }
 
     public Object handle()
@@ -70,32 +91,126 @@ class QJdbcSqlResult extends QSqlResult
     @Override
     protected Object data(int i)
     {
-        try {
-            return QJdbcSqlUtil.javaToQt(resultSet.getObject(i + 1));
-        } catch (SQLException ex) {
-            setError(ex, tr("Unable to retrieve data"), QSqlError.ErrorType.StatementError);
-        }
-        return null;
+        Object[] row = currentRow(tr("Unable to retrieve data"));
+        if (row == null || i < 0 || i >= row.length)
+            return null;
+        return row[i];
     }
 
     @Override
     protected boolean isNull(int i)
     {
+        Object[] row = currentRow(tr("Unable to retrieve null status"));
+        if (row == null || i < 0 || i >= row.length)
+            return false;
+        return row[i] == null;
+    }
+
+    /**
+     * Returns the converted values of the current row.
+     * Scrollable results convert the row the cursor is positioned on,
+     * forward-only results serve it from the row batch.
+     */
+    private Object[] currentRow(String errorText)
+    {
+        if (resultSet == null)
+            return null;
+        if (rowBuffer != null)
+            return rowBufferIndex >= 0 && rowBufferIndex < rowBufferSize ? rowBuffer[rowBufferIndex] : null;
+        if (currentRow == null) {
+            try {
+                currentRow = readRow(new Object[columnReaders().length]);
+            } catch (SQLException ex) {
+                setError(ex, errorText, QSqlError.ErrorType.StatementError);
+                return null;
+            }
+        }
+        return currentRow;
+    }
+
+    private QJdbcSqlUtil.ColumnReader[] columnReaders() throws SQLException
+    {
+        if (columnReaders == null) {
+            ResultSetMetaData meta = metaData();
+            int columnCount = meta == null ? 0 : meta.getColumnCount();
+            QJdbcSqlUtil.ColumnReader[] readers = new QJdbcSqlUtil.ColumnReader[columnCount];
+            for (int i = 0; i < columnCount; ++i) {
+                readers[i] = QJdbcSqlUtil.columnReader(meta, i + 1);
+            }
+            columnReaders = readers;
+        }
+        return columnReaders;
+    }
+
+    private ResultSetMetaData metaData() throws SQLException
+    {
+        if (metaData == null && resultSet != null)
+            metaData = resultSet.getMetaData();
+        return metaData;
+    }
+
+    private Object[] readRow(Object[] row) throws SQLException
+    {
+        QJdbcSqlUtil.ColumnReader[] readers = columnReaders();
+        for (int i = 0; i < readers.length; ++i) {
+            row[i] = readers[i].read(resultSet, i + 1);
+        }
+        return row;
+    }
+
+    /**
+     * Converts the next batch of rows of a forward-only result set
+     * column by column with the readers chosen from the result's meta data.
+     * If a row cannot be converted, the batch ends with the rows converted before
+     * and the result set is treated as exhausted.
+     * @return false if the result set has no more rows
+     */
+    private boolean fetchBatch() throws SQLException
+    {
+        // keep the current batch when there are no more rows
+        if (resultSetExhausted || !resultSet.next()) {
+            resultSetExhausted = true;
+            return false;
+        }
+        int count = 0;
+        boolean completed = false;
         try {
-            resultSet.getObject(i + 1);
-            return resultSet.wasNull();
-        } catch (SQLException ex) {
-            setError(ex, tr("Unable to retrieve null status"), QSqlError.ErrorType.StatementError);
+            QJdbcSqlUtil.ColumnReader[] readers = columnReaders();
+            while (true) {
+                Object[] row = rowBuffer[count];
+                if (row == null || row.length != readers.length)
+                    row = rowBuffer[count] = new Object[readers.length];
+                readRow(row);
+                if (++count == rowBuffer.length)
+                    break;
+                if (!resultSet.next()) {
+                    resultSetExhausted = true;
+                    break;
+                }
+            }
+            completed = true;
+        } finally {
+            // the previous batch has been overwritten, only the converted rows are valid
+            rowBufferSize = count;
+            rowBufferIndex = -1;
+            if (!completed)
+                resultSetExhausted = true;
         }
-        return false;
+        return count > 0;
+    }
+
+    private boolean isStreaming()
+    {
+        return rowBuffer != null;
     }
 
     @Override
     protected boolean fetchPrevious()
     {
-        if (resultSet == null)
+        if (resultSet == null || isStreaming())
             return false;
 
+        currentRow = null;
         try {
             if (!resultSet.previous())
                 return false;
@@ -114,8 +229,16 @@ class QJdbcSqlResult extends QSqlResult
             return false;
 
         try {
-            if (!resultSet.next()) {
-                return false;
+            if (isStreaming()) {
+                if (rowBufferIndex + 1 >= rowBufferSize && !fetchBatch()) {
+                    return false;
+                }
+                ++rowBufferIndex;
+            } else {
+                currentRow = null;
+                if (!resultSet.next()) {
+                    return false;
+                }
             }
         } catch (SQLException ex) {
             setError(ex, tr("Unable to fetch next"), QSqlError.ErrorType.StatementError);
@@ -131,6 +254,17 @@ class QJdbcSqlResult extends QSqlResult
         if (resultSet == null)
             return false;
 
+        if (isStreaming()) {
+            if (i < at())
+                return false;
+            while (at() < i) {
+                if (!fetchNext())
+                    return false;
+            }
+            return true;
+        }
+
+        currentRow = null;
         try {
             if (resultSet.absolute(i + 1)) {
                 setAt(i);
@@ -150,6 +284,13 @@ class QJdbcSqlResult extends QSqlResult
         if (resultSet == null)
             return false;
 
+        if (isStreaming()) {
+            if (at() == QSql.Location.BeforeFirstRow.value())
+                return fetchNext();
+            return at() == 0;
+        }
+
+        currentRow = null;
         try {
             if (resultSet.first()) {
                 setAt(0);
@@ -168,9 +309,19 @@ class QJdbcSqlResult extends QSqlResult
         if (resultSet == null)
             return false;
 
+        if (isStreaming()) {
+            boolean hasRow = at() >= 0;
+            while (fetchNext()) {
+                hasRow = true;
+            }
+            return hasRow;
+        }
+
+        currentRow = null;
         try {
             if (resultSet.last()) {
                 setAt(resultSet.getRow() - 1);
+                return true;
             }
         } catch (SQLException ex) {
             setError(ex, tr("Unable to fetch last"), QSqlError.ErrorType.StatementError);
@@ -221,6 +372,7 @@ class QJdbcSqlResult extends QSqlResult
             statement = null;
             return false;
         }
+        applyFetchSize();
 
         // execute the query
         boolean executionResult;
@@ -251,6 +403,18 @@ class QJdbcSqlResult extends QSqlResult
     {
         clearStatement();
 
+        // reuse an idle statement of this connection
+        if (driver != null) {
+            PreparedStatement cached = driver.takePreparedStatement(query, isForwardOnly());
+            if (cached != null) {
+                statement = cached;
+                preparedQuery = query;
+                preparedForwardOnly = isForwardOnly();
+                applyFetchSize();
+                return true;
+            }
+        }
+
         // create a new prepared statement
         try {
             if (isForwardOnly()) {
@@ -295,6 +459,9 @@ class QJdbcSqlResult extends QSqlResult
             statement = null;
             return false;
         }
+        preparedQuery = query;
+        preparedForwardOnly = isForwardOnly();
+        applyFetchSize();
 
         return true;
     }
@@ -329,13 +496,109 @@ class QJdbcSqlResult extends QSqlResult
         return getResultSet(executionResult);
     }
 
+    /**
+     * Binds the value lists column by column to the prepared statement
+     * and sends all rows in one JDBC batch.
+     */
+    @Override
+    protected boolean execBatch(boolean arrayBind)
+    {
+        if ((statement == null) || !(statement instanceof PreparedStatement))
+            return false;
+
+        PreparedStatement ps = (PreparedStatement)statement;
+        int columnCount = boundValueCount();
+        List<?>[] columns = new List<?>[columnCount];
+        int rowCount = -1;
+        for (int i = 0; i < columnCount; ++i) {
+            Object value = boundValue(i);
+            if (!(value instanceof List)) {
+                setLastError(new QSqlError(tr("Unable to execute batch"), tr("Parameter is not a list"), QSqlError.ErrorType.StatementError, ""));
+                return false;
+            }
+            columns[i] = (List<?>)value;
+            if (rowCount < 0) {
+                rowCount = columns[i].size();
+            } else if (rowCount != columns[i].size()) {
+                setLastError(new QSqlError(tr("Unable to execute batch"), tr("Parameter lists differ in size"), QSqlError.ErrorType.StatementError, ""));
+                return false;
+            }
+        }
+
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (SQLException ex) {
+                System.err.println(ex);
+            }
+            resultSet = null;
+        }
+        clearRows();
+        cols = null;
+
+        try {
+            for (int row = 0; row < rowCount; ++row) {
+                for (int i = 0; i < columnCount; ++i) {
+                    ps.setObject(i + 1, QJdbcSqlUtil.qtToJava(columns[i].get(row)));
+                }
+                ps.addBatch();
+            }
+        } catch (SQLException ex) {
+            try {
+                ps.clearBatch();
+            } catch (SQLException e) {
+            }
+            setError(ex, tr("Unable to bind parameters"), QSqlError.ErrorType.StatementError);
+            return false;
+        }
+
+        int[] counts;
+        try {
+            counts = ps.executeBatch();
+        } catch (SQLException ex) {
+            setError(ex, tr("Unable to execute batch"), QSqlError.ErrorType.StatementError);
+            return false;
+        }
+
+        // drivers may answer Statement.SUCCESS_NO_INFO for single rows
+        updateCount = 0;
+        for (int count : counts) {
+            if (count < 0) {
+                updateCount = -1;
+                break;
+            }
+            updateCount += count;
+        }
+
+        setSelect(false);
+        setActive(true);
+        setAt(QSql.Location.BeforeFirstRow.value());
+        return true;
+    }
+
+    private void applyFetchSize()
+    {
+        if (statement == null || fetchSize <= 0)
+            return;
+        try {
+            statement.setFetchSize(fetchSize);
+        } catch (SQLException ex) {
+            // the fetch size is only a hint - drivers may reject it
+        }
+    }
+
     private final boolean getResultSet(boolean executionResult)
     {
         // true means "I have a result set", false means "I may have an update count"
+        clearRows();
         if (executionResult) {
             try {
                 resultSet = statement.getResultSet();
                 setSelect(true);
+                if (resultSet != null
+                        && (isForwardOnly() || resultSet.getType() == ResultSet.TYPE_FORWARD_ONLY)) {
+                    rowBuffer = new Object[fetchSize > 0 ? fetchSize : DEFAULT_BATCH_SIZE][];
+                }
             } catch (SQLException ex) {
                 setError(ex, tr("Unable to retrieve result set"), QSqlError.ErrorType.StatementError);
                 // the query succeeded, said it has a result set, but then changed its mind - treat it as error
@@ -366,7 +629,7 @@ class QJdbcSqlResult extends QSqlResult
 
         ResultSetMetaData meta;
         try {
-            meta = resultSet.getMetaData();
+            meta = metaData();
         } catch (SQLException ex) {
             setError(ex, tr("Unable to retrieve meta data"), QSqlError.ErrorType.StatementError);
             return null;
@@ -436,7 +699,26 @@ class QJdbcSqlResult extends QSqlResult
         setSelect(false);
         setAt(QSql.Location.BeforeFirstRow.value());
 
-        // close old result set
+        releaseStatement();
+
+        cols = null;
+        updateCount = -1;
+        clearRows();
+    }
+
+    /**
+     * Called by QSqlQuery.finish(): the result set is closed
+     * while the statement remains prepared for the next execution.
+     */
+    @Override
+    protected void detachFromResultSet()
+    {
+        closeResultSet();
+        clearRows();
+    }
+
+    private void closeResultSet()
+    {
         if (resultSet != null) {
             try {
                 resultSet.close();
@@ -447,19 +729,41 @@ class QJdbcSqlResult extends QSqlResult
             }
             resultSet = null;
         }
+    }
+
+    /**
+     * Closes the result set and the statement or keeps the prepared statement for reuse.
+     * Only JDBC state is touched since this also runs while the native result is deleted.
+     */
+    private void releaseStatement()
+    {
+        closeResultSet();
 
-        // close old statement
         if (statement != null) {
-            try {
-                statement.close();
-            } catch (SQLException ex) {
-                System.err.println(ex);
+            if (driver == null
+                    || preparedQuery == null
+                    || !(statement instanceof PreparedStatement)
+                    || !driver.releasePreparedStatement(preparedQuery, preparedForwardOnly, (PreparedStatement)statement)) {
+                try {
+                    statement.close();
+                } catch (SQLException ex) {
+                    System.err.println(ex);
+                }
             }
             statement = null;
         }
+        preparedQuery = null;
+    }
 
-        cols = null;
-        updateCount = -1;
+    private void clearRows()
+    {
+        metaData = null;
+        columnReaders = null;
+        currentRow = null;
+        rowBuffer = null;
+        rowBufferSize = 0;
+        rowBufferIndex = -1;
+        resultSetExhausted = false;
     }
 
     private void setError(SQLException e, String driverText, QSqlError.ErrorType t)
@@ -472,5 +776,16 @@ class QJdbcSqlResult extends QSqlResult
     private Statement statement = null;
     private Connection connection = null;
     private QSqlRecord cols = null;
+    private final int fetchSize;
+    private final QJdbcSqlDriver driver;
+    private String preparedQuery = null;
+    private boolean preparedForwardOnly = false;
+    private ResultSetMetaData metaData = null;
+    private QJdbcSqlUtil.ColumnReader[] columnReaders = null;
+    private Object[] currentRow = null;
+    private Object[][] rowBuffer = null;
+    private int rowBufferSize = 0;
+    private int rowBufferIndex = -1;
+    private boolean resultSetExhausted = false;
 }
 
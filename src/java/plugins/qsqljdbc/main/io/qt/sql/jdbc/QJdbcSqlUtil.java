@@ -32,6 +32,7 @@ package io.qt.sql.jdbc;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Calendar;
@@ -87,6 +88,66 @@ class QJdbcSqlUtil
         return new QSqlError(driverText, dbText.toString(), t, ""+errorCode);
     }
 
+    /**
+     * Reads and converts the value of one result set column.
+     */
+    @FunctionalInterface
+    interface ColumnReader{
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    /**
+     * Chooses a typed reader for the given column according to the class
+     * the JDBC driver reports for it. Columns of other classes are read
+     * by {@link ResultSet#getObject(int)} and converted by {@link #javaToQt(Object)}.
+     */
+    static ColumnReader columnReader(ResultSetMetaData meta, int column) throws SQLException
+    {
+        String className = meta.getColumnClassName(column);
+        if(className!=null) {
+            switch(className) {
+            case "java.lang.String":
+                return ResultSet::getString;
+            case "java.lang.Integer":
+                return (rs, i)->{
+                    long value = rs.getLong(i);
+                    if(rs.wasNull())
+                        return null;
+                    // some drivers report Integer for columns holding larger values
+                    return value==(int)value ? Integer.valueOf((int)value) : Long.valueOf(value);
+                };
+            case "java.lang.Long":
+                return (rs, i)->{
+                    long value = rs.getLong(i);
+                    return rs.wasNull() ? null : Long.valueOf(value);
+                };
+            case "java.lang.Short":
+                return (rs, i)->{
+                    short value = rs.getShort(i);
+                    return rs.wasNull() ? null : Short.valueOf(value);
+                };
+            case "java.lang.Double":
+                return (rs, i)->{
+                    double value = rs.getDouble(i);
+                    return rs.wasNull() ? null : Double.valueOf(value);
+                };
+            case "java.lang.Float":
+                return (rs, i)->{
+                    float value = rs.getFloat(i);
+                    return rs.wasNull() ? null : Float.valueOf(value);
+                };
+            case "java.lang.Boolean":
+                return (rs, i)->{
+                    boolean value = rs.getBoolean(i);
+                    return rs.wasNull() ? null : Boolean.valueOf(value);
+                };
+            default:
+                break;
+            }
+        }
+        return (rs, i)->javaToQt(rs.getObject(i));
+    }
+
     static Object javaToQt(Object input) {
         if (input instanceof java.sql.Date) {
             java.sql.Date date = (java.sql.Date) input;